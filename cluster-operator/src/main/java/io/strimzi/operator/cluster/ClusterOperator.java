@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster;
 
 import io.strimzi.api.kafka.model.connector.KafkaConnector;
 import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.cluster.operator.assembly.AbstractOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -13,6 +14,7 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperato
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.PeriodicReconciliationScheduler;
 import io.strimzi.operator.cluster.operator.assembly.ReconnectingWatcher;
 import io.strimzi.operator.cluster.operator.assembly.StrimziPodSetController;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
@@ -29,7 +31,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
 
@@ -57,9 +58,9 @@ public class ClusterOperator extends AbstractVerticle {
 
     private StrimziPodSetController strimziPodSetController;
 
-    // this field is required to keep the underlying shared worker pool alive
+    // this field is required to keep the underlying shared worker pools alive
     @SuppressWarnings("unused")
-    private WorkerExecutor sharedWorkerExecutor;
+    private List<WorkerExecutor> sharedWorkerExecutors;
 
     /**
      * Constructor
@@ -99,8 +100,11 @@ public class ClusterOperator extends AbstractVerticle {
     public void start(Promise<Void> start) {
         LOGGER.info("Starting ClusterOperator for namespace {}", namespace);
 
-        // Configure the executor here, but it is used only in other places
-        sharedWorkerExecutor = getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
+        // Configure the executors here, but they are used only in other places
+        sharedWorkerExecutors = WorkerPools.createSharedWorkerExecutors(getVertx(), config);
+
+        // The periodic reconciliation scheduler is shared by all namespaces so that its rate limit applies to the whole operator
+        resourceOperatorSupplier.periodicReconciliationScheduler.register(namespace);
 
         List<Future<?>> startFutures = new ArrayList<>(8);
         startFutures.add(maybeStartStrimziPodSetController());
@@ -138,7 +142,7 @@ public class ClusterOperator extends AbstractVerticle {
                     this.reconcileTimer = vertx.setPeriodic(this.config.getReconciliationIntervalMs(), res2 -> {
                         if (!config.isPodSetReconciliationOnly()) {
                             LOGGER.info("Triggering periodic reconciliation for namespace {}", namespace);
-                            reconcileAll("timer");
+                            reconcileAll(PeriodicReconciliationScheduler.TRIGGER);
                         }
                     });
 
@@ -174,6 +178,9 @@ public class ClusterOperator extends AbstractVerticle {
     public void stop(Promise<Void> stop) {
         LOGGER.info("Stopping ClusterOperator for namespace {}", namespace);
         vertx.cancelTimer(reconcileTimer);
+
+        resourceOperatorSupplier.periodicReconciliationScheduler.unregister(namespace);
+
         for (ReconnectingWatcher<?> watch : watchByKind.values()) {
             if (watch != null) {
                 watch.close();
@@ -181,22 +188,33 @@ public class ClusterOperator extends AbstractVerticle {
         }
 
         strimziPodSetController.stop();
+
+        // The namespace is not watched anymore, so its metrics are removed to not keep them in the registry forever
+        for (AbstractOperator<?, ?, ?, ?> operator : asList(kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator, kafkaConnectAssemblyOperator,
+                kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator, kafkaRebalanceAssemblyOperator)) {
+            if (operator != null) {
+                operator.metrics().removeMetricsForNamespace(namespace);
+            }
+        }
+
         stop.complete();
     }
 
     /**
-      Periodical reconciliation (in case we lost some event)
+      Periodical reconciliation (in case we lost some event). The reconciliations of the individual resources are
+      spread across the reconciliation interval by the periodic reconciliation scheduler.
      */
     private void reconcileAll(String trigger) {
         if (!config.isPodSetReconciliationOnly()) {
             Handler<AsyncResult<Void>> ignore = ignored -> {
             };
-            kafkaAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaConnectAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaMirrorMaker2AssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-            kafkaRebalanceAssemblyOperator.reconcileAll(trigger, namespace, ignore);
+            PeriodicReconciliationScheduler scheduler = resourceOperatorSupplier.periodicReconciliationScheduler;
+            kafkaAssemblyOperator.reconcileAll(trigger, namespace, scheduler.reconciler(namespace, kafkaAssemblyOperator), ignore);
+            kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, scheduler.reconciler(namespace, kafkaMirrorMakerAssemblyOperator), ignore);
+            kafkaConnectAssemblyOperator.reconcileAll(trigger, namespace, scheduler.reconciler(namespace, kafkaConnectAssemblyOperator), ignore);
+            kafkaMirrorMaker2AssemblyOperator.reconcileAll(trigger, namespace, scheduler.reconciler(namespace, kafkaMirrorMaker2AssemblyOperator), ignore);
+            kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, scheduler.reconciler(namespace, kafkaBridgeAssemblyOperator), ignore);
+            kafkaRebalanceAssemblyOperator.reconcileAll(trigger, namespace, scheduler.reconciler(namespace, kafkaRebalanceAssemblyOperator), ignore);
         }
     }
 }
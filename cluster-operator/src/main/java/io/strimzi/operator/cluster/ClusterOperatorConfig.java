@@ -15,6 +15,7 @@ import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.config.ConfigParameter;
 import io.strimzi.operator.common.config.ConfigParameterParser;
 import io.strimzi.operator.common.featuregates.FeatureGates;
+import io.strimzi.operator.common.model.Ca;
 import io.strimzi.operator.common.model.Labels;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -34,6 +35,7 @@ import static io.strimzi.operator.common.config.ConfigParameterParser.LONG;
 import static io.strimzi.operator.common.config.ConfigParameterParser.NAMESPACE_SET;
 import static io.strimzi.operator.common.config.ConfigParameterParser.STRING;
 import static io.strimzi.operator.common.config.ConfigParameterParser.parseFeatureGates;
+import static io.strimzi.operator.common.config.ConfigParameterParser.strictlyPositive;
 
 /**
  * Cluster Operator configuration
@@ -217,6 +219,83 @@ public class ClusterOperatorConfig {
     public static final ConfigParameter<Integer> POD_SET_CONTROLLER_WORK_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_POD_SET_CONTROLLER_WORK_QUEUE_SIZE", INTEGER, "1024", CONFIG_VALUES);
 
 
+    /**
+     * Minimal interval between two requests for the status of the same Cruise Control user task. When the status of the
+     * task does not change, the interval is doubled up to the maximal interval. 0 disables the adaptive polling.
+     */
+    public static final ConfigParameter<Long> CRUISE_CONTROL_USER_TASKS_MIN_POLL_INTERVAL_MS = new ConfigParameter<>("STRIMZI_CRUISE_CONTROL_USER_TASKS_MIN_POLL_INTERVAL_MS", LONG, "0", CONFIG_VALUES);
+
+    /**
+     * Maximal interval between two requests for the status of the same Cruise Control user task
+     */
+    public static final ConfigParameter<Long> CRUISE_CONTROL_USER_TASKS_MAX_POLL_INTERVAL_MS = new ConfigParameter<>("STRIMZI_CRUISE_CONTROL_USER_TASKS_MAX_POLL_INTERVAL_MS", LONG, "60000", CONFIG_VALUES);
+
+    /**
+     * Maximal size of the parts of the Cruise Control rebalance responses which are retained in memory
+     */
+    public static final ConfigParameter<Long> CRUISE_CONTROL_MAX_RETAINED_RESPONSE_BYTES = new ConfigParameter<>("STRIMZI_CRUISE_CONTROL_MAX_RETAINED_RESPONSE_BYTES", LONG, "10485760", CONFIG_VALUES);
+
+    /**
+     * Enables the informer based cache for reading the Kubernetes resources managed by the operator
+     */
+    public static final ConfigParameter<Boolean> INFORMER_CACHE_ENABLED = new ConfigParameter<>("STRIMZI_INFORMER_CACHE_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * The size of the thread pool used for the blocking Kafka Admin and ZooKeeper operations
+     */
+    public static final ConfigParameter<Integer> KAFKA_OPERATIONS_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_KAFKA_OPERATIONS_THREAD_POOL_SIZE", INTEGER, "10", CONFIG_VALUES);
+
+    /**
+     * The size of the thread pool used for generating the certificates
+     */
+    public static final ConfigParameter<Integer> CRYPTO_OPERATIONS_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_CRYPTO_OPERATIONS_THREAD_POOL_SIZE", INTEGER, "4", CONFIG_VALUES);
+
+    /**
+     * The size of the thread pool used for the blocking operations of the rolling restarts
+     */
+    public static final ConfigParameter<Integer> ROLLING_OPERATIONS_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_ROLLING_OPERATIONS_THREAD_POOL_SIZE", INTEGER, "4", CONFIG_VALUES);
+
+    /**
+     * The maximal number of the certificates parsed from Secrets which are cached. Zero disables the cache.
+     */
+    public static final ConfigParameter<Integer> CERTIFICATE_CACHE_SIZE = new ConfigParameter<>("STRIMZI_CERTIFICATE_CACHE_SIZE", INTEGER, String.valueOf(Ca.DEFAULT_CERTIFICATE_CACHE_SIZE), CONFIG_VALUES);
+
+    /**
+     * Use virtual threads for the Kubernetes and Kafka operations when supported by the Java runtime
+     */
+    public static final ConfigParameter<Boolean> VIRTUAL_THREADS_ENABLED = new ConfigParameter<>("STRIMZI_VIRTUAL_THREADS_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * The maximal number of custom resource reconciliations which can run in parallel
+     */
+    public static final ConfigParameter<Integer> MAX_CONCURRENT_RECONCILIATIONS = new ConfigParameter<>("STRIMZI_MAX_CONCURRENT_RECONCILIATIONS", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
+
+    /**
+     * The maximal number of periodic reconciliations started per second. Zero disables the limit.
+     */
+    public static final ConfigParameter<Integer> PERIODIC_RECONCILIATION_MAX_STARTS_PER_SECOND = new ConfigParameter<>("STRIMZI_PERIODIC_RECONCILIATION_MAX_STARTS_PER_SECOND", INTEGER, "10", CONFIG_VALUES);
+
+    /**
+     * The time in milliseconds after which a custom resource reconciliation which did not complete is reported as
+     * overrun. Zero disables the timeout.
+     */
+    public static final ConfigParameter<Long> RECONCILIATION_TIMEOUT_MS = new ConfigParameter<>("STRIMZI_RECONCILIATION_TIMEOUT_MS", LONG, "7200000", CONFIG_VALUES);
+
+    /**
+     * Multiple of the operation timeout for which the Kafka roller waits for the log recovery of a restarted broker
+     */
+    public static final ConfigParameter<Integer> LOG_RECOVERY_TIMEOUT_FACTOR = new ConfigParameter<>("STRIMZI_LOG_RECOVERY_TIMEOUT_FACTOR", strictlyPositive(INTEGER), "12", CONFIG_VALUES);
+
+    /**
+     * Enables the diagnostics endpoints (thread dumps, JFR recordings and in-flight reconciliations)
+     */
+    public static final ConfigParameter<Boolean> DIAGNOSTICS_ENABLED = new ConfigParameter<>("STRIMZI_DIAGNOSTICS_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
+    /**
+     * Enables logging of the trace of the Kafka reconciliation steps with their start and duration
+     */
+    public static final ConfigParameter<Boolean> RECONCILIATION_STEP_TRACING_ENABLED = new ConfigParameter<>("STRIMZI_RECONCILIATION_STEP_TRACING_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+
     /**
      * The Pod name of the cluster operator, used to identify source of K8s events the operator creates
      */
@@ -573,6 +652,111 @@ public class ClusterOperatorConfig {
         return get(POD_SET_CONTROLLER_WORK_QUEUE_SIZE);
     }
 
+    /**
+     * @return  Minimal interval between two requests for the status of the same Cruise Control user task
+     */
+    public long getCruiseControlUserTasksMinPollIntervalMs() {
+        return get(CRUISE_CONTROL_USER_TASKS_MIN_POLL_INTERVAL_MS);
+    }
+
+    /**
+     * @return  Maximal interval between two requests for the status of the same Cruise Control user task
+     */
+    public long getCruiseControlUserTasksMaxPollIntervalMs() {
+        return get(CRUISE_CONTROL_USER_TASKS_MAX_POLL_INTERVAL_MS);
+    }
+
+    /**
+     * @return  Maximal size of the parts of the Cruise Control rebalance responses which are retained in memory
+     */
+    public long getCruiseControlMaxRetainedResponseBytes() {
+        return get(CRUISE_CONTROL_MAX_RETAINED_RESPONSE_BYTES);
+    }
+
+    /**
+     * @return  Indicates whether the informer based cache should be used for reading the Kubernetes resources
+     */
+    public boolean isInformerCacheEnabled() {
+        return get(INFORMER_CACHE_ENABLED);
+    }
+
+    /**
+     * @return  Thread Pool size used for the blocking Kafka Admin and ZooKeeper operations
+     */
+    public int getKafkaOperationsThreadPoolSize() {
+        return get(KAFKA_OPERATIONS_THREAD_POOL_SIZE);
+    }
+
+    /**
+     * @return  Thread Pool size used for generating the certificates
+     */
+    public int getCryptoOperationsThreadPoolSize() {
+        return get(CRYPTO_OPERATIONS_THREAD_POOL_SIZE);
+    }
+
+    /**
+     * @return  Thread Pool size used for the blocking operations of the rolling restarts
+     */
+    public int getRollingOperationsThreadPoolSize() {
+        return get(ROLLING_OPERATIONS_THREAD_POOL_SIZE);
+    }
+
+    /**
+     * @return  The maximal number of the certificates parsed from Secrets which are cached
+     */
+    public int getCertificateCacheSize() {
+        return get(CERTIFICATE_CACHE_SIZE);
+    }
+
+    /**
+     * @return  Indicates whether virtual threads should be used for the Kubernetes and Kafka operations
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return get(VIRTUAL_THREADS_ENABLED);
+    }
+
+    /**
+     * @return  The maximal number of custom resource reconciliations which can run in parallel
+     */
+    public int getMaxConcurrentReconciliations() {
+        return get(MAX_CONCURRENT_RECONCILIATIONS);
+    }
+
+    /**
+     * @return  The maximal number of periodic reconciliations started per second
+     */
+    public int getPeriodicReconciliationMaxStartsPerSecond() {
+        return get(PERIODIC_RECONCILIATION_MAX_STARTS_PER_SECOND);
+    }
+
+    /**
+     * @return  The time in milliseconds after which a reconciliation which did not complete is treated as failed
+     */
+    public long getReconciliationTimeoutMs() {
+        return get(RECONCILIATION_TIMEOUT_MS);
+    }
+
+    /**
+     * @return  Multiple of the operation timeout for which the Kafka roller waits for the log recovery of a broker
+     */
+    public int getLogRecoveryTimeoutFactor() {
+        return get(LOG_RECOVERY_TIMEOUT_FACTOR);
+    }
+
+    /**
+     * @return  Indicates whether the diagnostics endpoints are enabled
+     */
+    public boolean isDiagnosticsEnabled() {
+        return get(DIAGNOSTICS_ENABLED);
+    }
+
+    /**
+     * @return  Indicates whether the trace of the Kafka reconciliation steps should be logged
+     */
+    public boolean isReconciliationStepTracingEnabled() {
+        return get(RECONCILIATION_STEP_TRACING_ENABLED);
+    }
+
     /**
      * @return  The name of this operator
      */
@@ -617,6 +801,21 @@ public class ClusterOperatorConfig {
                 "\n\tdnsCacheTtlSec=" + getDnsCacheTtlSec() +
                 "\n\tpodSetReconciliationOnly=" + isPodSetReconciliationOnly() +
                 "\n\tpodSetControllerWorkQueueSize=" + getPodSetControllerWorkQueueSize() +
+                "\n\tcruiseControlUserTasksMinPollIntervalMs=" + getCruiseControlUserTasksMinPollIntervalMs() +
+                "\n\tcruiseControlUserTasksMaxPollIntervalMs=" + getCruiseControlUserTasksMaxPollIntervalMs() +
+                "\n\tcruiseControlMaxRetainedResponseBytes=" + getCruiseControlMaxRetainedResponseBytes() +
+                "\n\tinformerCacheEnabled=" + isInformerCacheEnabled() +
+                "\n\tkafkaOperationsThreadPoolSize=" + getKafkaOperationsThreadPoolSize() +
+                "\n\tcryptoOperationsThreadPoolSize=" + getCryptoOperationsThreadPoolSize() +
+                "\n\trollingOperationsThreadPoolSize=" + getRollingOperationsThreadPoolSize() +
+                "\n\tcertificateCacheSize=" + getCertificateCacheSize() +
+                "\n\tvirtualThreadsEnabled=" + isVirtualThreadsEnabled() +
+                "\n\tmaxConcurrentReconciliations=" + getMaxConcurrentReconciliations() +
+                "\n\tperiodicReconciliationMaxStartsPerSecond=" + getPeriodicReconciliationMaxStartsPerSecond() +
+                "\n\treconciliationTimeoutMs=" + getReconciliationTimeoutMs() +
+                "\n\tlogRecoveryTimeoutFactor=" + getLogRecoveryTimeoutFactor() +
+                "\n\tdiagnosticsEnabled=" + isDiagnosticsEnabled() +
+                "\n\treconciliationStepTracingEnabled=" + isReconciliationStepTracingEnabled() +
                 "\n\toperatorName='" + getOperatorName() + '\'' +
                 "\n\tpodSecurityProviderClass='" + getPodSecurityProviderClass() + '\'' +
                 "\n\tleaderElectionConfig='" + getLeaderElectionConfig() + '\'' +
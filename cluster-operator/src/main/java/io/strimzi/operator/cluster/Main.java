@@ -10,23 +10,31 @@ import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManager;
 import io.strimzi.operator.cluster.model.securityprofiles.PodSecurityProviderFactory;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaConnectAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
+import io.strimzi.operator.cluster.operator.assembly.PeriodicReconciliationScheduler;
+import io.strimzi.operator.cluster.operator.assembly.ReconciliationScheduler;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.ResourceCache;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.diagnostics.InFlightReconciliations;
+import io.strimzi.operator.common.diagnostics.OperatorDiagnostics;
+import io.strimzi.operator.common.model.Ca;
 import io.strimzi.operator.common.model.PasswordGenerator;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServer;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.VertxPrometheusOptions;
@@ -65,6 +73,9 @@ public class Main {
         // setting DNS cache TTL
         Security.setProperty("networkaddress.cache.ttl", String.valueOf(config.getDnsCacheTtlSec()));
 
+        // setting the size of the cache of the parsed certificates
+        Ca.configureCertificateCache(config.getCertificateCacheSize());
+
         // Shutdown hook to register shutdown actions
         ShutdownHook shutdownHook = new ShutdownHook();
         Runtime.getRuntime().addShutdownHook(new Thread(shutdownHook));
@@ -80,12 +91,16 @@ public class Main {
 
         // Setup Micrometer Metrics provider
         MetricsProvider metricsProvider = new MicrometerMetricsProvider(BackendRegistries.getDefaultNow());
+        WorkerPools workerPools = new WorkerPools(config, metricsProvider);
+        shutdownHook.register(workerPools::shutdown);
         KubernetesClient client = new OperatorKubernetesClientBuilder("strimzi-cluster-operator", strimziVersion).build();
 
-        startHealthServer(vertx, metricsProvider)
+        InFlightReconciliations.enabled(config.isDiagnosticsEnabled());
+
+        startHealthServer(vertx, metricsProvider, workerPools, config.isDiagnosticsEnabled() ? new OperatorDiagnostics() : null)
                 .compose(i -> leaderElection(client, config, shutdownHook))
                 .compose(i -> createPlatformFeaturesAvailability(vertx, client))
-                .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, pfa, config, shutdownHook))
+                .compose(pfa -> deployClusterOperatorVerticles(vertx, client, metricsProvider, workerPools, pfa, config, shutdownHook))
                 .onComplete(res -> {
                     if (res.failed())   {
                         LOGGER.error("Unable to start operator for 1 or more namespace", res.cause());
@@ -126,22 +141,33 @@ public class Main {
      * @param vertx             Vertx instance
      * @param client            Kubernetes client instance
      * @param metricsProvider   Metrics provider instance
+     * @param workerPools       Worker pools used for the blocking operations
      * @param pfa               PlatformFeaturesAvailability instance describing the Kubernetes cluster
      * @param config            Cluster Operator configuration
      * @param shutdownHook      Shutdown hook to register leader election shutdown
      *
      * @return  Future which completes when all Cluster Operator verticles are started and running
      */
-    static CompositeFuture deployClusterOperatorVerticles(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config, ShutdownHook shutdownHook) {
+    static CompositeFuture deployClusterOperatorVerticles(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, WorkerPools workerPools, PlatformFeaturesAvailability pfa, ClusterOperatorConfig config, ShutdownHook shutdownHook) {
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(
                 vertx,
                 client,
                 metricsProvider,
+                workerPools,
+                new PeriodicReconciliationScheduler(vertx,
+                        new ReconciliationScheduler(config.getMaxConcurrentReconciliations(), config.getReconciliationTimeoutMs()),
+                        config.getReconciliationIntervalMs(),
+                        config.getPeriodicReconciliationMaxStartsPerSecond()),
                 pfa,
                 config.getOperationTimeoutMs(),
                 config.getOperatorName()
         );
 
+        if (config.isInformerCacheEnabled()) {
+            resourceOperatorSupplier.enableInformerCaches(config.getNamespaces(), ResourceCache.DEFAULT_RESYNC_INTERVAL_MS);
+            shutdownHook.register(() -> resourceOperatorSupplier.stopInformerCaches(SHUTDOWN_TIMEOUT));
+        }
+
         // Initialize the PodSecurityProvider factory to provide the user configured provider
         PodSecurityProviderFactory.initialize(config.getPodSecurityProviderClass(), pfa);
 
@@ -255,10 +281,12 @@ public class Main {
      *
      * @param vertx             Vertx instance
      * @param metricsProvider   Metrics Provider to get the metrics from
+     * @param workerPools       Worker pools used to handle the diagnostics requests
+     * @param diagnostics       Diagnostics served under the /diagnostics path or null if the diagnostics are disabled
      *
      * @return Future which completes when the health and metrics webserver is started
      */
-    private static Future<HttpServer> startHealthServer(Vertx vertx, MetricsProvider metricsProvider) {
+    private static Future<HttpServer> startHealthServer(Vertx vertx, MetricsProvider metricsProvider, WorkerPools workerPools, OperatorDiagnostics diagnostics) {
         Promise<HttpServer> result = Promise.promise();
 
         vertx.createHttpServer()
@@ -271,6 +299,26 @@ public class Main {
                         PrometheusMeterRegistry metrics = (PrometheusMeterRegistry) metricsProvider.meterRegistry();
                         request.response().setStatusCode(200)
                                 .end(metrics.scrape());
+                    } else if (diagnostics != null && request.path().startsWith(OperatorDiagnostics.PATH)) {
+                        String method = request.method().name();
+                        String path = request.path();
+
+                        // The diagnostics might block (thread dumps, JFR recordings), so they are handled in a worker thread
+                        workerPools.executeBlocking(vertx, WorkerPools.Pool.DIAGNOSTICS, () -> diagnostics.handle(method, path))
+                                .onComplete(res -> {
+                                    if (res.succeeded()) {
+                                        request.response().setStatusCode(res.result().status())
+                                                .putHeader("Content-Type", res.result().contentType());
+
+                                        if (res.result().file() != null) {
+                                            request.response().sendFile(res.result().file().toString());
+                                        } else {
+                                            request.response().end(Buffer.buffer(res.result().body()));
+                                        }
+                                    } else {
+                                        request.response().setStatusCode(500).end();
+                                    }
+                                });
                     }
                 })
                 .listen(HEALTH_SERVER_PORT, ar -> {
@@ -0,0 +1,97 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the per-node Kafka configurations generated in the previous reconciliations. It is shared by all
+ * reconciliations of the Cluster Operator and lets the periodic reconciliations of an unchanged cluster reuse the
+ * configurations instead of generating them again for every node.
+ *
+ * The configurations of each cluster are cached together with a cluster key describing the cluster-wide inputs of the
+ * configuration (such as the generation of the Kafka custom resource). When the cluster key changes, all cached
+ * configurations of the cluster are dropped. Each node configuration is additionally cached with a node key describing
+ * the node-specific inputs (such as its roles, storage or advertised addresses). So when only some nodes change, only
+ * their configurations are generated again.
+ */
+public class BrokerConfigurationCache {
+    private final Map<String, ClusterConfigurations> clusters = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the cached configurations of a Kafka cluster. If the cached configurations were generated for a different
+     * cluster key, they are dropped and new empty configurations are returned.
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     * @param name          Name of the Kafka cluster
+     * @param clusterKey    Key describing the cluster-wide inputs of the configurations
+     *
+     * @return  Cached configurations of the Kafka cluster
+     */
+    ClusterConfigurations forCluster(String namespace, String name, Object clusterKey) {
+        return clusters.compute(namespace + "/" + name, (key, current) -> current != null && current.clusterKey.equals(clusterKey) ? current : new ClusterConfigurations(clusterKey));
+    }
+
+    /**
+     * Removes the cached configurations of a Kafka cluster. This should be called when the cluster is deleted.
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     * @param name          Name of the Kafka cluster
+     */
+    public void remove(String namespace, String name) {
+        clusters.remove(namespace + "/" + name);
+    }
+
+    /**
+     * @return  Number of the Kafka clusters with cached configurations
+     */
+    /* test */ int size() {
+        return clusters.size();
+    }
+
+    /**
+     * Cached node configurations of a single Kafka cluster
+     */
+    static class ClusterConfigurations {
+        private final Object clusterKey;
+        private final Map<Integer, NodeConfiguration> nodes = new ConcurrentHashMap<>();
+
+        private ClusterConfigurations(Object clusterKey) {
+            this.clusterKey = clusterKey;
+        }
+
+        /**
+         * Gets the configuration of a node. If the configuration is not cached or was cached for a different node key,
+         * it is generated and cached.
+         *
+         * @param nodeId        ID of the node
+         * @param nodeKey       Key describing the node-specific inputs of the configuration
+         * @param generator     Generates the configuration when it is not cached
+         *
+         * @return  Configuration of the node
+         */
+        String configuration(int nodeId, Object nodeKey, Supplier<String> generator) {
+            NodeConfiguration cached = nodes.get(nodeId);
+
+            if (cached != null && cached.nodeKey.equals(nodeKey)) {
+                return cached.configuration;
+            } else {
+                String configuration = generator.get();
+                nodes.put(nodeId, new NodeConfiguration(nodeKey, configuration));
+                return configuration;
+            }
+        }
+    }
+
+    /**
+     * Cached configuration of a single node
+     *
+     * @param nodeKey           Key describing the node-specific inputs of the configuration
+     * @param configuration     Configuration of the node
+     */
+    private record NodeConfiguration(Object nodeKey, String configuration) { }
+}
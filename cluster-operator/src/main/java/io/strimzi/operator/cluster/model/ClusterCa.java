@@ -18,17 +18,17 @@ import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Ca;
 import io.strimzi.operator.common.model.PasswordGenerator;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -43,6 +43,8 @@ public class ClusterCa extends Ca {
      */
     private static final Pattern OLD_CA_CERT_PATTERN = Pattern.compile("^ca-\\d{4}-\\d{2}-\\d{2}T\\d{2}-\\d{2}-\\d{2}Z.crt$");
 
+    private final ExecutorService certificateExecutor;
+
     /**
      * Constructor
      *
@@ -80,12 +82,42 @@ public class ClusterCa extends Ca {
                      int renewalDays,
                      boolean generateCa,
                      CertificateExpirationPolicy policy) {
+        this(reconciliation, certManager, passwordGenerator, clusterName, clusterCaCert, clusterCaKey, validityDays, renewalDays, generateCa, policy, null);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param reconciliation        Reconciliation marker
+     * @param certManager           Certificate manager instance
+     * @param passwordGenerator     Password generator instance
+     * @param clusterName           Name of the Kafka cluster
+     * @param clusterCaCert         Secret with the public key
+     * @param clusterCaKey          Secret with the private key
+     * @param validityDays          Validity days
+     * @param renewalDays           Renewal days (how many days before expiration should the CA be renewed)
+     * @param generateCa            Flag indicating if Strimzi CA should be generated or custom CA is used
+     * @param policy                Renewal policy
+     * @param certificateExecutor   Shared executor used to generate the node certificates in parallel. When null, the
+     *                              certificates are generated one after another.
+     */
+    public ClusterCa(Reconciliation reconciliation, CertManager certManager,
+                     PasswordGenerator passwordGenerator,
+                     String clusterName,
+                     Secret clusterCaCert,
+                     Secret clusterCaKey,
+                     int validityDays,
+                     int renewalDays,
+                     boolean generateCa,
+                     CertificateExpirationPolicy policy,
+                     ExecutorService certificateExecutor) {
         super(reconciliation, certManager, passwordGenerator,
                 "cluster-ca",
                 AbstractModel.clusterCaCertSecretName(clusterName),
                 clusterCaCert,
                 AbstractModel.clusterCaKeySecretName(clusterName),
                 clusterCaKey, validityDays, renewalDays, generateCa, policy);
+        this.certificateExecutor = certificateExecutor;
     }
 
     @Override
@@ -289,12 +321,8 @@ public class ClusterCa extends Ca {
     ) throws IOException {
         // Maps for storing the certificates => will be used in the new or updated secret. This map is filled in this method and returned at the end.
         Map<String, CertAndKey> certs = new HashMap<>();
-
-        // Temp files used when we need to generate new certificates
-        File brokerCsrFile = Files.createTempFile("tls", "broker-csr").toFile();
-        File brokerKeyFile = Files.createTempFile("tls", "broker-key").toFile();
-        File brokerCertFile = Files.createTempFile("tls", "broker-cert").toFile();
-        File brokerKeyStoreFile = Files.createTempFile("tls", "broker-p12").toFile();
+        // Subjects of the certificates which need to be generated. They are generated together at the end of this method.
+        Map<String, Subject> certsToGenerate = new LinkedHashMap<>();
 
         for (NodeRef node : nodes)  {
             String podName = node.podName();
@@ -327,25 +355,19 @@ public class ClusterCa extends Ca {
 
                 if (!reasons.isEmpty())  {
                     LOGGER.infoCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
-
-                    CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                    certs.put(podName, newCertAndKey);
+                    certsToGenerate.put(podName, subject);
                 }   else {
                     certs.put(podName, certAndKey);
                 }
             } else {
                 // A certificate for this node does not exist or it the CA got renewed, so we will generate new certificate
                 LOGGER.debugCr(reconciliation, "Generating new certificate for node {}", node);
-                CertAndKey k = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, k);
+                certsToGenerate.put(podName, subject);
             }
         }
 
-        // Delete the temp files used to generate new certificates
-        delete(reconciliation, brokerCsrFile);
-        delete(reconciliation, brokerKeyFile);
-        delete(reconciliation, brokerCertFile);
-        delete(reconciliation, brokerKeyStoreFile);
+        // Generate all new certificates at once
+        certs.putAll(generateSignedCerts(certsToGenerate, certificateExecutor));
 
         return certs;
     }
@@ -249,6 +249,9 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
 
     private TieredStorage tieredStorage;
 
+    private Long resourceGeneration;
+    private BrokerConfigurationCache.ClusterConfigurations cachedBrokerConfigurations;
+
     private static final Map<String, String> DEFAULT_POD_LABELS = new HashMap<>();
     static {
         String value = System.getenv(CO_ENV_VAR_CUSTOM_KAFKA_POD_LABELS);
@@ -300,6 +303,7 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
 
         result.clusterId = clusterId;
         result.nodePools = pools;
+        result.resourceGeneration = kafka.getMetadata().getGeneration();
         result.kafkaMetadataConfigState = kafkaMetadataConfigState;
 
         // This also validates that the Kafka version is supported
@@ -1757,6 +1761,45 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
      * @return  String with the Kafka broker configuration
      */
     private String generatePerBrokerConfiguration(NodeRef node, KafkaPool pool, Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts)   {
+        if (cachedBrokerConfigurations != null) {
+            BrokerConfigurationNodeKey nodeKey = new BrokerConfigurationNodeKey(node, pool.storage, advertisedHostnames.get(node.nodeId()), advertisedPorts.get(node.nodeId()));
+            return cachedBrokerConfigurations.configuration(node.nodeId(), nodeKey, () -> buildPerBrokerConfiguration(node, pool, advertisedHostnames, advertisedPorts));
+        } else {
+            return buildPerBrokerConfiguration(node, pool, advertisedHostnames, advertisedPorts);
+        }
+    }
+
+    /**
+     * Generates the Kafka configurations for all nodes.
+     *
+     * @param advertisedHostnames   Map with advertised hostnames
+     * @param advertisedPorts       Map with advertised ports
+     *
+     * @return  Map with the Kafka configurations of the nodes
+     */
+    private Map<Integer, String> generatePerBrokerConfigurations(Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts)   {
+        Map<Integer, String> configurations = new HashMap<>();
+
+        for (KafkaPool pool : nodePools)    {
+            for (NodeRef node : pool.nodes())   {
+                configurations.put(node.nodeId(), generatePerBrokerConfiguration(node, pool, advertisedHostnames, advertisedPorts));
+            }
+        }
+
+        return configurations;
+    }
+
+    /**
+     * Builds the Kafka configuration for given broker node.
+     *
+     * @param node                  Node reference with Node ID and pod name
+     * @param pool                  Pool to which this node belongs - this is used to get pool-specific settings such as storage
+     * @param advertisedHostnames   Map with advertised hostnames
+     * @param advertisedPorts       Map with advertised ports
+     *
+     * @return  String with the Kafka broker configuration
+     */
+    private String buildPerBrokerConfiguration(NodeRef node, KafkaPool pool, Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts)   {
         KafkaBrokerConfigurationBuilder builder =
                 new KafkaBrokerConfigurationBuilder(reconciliation, node, this.kafkaMetadataConfigState)
                         .withRackId(rack)
@@ -1776,6 +1819,34 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
         return builder.build().trim();
     }
 
+    /**
+     * Configures the cache used to reuse the per-node configurations generated in the previous reconciliations. The
+     * cached configurations are used only as long as the generation of the Kafka custom resource and the other
+     * cluster-wide inputs of the configuration (Kafka and metadata versions, metadata state, user configuration and the
+     * set of nodes) do not change. The cache is not used when the generation of the custom resource is not known.
+     *
+     * @param cache     Cache of the per-node configurations
+     *
+     * @return  This KafkaCluster instance
+     */
+    public KafkaCluster withBrokerConfigurationCache(BrokerConfigurationCache cache)    {
+        if (resourceGeneration != null) {
+            BrokerConfigurationClusterKey clusterKey = new BrokerConfigurationClusterKey(
+                    ownerReference.getUid(),
+                    resourceGeneration,
+                    kafkaVersion.version(),
+                    metadataVersion,
+                    kafkaMetadataConfigState,
+                    configuration.getConfiguration(),
+                    nodes()
+            );
+
+            this.cachedBrokerConfigurations = cache.forCluster(namespace, cluster, clusterKey);
+        }
+
+        return this;
+    }
+
     /**
      * Adds ZooKeeper and/or KRaft connection and/or ZooKeeper migration depending on the role of the node (broker or controller)
      * and the Kafka metadata configuration state.
@@ -1837,8 +1908,23 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
      * @return ConfigMap with the shared configuration.
      */
     public List<ConfigMap> generatePerBrokerConfigurationConfigMaps(MetricsAndLogging metricsAndLogging, Map<Integer, Map<String, String>> advertisedHostnames, Map<Integer, Map<String, String>> advertisedPorts)   {
+        return generatePerBrokerConfigurationConfigMaps(metricsAndLogging, generatePerBrokerConfigurations(advertisedHostnames, advertisedPorts));
+    }
+
+    /**
+     * Generates a list of configuration ConfigMaps - one for each broker in the cluster - from the node configurations
+     * which were already generated. This allows the caller to generate the configurations of the individual nodes in
+     * parallel using the generatePerBrokerConfiguration(...) method. This is used with StrimziPodSets.
+     *
+     * @param metricsAndLogging     Object with logging and metrics configuration collected from external user-provided config maps
+     * @param nodeConfigurations    Map with the Kafka configurations of all nodes
+     *
+     * @return ConfigMap with the shared configuration.
+     */
+    public List<ConfigMap> generatePerBrokerConfigurationConfigMaps(MetricsAndLogging metricsAndLogging, Map<Integer, String> nodeConfigurations)   {
         String parsedMetrics = metrics.metricsJson(reconciliation, metricsAndLogging.metricsCm());
         String parsedLogging = logging().loggingConfiguration(reconciliation, metricsAndLogging.loggingCm());
+        String listenersEnvVars = listeners.stream().map(ListenersUtils::envVarIdentifier).collect(Collectors.joining(" "));
         List<ConfigMap> configMaps = new ArrayList<>();
 
         for (KafkaPool pool : nodePools)    {
@@ -1850,14 +1936,14 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
                 }
 
                 data.put(logging.configMapKey(), parsedLogging);
-                data.put(BROKER_CONFIGURATION_FILENAME, generatePerBrokerConfiguration(node, pool, advertisedHostnames, advertisedPorts));
+                data.put(BROKER_CONFIGURATION_FILENAME, nodeConfigurations.get(node.nodeId()));
 
                 // List of configured listeners => StrimziPodSets still need this because of OAUTH and how the OAUTH secret
                 // environment variables are parsed in the container bash scripts.
                 // The actual content of this file is not used on controller-only nodes as they do not expose any
                 // user-configured listeners. But we still pass there an empty file as that allows us to share the same
                 // script to generate the node configuration.
-                data.put(BROKER_LISTENERS_FILENAME, node.broker() ? listeners.stream().map(ListenersUtils::envVarIdentifier).collect(Collectors.joining(" ")) : null);
+                data.put(BROKER_LISTENERS_FILENAME, node.broker() ? listenersEnvVars : null);
 
                 // controller and broker gets the Cluster ID in different states during migration
                 // and they both get it when in full KRaft-mode
@@ -2000,4 +2086,31 @@ public class KafkaCluster extends AbstractModel implements SupportsMetrics, Supp
             return labels.strimziSelectorLabels();
         }
     }
+
+    /**
+     * Cluster-wide inputs of the per-node configurations. The other cluster-wide inputs (such as listeners,
+     * authorization or rack awareness) come from the Kafka custom resource and are covered by its generation.
+     *
+     * @param uid                   UID of the Kafka custom resource
+     * @param generation            Generation of the Kafka custom resource
+     * @param kafkaVersion          Kafka version
+     * @param metadataVersion       Metadata version
+     * @param metadataState         State of the Kafka metadata configuration
+     * @param userConfiguration     User configuration of the Kafka nodes
+     * @param nodes                 All nodes of the Kafka cluster
+     */
+    private record BrokerConfigurationClusterKey(String uid, long generation, String kafkaVersion, String metadataVersion,
+                                                 KafkaMetadataConfigurationState metadataState, String userConfiguration,
+                                                 Set<NodeRef> nodes) { }
+
+    /**
+     * Node-specific inputs of the per-node configuration
+     *
+     * @param node                  Node reference
+     * @param storage               Storage of the node pool of the node
+     * @param advertisedHostnames   Advertised hostnames of the node
+     * @param advertisedPorts       Advertised ports of the node
+     */
+    private record BrokerConfigurationNodeKey(NodeRef node, Storage storage, Map<String, String> advertisedHostnames,
+                                              Map<String, String> advertisedPorts) { }
 }
@@ -14,10 +14,12 @@ import io.strimzi.operator.common.Reconciliation;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Collections.emptyList;
 
@@ -46,6 +48,7 @@ public class KafkaConfiguration extends AbstractConfiguration {
     public static final String MIN_INSYNC_REPLICAS = "min.insync.replicas";
 
     private static final List<String> FORBIDDEN_PREFIXES;
+    private static final Map<String, Map<String, ConfigModel>> CONFIG_MODELS = new ConcurrentHashMap<>();
     private static final List<String> FORBIDDEN_PREFIX_EXCEPTIONS;
 
     static {
@@ -253,11 +256,16 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The config model is loaded only once for each
+     * Kafka version and the returned map is shared and cannot be modified.
      * @param kafkaVersion The broker version.
      * @return The config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
+        return CONFIG_MODELS.computeIfAbsent(kafkaVersion.version(), version -> loadConfigModel(kafkaVersion));
+    }
+
+    private static Map<String, ConfigModel> loadConfigModel(KafkaVersion kafkaVersion) {
         String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
         try {
             try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
@@ -266,7 +274,7 @@ public class KafkaConfiguration extends AbstractConfiguration {
                     if (!kafkaVersion.version().equals(configModels.getVersion())) {
                         throw new RuntimeException("Incorrect version");
                     }
-                    return configModels.getConfigs();
+                    return Collections.unmodifiableMap(configModels.getConfigs());
                 } else {
                     // The configuration model does not exist
                     throw new RuntimeException("Configuration model " + name + " was not found");
@@ -4,7 +4,8 @@
  */
 package io.strimzi.operator.cluster.model;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.strimzi.api.kafka.model.podset.StrimziPodSet;
 import io.strimzi.operator.common.Annotations;
@@ -13,6 +14,12 @@ import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 /**
  * In the future, as we better utilize the StrimziPodSet possibilities and not just replace StatefulSets 1-to-1, the
  * revision might require more complicated setup. That is why this is using separate class, although it currently seems
@@ -24,10 +31,14 @@ public class PodRevision {
      */
     public static final String STRIMZI_REVISION_ANNOTATION = Labels.STRIMZI_DOMAIN + "revision";
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PodRevision.class.getName());
+    private static final ObjectWriter WRITER = new ObjectMapper().writer();
+    private static final HexFormat HEX = HexFormat.of();
 
     /**
      * Generates the revision of the Pod. Currently, it just serializes the Pod using Jackson ObjectMapper and creates
-     * a SHA1 hashstub from it.
+     * a SHA1 hashstub from it. The serialized Pod is streamed directly into the digest without building the whole
+     * JSON string in memory. The revision is the same as Util.hashStub(PodSetUtils.podToString(pod)) used to be, so the
+     * revisions of existing Pods do not change.
      *
      * @param reconciliation    Reconciliation identifier (used for logging)
      * @param pod               Pod for which the revision should be calculated
@@ -36,13 +47,103 @@ public class PodRevision {
      */
     public static String getRevision(Reconciliation reconciliation, Pod pod) {
         try {
-            return Util.hashStub(PodSetUtils.podToString(pod));
-        } catch (JsonProcessingException e) {
+            DigestWriter digestWriter = new DigestWriter(MessageDigest.getInstance("SHA-1"));
+            WRITER.writeValue(digestWriter, pod);
+            return HEX.formatHex(digestWriter.digest(), 0, Util.HASH_STUB_LENGTH / 2);
+        } catch (IOException | NoSuchAlgorithmException e) {
             LOGGER.warnCr(reconciliation, "Failed to get pod revision", e);
             throw new RuntimeException("Failed to get pod revision", e);
         }
     }
 
+    /**
+     * Writer which feeds the written characters into a message digest. The characters are encoded in the same way as
+     * String#getBytes(StandardCharsets.US_ASCII) would encode them: characters outside of US-ASCII are replaced with
+     * '?' and a surrogate pair is replaced with a single '?'.
+     */
+    private static class DigestWriter extends Writer {
+        private final MessageDigest digest;
+        private final byte[] buffer = new byte[2048];
+        private int count = 0;
+        private boolean pendingHighSurrogate = false;
+
+        DigestWriter(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            int end = offset + length;
+            int i = offset;
+
+            while (i < end) {
+                if (count == buffer.length) {
+                    flush();
+                }
+
+                // Fast path for US-ASCII characters
+                int batchEnd = Math.min(end, i + buffer.length - count);
+                while (i < batchEnd && chars[i] < 0x80 && !pendingHighSurrogate) {
+                    buffer[count++] = (byte) chars[i++];
+                }
+
+                if (i < batchEnd) {
+                    encode(chars[i++]);
+                }
+            }
+        }
+
+        @Override
+        public void write(String str, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                write(str.charAt(i));
+            }
+        }
+
+        @Override
+        public void write(int c) {
+            if (count == buffer.length) {
+                flush();
+            }
+
+            encode((char) c);
+        }
+
+        private void encode(char c) {
+            if (pendingHighSurrogate) {
+                pendingHighSurrogate = false;
+
+                if (Character.isLowSurrogate(c)) {
+                    // The whole surrogate pair was already replaced with a single '?'
+                    return;
+                }
+            }
+
+            if (c < 0x80) {
+                buffer[count++] = (byte) c;
+            } else {
+                pendingHighSurrogate = Character.isHighSurrogate(c);
+                buffer[count++] = (byte) '?';
+            }
+        }
+
+        @Override
+        public void flush() {
+            digest.update(buffer, 0, count);
+            count = 0;
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+
+        byte[] digest() {
+            flush();
+            return digest.digest();
+        }
+    }
+
     /**
      * Compares the current Pod with the desired StrimziPodSet to decide if the desired pod changed and needs to be rolled.
      * It uses the revision to detect the changes. The desired revision is compared with the current revision.
@@ -67,6 +67,7 @@ public final class VertxUtil {
      * milliseconds until it returns true or {@code timeoutMs} milliseconds have elapsed.
      * @param reconciliation The reconciliation
      * @param vertx The vertx instance.
+     * @param workerPools Worker pools used to invoke the {@code completed} supplier.
      * @param logContext A string used for context in logging.
      * @param logState The state we are waiting for use in log messages
      * @param pollIntervalMs The poll interval in milliseconds.
@@ -74,8 +75,8 @@ public final class VertxUtil {
      * @param completed Determines when the wait is complete by returning true.
      * @return A future that completes when the given {@code completed} indicates readiness.
      */
-    public static Future<Void> waitFor(Reconciliation reconciliation, Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed) {
-        return waitFor(reconciliation, vertx, logContext, logState, pollIntervalMs, timeoutMs, completed, error -> false);
+    public static Future<Void> waitFor(Reconciliation reconciliation, Vertx vertx, WorkerPools workerPools, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed) {
+        return waitFor(reconciliation, vertx, workerPools, logContext, logState, pollIntervalMs, timeoutMs, completed, error -> false);
     }
 
     /**
@@ -83,6 +84,7 @@ public final class VertxUtil {
      * milliseconds until it returns true or {@code timeoutMs} milliseconds have elapsed.
      * @param reconciliation The reconciliation
      * @param vertx The vertx instance.
+     * @param workerPools Worker pools used to invoke the {@code completed} supplier.
      * @param logContext A string used for context in logging.
      * @param logState The state we are waiting for use in log messages
      * @param pollIntervalMs The poll interval in milliseconds.
@@ -92,7 +94,7 @@ public final class VertxUtil {
      *                    should result in the immediate completion of the returned Future.
      * @return A future that completes when the given {@code completed} indicates readiness.
      */
-    public static Future<Void> waitFor(Reconciliation reconciliation, Vertx vertx, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed,
+    public static Future<Void> waitFor(Reconciliation reconciliation, Vertx vertx, WorkerPools workerPools, String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed,
                                        Predicate<Throwable> failOnError) {
         Promise<Void> promise = Promise.promise();
         LOGGER.debugCr(reconciliation, "Waiting for {} to get {}", logContext, logState);
@@ -100,8 +102,8 @@ public final class VertxUtil {
         Handler<Long> handler = new Handler<>() {
             @Override
             public void handle(Long timerId) {
-                vertx.createSharedWorkerExecutor("kubernetes-ops-pool")
-                        .executeBlocking(() -> {
+                workerPools
+                        .executeBlocking(vertx, WorkerPools.Pool.KUBERNETES, () -> {
                             boolean result;
 
                             try {
@@ -0,0 +1,312 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.VirtualThreads;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dedicated worker pools used for the blocking operations of the Cluster Operator. Separate pools are used for the
+ * different classes of operations so that slow operations of one class (for example generating certificates or
+ * waiting for a Kafka broker) do not starve the other operations (for example Kubernetes reads for other clusters).
+ *
+ * The pools are Vert.x shared worker executors identified by their names. Their sizes are configured when they are
+ * created by the Cluster Operator. When the virtual threads are enabled and supported by the Java runtime, the I/O
+ * pools (Kubernetes and Kafka) run the operations on virtual threads instead.
+ *
+ * The blocking operations running in these pools can generate multiple certificates in parallel using the separate
+ * certificate executor. It is bounded to the size of the crypto pool and is used only for the individual certificates,
+ * so the operations waiting for the certificates never take its threads.
+ *
+ * One instance is created by the Cluster Operator and passed to the components which run blocking operations. The
+ * instances created with the default constructor use the shared worker pools without the metrics, without the
+ * virtual threads and without the certificate executor.
+ */
+public class WorkerPools {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(WorkerPools.class);
+
+    /**
+     * Metric name for the number of operations waiting for a thread in the worker pool
+     */
+    public static final String METRICS_QUEUE_PENDING = MetricsHolder.METRICS_PREFIX + "worker.pool.queue.pending";
+
+    /**
+     * Metric name for the time the operations waited for a thread in the worker pool
+     */
+    public static final String METRICS_QUEUE_TIME = MetricsHolder.METRICS_PREFIX + "worker.pool.queue.time";
+
+    private static final long MAX_EXECUTE_TIME_NS = TimeUnit.SECONDS.toNanos(120);
+
+    private final Map<Pool, PoolMetrics> metrics;
+    private final Map<Pool, ExecutorService> virtualExecutors;
+    private final ExecutorService certificateExecutor;
+
+    /**
+     * Classes of the blocking operations with their own worker pools
+     */
+    public enum Pool {
+        /**
+         * Kubernetes API operations
+         */
+        KUBERNETES("kubernetes-ops-pool", true),
+
+        /**
+         * Kafka Admin API and ZooKeeper operations
+         */
+        KAFKA("kafka-ops-pool", true),
+
+        /**
+         * Generating certificates and keys
+         */
+        CRYPTO("crypto-ops-pool", false),
+
+        /**
+         * Blocking operations of the rolling restarts
+         */
+        ROLLING("rolling-ops-pool", false),
+
+        /**
+         * CPU bound operations (for example generating the configurations of the Kafka nodes). The size of the pool is
+         * the number of the available processors.
+         */
+        COMPUTE("compute-ops-pool", false),
+
+        /**
+         * Diagnostics requests (thread dumps and JFR recordings). A single thread is used, so the diagnostics cannot
+         * take the threads of the other operations.
+         */
+        DIAGNOSTICS("diagnostics-pool", false);
+
+        private final String poolName;
+        private final boolean io;
+
+        Pool(String poolName, boolean io) {
+            this.poolName = poolName;
+            this.io = io;
+        }
+
+        /**
+         * @return  Name of the Vert.x shared worker pool
+         */
+        public String poolName() {
+            return poolName;
+        }
+    }
+
+    /**
+     * Constructs the worker pools without the metrics and without the virtual threads
+     */
+    public WorkerPools() {
+        this.metrics = Map.of();
+        this.virtualExecutors = Map.of();
+        this.certificateExecutor = null;
+    }
+
+    /**
+     * Constructs the worker pools with the metrics and, when enabled in the configuration, the virtual threads
+     *
+     * @param config            Cluster Operator configuration
+     * @param metricsProvider   Metrics provider
+     */
+    public WorkerPools(ClusterOperatorConfig config, MetricsProvider metricsProvider) {
+        this.metrics = new EnumMap<>(Pool.class);
+        for (Pool pool : Pool.values()) {
+            metrics.put(pool, new PoolMetrics(metricsProvider, pool));
+        }
+
+        this.virtualExecutors = new EnumMap<>(Pool.class);
+        if (config.isVirtualThreadsEnabled()) {
+            for (Pool pool : Pool.values()) {
+                if (pool.io) {
+                    ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor(pool.poolName);
+
+                    if (executor != null) {
+                        virtualExecutors.put(pool, executor);
+                    }
+                }
+            }
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.certificateExecutor = Executors.newFixedThreadPool(config.getCryptoOperationsThreadPoolSize(), runnable -> {
+            Thread thread = new Thread(runnable, "certificate-generation-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stops the virtual thread executors and the certificate executor
+     */
+    public void shutdown() {
+        for (ExecutorService executor : virtualExecutors.values()) {
+            executor.shutdown();
+        }
+
+        if (certificateExecutor != null) {
+            certificateExecutor.shutdown();
+        }
+    }
+
+    /**
+     * @return  Shared executor used to generate multiple certificates in parallel or null when the certificates should
+     *          be generated one after another in the calling thread
+     */
+    public ExecutorService certificateExecutor() {
+        return certificateExecutor;
+    }
+
+    /**
+     * Creates the shared worker executors with the configured sizes. The shared worker pools exist as long as at least
+     * one of the executors using them is open. So the returned executors need to be kept by the caller.
+     *
+     * @param vertx     Vert.x instance
+     * @param config    Cluster Operator configuration
+     *
+     * @return  List with the created executors
+     */
+    public static List<WorkerExecutor> createSharedWorkerExecutors(Vertx vertx, ClusterOperatorConfig config) {
+        List<WorkerExecutor> executors = new ArrayList<>(Pool.values().length);
+        executors.add(vertx.createSharedWorkerExecutor(Pool.KUBERNETES.poolName, config.getOperationsThreadPoolSize(), MAX_EXECUTE_TIME_NS));
+        executors.add(vertx.createSharedWorkerExecutor(Pool.KAFKA.poolName, config.getKafkaOperationsThreadPoolSize(), MAX_EXECUTE_TIME_NS));
+        executors.add(vertx.createSharedWorkerExecutor(Pool.CRYPTO.poolName, config.getCryptoOperationsThreadPoolSize(), MAX_EXECUTE_TIME_NS));
+        executors.add(vertx.createSharedWorkerExecutor(Pool.ROLLING.poolName, config.getRollingOperationsThreadPoolSize(), MAX_EXECUTE_TIME_NS));
+        executors.add(vertx.createSharedWorkerExecutor(Pool.COMPUTE.poolName, Runtime.getRuntime().availableProcessors(), MAX_EXECUTE_TIME_NS));
+        executors.add(vertx.createSharedWorkerExecutor(Pool.DIAGNOSTICS.poolName, 1, MAX_EXECUTE_TIME_NS));
+        return executors;
+    }
+
+    /**
+     * Executes the blocking code in the worker pool. The returned future is completed on the context of the caller.
+     * The operations are not ordered and can run in parallel with other operations from the same context.
+     *
+     * @param vertx     Vert.x instance
+     * @param pool      Worker pool which should be used
+     * @param callable  Blocking code
+     *
+     * @return  Future with the result of the blocking code
+     *
+     * @param <T>   Type of the result
+     */
+    public <T> Future<T> executeBlocking(Vertx vertx, Pool pool, Callable<T> callable) {
+        return executeBlocking(vertx, pool, callable, false);
+    }
+
+    /**
+     * Executes the blocking code in the worker pool. The returned future is completed on the context of the caller.
+     *
+     * @param vertx     Vert.x instance
+     * @param pool      Worker pool which should be used
+     * @param callable  Blocking code
+     * @param ordered   If true then the operations from the same context and for the same pool are executed serially
+     *                  (in the same way as with Vertx#executeBlocking). This is ignored when running on virtual threads.
+     *
+     * @return  Future with the result of the blocking code
+     *
+     * @param <T>   Type of the result
+     */
+    public <T> Future<T> executeBlocking(Vertx vertx, Pool pool, Callable<T> callable, boolean ordered) {
+        PoolMetrics poolMetrics = metrics.get(pool);
+        Callable<T> task = poolMetrics != null ? poolMetrics.instrument(callable) : callable;
+        ExecutorService virtualExecutor = virtualExecutors.get(pool);
+
+        if (virtualExecutor != null) {
+            return executeOnVirtualThread(vertx, virtualExecutor, task);
+        } else if (ordered) {
+            return contextExecutor(vertx, pool).executeBlocking(task, true);
+        } else {
+            return vertx.createSharedWorkerExecutor(pool.poolName).executeBlocking(task, false);
+        }
+    }
+
+    /**
+     * The ordering of the blocking operations is tracked per executor instance. To order the operations from the same
+     * context, the executor is created once per context and stored in its local data.
+     *
+     * @param vertx     Vert.x instance
+     * @param pool      Worker pool
+     *
+     * @return  Executor for the current context
+     */
+    private static WorkerExecutor contextExecutor(Vertx vertx, Pool pool) {
+        Context context = vertx.getOrCreateContext();
+        String key = WorkerPools.class.getName() + "." + pool.poolName;
+        WorkerExecutor executor = context.get(key);
+
+        if (executor == null) {
+            executor = vertx.createSharedWorkerExecutor(pool.poolName);
+            context.put(key, executor);
+        }
+
+        return executor;
+    }
+
+    private static <T> Future<T> executeOnVirtualThread(Vertx vertx, ExecutorService executor, Callable<T> task) {
+        Context context = vertx.getOrCreateContext();
+        Promise<T> promise = Promise.promise();
+
+        try {
+            executor.execute(() -> {
+                try {
+                    T result = task.call();
+                    context.runOnContext(ignored -> promise.complete(result));
+                } catch (Throwable t) {
+                    context.runOnContext(ignored -> promise.fail(t));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.warnOp("Virtual thread executor rejected the operation", e);
+            promise.fail(e);
+        }
+
+        return promise.future();
+    }
+
+    /**
+     * Metrics for the queue of a worker pool
+     */
+    private static class PoolMetrics {
+        private final AtomicInteger pending;
+        private final Timer queueTime;
+
+        PoolMetrics(MetricsProvider metricsProvider, Pool pool) {
+            Tags tags = Tags.of("pool", pool.poolName);
+            this.pending = metricsProvider.gauge(METRICS_QUEUE_PENDING, "Number of operations waiting for a thread in the worker pool", tags);
+            this.queueTime = metricsProvider.timer(METRICS_QUEUE_TIME, "Time the operations waited for a thread in the worker pool", tags);
+        }
+
+        <T> Callable<T> instrument(Callable<T> callable) {
+            long submitted = System.nanoTime();
+            pending.incrementAndGet();
+
+            return () -> {
+                pending.decrementAndGet();
+                queueTime.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return callable.call();
+            };
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.strimzi.operator.common.ReconciliationException;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.TimeoutException;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.diagnostics.InFlightReconciliations;
 import io.strimzi.operator.common.metrics.MetricsHolder;
 import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
 import io.strimzi.operator.common.model.InvalidConfigParameterException;
@@ -81,6 +82,7 @@ public abstract class AbstractOperator<
     private final LabelSelector selector;
 
     protected final OperatorMetricsHolder metrics;
+    private final ReconciliationScheduler reconciliationScheduler;
 
     private final Map<String, AtomicInteger> resourcesStateCounter = new ConcurrentHashMap<>(1);
 
@@ -94,13 +96,15 @@ public abstract class AbstractOperator<
      * @param resourceOperator  Resource operator for given custom resource
      * @param metrics           MetricsHolder for managing operator metrics
      * @param selectorLabels    Selector labels for selecting custom resources which should be operated
+     * @param reconciliationScheduler   Scheduler which queues the reconciliations
      */
-    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, OperatorMetricsHolder metrics, Labels selectorLabels) {
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, OperatorMetricsHolder metrics, Labels selectorLabels, ReconciliationScheduler reconciliationScheduler) {
         this.vertx = vertx;
         this.kind = kind;
         this.resourceOperator = resourceOperator;
         this.selector = (selectorLabels == null || selectorLabels.toMap().isEmpty()) ? null : new LabelSelector(null, selectorLabels.toMap());
         this.metrics = metrics;
+        this.reconciliationScheduler = reconciliationScheduler;
     }
 
     /**
@@ -113,9 +117,10 @@ public abstract class AbstractOperator<
      * @param resourceOperator  Resource operator for given custom resource
      * @param metricsProvider   Metrics provider which should be used to create the OperatorMetricsHolder instance
      * @param selectorLabels    Selector labels for selecting custom resources which should be operated
+     * @param reconciliationScheduler   Scheduler which queues the reconciliations
      */
-    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metricsProvider, Labels selectorLabels) {
-        this(vertx, kind, resourceOperator, new OperatorMetricsHolder(kind, selectorLabels, metricsProvider), selectorLabels);
+    public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metricsProvider, Labels selectorLabels, ReconciliationScheduler reconciliationScheduler) {
+        this(vertx, kind, resourceOperator, new OperatorMetricsHolder(kind, selectorLabels, metricsProvider), selectorLabels, reconciliationScheduler);
     }
 
     @Override
@@ -173,16 +178,30 @@ public abstract class AbstractOperator<
      * Reconciliation works by getting the assembly resource (e.g. {@code KafkaUser})
      * in the given namespace with the given name and
      * comparing with the corresponding resource.
+     * The reconciliation is queued in the {@link ReconciliationScheduler} which limits the number of parallel
+     * reconciliations and merges it with other reconciliation of the same resource if one is already waiting.
      * @param reconciliation The reconciliation.
      * @return A Future which is completed with the result of the reconciliation.
      */
     @Override
     public final Future<Void> reconcile(Reconciliation reconciliation) {
+        return reconciliationScheduler.submit(reconciliation, metrics(), vertx.getOrCreateContext(), () -> reconcileNow(reconciliation));
+    }
+
+    /**
+     * Runs the reconciliation once it was started by the scheduler. The lock is still used to exclude the other
+     * operations which use it for the same resource (such as the KafkaConnector reconciliations).
+     *
+     * @param reconciliation The reconciliation.
+     * @return A Future which is completed with the result of the reconciliation.
+     */
+    private Future<Void> reconcileNow(Reconciliation reconciliation) {
         String namespace = reconciliation.namespace();
         String name = reconciliation.name();
 
         metrics().reconciliationsCounter(reconciliation.namespace()).increment();
         Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry());
+        InFlightReconciliations.started(reconciliation, "starting");
 
         Future<Void> handler = withLock(reconciliation, LOCK_TIMEOUT_MS, () ->
             resourceOperator.getAsync(namespace, name)
@@ -191,7 +210,10 @@ public abstract class AbstractOperator<
         Promise<Void> result = Promise.promise();
         handler.onComplete(reconcileResult ->
             callSafely(reconciliation, () -> handleResult(reconciliation, reconcileResult, reconciliationTimerSample))
-                .onComplete(handleSafely(reconciliation, ignored -> result.handle(reconcileResult))));
+                .onComplete(handleSafely(reconciliation, ignored -> {
+                    InFlightReconciliations.finished(reconciliation);
+                    result.handle(reconcileResult);
+                })));
 
         return result.future();
     }
@@ -264,6 +286,8 @@ public abstract class AbstractOperator<
         LOGGER.infoCr(reconciliation, "{} {} will be checked for creation or modification", kind, name);
 
         createOrUpdate(reconciliation, cr).onComplete(res -> {
+            InFlightReconciliations.step(reconciliation, "updating status");
+
             if (res.succeeded()) {
                 S status = res.result();
 
@@ -391,9 +415,11 @@ public abstract class AbstractOperator<
         String name = reconciliation.name();
         final String lockName = getLockName(namespace, name);
         LOGGER.debugCr(reconciliation, "Try to acquire lock {}", lockName);
+        InFlightReconciliations.step(reconciliation, "waiting for lock");
         vertx.sharedData().getLockWithTimeout(lockName, lockTimeoutMs, res -> {
             if (res.succeeded()) {
                 LOGGER.debugCr(reconciliation, "Lock {} acquired", lockName);
+                InFlightReconciliations.step(reconciliation, "reconciling");
 
                 Lock lock = res.result();
                 long timerId = vertx.setPeriodic(PROGRESS_WARNING, timer -> LOGGER.infoCr(reconciliation, "Reconciliation is in progress"));
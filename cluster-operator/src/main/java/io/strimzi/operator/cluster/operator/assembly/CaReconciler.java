@@ -24,6 +24,7 @@ import io.strimzi.operator.cluster.model.ModelUtils;
 import io.strimzi.operator.cluster.model.NodeRef;
 import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.cluster.operator.resource.KafkaAgentClientProvider;
 import io.strimzi.operator.cluster.operator.resource.KafkaRoller;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
@@ -70,7 +71,9 @@ public class CaReconciler {
 
     /* test */ final Reconciliation reconciliation;
     private final Vertx vertx;
+    private final WorkerPools workerPools;
     private final long operationTimeoutMs;
+    private final int logRecoveryTimeoutFactor;
 
     /* test */ final DeploymentOperator deploymentOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
@@ -123,7 +126,9 @@ public class CaReconciler {
     ) {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
+        this.workerPools = supplier.workerPools;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.logRecoveryTimeoutFactor = config.getLogRecoveryTimeoutFactor();
 
         this.deploymentOperator = supplier.deploymentOperations;
         this.strimziPodSetOperator = supplier.strimziPodSetOperator;
@@ -230,7 +235,7 @@ public class CaReconciler {
         String clientsCaKeyName = KafkaResources.clientsCaKeySecretName(reconciliation.name());
 
         return secretOperator.listAsync(reconciliation.namespace(), Labels.EMPTY.withStrimziKind(reconciliation.kind()).withStrimziCluster(reconciliation.name()))
-                .compose(clusterSecrets -> vertx.executeBlocking(() -> {
+                .compose(clusterSecrets -> workerPools.executeBlocking(vertx, WorkerPools.Pool.CRYPTO, () -> {
                     Secret clusterCaCertSecret = null;
                     Secret clusterCaKeySecret = null;
                     Secret clientsCaCertSecret = null;
@@ -263,7 +268,8 @@ public class CaReconciler {
                             clusterCaKeySecret,
                             ModelUtils.getCertificateValidity(clusterCaConfig),
                             ModelUtils.getRenewalDays(clusterCaConfig),
-                            clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(), clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null);
+                            clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(), clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null,
+                            workerPools.certificateExecutor());
                     clusterCa.createRenewOrReplace(
                             reconciliation.namespace(), reconciliation.name(), caLabels,
                             clusterCaCertLabels, clusterCaCertAnnotations,
@@ -289,7 +295,7 @@ public class CaReconciler {
                             Util.isMaintenanceTimeWindowsSatisfied(reconciliation, maintenanceWindows, clock.instant()));
 
                     return null;
-                }))
+                }, true))
                 .compose(i -> {
                     Promise<Void> caUpdatePromise = Promise.promise();
 
@@ -549,9 +555,11 @@ public class CaReconciler {
         return new KafkaRoller(
                 reconciliation,
                 vertx,
+                workerPools,
                 podOperator,
                 1_000,
                 operationTimeoutMs,
+                logRecoveryTimeoutFactor,
                 () -> new BackOff(250, 2, 10),
                 nodes,
                 coTlsPemIdentity,
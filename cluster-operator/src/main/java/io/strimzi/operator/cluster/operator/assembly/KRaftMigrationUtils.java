@@ -6,6 +6,7 @@
 package io.strimzi.operator.cluster.operator.assembly;
 
 import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.cluster.operator.resource.KRaftMigrationState;
 import io.strimzi.operator.cluster.operator.resource.KafkaAgentClient;
 import io.strimzi.operator.cluster.operator.resource.ZooKeeperAdminProvider;
@@ -36,6 +37,7 @@ public class KRaftMigrationUtils {
      *
      * @param reconciliation            Reconciliation information
      * @param vertx                     Vert.x instance
+     * @param workerPools               Worker pools used for the blocking ZooKeeper operations
      * @param zooKeeperAdminProvider    ZooKeeper Admin client provider
      * @param coTlsPemIdentity          Trust set and identity for TLS client authentication for connecting to ZooKeeper
      * @param operationTimeoutMs        Timeout to be set on the ZooKeeper request configuration
@@ -43,14 +45,14 @@ public class KRaftMigrationUtils {
      *
      * @return Completes when the /controller znode deletion is done or any error
      */
-    public static Future<Void> deleteZooKeeperControllerZnode(Reconciliation reconciliation, Vertx vertx, ZooKeeperAdminProvider zooKeeperAdminProvider, TlsPemIdentity coTlsPemIdentity, long operationTimeoutMs, String zkConnectionString) {
+    public static Future<Void> deleteZooKeeperControllerZnode(Reconciliation reconciliation, Vertx vertx, WorkerPools workerPools, ZooKeeperAdminProvider zooKeeperAdminProvider, TlsPemIdentity coTlsPemIdentity, long operationTimeoutMs, String zkConnectionString) {
         // Setup truststore from PEM file in cluster CA secret
         File trustStoreFile = Util.createFileStore(KRaftMigrationUtils.class.getName(), PemTrustSet.CERT_SUFFIX, coTlsPemIdentity.pemTrustSet().trustedCertificatesPemBytes());
 
         // Setup keystore from PEM in cluster-operator secret
         File keyStoreFile = Util.createFileStore(KRaftMigrationUtils.class.getName(), PemAuthIdentity.PEM_SUFFIX, coTlsPemIdentity.pemAuthIdentity().pemKeyStore());
 
-        return connectToZooKeeper(reconciliation, vertx, zooKeeperAdminProvider, trustStoreFile, keyStoreFile, operationTimeoutMs, zkConnectionString)
+        return connectToZooKeeper(reconciliation, vertx, workerPools, zooKeeperAdminProvider, trustStoreFile, keyStoreFile, operationTimeoutMs, zkConnectionString)
                 .compose(zkAdmin -> {
                     Promise<Void> znodeDeleted = Promise.promise();
                     try {
@@ -61,13 +63,13 @@ public class KRaftMigrationUtils {
                         LOGGER.warnCr(reconciliation, "Failed to delete '/controller' znode", e);
                         znodeDeleted.fail(e);
                     } finally {
-                        closeZooKeeperConnection(reconciliation, vertx, zkAdmin, trustStoreFile, keyStoreFile, operationTimeoutMs);
+                        closeZooKeeperConnection(reconciliation, vertx, workerPools, zkAdmin, trustStoreFile, keyStoreFile, operationTimeoutMs);
                     }
                     return znodeDeleted.future();
                 });
     }
 
-    private static Future<ZooKeeperAdmin> connectToZooKeeper(Reconciliation reconciliation, Vertx vertx, ZooKeeperAdminProvider zooKeeperAdminProvider, File trustStoreFile, File keyStoreFile, long operationTimeoutMs, String zkConnectionString) {
+    private static Future<ZooKeeperAdmin> connectToZooKeeper(Reconciliation reconciliation, Vertx vertx, WorkerPools workerPools, ZooKeeperAdminProvider zooKeeperAdminProvider, File trustStoreFile, File keyStoreFile, long operationTimeoutMs, String zkConnectionString) {
         Promise<ZooKeeperAdmin> connected = Promise.promise();
 
         try {
@@ -79,7 +81,7 @@ public class KRaftMigrationUtils {
                     trustStoreFile.getAbsolutePath(),
                     keyStoreFile.getAbsolutePath());
 
-            VertxUtil.waitFor(reconciliation, vertx,
+            VertxUtil.waitFor(reconciliation, vertx, workerPools,
                     String.format("ZooKeeperAdmin connection to %s", zkConnectionString),
                     "connected",
                     1_000,
@@ -90,7 +92,7 @@ public class KRaftMigrationUtils {
                         String message = String.format("Failed to connect to ZooKeeper %s. Connection was not ready in %d ms.", zkConnectionString, operationTimeoutMs);
                         LOGGER.warnCr(reconciliation, message);
 
-                        closeZooKeeperConnection(reconciliation, vertx, zkAdmin, trustStoreFile, keyStoreFile, operationTimeoutMs)
+                        closeZooKeeperConnection(reconciliation, vertx, workerPools, zkAdmin, trustStoreFile, keyStoreFile, operationTimeoutMs)
                                 .onComplete(nothing -> connected.fail(new RuntimeException(message, cause)));
                     });
         } catch (IOException e) {
@@ -101,9 +103,9 @@ public class KRaftMigrationUtils {
         return connected.future();
     }
 
-    private static Future<Void> closeZooKeeperConnection(Reconciliation reconciliation, Vertx vertx, ZooKeeperAdmin zkAdmin, File trustStoreFile, File keyStoreFile, long operationTimeoutMs) {
+    private static Future<Void> closeZooKeeperConnection(Reconciliation reconciliation, Vertx vertx, WorkerPools workerPools, ZooKeeperAdmin zkAdmin, File trustStoreFile, File keyStoreFile, long operationTimeoutMs) {
         if (zkAdmin != null) {
-            return vertx.executeBlocking(() -> {
+            return workerPools.executeBlocking(vertx, WorkerPools.Pool.KAFKA, () -> {
                 try {
                     zkAdmin.close((int) operationTimeoutMs);
                     return null;
@@ -27,6 +27,7 @@ import io.strimzi.api.kafka.model.podset.StrimziPodSet;
 import io.strimzi.certs.CertManager;
 import io.strimzi.operator.cluster.ClusterOperatorConfig;
 import io.strimzi.operator.cluster.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.model.BrokerConfigurationCache;
 import io.strimzi.operator.cluster.model.ClusterCa;
 import io.strimzi.operator.cluster.model.KRaftUtils;
 import io.strimzi.operator.cluster.model.KafkaCluster;
@@ -115,6 +116,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private final CrdOperator<KubernetesClient, Kafka, KafkaList> kafkaOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
     private final CrdOperator<KubernetesClient, KafkaNodePool, KafkaNodePoolList> nodePoolOperator;
+    private final BrokerConfigurationCache brokerConfigurationCache = new BrokerConfigurationCache();
     protected Clock clock;
 
     /**
@@ -148,6 +150,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         ReconciliationState reconcileState = createReconciliationState(reconciliation, kafkaAssembly);
 
         reconcile(reconcileState).onComplete(reconcileResult -> {
+            reconcileState.steps.finish();
             KafkaStatus status = reconcileState.kafkaStatus;
             Condition condition;
 
@@ -254,19 +257,20 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         // only when cluster is full KRaft we can avoid reconcile ZooKeeper and not having the automatic handling of
         // inter broker protocol and log message format via the version change component
+        ReconciliationStepTracker steps = reconcileState.steps;
         reconcileState.initialStatus()
                 // Preparation steps => prepare cluster descriptions, handle CA creation or changes
-                .compose(state -> state.reconcileCas(clock))
-                .compose(state -> state.emitCertificateSecretMetrics())
-                .compose(state -> state.versionChange(kafkaMetadataConfigState.isKRaft()))
+                .compose(steps.step("cas", state -> state.reconcileCas(clock)))
+                .compose(steps.step("certificateSecretMetrics", state -> state.emitCertificateSecretMetrics()))
+                .compose(steps.step("versionChange", state -> state.versionChange(kafkaMetadataConfigState.isKRaft())))
 
                 // Run reconciliations of the different components
-                .compose(state -> kafkaMetadataConfigState.isKRaft() ? Future.succeededFuture(state) : state.reconcileZooKeeper(clock))
-                .compose(state -> reconcileState.kafkaMetadataStateManager.shouldDestroyZooKeeperNodes() ? state.reconcileZooKeeperEraser() : Future.succeededFuture(state))
-                .compose(state -> state.reconcileKafka(clock))
-                .compose(state -> state.reconcileEntityOperator(clock))
-                .compose(state -> state.reconcileCruiseControl(clock))
-                .compose(state -> state.reconcileKafkaExporter(clock))
+                .compose(state -> kafkaMetadataConfigState.isKRaft() ? Future.succeededFuture(state) : steps.step("zooKeeper", (ReconciliationState s) -> s.reconcileZooKeeper(clock)).apply(state))
+                .compose(state -> reconcileState.kafkaMetadataStateManager.shouldDestroyZooKeeperNodes() ? steps.step("zooKeeperEraser", ReconciliationState::reconcileZooKeeperEraser).apply(state) : Future.succeededFuture(state))
+                .compose(steps.step("kafka", state -> state.reconcileKafka(clock)))
+                .compose(steps.step("entityOperator", state -> state.reconcileEntityOperator(clock)))
+                .compose(steps.step("cruiseControl", state -> state.reconcileCruiseControl(clock)))
+                .compose(steps.step("kafkaExporter", state -> state.reconcileKafkaExporter(clock)))
 
                 // Finish the reconciliation
                 .map((Void) null)
@@ -301,8 +305,11 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
 
         /* test */ KafkaStatus kafkaStatus = new KafkaStatus();
 
+        private final ReconciliationStepTracker steps;
+
         ReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
             this.reconciliation = reconciliation;
+            this.steps = new ReconciliationStepTracker(reconciliation, metrics, config.isReconciliationStepTracingEnabled());
             this.kafkaAssembly = kafkaAssembly;
             this.namespace = kafkaAssembly.getMetadata().getNamespace();
             this.name = kafkaAssembly.getMetadata().getName();
@@ -635,7 +642,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                     supplier,
                     pfa,
                     vertx,
-                    kafkaMetadataStateManager
+                    kafkaMetadataStateManager,
+                    steps
             );
         }
 
@@ -693,6 +701,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         return new KafkaClusterCreator(vertx, reconciliation, config, kafkaMetadataStateManager.getMetadataConfigurationState(), supplier)
                                 .prepareKafkaCluster(kafkaAssembly, nodePools, oldStorage, currentPods, versionChange, kafkaStatus, true)
                                 .compose(kafkaCluster -> {
+                                    kafkaCluster.withBrokerConfigurationCache(brokerConfigurationCache);
+
                                     // We store this for use with Cruise Control later. As these configurations might
                                     // not be exactly the same as in the original custom resource (for example because
                                     // of un-allowed storage changes being reverted) they are passed this way from the
@@ -834,6 +844,9 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        brokerConfigurationCache.remove(reconciliation.namespace(), reconciliation.name());
+        supplier.kafkaAgentClientProvider.removeKafkaAgentClient(reconciliation.namespace(), reconciliation.name());
+
         return ReconcilerUtils.withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
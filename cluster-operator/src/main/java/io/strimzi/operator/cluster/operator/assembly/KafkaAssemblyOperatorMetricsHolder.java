@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster.operator.assembly;
 
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.metrics.CertificateMetricKey;
 import io.strimzi.operator.common.metrics.MetricKey;
@@ -30,7 +31,13 @@ public class KafkaAssemblyOperatorMetricsHolder extends OperatorMetricsHolder {
      */
     public static final String METRICS_CERTIFICATE_EXPIRATION_MS = METRICS_PREFIX + "certificate.expiration.timestamp.ms";
 
+    /**
+     * Metric name for the duration of the individual reconciliation steps
+     */
+    public static final String METRICS_RECONCILIATIONS_STEP_DURATION = METRICS_RECONCILIATIONS + ".step.duration";
+
     protected final Map<MetricKey, AtomicLong> certificateExpirationMap = new ConcurrentHashMap<>(1);
+    protected final Map<MetricKey, Timer> reconciliationStepTimerMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the operator metrics holder
@@ -76,6 +83,20 @@ public class KafkaAssemblyOperatorMetricsHolder extends OperatorMetricsHolder {
                 Tag.of("resource-namespace", namespace));
     }
 
+    /**
+     * Timer which measures the duration of a single step of the reconciliation.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param step          Name of the reconciliation step
+     *
+     * @return  Metrics timer
+     */
+    public Timer reconciliationStepTimer(String namespace, String step) {
+        return metric(new StepMetricKey(kind, namespace, step), Optional.of(getLabelSelectorValues()), reconciliationStepTimerMap,
+                tags -> metricsProvider.timer(METRICS_RECONCILIATIONS_STEP_DURATION, "The time the reconciliation step takes to complete", tags, FINE_GRAINED_TIMER_BUCKETS),
+                Tag.of("step", step));
+    }
+
     /**
      * Removing all metrics for the certificates which match the given predicate.
      *
@@ -97,4 +118,21 @@ public class KafkaAssemblyOperatorMetricsHolder extends OperatorMetricsHolder {
 
         removedKeys.forEach(certificateExpirationMap::remove);
     }
+
+    /**
+     * Metric key for the metrics of the reconciliation steps
+     */
+    private static class StepMetricKey extends MetricKey {
+        private final String step;
+
+        StepMetricKey(String kind, String namespace, String step) {
+            super(kind, namespace);
+            this.step = step;
+        }
+
+        @Override
+        public String getKey() {
+            return kind + "/" + namespace + "/" + step;
+        }
+    }
 }
@@ -279,28 +279,40 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
         return new KafkaConnectStatus();
     }
 
+    /**
+     * Reconciles the KafkaConnect resources and refreshes the connector metrics. The connector metrics are refreshed
+     * right away and do not wait for the reconciliations which might be spread across the whole reconciliation interval
+     * by the periodic reconciliation scheduler.
+     */
     @Override
-    public void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, String namespace, Handler<AsyncResult<Void>> handler) {
-        super.reconcileThese(trigger, desiredNames, namespace, ignore -> {
-            List<String> connects = desiredNames.stream().map(NamespaceAndName::getName).collect(Collectors.toList());
-            LabelSelectorRequirement requirement = new LabelSelectorRequirement(Labels.STRIMZI_CLUSTER_LABEL, "In", connects);
-            LabelSelector connectorsSelector = new LabelSelector(List.of(requirement), null);
-            connectorOperator.listAsync(namespace, connectorsSelector)
-                    .onComplete(ar -> {
-                        if (ar.succeeded()) {
-                            metrics().resetConnectorsCounters(namespace);
-                            ar.result().forEach(connector -> {
-                                metrics().connectorsResourceCounter(connector.getMetadata().getNamespace()).incrementAndGet();
-                                if (isPaused(connector.getStatus())) {
-                                    metrics().pausedConnectorsResourceCounter(connector.getMetadata().getNamespace()).incrementAndGet();
-                                }
-                            });
-                            handler.handle(Future.succeededFuture());
-                        } else {
-                            handler.handle(ar.map((Void) null));
+    public void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, String namespace, Function<Reconciliation, Future<Void>> reconciler, Handler<AsyncResult<Void>> handler) {
+        Promise<Void> reconciled = Promise.promise();
+        super.reconcileThese(trigger, desiredNames, namespace, reconciler, ignore -> reconciled.complete());
+
+        Future<Void> connectorMetrics = updateConnectorMetrics(desiredNames, namespace);
+
+        reconciled.future()
+                .compose(i -> connectorMetrics)
+                .onComplete(handler);
+    }
+
+    private Future<Void> updateConnectorMetrics(Set<NamespaceAndName> desiredNames, String namespace) {
+        List<String> connects = desiredNames.stream().map(NamespaceAndName::getName).collect(Collectors.toList());
+        LabelSelectorRequirement requirement = new LabelSelectorRequirement(Labels.STRIMZI_CLUSTER_LABEL, "In", connects);
+        LabelSelector connectorsSelector = new LabelSelector(List.of(requirement), null);
+
+        return connectorOperator.listAsync(namespace, connectorsSelector)
+                .map(connectors -> {
+                    metrics().resetConnectorsCounters(namespace);
+                    connectors.forEach(connector -> {
+                        metrics().connectorsResourceCounter(connector.getMetadata().getNamespace()).incrementAndGet();
+                        if (isPaused(connector.getStatus())) {
+                            metrics().pausedConnectorsResourceCounter(connector.getMetadata().getNamespace()).incrementAndGet();
                         }
                     });
-        });
+
+                    return null;
+                });
     }
 
     /**
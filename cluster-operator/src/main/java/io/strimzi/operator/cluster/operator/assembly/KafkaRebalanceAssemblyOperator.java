@@ -35,6 +35,7 @@ import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControl
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApiImpl;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRebalanceResponse;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlRestException;
+import io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlUserTaskPoller;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RebalanceOptions;
 import io.strimzi.operator.cluster.operator.resource.cruisecontrol.RemoveBrokerOptions;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.AbstractWatchableStatusedNamespacedResourceOperator;
@@ -152,6 +153,8 @@ public class KafkaRebalanceAssemblyOperator
     private final SecretOperator secretOperations;
     private final LabelSelector kafkaSelector;
     private final ConfigMapOperator configMapOperator;
+    private final CruiseControlUserTaskPoller userTaskPoller;
+    private final long maxRetainedResponseBytes;
     private int cruiseControlPort;
 
     /**
@@ -175,7 +178,7 @@ public class KafkaRebalanceAssemblyOperator
                                               ResourceOperatorSupplier supplier, 
                                               ClusterOperatorConfig config,
                                               int cruiseControlPort) {
-        super(vertx, KafkaRebalance.RESOURCE_KIND, supplier.kafkaRebalanceOperator, supplier.metricsProvider, null);
+        super(vertx, KafkaRebalance.RESOURCE_KIND, supplier.kafkaRebalanceOperator, supplier.metricsProvider, null, supplier.reconciliationScheduler);
         this.kafkaSelector = (config.getCustomResourceSelector() == null || config.getCustomResourceSelector().toMap().isEmpty()) 
             ? null : new LabelSelector(null, config.getCustomResourceSelector().toMap());
         this.kafkaRebalanceOperator = supplier.kafkaRebalanceOperator;
@@ -183,6 +186,9 @@ public class KafkaRebalanceAssemblyOperator
         this.configMapOperator = supplier.configMapOperations;
         this.secretOperations = supplier.secretOperations;
         this.cruiseControlPort = cruiseControlPort;
+        this.maxRetainedResponseBytes = config.getCruiseControlMaxRetainedResponseBytes();
+        this.userTaskPoller = new CruiseControlUserTaskPoller(vertx, CruiseControlUserTaskPoller.DEFAULT_BATCH_WINDOW_MS,
+                config.getCruiseControlUserTasksMinPollIntervalMs(), config.getCruiseControlUserTasksMaxPollIntervalMs());
     }
 
     /**
@@ -196,7 +202,7 @@ public class KafkaRebalanceAssemblyOperator
      */
     public CruiseControlApi cruiseControlClientProvider(Secret ccSecret, Secret ccApiSecret,
                                                            boolean apiAuthEnabled, boolean apiSslEnabled) {
-        return new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled);
+        return new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled, maxRetainedResponseBytes);
     }
 
     /**
@@ -863,7 +869,9 @@ public class KafkaRebalanceAssemblyOperator
     /**
      * This method handles the transition from {@code Rebalancing} state.
      * It starts a periodic timer in order to check the status of the ongoing rebalance processing on Cruise Control side.
-     * In order to do that, it calls the related Cruise Control REST API about asking the user task status.
+     * In order to do that, it calls the related Cruise Control REST API about asking the user task status. The requests
+     * are sent through the shared {@link CruiseControlUserTaskPoller} which batches them with the requests from the other
+     * KafkaRebalance resources using the same Cruise Control instance.
      * When the rebalance is finished, the next state is {@code Ready}.
      * If the user sets the strimzi.io/rebalance annotation to 'stop', it calls the Cruise Control REST API for stopping the ongoing task
      * and then transitions to the {@code Stopped} state.
@@ -905,7 +913,7 @@ public class KafkaRebalanceAssemblyOperator
             LOGGER.infoCr(reconciliation, "Getting Cruise Control rebalance user task status");
             Set<Condition> conditions = StatusUtils.validate(reconciliation, kafkaRebalance);
             validateAnnotation(reconciliation, conditions, KafkaRebalanceState.Rebalancing, rebalanceAnnotation(kafkaRebalance), kafkaRebalance);
-            apiClient.getUserTaskStatus(reconciliation, host, cruiseControlPort, sessionId)
+            userTaskPoller.getUserTaskStatus(reconciliation, apiClient, host, cruiseControlPort, sessionId)
                 .onSuccess(cruiseControlResponse -> {
                     if (cruiseControlResponse.getJson().isEmpty()) {
                         // This may happen if:
@@ -44,6 +44,7 @@ import io.strimzi.operator.cluster.model.NodeRef;
 import io.strimzi.operator.cluster.model.PodSetUtils;
 import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.cluster.operator.resource.ConcurrentDeletionException;
 import io.strimzi.operator.cluster.operator.resource.KafkaAgentClient;
 import io.strimzi.operator.cluster.operator.resource.KafkaAgentClientProvider;
@@ -94,8 +95,10 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static io.strimzi.operator.cluster.model.KafkaCluster.ANNO_STRIMZI_IO_KAFKA_VERSION;
@@ -112,6 +115,9 @@ public class KafkaReconciler {
 
     // Various settings
     private final long operationTimeoutMs;
+    private final int logRecoveryTimeoutFactor;
+    // The operations thread pool size is also used as the bound for the parallel Kubernetes API requests
+    private final int operationsParallelism;
     private final boolean isNetworkPolicyGeneration;
     private final boolean isKafkaNodePoolsEnabled;
     private final List<String> maintenanceWindows;
@@ -130,6 +136,7 @@ public class KafkaReconciler {
 
     // Tools for operating and managing various resources
     private final Vertx vertx;
+    private final WorkerPools workerPools;
     private final StatefulSetOperator stsOperator;
     private final StrimziPodSetOperator strimziPodSetOperator;
     private final SecretOperator secretOperator;
@@ -156,6 +163,8 @@ public class KafkaReconciler {
 
     private final boolean continueOnManualRUFailure;
 
+    private final ReconciliationStepTracker steps;
+
     private String logging = "";
     private final Map<Integer, String> brokerLoggingHash = new HashMap<>();
     private final Map<Integer, String> brokerConfigurationHash = new HashMap<>();
@@ -192,10 +201,47 @@ public class KafkaReconciler {
             PlatformFeaturesAvailability pfa,
             Vertx vertx,
             KafkaMetadataStateManager kafkaMetadataStateManager
+    ) {
+        this(reconciliation, kafkaCr, nodePools, kafka, clusterCa, clientsCa, config, supplier, pfa, vertx, kafkaMetadataStateManager, ReconciliationStepTracker.NOOP);
+    }
+
+    /**
+     * Constructs the Kafka reconciler
+     *
+     * @param reconciliation            Reconciliation marker
+     * @param kafkaCr                   The Kafka custom resource
+     * @param nodePools                 List of KafkaNodePool resources belonging to this cluster
+     * @param kafka                     Kafka cluster instance
+     * @param clusterCa                 The Cluster CA instance
+     * @param clientsCa                 The Clients CA instance
+     * @param config                    Cluster Operator Configuration
+     * @param supplier                  Supplier with Kubernetes Resource Operators
+     * @param pfa                       PlatformFeaturesAvailability describing the environment we run in
+     * @param vertx                     Vert.x instance
+     * @param kafkaMetadataStateManager Instance of the Kafka metadata state manager
+     * @param steps                     Tracker used to measure the duration of the individual reconciliation steps
+     */
+    public KafkaReconciler(
+            Reconciliation reconciliation,
+            Kafka kafkaCr,
+            List<KafkaNodePool> nodePools,
+            KafkaCluster kafka,
+            ClusterCa clusterCa,
+            ClientsCa clientsCa,
+            ClusterOperatorConfig config,
+            ResourceOperatorSupplier supplier,
+            PlatformFeaturesAvailability pfa,
+            Vertx vertx,
+            KafkaMetadataStateManager kafkaMetadataStateManager,
+            ReconciliationStepTracker steps
     ) {
         this.reconciliation = reconciliation;
+        this.steps = steps;
         this.vertx = vertx;
+        this.workerPools = supplier.workerPools;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.logRecoveryTimeoutFactor = config.getLogRecoveryTimeoutFactor();
+        this.operationsParallelism = config.getOperationsThreadPoolSize();
         this.kafkaNodePoolCrs = nodePools;
         this.kafka = kafka;
         this.kafkaMetadataStateManager = kafkaMetadataStateManager;
@@ -246,37 +292,37 @@ public class KafkaReconciler {
      */
     public Future<Void> reconcile(KafkaStatus kafkaStatus, Clock clock)    {
         return modelWarnings(kafkaStatus)
-                .compose(i -> initClientAuthenticationCertificates())
-                .compose(i -> manualPodCleaning())
-                .compose(i -> networkPolicy())
-                .compose(i -> manualRollingUpdate())
-                .compose(i -> pvcs(kafkaStatus))
-                .compose(i -> serviceAccount())
-                .compose(i -> initClusterRoleBinding())
-                .compose(i -> scaleDown())
-                .compose(i -> updateNodePoolStatuses(kafkaStatus))
-                .compose(i -> listeners())
-                .compose(i -> certificateSecret(clock))
-                .compose(i -> brokerConfigurationConfigMaps())
-                .compose(i -> jmxSecret())
-                .compose(i -> podDisruptionBudget())
-                .compose(i -> migrateFromStatefulSetToPodSet())
-                .compose(i -> podSet())
-                .compose(podSetDiffs -> rollingUpdate(podSetDiffs)) // We pass the PodSet reconciliation result this way to avoid storing it in the instance
-                .compose(i -> podsReady())
-                .compose(i -> serviceEndpointsReady())
-                .compose(i -> headlessServiceEndpointsReady())
-                .compose(i -> clusterId(kafkaStatus))
-                .compose(i -> defaultKafkaQuotas())
-                .compose(i -> metadataVersion(kafkaStatus))
-                .compose(i -> deletePersistentClaims())
-                .compose(i -> sharedKafkaConfigurationCleanup())
+                .compose(steps.step("kafka.initClientAuthenticationCertificates", i -> initClientAuthenticationCertificates()))
+                .compose(steps.step("kafka.manualPodCleaning", i -> manualPodCleaning()))
+                .compose(steps.step("kafka.networkPolicy", i -> networkPolicy()))
+                .compose(steps.step("kafka.manualRollingUpdate", i -> manualRollingUpdate()))
+                .compose(steps.step("kafka.pvcs", i -> pvcs(kafkaStatus)))
+                .compose(steps.step("kafka.serviceAccount", i -> serviceAccount()))
+                .compose(steps.step("kafka.initClusterRoleBinding", i -> initClusterRoleBinding()))
+                .compose(steps.step("kafka.scaleDown", i -> scaleDown()))
+                .compose(steps.step("kafka.updateNodePoolStatuses", i -> updateNodePoolStatuses(kafkaStatus)))
+                .compose(steps.step("kafka.listeners", i -> listeners()))
+                .compose(steps.step("kafka.certificateSecret", i -> certificateSecret(clock)))
+                .compose(steps.step("kafka.brokerConfigurationConfigMaps", i -> brokerConfigurationConfigMaps()))
+                .compose(steps.step("kafka.jmxSecret", i -> jmxSecret()))
+                .compose(steps.step("kafka.podDisruptionBudget", i -> podDisruptionBudget()))
+                .compose(steps.step("kafka.migrateFromStatefulSetToPodSet", i -> migrateFromStatefulSetToPodSet()))
+                .compose(steps.step("kafka.podSet", i -> podSet()))
+                .compose(steps.step("kafka.rollingUpdate", podSetDiffs -> rollingUpdate(podSetDiffs))) // We pass the PodSet reconciliation result this way to avoid storing it in the instance
+                .compose(steps.step("kafka.podsReady", i -> podsReady()))
+                .compose(steps.step("kafka.serviceEndpointsReady", i -> serviceEndpointsReady()))
+                .compose(steps.step("kafka.headlessServiceEndpointsReady", i -> headlessServiceEndpointsReady()))
+                .compose(steps.step("kafka.clusterId", i -> clusterId(kafkaStatus)))
+                .compose(steps.step("kafka.defaultKafkaQuotas", i -> defaultKafkaQuotas()))
+                .compose(steps.step("kafka.metadataVersion", i -> metadataVersion(kafkaStatus)))
+                .compose(steps.step("kafka.deletePersistentClaims", i -> deletePersistentClaims()))
+                .compose(steps.step("kafka.sharedKafkaConfigurationCleanup", i -> sharedKafkaConfigurationCleanup()))
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(i -> nodePortExternalListenerStatus())
-                .compose(i -> addListenersToKafkaStatus(kafkaStatus))
-                .compose(i -> updateKafkaVersion(kafkaStatus))
-                .compose(i -> updateKafkaMetadataMigrationState())
-                .compose(i -> updateKafkaMetadataState(kafkaStatus));
+                .compose(steps.step("kafka.nodePortExternalListenerStatus", i -> nodePortExternalListenerStatus()))
+                .compose(steps.step("kafka.addListenersToKafkaStatus", i -> addListenersToKafkaStatus(kafkaStatus)))
+                .compose(steps.step("kafka.updateKafkaVersion", i -> updateKafkaVersion(kafkaStatus)))
+                .compose(steps.step("kafka.updateKafkaMetadataMigrationState", i -> updateKafkaMetadataMigrationState()))
+                .compose(steps.step("kafka.updateKafkaMetadataState", i -> updateKafkaMetadataState(kafkaStatus)));
     }
 
     /**
@@ -455,9 +501,11 @@ public class KafkaReconciler {
         return new KafkaRoller(
                     reconciliation,
                     vertx,
+                    workerPools,
                     podOperator,
                     1_000,
                     operationTimeoutMs,
+                    logRecoveryTimeoutFactor,
                     () -> new BackOff(250, 2, 10),
                     nodes,
                     this.coTlsPemIdentity,
@@ -613,13 +661,16 @@ public class KafkaReconciler {
      * @return  Future which completes when the Kafka Configuration is prepared
      */
     protected Future<Void> perBrokerKafkaConfiguration(MetricsAndLogging metricsAndLogging) {
-        return configMapOperator.listAsync(reconciliation.namespace(), kafka.getSelectorLabels())
-                .compose(existingConfigMaps -> {
+        return Future.join(configMapOperator.listAsync(reconciliation.namespace(), kafka.getSelectorLabels()), generatePerBrokerConfigurations())
+                .compose(res -> {
+                    List<ConfigMap> existingConfigMaps = res.resultAt(0);
+                    Map<Integer, String> nodeConfigurations = res.resultAt(1);
+
                     // This is used during Kafka rolling updates -> we have to store it for later
                     this.logging = kafka.logging().loggingConfiguration(reconciliation, metricsAndLogging.loggingCm());
 
-                    List<ConfigMap> desiredConfigMaps = kafka.generatePerBrokerConfigurationConfigMaps(metricsAndLogging, listenerReconciliationResults.advertisedHostnames, listenerReconciliationResults.advertisedPorts);
-                    List<Future<?>> ops = new ArrayList<>();
+                    List<ConfigMap> desiredConfigMaps = kafka.generatePerBrokerConfigurationConfigMaps(metricsAndLogging, nodeConfigurations);
+                    List<Supplier<Future<?>>> ops = new ArrayList<>();
 
                     // Delete all existing ConfigMaps which are not desired and are not the shared config map
                     List<String> desiredNames = new ArrayList<>(desiredConfigMaps.size() + 1);
@@ -629,7 +680,7 @@ public class KafkaReconciler {
                     for (ConfigMap cm : existingConfigMaps) {
                         // We delete the cms not on the desired names list
                         if (!desiredNames.contains(cm.getMetadata().getName())) {
-                            ops.add(configMapOperator.deleteAsync(reconciliation, reconciliation.namespace(), cm.getMetadata().getName(), true));
+                            ops.add(() -> configMapOperator.deleteAsync(reconciliation, reconciliation.namespace(), cm.getMetadata().getName(), true));
                         }
                     }
 
@@ -685,15 +736,38 @@ public class KafkaReconciler {
                         // We store hash of the broker configurations for later use in Pod and in rolling updates
                         this.brokerConfigurationHash.put(nodeId, Util.hashStub(nodeConfiguration));
 
-                        ops.add(configMapOperator.reconcile(reconciliation, reconciliation.namespace(), cmName, cm));
+                        ops.add(() -> configMapOperator.reconcile(reconciliation, reconciliation.namespace(), cmName, cm));
                     }
 
-                    return Future
-                            .join(ops)
-                            .map((Void) null);
+                    // For large clusters, we do not want to send hundreds of requests to the Kubernetes API at once
+                    return ReconcilerUtils.withBoundedParallelism(ops, operationsParallelism);
                 });
     }
 
+    /**
+     * Generates the Kafka configurations of all nodes. The configurations of the different nodes are independent of
+     * each other, so they are generated in parallel in the compute worker pool. This keeps the CPU intensive work away
+     * from the event loop and speeds up the reconciliation of large clusters when the configurations cannot be reused
+     * from the previous reconciliation.
+     *
+     * @return  Future with the map of the Kafka configurations of the nodes
+     */
+    private Future<Map<Integer, String>> generatePerBrokerConfigurations() {
+        Map<Integer, String> nodeConfigurations = new ConcurrentHashMap<>();
+        List<Future<Void>> futures = new ArrayList<>();
+
+        for (NodeRef node : kafka.nodes()) {
+            futures.add(workerPools.executeBlocking(vertx, WorkerPools.Pool.COMPUTE,
+                            () -> kafka.generatePerBrokerConfiguration(node.nodeId(), listenerReconciliationResults.advertisedHostnames, listenerReconciliationResults.advertisedPorts))
+                    .map(configuration -> {
+                        nodeConfigurations.put(node.nodeId(), configuration);
+                        return null;
+                    }));
+        }
+
+        return Future.all(futures).map(nodeConfigurations);
+    }
+
     /**
      * This method is used to create or update the config maps required by the brokers. It does not do the cleanup the
      * old shared Config Map used by StatefulSets. That is done only at the end of the reconciliation. However, it would
@@ -716,23 +790,22 @@ public class KafkaReconciler {
      */
     protected Future<Void> certificateSecret(Clock clock) {
         return secretOperator.getAsync(reconciliation.namespace(), KafkaResources.kafkaSecretName(reconciliation.name()))
-                .compose(oldSecret -> {
-                    return secretOperator
-                            .reconcile(reconciliation, reconciliation.namespace(), KafkaResources.kafkaSecretName(reconciliation.name()),
-                                    kafka.generateCertificatesSecret(clusterCa, clientsCa, oldSecret, listenerReconciliationResults.bootstrapDnsNames, listenerReconciliationResults.brokerDnsNames, Util.isMaintenanceTimeWindowsSatisfied(reconciliation, maintenanceWindows, clock.instant())))
-                            .compose(patchResult -> {
-                                if (patchResult != null) {
-                                    for (NodeRef node : kafka.nodes()) {
-                                        kafkaServerCertificateHash.put(
-                                                node.nodeId(),
-                                                CertUtils.getCertificateThumbprint(patchResult.resource(),
-                                                        Ca.SecretEntry.CRT.asKey(node.podName())
-                                                ));
-                                    }
-                                }
+                // Generating the certificates is CPU intensive and is done in the crypto worker pool
+                .compose(oldSecret -> workerPools.executeBlocking(vertx, WorkerPools.Pool.CRYPTO,
+                        () -> kafka.generateCertificatesSecret(clusterCa, clientsCa, oldSecret, listenerReconciliationResults.bootstrapDnsNames, listenerReconciliationResults.brokerDnsNames, Util.isMaintenanceTimeWindowsSatisfied(reconciliation, maintenanceWindows, clock.instant()))))
+                .compose(newSecret -> secretOperator.reconcile(reconciliation, reconciliation.namespace(), KafkaResources.kafkaSecretName(reconciliation.name()), newSecret))
+                .compose(patchResult -> {
+                    if (patchResult != null) {
+                        for (NodeRef node : kafka.nodes()) {
+                            kafkaServerCertificateHash.put(
+                                    node.nodeId(),
+                                    CertUtils.getCertificateThumbprint(patchResult.resource(),
+                                            Ca.SecretEntry.CRT.asKey(node.podName())
+                                    ));
+                        }
+                    }
 
-                                return Future.succeededFuture();
-                            });
+                    return Future.succeededFuture();
                 });
     }
 
@@ -895,29 +968,28 @@ public class KafkaReconciler {
      */
     protected Future<Void> clusterId(KafkaStatus kafkaStatus) {
         LOGGER.debugCr(reconciliation, "Attempt to get clusterId");
-        return vertx.createSharedWorkerExecutor("kubernetes-ops-pool")
-                .executeBlocking(() -> {
-                    Admin kafkaAdmin = null;
-
-                    try {
-                        String bootstrapHostname = KafkaResources.bootstrapServiceName(reconciliation.name()) + "." + reconciliation.namespace() + ".svc:" + KafkaCluster.REPLICATION_PORT;
-                        LOGGER.debugCr(reconciliation, "Creating AdminClient for clusterId using {}", bootstrapHostname);
-                        kafkaAdmin = adminClientProvider.createAdminClient(bootstrapHostname, this.coTlsPemIdentity.pemTrustSet(), this.coTlsPemIdentity.pemAuthIdentity());
-                        kafkaStatus.setClusterId(kafkaAdmin.describeCluster().clusterId().get());
-                    } catch (KafkaException e) {
-                        LOGGER.warnCr(reconciliation, "Kafka exception getting clusterId {}", e.getMessage());
-                    } catch (InterruptedException e) {
-                        LOGGER.warnCr(reconciliation, "Interrupted exception getting clusterId {}", e.getMessage());
-                    } catch (ExecutionException e) {
-                        LOGGER.warnCr(reconciliation, "Execution exception getting clusterId {}", e.getMessage());
-                    } finally {
-                        if (kafkaAdmin != null) {
-                            kafkaAdmin.close();
-                        }
-                    }
+        return workerPools.executeBlocking(vertx, WorkerPools.Pool.KAFKA, () -> {
+            Admin kafkaAdmin = null;
+
+            try {
+                String bootstrapHostname = KafkaResources.bootstrapServiceName(reconciliation.name()) + "." + reconciliation.namespace() + ".svc:" + KafkaCluster.REPLICATION_PORT;
+                LOGGER.debugCr(reconciliation, "Creating AdminClient for clusterId using {}", bootstrapHostname);
+                kafkaAdmin = adminClientProvider.createAdminClient(bootstrapHostname, this.coTlsPemIdentity.pemTrustSet(), this.coTlsPemIdentity.pemAuthIdentity());
+                kafkaStatus.setClusterId(kafkaAdmin.describeCluster().clusterId().get());
+            } catch (KafkaException e) {
+                LOGGER.warnCr(reconciliation, "Kafka exception getting clusterId {}", e.getMessage());
+            } catch (InterruptedException e) {
+                LOGGER.warnCr(reconciliation, "Interrupted exception getting clusterId {}", e.getMessage());
+            } catch (ExecutionException e) {
+                LOGGER.warnCr(reconciliation, "Execution exception getting clusterId {}", e.getMessage());
+            } finally {
+                if (kafkaAdmin != null) {
+                    kafkaAdmin.close();
+                }
+            }
 
-                    return null;
-                });
+            return null;
+        });
     }
 
     /**
@@ -1088,13 +1160,18 @@ public class KafkaReconciler {
             // it's not supported by brokers during migration because they are still connected to ZooKeeper so ...
             // going through the controllers set to get metrics from one of them, because all expose the needed metrics
             boolean zkMigrationStateChecked = false;
+            KafkaAgentClient kafkaAgentClient;
+            try {
+                // The same client is used for all controllers so that the connection setup is not repeated
+                kafkaAgentClient = kafkaAgentClientProvider.createKafkaAgentClient(reconciliation, this.coTlsPemIdentity);
+            } catch (RuntimeException e) {
+                LOGGER.debugCr(reconciliation, "Error on creating the Kafka Agent client", e);
+                return Future.failedFuture(new Throwable("Failed to check ZooKeeper migration state"));
+            }
+
             for (NodeRef controller : kafka.controllerNodes()) {
                 try {
                     LOGGER.debugCr(reconciliation, "Checking ZooKeeper migration state on controller {}", controller.podName());
-                    KafkaAgentClient kafkaAgentClient = kafkaAgentClientProvider.createKafkaAgentClient(
-                            reconciliation,
-                            this.coTlsPemIdentity
-                    );
                     this.kafkaMetadataStateManager.setMigrationDone(
                             KRaftMigrationUtils.checkMigrationInProgress(
                                     reconciliation,
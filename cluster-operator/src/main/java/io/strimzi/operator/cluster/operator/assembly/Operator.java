@@ -16,6 +16,7 @@ import io.vertx.core.Handler;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Abstraction of an operator which is driven by resources of a given {@link #kind()}.
@@ -63,9 +64,23 @@ public interface Operator {
      * @param handler Handler called on completion.
      */
     default void reconcileAll(String trigger, String namespace, Handler<AsyncResult<Void>> handler) {
+        reconcileAll(trigger, namespace, this::reconcile, handler);
+    }
+
+    /**
+     * Triggers the asynchronous reconciliation of all resources which this operator consumes using the given function
+     * to reconcile the individual resources. This is used for example to spread the periodic reconciliations over
+     * time (see {@link PeriodicReconciliationScheduler}).
+     *
+     * @param trigger       The cause of this reconciliation (for logging).
+     * @param namespace     The namespace to reconcile, or {@code *} to reconcile across all namespaces.
+     * @param reconciler    Function used to reconcile the individual resources
+     * @param handler       Handler called on completion.
+     */
+    default void reconcileAll(String trigger, String namespace, Function<Reconciliation, Future<Void>> reconciler, Handler<AsyncResult<Void>> handler) {
         allResourceNames(namespace).onComplete(ar -> {
             if (ar.succeeded()) {
-                reconcileThese(trigger, ar.result(), namespace, handler);
+                reconcileThese(trigger, ar.result(), namespace, reconciler, handler);
                 metrics().periodicReconciliationsCounter(namespace).increment();
             } else {
                 handler.handle(ar.map((Void) null));
@@ -82,6 +97,19 @@ public interface Operator {
      * @param handler       Handler called on completion.
      */
     default void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, String namespace, Handler<AsyncResult<Void>> handler) {
+        reconcileThese(trigger, desiredNames, namespace, this::reconcile, handler);
+    }
+
+    /**
+     * Reconciles a set of resources using the given function to reconcile the individual resources
+     *
+     * @param trigger       The cause of this reconciliation (for logging).
+     * @param desiredNames  Set of resources which should be reconciled
+     * @param namespace     The namespace to reconcile, or {@code *} to reconcile across all namespaces.
+     * @param reconciler    Function used to reconcile the individual resources
+     * @param handler       Handler called on completion.
+     */
+    default void reconcileThese(String trigger, Set<NamespaceAndName> desiredNames, String namespace, Function<Reconciliation, Future<Void>> reconciler, Handler<AsyncResult<Void>> handler) {
         if (namespace.equals(ConfigParameter.ANY_NAMESPACE)) {
             metrics().resetResourceAndPausedResourceCounters();
         } else {
@@ -96,7 +124,7 @@ public interface Operator {
             for (NamespaceAndName resourceRef : desiredNames) {
                 metrics().resourceCounter(resourceRef.getNamespace()).getAndIncrement();
                 Reconciliation reconciliation = new Reconciliation(trigger, kind(), resourceRef.getNamespace(), resourceRef.getName());
-                futures.add(reconcile(reconciliation));
+                futures.add(reconciler.apply(reconciliation));
             }
             Future.join(futures).map((Void) null).onComplete(handler);
         } else {
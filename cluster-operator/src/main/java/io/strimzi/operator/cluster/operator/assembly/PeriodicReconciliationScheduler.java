@@ -0,0 +1,253 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Spreads the periodic reconciliations of the custom resources across the reconciliation interval. Instead of starting
+ * the reconciliations of all resources at once when the periodic timer fires, each resource is reconciled after a delay
+ * derived from its kind, namespace and name. The delay is the same in every interval, so each resource is still
+ * reconciled once per interval. In addition:
+ *     - At most the configured number of periodic reconciliations is started per second
+ *     - The periodic reconciliation of a resource is skipped when the resource was successfully reconciled for some
+ *       other reason (for example because of a watch event) within the last half of the interval
+ *     - A resource is not scheduled again while its previous periodic reconciliation is still waiting to start
+ *
+ * A single scheduler is shared by the verticles of all watched namespaces, so the limit of the started reconciliations
+ * applies to the whole operator. Each verticle registers its namespace when it starts and unregisters it when it stops.
+ * Unregistering the namespace cancels the timers of its waiting reconciliations.
+ */
+public class PeriodicReconciliationScheduler {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PeriodicReconciliationScheduler.class);
+
+    /**
+     * Trigger used for the periodic reconciliations
+     */
+    public static final String TRIGGER = "timer";
+
+    /**
+     * Default interval of the periodic reconciliations
+     */
+    public static final long DEFAULT_RECONCILIATION_INTERVAL_MS = 120_000L;
+
+    private final Vertx vertx;
+    private final ReconciliationScheduler reconciliationScheduler;
+    private final long intervalMs;
+    private final long startSpacingNs;
+    private final Map<String, WatchedNamespace> namespaces = new HashMap<>();
+
+    private long nextStartNs;
+    private boolean stretched = false;
+
+    /**
+     * Constructs the periodic reconciliation scheduler
+     *
+     * @param vertx                     Vert.x instance
+     * @param reconciliationScheduler   Reconciliation scheduler used to find out when the resources were reconciled
+     * @param intervalMs                Interval of the periodic reconciliations in milliseconds
+     * @param maxStartsPerSecond        Maximal number of periodic reconciliations started per second. Zero or a negative
+     *                                  value disables the limit.
+     */
+    public PeriodicReconciliationScheduler(Vertx vertx, ReconciliationScheduler reconciliationScheduler, long intervalMs, int maxStartsPerSecond) {
+        this.vertx = vertx;
+        this.reconciliationScheduler = reconciliationScheduler;
+        this.intervalMs = intervalMs;
+        this.startSpacingNs = maxStartsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxStartsPerSecond : 0;
+        this.nextStartNs = System.nanoTime();
+    }
+
+    /**
+     * @return  Reconciliation scheduler used to find out when the resources were reconciled
+     */
+    public ReconciliationScheduler reconciliationScheduler() {
+        return reconciliationScheduler;
+    }
+
+    /**
+     * Registers the watched namespace. The periodic reconciliations are scheduled only for registered namespaces.
+     *
+     * @param namespace     Namespace watched by the operator (or * when watching all namespaces)
+     */
+    public synchronized void register(String namespace) {
+        namespaces.computeIfAbsent(namespace, WatchedNamespace::new);
+    }
+
+    /**
+     * Unregisters the watched namespace. The periodic reconciliations of the namespace which are waiting to start are
+     * cancelled and no new reconciliations are scheduled for it.
+     *
+     * @param namespace     Namespace watched by the operator (or * when watching all namespaces)
+     */
+    public synchronized void unregister(String namespace) {
+        WatchedNamespace watched = namespaces.remove(namespace);
+
+        if (watched != null) {
+            for (long timerId : watched.timers) {
+                vertx.cancelTimer(timerId);
+            }
+        }
+    }
+
+    /**
+     * Creates a function which schedules the periodic reconciliations of the resources of given operator. It is meant
+     * to be passed to {@link Operator#reconcileAll(String, String, Function, io.vertx.core.Handler)}.
+     *
+     * @param namespace     Namespace watched by the operator (or * when watching all namespaces)
+     * @param operator      Operator reconciling the resources
+     *
+     * @return  Function scheduling the periodic reconciliation
+     */
+    public Function<Reconciliation, Future<Void>> reconciler(String namespace, Operator operator) {
+        return reconciliation -> schedule(namespace, reconciliation, operator::reconcile);
+    }
+
+    /**
+     * Schedules the periodic reconciliation of a resource.
+     *
+     * @param namespace         Namespace watched by the operator (or * when watching all namespaces)
+     * @param reconciliation    Reconciliation marker
+     * @param reconciler        Function starting the reconciliation
+     *
+     * @return  Future which completes when the reconciliation completes or when it is skipped
+     */
+    public Future<Void> schedule(String namespace, Reconciliation reconciliation, Function<Reconciliation, Future<Void>> reconciler) {
+        String key = key(reconciliation);
+        WatchedNamespace watched;
+
+        synchronized (this) {
+            watched = namespaces.get(namespace);
+
+            if (watched == null) {
+                return Future.succeededFuture();
+            } else if (!watched.pending.add(key)) {
+                LOGGER.debugCr(reconciliation, "Previous periodic reconciliation has not started yet and will be used instead");
+                return Future.succeededFuture();
+            }
+        }
+
+        Promise<Void> promise = Promise.promise();
+        setTimer(watched, key, Math.max(1, offsetMs(key)), () -> maybeStart(watched, key, reconciliation, reconciler, promise), promise);
+
+        return promise.future();
+    }
+
+    /**
+     * @return  Number of the timers of the periodic reconciliations waiting to start
+     */
+    /* test */ synchronized int timers() {
+        return namespaces.values().stream().mapToInt(watched -> watched.timers.size()).sum();
+    }
+
+    private synchronized void setTimer(WatchedNamespace watched, String key, long delayMs, Runnable action, Promise<Void> promise) {
+        if (namespaces.get(watched.namespace) != watched) {
+            // The namespace was unregistered in the meantime
+            watched.pending.remove(key);
+            promise.complete();
+            return;
+        }
+
+        // The timer ID is known only after the timer is set, so the holder is used to remove it once it fires
+        long[] holder = new long[1];
+        holder[0] = vertx.setTimer(delayMs, timerId -> {
+            synchronized (this) {
+                if (!watched.timers.remove(holder[0])) {
+                    // Cancelled by unregister(...)
+                    return;
+                }
+            }
+
+            action.run();
+        });
+        watched.timers.add(holder[0]);
+    }
+
+    /**
+     * Calculates the delay of the periodic reconciliation of the resource. The bits of the hash code are mixed so that
+     * resources with similar names get distant offsets.
+     *
+     * @param key   Key identifying the resource
+     *
+     * @return  Delay in milliseconds between 0 (inclusive) and the reconciliation interval (exclusive)
+     */
+    /* test */ long offsetMs(String key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return Math.floorMod(hash ^ (hash >>> 16), intervalMs);
+    }
+
+    /* test */ static String key(Reconciliation reconciliation) {
+        return reconciliation.kind() + "/" + reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    private void maybeStart(WatchedNamespace watched, String key, Reconciliation reconciliation, Function<Reconciliation, Future<Void>> reconciler, Promise<Void> promise) {
+        if (reconciliationScheduler.completedWithin(reconciliation, intervalMs / 2)) {
+            LOGGER.debugCr(reconciliation, "Skipping periodic reconciliation because the resource was reconciled recently");
+
+            synchronized (this) {
+                watched.pending.remove(key);
+            }
+
+            promise.complete();
+            return;
+        }
+
+        long delayMs;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long startNs = Math.max(now, nextStartNs);
+            nextStartNs = startNs + startSpacingNs;
+            delayMs = TimeUnit.NANOSECONDS.toMillis(startNs - now);
+
+            if (delayMs >= intervalMs) {
+                if (!stretched) {
+                    LOGGER.warnCr(reconciliation, "The periodic reconciliations are delayed by {} ms because of the rate limit " +
+                            "which is longer than the reconciliation interval of {} ms. Consider increasing the maximal number of " +
+                            "periodic reconciliations started per second.", delayMs, intervalMs);
+                    stretched = true;
+                }
+            } else {
+                stretched = false;
+            }
+        }
+
+        if (delayMs > 0) {
+            setTimer(watched, key, delayMs, () -> start(watched, key, reconciliation, reconciler, promise), promise);
+        } else {
+            start(watched, key, reconciliation, reconciler, promise);
+        }
+    }
+
+    private void start(WatchedNamespace watched, String key, Reconciliation reconciliation, Function<Reconciliation, Future<Void>> reconciler, Promise<Void> promise) {
+        synchronized (this) {
+            watched.pending.remove(key);
+        }
+
+        reconciler.apply(reconciliation).onComplete(promise);
+    }
+
+    /**
+     * Periodic reconciliations of a watched namespace which are waiting to start
+     */
+    private static class WatchedNamespace {
+        private final String namespace;
+        private final Set<String> pending = new HashSet<>();
+        private final Set<Long> timers = new HashSet<>();
+
+        WatchedNamespace(String namespace) {
+            this.namespace = namespace;
+        }
+    }
+}
@@ -32,13 +32,16 @@ import io.strimzi.operator.common.model.Ca;
 import io.strimzi.operator.common.model.ClientsCa;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static io.strimzi.operator.common.Annotations.ANNO_STRIMZI_SERVER_CERT_HASH;
 
@@ -75,7 +78,8 @@ public class ReconcilerUtils {
     }
 
     /**
-     * Waits for Pod readiness
+     * Waits for Pod readiness. The pods belong to the cluster from the reconciliation, so a single watch selected by
+     * the cluster label is used for all of them.
      *
      * @param reconciliation        Reconciliation marker
      * @param podOperator           Pod operator
@@ -85,15 +89,109 @@ public class ReconcilerUtils {
      * @return  Future which completes when all pods are ready or fails when they are not ready in time
      */
     public static Future<Void> podsReady(Reconciliation reconciliation, PodOperator podOperator, long operationTimeoutMs, List<String> podNames) {
-        List<Future<Void>> podFutures = new ArrayList<>(podNames.size());
+        LOGGER.debugCr(reconciliation, "Checking readiness of pods {} in namespace {}", podNames, reconciliation.namespace());
+        return podOperator.readiness(reconciliation, reconciliation.namespace(), Labels.forStrimziCluster(reconciliation.name()), podNames, 1_000, operationTimeoutMs);
+    }
+
+    /**
+     * Runs the asynchronous operations with bounded parallelism. At most maxParallelism operations run at the same
+     * time and the next operation is started when one of the running operations completes. This avoids sending
+     * hundreds of requests to the Kubernetes API at once for large clusters. In the same way as Future#join(...), all
+     * operations are run even when some of them fail and the returned future fails with the first failure.
+     *
+     * @param operations        List with the operations
+     * @param maxParallelism    Maximal number of operations running at the same time
+     *
+     * @return  Future which completes when all operations complete
+     */
+    public static Future<Void> withBoundedParallelism(List<Supplier<Future<?>>> operations, int maxParallelism) {
+        if (operations.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        BoundedParallelism bounded = new BoundedParallelism(operations, Math.max(maxParallelism, 1));
+        bounded.startOperations();
+
+        return bounded.promise.future();
+    }
 
-        for (String podName : podNames) {
-            LOGGER.debugCr(reconciliation, "Checking readiness of pod {} in namespace {}", podName, reconciliation.namespace());
-            podFutures.add(podOperator.readiness(reconciliation, reconciliation.namespace(), podName, 1_000, operationTimeoutMs));
+    /**
+     * Keeps the state of the operations run with bounded parallelism. The operations which complete immediately would
+     * start the next operation from their completion handler. To not grow the stack with every such operation, the
+     * operations are started in a loop and the completion handlers only start the loop when it is not running yet.
+     */
+    private static class BoundedParallelism {
+        private final Iterator<Supplier<Future<?>>> pending;
+        private final int maxParallelism;
+        private final Promise<Void> promise = Promise.promise();
+
+        private int running = 0;
+        private int remaining;
+        private boolean starting = false;
+        private Throwable failure;
+
+        BoundedParallelism(List<Supplier<Future<?>>> operations, int maxParallelism) {
+            this.pending = operations.iterator();
+            this.remaining = operations.size();
+            this.maxParallelism = maxParallelism;
         }
 
-        return Future.join(podFutures)
-                .map((Void) null);
+        void startOperations() {
+            synchronized (this) {
+                if (starting) {
+                    // The loop further up in the stack starts the next operations
+                    return;
+                }
+
+                starting = true;
+            }
+
+            while (true) {
+                Supplier<Future<?>> operation;
+
+                synchronized (this) {
+                    if (running >= maxParallelism || !pending.hasNext()) {
+                        starting = false;
+                        return;
+                    }
+
+                    operation = pending.next();
+                    running++;
+                }
+
+                Future<?> result;
+                try {
+                    result = operation.get();
+                } catch (Throwable t) {
+                    result = Future.failedFuture(t);
+                }
+
+                result.onComplete(this::operationCompleted);
+            }
+        }
+
+        private void operationCompleted(AsyncResult<?> res) {
+            boolean done;
+
+            synchronized (this) {
+                running--;
+                remaining--;
+
+                if (res.failed() && failure == null) {
+                    failure = res.cause();
+                }
+
+                done = remaining == 0;
+            }
+
+            if (!done) {
+                startOperations();
+            } else if (failure != null) {
+                promise.fail(failure);
+            } else {
+                promise.complete();
+            }
+        }
     }
 
     /**
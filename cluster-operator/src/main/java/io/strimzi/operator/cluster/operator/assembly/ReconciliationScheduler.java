@@ -0,0 +1,325 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Schedules the reconciliations of the custom resources handled by the assembly operators. The scheduler makes sure
+ * that:
+ *     - Only one reconciliation runs for any given resource at a time
+ *     - Reconciliations triggered while another reconciliation of the same resource is waiting in the queue are merged
+ *       with it
+ *     - Reconciliations triggered while another reconciliation of the same resource is running are merged into a single
+ *       follow-up reconciliation which is queued once the running reconciliation completes
+ *     - At most the configured number of reconciliations run in parallel
+ *     - The queued reconciliations are started in a round-robin fashion across the namespaces, so that a namespace with
+ *       many resources does not delay the reconciliations in other namespaces
+ *
+ * The scheduler also remembers when the last successful reconciliation which was not started by the periodic timer
+ * completed for each resource. This is used by the {@link PeriodicReconciliationScheduler} to skip the periodic
+ * reconciliations of resources which were just reconciled.
+ *
+ * A reconciliation which does not complete within the reconciliation timeout is reported with a warning and in the
+ * overrun reconciliations metric. It keeps its slot until it really completes, because it is still running and
+ * still changing the resource. Releasing the slot earlier would let the next reconciliation of the same resource run
+ * in parallel with it and would break the concurrency limit.
+ *
+ * One scheduler is created by the Cluster Operator and shared by all its operators through the
+ * {@link io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier}.
+ */
+public class ReconciliationScheduler {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationScheduler.class);
+
+    /**
+     * Default maximal number of reconciliations running in parallel
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_RECONCILIATIONS = 100;
+
+    /**
+     * Default timeout in milliseconds after which a reconciliation which did not complete is reported as overrun
+     */
+    public static final long DEFAULT_RECONCILIATION_TIMEOUT_MS = 7_200_000L;
+
+    private static final long COMPLETIONS_RETENTION_NS = TimeUnit.HOURS.toNanos(1);
+
+    private final long reconciliationTimeoutMs;
+    private final Map<String, Slot> slots = new HashMap<>();
+    private final Map<String, ArrayDeque<Slot>> queues = new HashMap<>();
+    private final ArrayDeque<String> namespaces = new ArrayDeque<>();
+    // Ordered from the oldest to the most recent completion
+    private final LinkedHashMap<String, Long> completions = new LinkedHashMap<>();
+
+    private int maxConcurrentReconciliations;
+    private int running = 0;
+
+    /**
+     * Constructs the scheduler
+     *
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations running in parallel
+     * @param reconciliationTimeoutMs       Timeout in milliseconds after which a reconciliation which did not complete
+     *                                      is reported as overrun. Zero disables the timeout.
+     */
+    public ReconciliationScheduler(int maxConcurrentReconciliations, long reconciliationTimeoutMs) {
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        this.reconciliationTimeoutMs = reconciliationTimeoutMs;
+    }
+
+    /**
+     * Configures the maximal number of reconciliations running in parallel. Increasing the limit starts the queued
+     * reconciliations right away. Decreasing the limit does not affect the reconciliations which are already running.
+     *
+     * @param maxConcurrentReconciliations  Maximal number of reconciliations running in parallel
+     */
+    public void maxConcurrentReconciliations(int maxConcurrentReconciliations) {
+        synchronized (this) {
+            this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+        }
+
+        dispatch();
+    }
+
+    /**
+     * @return  Number of reconciliations waiting in the queue
+     */
+    public synchronized int queued() {
+        return queues.values().stream().mapToInt(ArrayDeque::size).sum();
+    }
+
+    /**
+     * @return  Number of running reconciliations
+     */
+    public synchronized int running() {
+        return running;
+    }
+
+    /**
+     * Checks whether a reconciliation of the same resource which was not started by the periodic timer completed
+     * successfully within the given time window. The completions are remembered for up to one hour.
+     *
+     * @param reconciliation    Reconciliation marker identifying the resource
+     * @param windowMs          Time window in milliseconds
+     *
+     * @return  True if the resource was successfully reconciled within the time window. False otherwise.
+     */
+    public synchronized boolean completedWithin(Reconciliation reconciliation, long windowMs) {
+        Long completed = completions.get(key(reconciliation));
+        return completed != null && System.nanoTime() - completed < TimeUnit.MILLISECONDS.toNanos(windowMs);
+    }
+
+    /**
+     * Submits the reconciliation to the scheduler. If another reconciliation of the same resource is already waiting,
+     * the reconciliation is merged with it and the future of the waiting reconciliation is returned.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param metrics           Metrics holder of the operator used to record the queue metrics
+     * @param context           Vert.x context on which the reconciliation is started
+     * @param task              Supplier which starts the reconciliation. It is called on the given Vert.x context.
+     *
+     * @return  Future which completes when the reconciliation (or the reconciliation it was merged with) completes
+     */
+    public Future<Void> submit(Reconciliation reconciliation, OperatorMetricsHolder metrics, Context context, Supplier<Future<Void>> task) {
+        String key = key(reconciliation);
+        Entry entry = new Entry(reconciliation, metrics, task, context);
+        Future<Void> result;
+
+        synchronized (this) {
+            Slot slot = slots.get(key);
+
+            if (slot == null) {
+                slot = new Slot(reconciliation.namespace());
+                slot.queued = entry;
+                slots.put(key, slot);
+                enqueue(slot);
+                result = entry.promise.future();
+            } else if (slot.queued != null) {
+                result = coalesce(slot.queued, entry);
+            } else if (slot.followUp != null) {
+                result = coalesce(slot.followUp, entry);
+            } else {
+                LOGGER.debugCr(reconciliation, "Another reconciliation is in progress. The reconciliation will be started once it completes.");
+                slot.followUp = entry;
+                result = entry.promise.future();
+            }
+        }
+
+        dispatch();
+
+        return result;
+    }
+
+    private static String key(Reconciliation reconciliation) {
+        return reconciliation.kind() + "/" + reconciliation.namespace() + "/" + reconciliation.name();
+    }
+
+    private Future<Void> coalesce(Entry existing, Entry entry) {
+        LOGGER.debugCr(entry.reconciliation, "Merged with reconciliation {} which is waiting in the queue", existing.reconciliation);
+        entry.metrics.coalescedReconciliationsCounter(entry.reconciliation.namespace()).increment();
+        return existing.promise.future();
+    }
+
+    private void enqueue(Slot slot) {
+        slot.queued.enqueuedNanos = System.nanoTime();
+
+        ArrayDeque<Slot> queue = queues.get(slot.namespace);
+        if (queue == null) {
+            queue = new ArrayDeque<>();
+            queues.put(slot.namespace, queue);
+            namespaces.addLast(slot.namespace);
+        }
+
+        queue.addLast(slot);
+    }
+
+    /**
+     * Picks the reconciliations which should be started. The namespaces take turns, so each namespace with queued
+     * reconciliations gets one started before any namespace gets the next one.
+     *
+     * @return  List of the reconciliations to start
+     */
+    private synchronized List<Entry> next() {
+        List<Entry> toStart = new ArrayList<>();
+
+        while (running < maxConcurrentReconciliations && !namespaces.isEmpty()) {
+            String namespace = namespaces.pollFirst();
+            ArrayDeque<Slot> queue = queues.get(namespace);
+            Slot slot = queue.pollFirst();
+
+            if (queue.isEmpty()) {
+                queues.remove(namespace);
+            } else {
+                namespaces.addLast(namespace);
+            }
+
+            Entry entry = slot.queued;
+            slot.queued = null;
+            running++;
+            toStart.add(entry);
+        }
+
+        return toStart;
+    }
+
+    private void dispatch() {
+        for (Entry entry : next()) {
+            entry.context.runOnContext(ignored -> start(entry));
+        }
+    }
+
+    private void start(Entry entry) {
+        entry.metrics.reconciliationsQueueTimer(entry.reconciliation.namespace())
+                .record(System.nanoTime() - entry.enqueuedNanos, TimeUnit.NANOSECONDS);
+
+        long timerId = reconciliationTimeoutMs > 0
+                ? entry.context.owner().setTimer(reconciliationTimeoutMs, ignored -> timeout(entry))
+                : -1L;
+
+        Future<Void> result;
+        try {
+            result = entry.task.get();
+        } catch (Throwable t) {
+            LOGGER.errorCr(entry.reconciliation, "Reconciliation failed", t);
+            result = Future.failedFuture(t);
+        }
+
+        result.onComplete(res -> {
+            if (timerId != -1L) {
+                entry.context.owner().cancelTimer(timerId);
+            }
+
+            complete(entry, res);
+        });
+    }
+
+    private void timeout(Entry entry) {
+        LOGGER.warnCr(entry.reconciliation, "Reconciliation did not complete within {}ms. The next reconciliation of the " +
+                "resource will be started only once it completes.", reconciliationTimeoutMs);
+        entry.metrics.overrunReconciliationsCounter(entry.reconciliation.namespace()).increment();
+    }
+
+    private void complete(Entry entry, AsyncResult<Void> result) {
+        String key = key(entry.reconciliation);
+
+        synchronized (this) {
+            running--;
+
+            if (result.succeeded() && !PeriodicReconciliationScheduler.TRIGGER.equals(entry.reconciliation.trigger())) {
+                recordCompletion(key);
+            }
+
+            Slot slot = slots.get(key);
+
+            if (slot.followUp != null) {
+                slot.queued = slot.followUp;
+                slot.followUp = null;
+                enqueue(slot);
+            } else {
+                slots.remove(key);
+            }
+        }
+
+        dispatch();
+        entry.promise.handle(result);
+    }
+
+    private void recordCompletion(String key) {
+        long now = System.nanoTime();
+        completions.remove(key);
+        completions.put(key, now);
+
+        Iterator<Long> iterator = completions.values().iterator();
+        while (iterator.hasNext() && now - iterator.next() > COMPLETIONS_RETENTION_NS) {
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Reconciliation submitted to the scheduler
+     */
+    private static class Entry {
+        private final Reconciliation reconciliation;
+        private final OperatorMetricsHolder metrics;
+        private final Supplier<Future<Void>> task;
+        private final Context context;
+        private final Promise<Void> promise = Promise.promise();
+        private long enqueuedNanos;
+
+        Entry(Reconciliation reconciliation, OperatorMetricsHolder metrics, Supplier<Future<Void>> task, Context context) {
+            this.reconciliation = reconciliation;
+            this.metrics = metrics;
+            this.task = task;
+            this.context = context;
+        }
+    }
+
+    /**
+     * State of the reconciliations of a single resource
+     */
+    private static class Slot {
+        private final String namespace;
+        private Entry queued;
+        private Entry followUp;
+
+        Slot(String namespace) {
+            this.namespace = namespace;
+        }
+    }
+}
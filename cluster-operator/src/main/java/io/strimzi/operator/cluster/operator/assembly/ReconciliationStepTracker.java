@@ -0,0 +1,142 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.diagnostics.InFlightReconciliations;
+import io.vertx.core.Future;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures the duration of the individual steps of a reconciliation. The duration of each step is recorded in a
+ * histogram tagged with the name of the step. The current step is also reported to the in-flight reconciliations
+ * diagnostics.
+ *
+ * When the tracing is enabled, the start and duration of each step are collected and logged as a trace of the whole
+ * reconciliation once it completes. As the steps run one after another, the longest steps in the trace form the
+ * critical path of the reconciliation. Nested steps (for example the steps of the Kafka reconciler inside the Kafka
+ * step) are named with the name of the parent step as a prefix.
+ */
+public class ReconciliationStepTracker {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationStepTracker.class);
+
+    /**
+     * Step tracker which does not record anything. It is used when the steps are not tracked (for example when the
+     * reconcilers are used directly in tests).
+     */
+    public static final ReconciliationStepTracker NOOP = new ReconciliationStepTracker(null, null, false);
+
+    private final Reconciliation reconciliation;
+    private final KafkaAssemblyOperatorMetricsHolder metrics;
+    private final List<Span> spans;
+    private final long startNanos;
+
+    /**
+     * Constructs the step tracker
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param metrics           Metrics holder used to record the step durations
+     * @param tracing           Indicates whether the trace of the reconciliation steps should be collected and logged
+     */
+    public ReconciliationStepTracker(Reconciliation reconciliation, KafkaAssemblyOperatorMetricsHolder metrics, boolean tracing) {
+        this.reconciliation = reconciliation;
+        this.metrics = metrics;
+        this.spans = tracing ? new ArrayList<>() : null;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Wraps a step of the reconciliation to measure its duration. The returned function is meant to be passed to
+     * Future#compose(...).
+     *
+     * @param name  Name of the step
+     * @param step  The step
+     *
+     * @return  Function which runs the step and records its duration
+     *
+     * @param <T>   Type of the input of the step
+     * @param <R>   Type of the result of the step
+     */
+    public <T, R> Function<T, Future<R>> step(String name, Function<T, Future<R>> step) {
+        if (reconciliation == null) {
+            return step;
+        }
+
+        return input -> {
+            long stepStartNanos = System.nanoTime();
+            InFlightReconciliations.step(reconciliation, name);
+
+            Future<R> result;
+            try {
+                result = step.apply(input);
+            } catch (Throwable t) {
+                result = Future.failedFuture(t);
+            }
+
+            return result.onComplete(res -> record(name, stepStartNanos, res.succeeded()));
+        };
+    }
+
+    private void record(String name, long stepStartNanos, boolean succeeded) {
+        long durationNanos = System.nanoTime() - stepStartNanos;
+
+        if (metrics != null) {
+            metrics.reconciliationStepTimer(reconciliation.namespace(), name).record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        if (spans != null) {
+            synchronized (spans) {
+                spans.add(new Span(name, stepStartNanos - startNanos, durationNanos, succeeded));
+            }
+        }
+    }
+
+    /**
+     * Logs the trace of the reconciliation steps when the tracing is enabled
+     */
+    public void finish() {
+        if (spans != null) {
+            LOGGER.infoCr(reconciliation, "Reconciliation steps took {}ms:{}",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), trace());
+        }
+    }
+
+    /* test */ String trace() {
+        List<Span> sorted;
+        synchronized (spans) {
+            sorted = new ArrayList<>(spans);
+        }
+
+        // Parent steps start before their nested steps. With the same start, the longer one is the parent.
+        sorted.sort(Comparator.comparingLong(Span::offsetNanos).thenComparing(Comparator.comparingLong(Span::durationNanos).reversed()));
+
+        StringBuilder trace = new StringBuilder();
+        for (Span span : sorted) {
+            trace.append("\n\t")
+                    .append(span.name)
+                    .append(" started at +").append(TimeUnit.NANOSECONDS.toMillis(span.offsetNanos)).append("ms")
+                    .append(" took ").append(TimeUnit.NANOSECONDS.toMillis(span.durationNanos)).append("ms")
+                    .append(span.succeeded ? "" : " (failed)");
+        }
+
+        return trace.toString();
+    }
+
+    /**
+     * Completed reconciliation step
+     *
+     * @param name              Name of the step
+     * @param offsetNanos       Start of the step relative to the start of the reconciliation
+     * @param durationNanos     Duration of the step
+     * @param succeeded         Indicates whether the step succeeded
+     */
+    record Span(String name, long offsetNanos, long durationNanos, boolean succeeded) { }
+}
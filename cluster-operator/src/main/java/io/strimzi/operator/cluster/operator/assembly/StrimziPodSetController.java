@@ -437,7 +437,7 @@ public class StrimziPodSetController implements Runnable {
                             .withStatus(desiredStatus)
                             .build();
 
-                    strimziPodSetOperator.client().inNamespace(reconciliation.namespace()).resource(updatedPodSet).updateStatus();
+                    strimziPodSetOperator.recordWrite(strimziPodSetOperator.client().inNamespace(reconciliation.namespace()).resource(updatedPodSet).updateStatus());
                 }
             } catch (KubernetesClientException e)   {
                 if (e.getCode() == 409) {
@@ -467,7 +467,7 @@ public class StrimziPodSetController implements Runnable {
             // Pod does not exist => we create it
             LOGGER.debugCr(reconciliation, "Creating pod {} in namespace {}", pod.getMetadata().getName(), reconciliation.namespace());
             pod.getMetadata().setOwnerReferences(List.of(owner));
-            podOperator.client().inNamespace(reconciliation.namespace()).resource(pod).create();
+            podOperator.recordWrite(podOperator.client().inNamespace(reconciliation.namespace()).resource(pod).create());
         } else {
             if (PodSetUtils.isInTerminalState(currentPod))  {
                 // The Pods might reach a terminal state of Succeeded or Failed in some situations such as node failures
@@ -487,7 +487,7 @@ public class StrimziPodSetController implements Runnable {
                     podWithOwnerReference.getMetadata().setOwnerReferences(List.of(owner));
                 }
 
-                podOperator.client().inNamespace(reconciliation.namespace()).withName(pod.getMetadata().getName()).patch(PatchContext.of(PatchType.JSON), podWithOwnerReference);
+                podOperator.recordWrite(podOperator.client().inNamespace(reconciliation.namespace()).withName(pod.getMetadata().getName()).patch(PatchContext.of(PatchType.JSON), podWithOwnerReference));
             }
 
             if (Readiness.isPodReady(currentPod))   {
@@ -21,6 +21,7 @@ import io.strimzi.operator.cluster.model.DnsNameGenerator;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersionChange;
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
 import io.strimzi.operator.cluster.operator.resource.ZooKeeperAdminProvider;
 import io.strimzi.operator.cluster.operator.resource.ZooKeeperRoller;
@@ -75,6 +76,7 @@ public class ZooKeeperReconciler {
 
     private final Reconciliation reconciliation;
     private final Vertx vertx;
+    private final WorkerPools workerPools;
     private final long operationTimeoutMs;
     private final ZookeeperCluster zk;
     private final KafkaVersionChange versionChange;
@@ -147,6 +149,7 @@ public class ZooKeeperReconciler {
     ) {
         this.reconciliation = reconciliation;
         this.vertx = vertx;
+        this.workerPools = supplier.workerPools;
         this.operationTimeoutMs = config.getOperationTimeoutMs();
         this.zk = ZookeeperCluster.fromCrd(reconciliation, kafkaAssembly, config.versions(), oldStorage, currentReplicas, supplier.sharedEnvironmentProvider);
         this.versionChange = versionChange;
@@ -448,24 +451,23 @@ public class ZooKeeperReconciler {
      */
     protected Future<Void> certificateSecret(Clock clock) {
         return secretOperator.getAsync(reconciliation.namespace(), KafkaResources.zookeeperSecretName(reconciliation.name()))
-                .compose(oldSecret -> {
-                    return secretOperator
-                            .reconcile(reconciliation, reconciliation.namespace(), KafkaResources.zookeeperSecretName(reconciliation.name()),
-                                    zk.generateCertificatesSecret(clusterCa, oldSecret, Util.isMaintenanceTimeWindowsSatisfied(reconciliation, maintenanceWindows, clock.instant())))
-                            .compose(patchResult -> {
-                                if (patchResult != null) {
-                                    for (int podNum = 0; podNum < zk.getReplicas(); podNum++) {
-                                        var podName = KafkaResources.zookeeperPodName(reconciliation.name(), podNum);
-                                        zkCertificateHash.put(
-                                                podNum,
-                                                CertUtils.getCertificateThumbprint(patchResult.resource(),
-                                                        Ca.SecretEntry.CRT.asKey(podName)
-                                                ));
-                                    }
-                                }
+                // Generating the certificates is CPU intensive and is done in the crypto worker pool
+                .compose(oldSecret -> workerPools.executeBlocking(vertx, WorkerPools.Pool.CRYPTO,
+                        () -> zk.generateCertificatesSecret(clusterCa, oldSecret, Util.isMaintenanceTimeWindowsSatisfied(reconciliation, maintenanceWindows, clock.instant()))))
+                .compose(newSecret -> secretOperator.reconcile(reconciliation, reconciliation.namespace(), KafkaResources.zookeeperSecretName(reconciliation.name()), newSecret))
+                .compose(patchResult -> {
+                    if (patchResult != null) {
+                        for (int podNum = 0; podNum < zk.getReplicas(); podNum++) {
+                            var podName = KafkaResources.zookeeperPodName(reconciliation.name(), podNum);
+                            zkCertificateHash.put(
+                                    podNum,
+                                    CertUtils.getCertificateThumbprint(patchResult.resource(),
+                                            Ca.SecretEntry.CRT.asKey(podName)
+                                    ));
+                        }
+                    }
 
-                                return Future.succeededFuture();
-                            });
+                    return Future.succeededFuture();
                 });
     }
 
@@ -902,6 +904,7 @@ public class ZooKeeperReconciler {
         return KRaftMigrationUtils.deleteZooKeeperControllerZnode(
                 reconciliation,
                 vertx,
+                workerPools,
                 this.zooKeeperAdminProvider,
                 this.tlsPemIdentity,
                 operationTimeoutMs,
@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.Map;
@@ -12,6 +13,7 @@ import java.util.Map;
 /**
  * Java representation of the JSON response from the /v1/broker-state endpoint of the KafkaAgent
  */
+@JsonIgnoreProperties(ignoreUnknown = true)
 class BrokerState {
     private static final int BROKER_RECOVERY_STATE = 2;
 
@@ -59,6 +61,29 @@ class BrokerState {
         return 0;
     }
 
+    /**
+     * The average number of segments recovered per second as reported by the Kafka Agent
+     * @return double result, 0 if not known
+     */
+    public double segmentsRecoveredPerSecond() {
+        if (recoveryState != null  && recoveryState.get("segmentsRecoveredPerSecond") instanceof Number rate) {
+            return rate.doubleValue();
+        }
+        return 0;
+    }
+
+    /**
+     * Estimated time until the remaining segments are recovered based on the recovery throughput
+     * @return long result in milliseconds, -1 if it cannot be estimated
+     */
+    public long estimatedRecoveryTimeMs() {
+        double rate = segmentsRecoveredPerSecond();
+        if (rate > 0) {
+            return (long) Math.ceil(remainingSegmentsToRecover() * 1000 / rate);
+        }
+        return -1;
+    }
+
     @Override
     public String toString() {
         return String.format("Broker state: %d, Recovery state: %s", code, recoveryState);
@@ -7,13 +7,72 @@ package io.strimzi.operator.cluster.operator.resource;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.auth.TlsPemIdentity;
 
+import java.net.http.HttpClient;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
- * Class to provide the real KafkaAgentClient which connects to actual Kafka Agent
+ * Class to provide the real KafkaAgentClient which connects to actual Kafka Agent. The HTTP clients are shared between
+ * the KafkaAgentClient instances created for the same cluster as long as the cluster CA and the Cluster Operator
+ * certificates do not change. This allows the connections and TLS sessions to the Kafka Agents to be reused. The HTTP
+ * client of a cluster is removed when the cluster is deleted.
  */
 public class DefaultKafkaAgentClientProvider implements KafkaAgentClientProvider {
+    private final Map<String, SharedHttpClient> httpClients = new ConcurrentHashMap<>();
 
     @Override
     public KafkaAgentClient createKafkaAgentClient(Reconciliation reconciliation, TlsPemIdentity tlsPemIdentity) {
-        return new KafkaAgentClient(reconciliation, reconciliation.name(), reconciliation.namespace(), tlsPemIdentity);
+        if (tlsPemIdentity == null || tlsPemIdentity.pemTrustSet() == null || tlsPemIdentity.pemAuthIdentity() == null) {
+            // The constructor throws the appropriate error
+            return new KafkaAgentClient(reconciliation, reconciliation.name(), reconciliation.namespace(), tlsPemIdentity);
+        }
+
+        SharedHttpClient sharedHttpClient = httpClients.compute(reconciliation.namespace() + "/" + reconciliation.name(), (key, existing) -> {
+            if (existing != null && existing.matches(tlsPemIdentity)) {
+                return existing;
+            } else {
+                return new SharedHttpClient(tlsPemIdentity);
+            }
+        });
+
+        return new KafkaAgentClient(reconciliation, reconciliation.name(), reconciliation.namespace(), sharedHttpClient.httpClient);
+    }
+
+    @Override
+    public void removeKafkaAgentClient(String namespace, String cluster) {
+        // The HTTP client does not need to be closed. Its connections and selector thread are released once it is not
+        // referenced anymore.
+        httpClients.remove(namespace + "/" + cluster);
+    }
+
+    /**
+     * @return  Number of the shared HTTP clients
+     */
+    /* test */ int size() {
+        return httpClients.size();
+    }
+
+    /**
+     * HTTP client together with the certificates it was created with
+     */
+    private static class SharedHttpClient {
+        private final byte[] trustedCertificates;
+        private final byte[] certificateChain;
+        private final byte[] privateKey;
+        private final HttpClient httpClient;
+
+        SharedHttpClient(TlsPemIdentity tlsPemIdentity) {
+            this.trustedCertificates = tlsPemIdentity.pemTrustSet().trustedCertificatesPemBytes();
+            this.certificateChain = tlsPemIdentity.pemAuthIdentity().certificateChainAsPemBytes();
+            this.privateKey = tlsPemIdentity.pemAuthIdentity().privateKeyAsPemBytes();
+            this.httpClient = KafkaAgentClient.createHttpClient(tlsPemIdentity);
+        }
+
+        boolean matches(TlsPemIdentity tlsPemIdentity) {
+            return Arrays.equals(trustedCertificates, tlsPemIdentity.pemTrustSet().trustedCertificatesPemBytes())
+                    && Arrays.equals(certificateChain, tlsPemIdentity.pemAuthIdentity().certificateChainAsPemBytes())
+                    && Arrays.equals(privateKey, tlsPemIdentity.pemAuthIdentity().privateKeyAsPemBytes());
+        }
     }
 }
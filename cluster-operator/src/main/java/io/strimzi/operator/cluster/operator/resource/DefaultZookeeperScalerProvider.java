@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.operator.resource;
 
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.auth.TlsPemIdentity;
 import io.vertx.core.Vertx;
@@ -16,6 +17,24 @@ import java.util.function.Function;
 public class DefaultZookeeperScalerProvider implements ZookeeperScalerProvider {
     private static final ZooKeeperAdminProvider ZOO_ADMIN_PROVIDER = new DefaultZooKeeperAdminProvider();
 
+    private final WorkerPools workerPools;
+
+    /**
+     * Constructs the ZookeeperScaler provider without the worker pool metrics
+     */
+    public DefaultZookeeperScalerProvider() {
+        this(new WorkerPools());
+    }
+
+    /**
+     * Constructs the ZookeeperScaler provider
+     *
+     * @param workerPools   Worker pools used for the blocking ZooKeeper operations
+     */
+    public DefaultZookeeperScalerProvider(WorkerPools workerPools) {
+        this.workerPools = workerPools;
+    }
+
     /**
      * Creates an instance of ZookeeperScaler
      *
@@ -31,7 +50,7 @@ public class DefaultZookeeperScalerProvider implements ZookeeperScalerProvider {
     public ZookeeperScaler createZookeeperScaler(Reconciliation reconciliation, Vertx vertx, String zookeeperConnectionString,
                                                  Function<Integer, String> zkNodeAddress, TlsPemIdentity tlsPemIdentity,
                                                  long operationTimeoutMs, int zkAdminSessionTimeoutMs) {
-        return new ZookeeperScaler(reconciliation, vertx, ZOO_ADMIN_PROVIDER, zookeeperConnectionString, zkNodeAddress,
+        return new ZookeeperScaler(reconciliation, vertx, workerPools, ZOO_ADMIN_PROVIDER, zookeeperConnectionString, zkNodeAddress,
                 tlsPemIdentity, operationTimeoutMs, zkAdminSessionTimeoutMs);
     }
 }
@@ -23,6 +23,13 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Creates HTTP client and interacts with Kafka Agent's REST endpoint
@@ -34,12 +41,15 @@ public class KafkaAgentClient {
 
     private static final String BROKER_STATE_REST_PATH = "/v1/broker-state/";
     private static final String KRAFT_MIGRATION_PATH = "/v1/kraft-migration/";
+    private static final String BROKER_STATE_STREAM_PATH = "/v1/broker-state-stream";
+    private static final String SSE_DATA_PREFIX = "data:";
+    // Time given to the Kafka Agent on top of the requested stream timeout before the stream is closed by the client
+    private static final long STREAM_TIMEOUT_MARGIN_MS = 15_000L;
     private static final int KAFKA_AGENT_HTTPS_PORT = 8443;
     private static final char[] KEYSTORE_PASSWORD = "changeit".toCharArray();
     private final String namespace;
     private final Reconciliation reconciliation;
     private final String cluster;
-    private TlsPemIdentity tlsPemIdentity;
     private HttpClient httpClient;
 
     /**
@@ -54,8 +64,23 @@ public class KafkaAgentClient {
         this.reconciliation = reconciliation;
         this.cluster = cluster;
         this.namespace = namespace;
-        this.tlsPemIdentity = tlsPemIdentity;
-        this.httpClient = createHttpClient();
+        this.httpClient = createHttpClient(tlsPemIdentity);
+    }
+
+    /**
+     * Constructor used with an existing HTTP client. This allows the HTTP client (and the TLS sessions and connections
+     * it holds) to be shared between different reconciliations of the same cluster.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param cluster   Cluster name
+     * @param namespace Cluster namespace
+     * @param httpClient    HTTP client configured with the trust set and identity for connecting to the Kafka Agent
+     */
+    KafkaAgentClient(Reconciliation reconciliation, String cluster, String namespace, HttpClient httpClient) {
+        this.reconciliation = reconciliation;
+        this.cluster = cluster;
+        this.namespace = namespace;
+        this.httpClient = httpClient;
     }
 
     /**
@@ -71,7 +96,14 @@ public class KafkaAgentClient {
         this.cluster =  cluster;
     }
 
-    private HttpClient createHttpClient() {
+    /**
+     * Creates the HTTP client for connecting to the Kafka Agent
+     *
+     * @param tlsPemIdentity    Trust set and identity for TLS client authentication for connecting to the Kafka cluster
+     *
+     * @return  HTTP client
+     */
+    static HttpClient createHttpClient(TlsPemIdentity tlsPemIdentity) {
         if (tlsPemIdentity == null) {
             throw new RuntimeException("Missing cluster CA and operator certificates required to create connection to Kafka Agent");
         }
@@ -119,6 +151,34 @@ public class KafkaAgentClient {
         }
     }
 
+    Stream<String> doGetLines(URI uri, long timeoutMs) {
+        try {
+            HttpRequest req = HttpRequest.newBuilder()
+                    .uri(uri)
+                    .timeout(Duration.ofMillis(timeoutMs))
+                    .GET()
+                    .build();
+
+            var response = httpClient.send(req, HttpResponse.BodyHandlers.ofLines());
+            if (response.statusCode() != 200) {
+                response.body().close();
+                throw new RuntimeException("Unexpected HTTP status code: " + response.statusCode());
+            }
+            return response.body();
+        } catch (IOException | InterruptedException e) {
+            throw new RuntimeException("Failed to send HTTP request to Kafka Agent", e);
+        }
+    }
+
+    private URI uri(String podName, String path) throws URISyntaxException {
+        return uri(podName, path, null);
+    }
+
+    private URI uri(String podName, String path, String query) throws URISyntaxException {
+        String host = DnsNameGenerator.podDnsName(namespace, KafkaResources.brokersServiceName(cluster), podName);
+        return new URI("https", null, host, KAFKA_AGENT_HTTPS_PORT, path, query, null);
+    }
+
     /**
      * Gets broker state by sending HTTP request to the /v1/broker-state endpoint of the KafkaAgent
      *
@@ -129,10 +189,8 @@ public class KafkaAgentClient {
      */
     public BrokerState getBrokerState(String podName) {
         BrokerState brokerstate = new BrokerState(-1, null);
-        String host = DnsNameGenerator.podDnsName(namespace, KafkaResources.brokersServiceName(cluster), podName);
         try {
-            URI uri = new URI("https", null, host, KAFKA_AGENT_HTTPS_PORT, BROKER_STATE_REST_PATH, null, null);
-            brokerstate = MAPPER.readValue(doGet(uri), BrokerState.class);
+            brokerstate = MAPPER.readValue(doGet(uri(podName, BROKER_STATE_REST_PATH)), BrokerState.class);
         } catch (JsonProcessingException e) {
             LOGGER.warnCr(reconciliation, "Failed to parse broker state", e);
         } catch (URISyntaxException e) {
@@ -143,6 +201,82 @@ public class KafkaAgentClient {
         return brokerstate;
     }
 
+    /**
+     * Waits until the broker state matches the condition using the /v1/broker-state-stream endpoint of the KafkaAgent.
+     * The KafkaAgent pushes every change of the broker state or of the recovery progress, so the caller learns about the
+     * changes without polling. When the stream cannot be used (for example because the KafkaAgent is too old to support
+     * it), a single request to the /v1/broker-state endpoint is used instead. The stream is closed by the client when
+     * the Kafka Agent does not end it shortly after the timeout, so that a hanging Kafka Agent cannot block the caller.
+     *
+     * @param podName       Name of the pod to interact with
+     * @param condition     Condition the broker state should match
+     * @param timeoutMs     Maximal time to wait in milliseconds
+     *
+     * @return  The first broker state matching the condition. If the condition is not met before the timeout, the last
+     *          known broker state is returned. -1 is returned for broker state if the stream did not provide any state.
+     */
+    public BrokerState awaitBrokerState(String podName, Predicate<BrokerState> condition, long timeoutMs) {
+        return awaitBrokerState(podName, condition, timeoutMs, timeoutMs + STREAM_TIMEOUT_MARGIN_MS);
+    }
+
+    /**
+     * Waits until the broker state matches the condition using the /v1/broker-state-stream endpoint of the KafkaAgent.
+     *
+     * @param podName       Name of the pod to interact with
+     * @param condition     Condition the broker state should match
+     * @param timeoutMs     Maximal time to wait in milliseconds requested from the Kafka Agent
+     * @param deadlineMs    Time in milliseconds after which the client closes the stream
+     *
+     * @return  The first broker state matching the condition or the last known broker state
+     */
+    /* test */ BrokerState awaitBrokerState(String podName, Predicate<BrokerState> condition, long timeoutMs, long deadlineMs) {
+        BrokerState brokerState = new BrokerState(-1, null);
+        Stream<String> lines;
+
+        try {
+            lines = doGetLines(uri(podName, BROKER_STATE_STREAM_PATH, "timeoutMs=" + timeoutMs), deadlineMs);
+        } catch (URISyntaxException | RuntimeException e) {
+            LOGGER.debugCr(reconciliation, "Failed to open the broker state stream of pod {}, falling back to a single request", podName, e);
+            return getBrokerState(podName);
+        }
+
+        // Closing the stream unblocks the thread waiting for the next line
+        AtomicBoolean expired = new AtomicBoolean(false);
+        CompletableFuture<Void> deadline = CompletableFuture.runAsync(() -> {
+            expired.set(true);
+            lines.close();
+        }, CompletableFuture.delayedExecutor(deadlineMs, TimeUnit.MILLISECONDS));
+
+        try (lines) {
+            Iterator<String> iterator = lines.iterator();
+
+            while (iterator.hasNext()) {
+                String line = iterator.next();
+
+                if (line.startsWith(SSE_DATA_PREFIX)) {
+                    brokerState = MAPPER.readValue(line.substring(SSE_DATA_PREFIX.length()).trim(), BrokerState.class);
+                    LOGGER.traceCr(reconciliation, "Pod {} broker state changed to {}", podName, brokerState);
+
+                    if (condition.test(brokerState)) {
+                        break;
+                    }
+                }
+            }
+        } catch (JsonProcessingException e) {
+            LOGGER.warnCr(reconciliation, "Failed to parse broker state", e);
+        } catch (RuntimeException e) {
+            if (expired.get()) {
+                LOGGER.warnCr(reconciliation, "Broker state stream of pod {} did not end in time and was closed", podName);
+            } else {
+                LOGGER.warnCr(reconciliation, "Failed to get broker state", e);
+            }
+        } finally {
+            deadline.cancel(false);
+        }
+
+        return brokerState;
+    }
+
     /**
      * Gets ZooKeeper to KRaft migration state by sending HTTP request to the /v1/kraft-migration endpoint of the KafkaAgent
      *
@@ -151,10 +285,8 @@ public class KafkaAgentClient {
      */
     public KRaftMigrationState getKRaftMigrationState(String podName) {
         KRaftMigrationState kraftMigrationState = new KRaftMigrationState(-1);
-        String host = DnsNameGenerator.podDnsName(namespace, KafkaResources.brokersServiceName(cluster), podName);
         try {
-            URI uri = new URI("https", null, host, KAFKA_AGENT_HTTPS_PORT, KRAFT_MIGRATION_PATH, null, null);
-            kraftMigrationState = MAPPER.readValue(doGet(uri), KRaftMigrationState.class);
+            kraftMigrationState = MAPPER.readValue(doGet(uri(podName, KRAFT_MIGRATION_PATH)), KRaftMigrationState.class);
         } catch (JsonProcessingException e) {
             LOGGER.warnCr(reconciliation, "Failed to parse ZooKeeper to KRaft migration state", e);
         } catch (URISyntaxException e) {
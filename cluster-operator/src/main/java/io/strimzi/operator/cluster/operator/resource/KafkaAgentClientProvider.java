@@ -21,4 +21,15 @@ public interface KafkaAgentClientProvider {
      * @return  KafkaAgentClient instance
      */
     KafkaAgentClient createKafkaAgentClient(Reconciliation reconciliation, TlsPemIdentity tlsPemIdentity);
+
+    /**
+     * Releases the resources (such as the shared HTTP clients) kept for given Kafka cluster. This is called when the
+     * Kafka cluster is deleted.
+     *
+     * @param namespace     Namespace of the Kafka cluster
+     * @param cluster       Name of the Kafka cluster
+     */
+    default void removeKafkaAgentClient(String namespace, String cluster) {
+        // Nothing is kept by default
+    }
 }
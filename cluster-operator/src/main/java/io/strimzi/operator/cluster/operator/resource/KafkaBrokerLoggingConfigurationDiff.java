@@ -195,6 +195,7 @@ public class KafkaBrokerLoggingConfigurationDiff extends AbstractJsonDiff {
     private static class LoggingLevelResolver {
 
         private final Map<String, String> config;
+        private final Map<String, LoggingLevel> resolved = new HashMap<>();
         private final Reconciliation reconciliation;
 
         LoggingLevelResolver(Reconciliation reconciliation, Map<String, String> loggingConfig) {
@@ -229,28 +230,27 @@ public class KafkaBrokerLoggingConfigurationDiff extends AbstractJsonDiff {
          * @return The logging level compatible with dynamic logging update
          */
         LoggingLevel resolveLevel(String name) {
+            LoggingLevel result = resolved.get(name);
+            if (result != null) {
+                return result;
+            }
+
             String level = config.get(name);
             if (level != null) {
-                LoggingLevel result = LoggingLevel.ofLog4jConfig(reconciliation, level);
-                return result != null ? result : LoggingLevel.WARN;
+                result = LoggingLevel.ofLog4jConfig(reconciliation, level);
+                result = result != null ? result : LoggingLevel.WARN;
+            } else if ("root".equals(name)) {
+                // Not even root logger defined?
+                result = LoggingLevel.WARN;
+            } else {
+                // Inherit the level of the parent category. Kafka brokers have many loggers sharing the same parent
+                // categories, so the resolved levels are remembered to avoid walking the same hierarchy again.
+                int endIdx = name.lastIndexOf('.');
+                result = resolveLevel(endIdx == -1 ? "root" : name.substring(0, endIdx));
             }
 
-            int endIdx = name.length();
-            while (endIdx > -1) {
-                endIdx = name.lastIndexOf('.', endIdx);
-                if (endIdx == -1) {
-                    level = config.get("root");
-                } else {
-                    level = config.get(name.substring(0, endIdx));
-                }
-                if (level != null) {
-                    LoggingLevel result = LoggingLevel.ofLog4jConfig(reconciliation, level);
-                    return result != null ? result : LoggingLevel.WARN;
-                }
-                endIdx -= 1;
-            }
-            // still here? Not even root logger defined?
-            return LoggingLevel.WARN;
+            resolved.put(name, result);
+            return result;
         }
     }
 
@@ -17,6 +17,7 @@ import io.strimzi.operator.cluster.model.NodeRef;
 import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
 import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.PodOperator;
 import io.strimzi.operator.common.AdminClientProvider;
@@ -115,7 +116,9 @@ public class KafkaRoller {
     private final PodOperator podOperations;
     private final long pollingIntervalMs;
     protected final long operationTimeoutMs;
+    private final int logRecoveryTimeoutFactor;
     protected final Vertx vertx;
+    private final WorkerPools workerPools;
     private final String cluster;
     private final TlsPemIdentity coTlsPemIdentity;
     private final Set<NodeRef> nodes;
@@ -145,9 +148,11 @@ public class KafkaRoller {
      *
      * @param reconciliation            Reconciliation marker
      * @param vertx                     Vert.x instance
+     * @param workerPools               Worker pools used for the blocking operations
      * @param podOperations             Pod operator for managing pods
      * @param pollingIntervalMs         Polling interval in milliseconds
      * @param operationTimeoutMs        Operation timeout in milliseconds
+     * @param logRecoveryTimeoutFactor  Multiple of the operation timeout for which to wait for the log recovery of a broker
      * @param backOffSupplier           Backoff supplier
      * @param nodes                     List of Kafka node references to consider rolling
      * @param coTlsPemIdentity          Trust set and identity for TLS client authentication for connecting to the Kafka cluster
@@ -159,8 +164,8 @@ public class KafkaRoller {
      * @param allowReconfiguration      Flag indicting whether reconfiguration is allowed or not
      * @param eventsPublisher           Kubernetes Events publisher for publishing events about pod restarts
      */
-    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
-                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier, Set<NodeRef> nodes,
+    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, WorkerPools workerPools, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, int logRecoveryTimeoutFactor, Supplier<BackOff> backOffSupplier, Set<NodeRef> nodes,
                        TlsPemIdentity coTlsPemIdentity, AdminClientProvider adminClientProvider, KafkaAgentClientProvider kafkaAgentClientProvider,
                        Function<Integer, String> kafkaConfigProvider, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration, KubernetesRestartEventPublisher eventsPublisher) {
         this.namespace = reconciliation.namespace();
@@ -173,7 +178,9 @@ public class KafkaRoller {
         this.backoffSupplier = backOffSupplier;
         this.coTlsPemIdentity = coTlsPemIdentity;
         this.vertx = vertx;
+        this.workerPools = workerPools;
         this.operationTimeoutMs = operationTimeoutMs;
+        this.logRecoveryTimeoutFactor = logRecoveryTimeoutFactor;
         this.podOperations = podOperations;
         this.pollingIntervalMs = pollingIntervalMs;
         this.adminClientProvider = adminClientProvider;
@@ -854,11 +861,109 @@ public class KafkaRoller {
 
     private void awaitReadiness(Pod pod, long timeout, TimeUnit unit) throws FatalProblem, InterruptedException {
         String podName = pod.getMetadata().getName();
+        long timeoutMs = unit.toMillis(timeout);
+        long deadlineMs = currentTimeMs() + timeoutMs;
+        // The broker state is checked several times while waiting for the readiness to notice the log recovery early
+        long checkIntervalMs = Math.max(pollingIntervalMs, timeoutMs / 10);
+        Function<Throwable, FatalProblem> readinessProblem = e -> new FatalProblem("Error while waiting for restarted pod " + podName + " to become ready", e);
+
         LOGGER.debugCr(reconciliation, "Waiting for restarted pod {} to become ready", podName);
-        await(isReady(pod), timeout, unit, e -> new FatalProblem("Error while waiting for restarted pod " + podName + " to become ready", e));
+        Future<Void> ready = isReady(pod);
+
+        while (true) {
+            try {
+                await(ready, Math.max(Math.min(checkIntervalMs, deadlineMs - currentTimeMs()), 0), TimeUnit.MILLISECONDS, readinessProblem);
+                break;
+            } catch (FatalProblem e) {
+                if (ready.succeeded()) {
+                    break;
+                }
+
+                if (kafkaAgentClient == null) {
+                    this.kafkaAgentClient = initKafkaAgentClient();
+                }
+
+                // After an unclean shutdown, the log recovery can take much longer than the operation timeout. We keep
+                // waiting as long as the recovery makes progress instead of failing (and possibly restarting the pod again).
+                BrokerState brokerState = kafkaAgentClient.getBrokerState(podName);
+                if (brokerState.isBrokerInRecovery()) {
+                    if (!awaitLogRecovery(podName, brokerState, timeoutMs)) {
+                        throw e;
+                    }
+
+                    await(isReady(pod), timeout, unit, readinessProblem);
+                    break;
+                } else if (ready.failed() || currentTimeMs() >= deadlineMs) {
+                    throw e;
+                }
+            }
+        }
+
         LOGGER.debugCr(reconciliation, "Pod {} is now ready", podName);
     }
 
+    /**
+     * Waits for the log recovery of the broker to finish as long as it makes progress. The recovery progress is
+     * reported by the Kafka Agent which pushes the changes of the broker state. The recovery is checked again at the
+     * latest after the estimated recovery time (but not later than after the timeout) to check it still progresses.
+     * The whole wait is bounded by the timeout multiplied by the log recovery timeout factor.
+     *
+     * @param podName       Name of the pod
+     * @param brokerState   Last known state of the broker
+     * @param timeoutMs     Maximal time to wait for the recovery to progress
+     *
+     * @return  True if the broker was in recovery and finished it. False if the broker is not in recovery, the
+     *          recovery stopped progressing or did not finish before the deadline.
+     *
+     * @throws FatalProblem     If the Kafka Agent client cannot be initialized
+     */
+    /* test */ boolean awaitLogRecovery(String podName, BrokerState brokerState, long timeoutMs) throws FatalProblem {
+        if (!brokerState.isBrokerInRecovery()) {
+            return false;
+        }
+
+        if (kafkaAgentClient == null) {
+            this.kafkaAgentClient = initKafkaAgentClient();
+        }
+
+        long deadlineMs = currentTimeMs() + timeoutMs * logRecoveryTimeoutFactor;
+
+        while (brokerState.isBrokerInRecovery()) {
+            long remainingMs = deadlineMs - currentTimeMs();
+            if (remainingMs <= 0) {
+                LOGGER.warnCr(reconciliation, "Pod {} did not finish the log recovery within {}ms", podName, timeoutMs * logRecoveryTimeoutFactor);
+                return false;
+            }
+
+            long etaMs = brokerState.estimatedRecoveryTimeMs();
+            LOGGER.infoCr(reconciliation, "Pod {} is performing log recovery. There are {} logs and {} segments left to recover ({} segments per second, estimated time remaining {}).",
+                    podName, brokerState.remainingLogsToRecover(), brokerState.remainingSegmentsToRecover(), String.format("%.1f", brokerState.segmentsRecoveredPerSecond()), etaMs < 0 ? "unknown" : etaMs / 1_000 + "s");
+
+            long waitMs = Math.min(remainingMs, etaMs > 0 ? Math.min(timeoutMs, Math.max(2 * etaMs, pollingIntervalMs)) : timeoutMs);
+            BrokerState nextBrokerState = kafkaAgentClient.awaitBrokerState(podName, state -> !state.isBrokerInRecovery(), waitMs);
+
+            if (nextBrokerState.code() == -1) {
+                return false;
+            } else if (nextBrokerState.isBrokerInRecovery()
+                    && nextBrokerState.remainingSegmentsToRecover() >= brokerState.remainingSegmentsToRecover()) {
+                LOGGER.warnCr(reconciliation, "Pod {} log recovery did not progress in the last {}ms", podName, waitMs);
+                return false;
+            }
+
+            brokerState = nextBrokerState;
+        }
+
+        LOGGER.infoCr(reconciliation, "Pod {} finished the log recovery", podName);
+        return true;
+    }
+
+    /**
+     * @return  The current time in milliseconds. Can be overridden in tests.
+     */
+    /* test */ long currentTimeMs() {
+        return System.currentTimeMillis();
+    }
+
     /**
      * Block waiting for up to the given timeout for the given Future to complete, returning its result.
      * @param future The future to wait for.
@@ -903,10 +1008,10 @@ public class KafkaRoller {
      */
     protected Future<Void> restart(Pod pod, RestartContext restartContext) {
         return podOperations.restart(reconciliation, pod, operationTimeoutMs)
-                             .onComplete(i -> vertx.executeBlocking(() -> {
+                             .onComplete(i -> workerPools.executeBlocking(vertx, WorkerPools.Pool.ROLLING, () -> {
                                  eventsPublisher.publishRestartEvents(pod, restartContext.restartReasons);
                                  return null;
-                             }));
+                             }, true));
     }
 
     /**
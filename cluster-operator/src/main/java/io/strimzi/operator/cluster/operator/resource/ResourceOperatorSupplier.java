@@ -25,8 +25,12 @@ import io.strimzi.api.kafka.model.rebalance.KafkaRebalanceList;
 import io.strimzi.operator.cluster.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.model.DefaultSharedEnvironmentProvider;
 import io.strimzi.operator.cluster.model.SharedEnvironmentProvider;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.cluster.operator.assembly.BrokersInUseCheck;
+import io.strimzi.operator.cluster.operator.assembly.PeriodicReconciliationScheduler;
+import io.strimzi.operator.cluster.operator.assembly.ReconciliationScheduler;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.AbstractResourceOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.BuildConfigOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.BuildOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.ClusterRoleBindingOperator;
@@ -40,6 +44,7 @@ import io.strimzi.operator.cluster.operator.resource.kubernetes.NodeOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.PodDisruptionBudgetOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.PodOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.PvcOperator;
+import io.strimzi.operator.cluster.operator.resource.kubernetes.ResourceCache;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.RoleBindingOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.RoleOperator;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.RouteOperator;
@@ -55,11 +60,16 @@ import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Vertx;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
 /**
  * Class holding the various resource operator and providers of various clients
  */
 // Deprecation is suppressed because of KafkaMirrorMaker
-@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "deprecation"})
+@SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity", "deprecation"})
 public class ResourceOperatorSupplier {
     /**
      * Secret operator
@@ -252,30 +262,52 @@ public class ResourceOperatorSupplier {
      */
     public final BrokersInUseCheck brokersInUseCheck;
 
+    /**
+     * Worker pools used for the blocking operations
+     */
+    public final WorkerPools workerPools;
+
+    /**
+     * Scheduler of the reconciliations shared by all operators
+     */
+    public final ReconciliationScheduler reconciliationScheduler;
+
+    /**
+     * Scheduler of the periodic reconciliations shared by all watched namespaces
+     */
+    public final PeriodicReconciliationScheduler periodicReconciliationScheduler;
+
+    private final List<ResourceCache<?>> caches = new ArrayList<>();
+
     /**
      * Constructor
      *
      * @param vertx                 Vert.x instance
      * @param client                Kubernetes Client
      * @param metricsProvider       Metrics provider
+     * @param workerPools           Worker pools used for the blocking operations
+     * @param periodicReconciliationScheduler   Scheduler of the periodic reconciliations (and through it of all
+     *                                          reconciliations)
      * @param pfa                   Platform Availability Features
      * @param operationTimeoutMs    Operation timeout in milliseconds
      * @param operatorName          Name of this operator instance
      */
-    public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, long operationTimeoutMs, String operatorName) {
+    public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, WorkerPools workerPools, PeriodicReconciliationScheduler periodicReconciliationScheduler, PlatformFeaturesAvailability pfa, long operationTimeoutMs, String operatorName) {
         this(vertx,
                 client,
                 new ZookeeperLeaderFinder(vertx,
                         // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
                         () -> new BackOff(5_000, 2, 4)),
                 new DefaultAdminClientProvider(),
-                new DefaultZookeeperScalerProvider(),
+                new DefaultZookeeperScalerProvider(workerPools),
                 new DefaultKafkaAgentClientProvider(),
                 metricsProvider,
                 new DefaultZooKeeperAdminProvider(),
                 pfa,
                 operationTimeoutMs,
-                new KubernetesRestartEventPublisher(client, operatorName)
+                new KubernetesRestartEventPublisher(client, operatorName),
+                workerPools,
+                periodicReconciliationScheduler
         );
     }
 
@@ -313,7 +345,11 @@ public class ResourceOperatorSupplier {
                 zkAdminProvider,
                 pfa,
                 operationTimeoutMs,
-                new KubernetesRestartEventPublisher(client, "operatorName")
+                new KubernetesRestartEventPublisher(client, "operatorName"),
+                new WorkerPools(),
+                new PeriodicReconciliationScheduler(vertx,
+                        new ReconciliationScheduler(ReconciliationScheduler.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS, ReconciliationScheduler.DEFAULT_RECONCILIATION_TIMEOUT_MS),
+                        PeriodicReconciliationScheduler.DEFAULT_RECONCILIATION_INTERVAL_MS, 0)
         );
     }
 
@@ -327,7 +363,9 @@ public class ResourceOperatorSupplier {
                                      ZooKeeperAdminProvider zkAdminProvider,
                                      PlatformFeaturesAvailability pfa,
                                      long operationTimeoutMs,
-                                     KubernetesRestartEventPublisher restartEventPublisher) {
+                                     KubernetesRestartEventPublisher restartEventPublisher,
+                                     WorkerPools workerPools,
+                                     PeriodicReconciliationScheduler periodicReconciliationScheduler) {
         this(new ServiceOperator(vertx, client),
                 pfa.hasRoutes() ? new RouteOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
                 pfa.hasImages() ? new ImageStreamOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
@@ -365,7 +403,10 @@ public class ResourceOperatorSupplier {
                 zkAdminProvider,
                 restartEventPublisher,
                 new DefaultSharedEnvironmentProvider(),
-                new BrokersInUseCheck());
+                new BrokersInUseCheck(),
+                workerPools,
+                periodicReconciliationScheduler.reconciliationScheduler(),
+                periodicReconciliationScheduler);
     }
 
     /**
@@ -409,6 +450,9 @@ public class ResourceOperatorSupplier {
      * @param restartEventsPublisher                Kubernetes Events publisher
      * @param sharedEnvironmentProvider             Shared environment provider
      * @param brokersInUseCheck                     Broker scale down operations
+     * @param workerPools                           Worker pools used for the blocking operations
+     * @param reconciliationScheduler               Scheduler of the reconciliations
+     * @param periodicReconciliationScheduler       Scheduler of the periodic reconciliations
      */
     @SuppressWarnings({"checkstyle:ParameterNumber"})
     public ResourceOperatorSupplier(ServiceOperator serviceOperations,
@@ -448,7 +492,10 @@ public class ResourceOperatorSupplier {
                                     ZooKeeperAdminProvider zooKeeperAdminProvider,
                                     KubernetesRestartEventPublisher restartEventsPublisher,
                                     SharedEnvironmentProvider sharedEnvironmentProvider,
-                                    BrokersInUseCheck brokersInUseCheck) {
+                                    BrokersInUseCheck brokersInUseCheck,
+                                    WorkerPools workerPools,
+                                    ReconciliationScheduler reconciliationScheduler,
+                                    PeriodicReconciliationScheduler periodicReconciliationScheduler) {
         this.serviceOperations = serviceOperations;
         this.routeOperations = routeOperations;
         this.imageStreamOperations = imageStreamOperations;
@@ -487,5 +534,71 @@ public class ResourceOperatorSupplier {
         this.restartEventsPublisher = restartEventsPublisher;
         this.sharedEnvironmentProvider = sharedEnvironmentProvider;
         this.brokersInUseCheck = brokersInUseCheck;
+        this.workerPools = workerPools;
+        this.reconciliationScheduler = reconciliationScheduler;
+        this.periodicReconciliationScheduler = periodicReconciliationScheduler;
+
+        for (AbstractResourceOperator<?, ?, ?, ?> operator : List.of(serviceOperations, stsOperations, configMapOperations,
+                secretOperations, pvcOperations, deploymentOperations, serviceAccountOperations, roleBindingOperations,
+                roleOperations, clusterRoleBindingOperator, networkPolicyOperator, podDisruptionBudgetOperator, podOperations,
+                ingressOperations, kafkaOperator, connectOperator, mirrorMakerOperator, kafkaBridgeOperator,
+                kafkaConnectorOperator, mirrorMaker2Operator, kafkaRebalanceOperator, kafkaNodePoolOperator,
+                strimziPodSetOperator, storageClassOperations, nodeOperator)) {
+            operator.useWorkerPools(workerPools);
+        }
+
+        // The OpenShift operators are not available on Kubernetes
+        for (AbstractResourceOperator<?, ?, ?, ?> operator : Arrays.asList(routeOperations, imageStreamOperations, buildConfigOperations, buildOperations)) {
+            if (operator != null) {
+                operator.useWorkerPools(workerPools);
+            }
+        }
+    }
+
+    /**
+     * Enables the informer caches for reading the resources most often read during the reconciliation of the operands
+     * (Secrets, ConfigMaps, Services, PVCs, StrimziPodSets and Pods). Only the resources with the strimzi.io/cluster
+     * label are cached. The caches are started right away and serve the reads once they are synced.
+     *
+     * @param namespaces        Namespaces watched by the operator
+     * @param resyncIntervalMs  The interval in which the resync of the informers should happen in milliseconds
+     */
+    public synchronized void enableInformerCaches(Set<String> namespaces, long resyncIntervalMs) {
+        if (!caches.isEmpty()) {
+            return;
+        }
+
+        secretOperations.useCache(startCache(ResourceCache.create(secretOperations, namespaces, resyncIntervalMs, metricsProvider)));
+        configMapOperations.useCache(startCache(ResourceCache.create(configMapOperations, namespaces, resyncIntervalMs, metricsProvider)));
+        serviceOperations.useCache(startCache(ResourceCache.create(serviceOperations, namespaces, resyncIntervalMs, metricsProvider)));
+        pvcOperations.useCache(startCache(ResourceCache.create(pvcOperations, namespaces, resyncIntervalMs, metricsProvider)));
+        strimziPodSetOperator.useCache(startCache(ResourceCache.create(strimziPodSetOperator, namespaces, resyncIntervalMs, metricsProvider)));
+        podOperations.useCache(startCache(ResourceCache.create(podOperations, namespaces, resyncIntervalMs, metricsProvider)));
+    }
+
+    private <T extends ResourceCache<?>> T startCache(T cache) {
+        cache.start();
+        caches.add(cache);
+        return cache;
+    }
+
+    /**
+     * Stops the informer caches and switches the operators back to reading directly from the Kubernetes API server.
+     *
+     * @param timeoutMs     Timeout in milliseconds for how long we will wait for each informer to stop
+     */
+    public synchronized void stopInformerCaches(long timeoutMs) {
+        secretOperations.useCache(null);
+        configMapOperations.useCache(null);
+        serviceOperations.useCache(null);
+        pvcOperations.useCache(null);
+        strimziPodSetOperator.useCache(null);
+        podOperations.useCache(null);
+
+        for (ResourceCache<?> cache : caches) {
+            cache.stop(timeoutMs);
+        }
+
+        caches.clear();
     }
 }
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster.operator.resource;
 
 import io.strimzi.operator.cluster.model.ZookeeperCluster;
 import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -34,6 +35,7 @@ public class ZookeeperScaler implements AutoCloseable {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ZookeeperScaler.class);
 
     private final Vertx vertx;
+    private final WorkerPools workerPools;
     private final ZooKeeperAdminProvider zooAdminProvider;
 
     private final String zookeeperConnectionString;
@@ -52,6 +54,7 @@ public class ZookeeperScaler implements AutoCloseable {
      *
      * @param reconciliation                The reconciliation
      * @param vertx                         Vertx instance
+     * @param workerPools                   Worker pools used for the blocking ZooKeeper operations
      * @param zooAdminProvider              ZooKeeper Admin Client Provider
      * @param zookeeperConnectionString     Connection string to connect to the right Zookeeper
      * @param zkNodeAddress                 Function for generating the Zookeeper node addresses
@@ -60,7 +63,7 @@ public class ZookeeperScaler implements AutoCloseable {
      * @param zkAdminSessionTimeoutMs       Zookeeper Admin session timeout
      *
      */
-    protected ZookeeperScaler(Reconciliation reconciliation, Vertx vertx, ZooKeeperAdminProvider zooAdminProvider,
+    protected ZookeeperScaler(Reconciliation reconciliation, Vertx vertx, WorkerPools workerPools, ZooKeeperAdminProvider zooAdminProvider,
                               String zookeeperConnectionString, Function<Integer, String> zkNodeAddress,
                               TlsPemIdentity coTlsPemIdentity, long operationTimeoutMs, int zkAdminSessionTimeoutMs) {
         this.reconciliation = reconciliation;
@@ -68,6 +71,7 @@ public class ZookeeperScaler implements AutoCloseable {
         LOGGER.debugCr(reconciliation, "Creating Zookeeper Scaler for cluster {}", zookeeperConnectionString);
 
         this.vertx = vertx;
+        this.workerPools = workerPools;
         this.zooAdminProvider = zooAdminProvider;
         this.zookeeperConnectionString = zookeeperConnectionString;
         this.zkNodeAddress = zkNodeAddress;
@@ -145,7 +149,7 @@ public class ZookeeperScaler implements AutoCloseable {
                 trustStoreFile.getAbsolutePath(),
                 keyStoreFile.getAbsolutePath());
 
-            VertxUtil.waitFor(reconciliation, vertx,
+            VertxUtil.waitFor(reconciliation, vertx, workerPools,
                 String.format("ZooKeeperAdmin connection to %s", zookeeperConnectionString),
                 "connected",
                 1_000,
@@ -194,7 +198,7 @@ public class ZookeeperScaler implements AutoCloseable {
      * @return  Future containing Map with the current Zookeeper configuration
      */
     private Future<Map<String, String>> getCurrentConfig(ZooKeeperAdmin zkAdmin)    {
-        return vertx.executeBlocking(() -> {
+        return workerPools.executeBlocking(vertx, WorkerPools.Pool.KAFKA, () -> {
             try {
                 byte[] config = zkAdmin.getConfig(false, null);
                 Map<String, String> servers = parseConfig(config);
@@ -214,7 +218,7 @@ public class ZookeeperScaler implements AutoCloseable {
      * @return              Future with the updated configuration
      */
     private Future<Map<String, String>> updateConfig(ZooKeeperAdmin zkAdmin, Map<String, String> newServers)    {
-        return vertx.executeBlocking(() -> {
+        return workerPools.executeBlocking(vertx, WorkerPools.Pool.KAFKA, () -> {
             try {
                 LOGGER.debugCr(reconciliation, "Updating Zookeeper configuration to {}", newServers);
                 byte[] newConfig = zkAdmin.reconfigure(null, null, serversMapToList(newServers), -1, null);
@@ -234,7 +238,7 @@ public class ZookeeperScaler implements AutoCloseable {
      */
     private Future<Void> closeConnection(ZooKeeperAdmin zkAdmin) {
         if (zkAdmin != null) {
-            return vertx.executeBlocking(() -> {
+            return workerPools.executeBlocking(vertx, WorkerPools.Pool.KAFKA, () -> {
                 try {
                     zkAdmin.close((int) operationTimeoutMs);
                     return null;
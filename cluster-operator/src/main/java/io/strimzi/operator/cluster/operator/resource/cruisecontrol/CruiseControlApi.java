@@ -7,6 +7,9 @@ package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Cruise Control REST API interface definition
  */
@@ -89,6 +92,19 @@ public interface CruiseControlApi {
      */
     Future<CruiseControlResponse> getUserTaskStatus(Reconciliation reconciliation, String host, int port, String userTaskID);
 
+    /**
+     *  Get the state of multiple tasks from the Cruise Control server using a single request.
+     *
+     * @param reconciliation The reconciliation marker
+     * @param host The address of the Cruise Control server.
+     * @param port The port the Cruise Control Server is listening on.
+     * @param userTaskIDs The unique IDs of the tasks whose state should be retrieved.
+     * @return A future for a map linking each requested task ID to its state. Tasks unknown to Cruise Control (for
+     *         example because it was restarted or the task retention expired) are mapped to a response with an empty
+     *         JSON object, in the same way as {@link #getUserTaskStatus}.
+     */
+    Future<Map<String, CruiseControlResponse>> getUserTasksStatus(Reconciliation reconciliation, String host, int port, List<String> userTaskIDs);
+
     /**
      *  Issue a stop command to the Cruise Control server. This will halt any task (e.g. a rebalance) which is currently
      *  in execution.
@@ -18,19 +18,24 @@ import io.strimzi.operator.common.model.cruisecontrol.CruiseControlRebalanceKeys
 import io.strimzi.operator.common.model.cruisecontrol.CruiseControlUserTaskStatus;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpMethod;
-import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.net.PemTrustOptions;
 
 import java.net.ConnectException;
 import java.net.NoRouteToHostException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeoutException;
 
 import static io.strimzi.operator.common.model.cruisecontrol.CruiseControlHeaders.USER_TASK_ID_HEADER;
@@ -44,14 +49,21 @@ public class CruiseControlApiImpl implements CruiseControlApi {
      * Default timeout for the HTTP client (-1 means use the clients default)
      */
     public static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1;
+    /**
+     * Default maximal size of the parts of the rebalance responses retained in memory
+     */
+    public static final long DEFAULT_MAX_RETAINED_RESPONSE_BYTES = 10L * 1024 * 1024;
     private static final boolean HTTP_CLIENT_ACTIVITY_LOGGING = false;
     private static final String STATUS_KEY = "Status";
+    private static final String USER_TASK_ID_KEY = "UserTaskId";
 
     private final Vertx vertx;
     private final long idleTimeout;
     private final boolean apiSslEnabled;
     private final HTTPHeader authHttpHeader;
+    private final Buffer trustedCertificate;
     private final PemTrustOptions pto;
+    private final long maxRetainedResponseBytes;
 
     /**
      * Constructor
@@ -64,11 +76,57 @@ public class CruiseControlApiImpl implements CruiseControlApi {
      * @param apiSslEnabled     Flag indicating if TLS is enabled
      */
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled) {
+        this(vertx, idleTimeout, ccSecret, ccApiSecret, apiAuthEnabled, apiSslEnabled, DEFAULT_MAX_RETAINED_RESPONSE_BYTES);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param vertx                     Vert.x instance
+     * @param idleTimeout               Idle timeout
+     * @param ccSecret                  Cruise Control Secret
+     * @param ccApiSecret               Cruise Control API Secret
+     * @param apiAuthEnabled            Flag indicating if authentication is enabled
+     * @param apiSslEnabled             Flag indicating if TLS is enabled
+     * @param maxRetainedResponseBytes  Maximal size of the parts of the rebalance responses retained in memory
+     */
+    public CruiseControlApiImpl(Vertx vertx, int idleTimeout, Secret ccSecret, Secret ccApiSecret, Boolean apiAuthEnabled, boolean apiSslEnabled, long maxRetainedResponseBytes) {
         this.vertx = vertx;
+        this.maxRetainedResponseBytes = maxRetainedResponseBytes;
         this.idleTimeout = idleTimeout;
         this.apiSslEnabled = apiSslEnabled;
         this.authHttpHeader = getAuthHttpHeader(apiAuthEnabled, ccApiSecret);
-        this.pto = new PemTrustOptions().addCertValue(Buffer.buffer(Util.decodeBase64FieldFromSecret(ccSecret, "cruise-control.crt")));
+        this.trustedCertificate = Buffer.buffer(Util.decodeBase64FieldFromSecret(ccSecret, "cruise-control.crt"));
+        this.pto = new PemTrustOptions().addCertValue(trustedCertificate);
+    }
+
+    /**
+     * Two API clients are equal when they connect to Cruise Control in the same way (same credentials, TLS trust and
+     * options). This is used to batch the requests from different reconciliations which each create their own client.
+     *
+     * @param o     Object to compare with
+     *
+     * @return  True if the clients are equivalent. False otherwise.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof CruiseControlApiImpl other) {
+            return vertx == other.vertx
+                    && idleTimeout == other.idleTimeout
+                    && apiSslEnabled == other.apiSslEnabled
+                    && maxRetainedResponseBytes == other.maxRetainedResponseBytes
+                    && Objects.equals(authHttpHeader, other.authHttpHeader)
+                    && Objects.equals(trustedCertificate, other.trustedCertificate);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(vertx), idleTimeout, apiSslEnabled, maxRetainedResponseBytes, authHttpHeader, trustedCertificate);
     }
 
     @Override
@@ -165,6 +223,43 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         });
     }
 
+    /**
+     * Parses the body of the response to the rebalance, add_broker and remove_broker requests while it is being received.
+     * Only the fields needed to build the KafkaRebalance status and the broker load ConfigMap are retained.
+     *
+     * @param response  HTTP response
+     * @param result    Promise which is failed when the response cannot be parsed
+     * @param handler   Handler called with the parsed JSON once the whole response is received
+     */
+    private void rebalanceResponseBody(HttpClientResponse response, Promise<CruiseControlRebalanceResponse> result, Handler<JsonObject> handler) {
+        CruiseControlResponseParser parser = new CruiseControlResponseParser(CruiseControlResponseParser.REBALANCE_RESPONSE_PATHS, maxRetainedResponseBytes);
+
+        response.exceptionHandler(result::tryFail);
+        response.handler(chunk -> {
+            if (!result.future().isComplete()) {
+                try {
+                    parser.handle(chunk);
+                } catch (CruiseControlRestException e) {
+                    result.tryFail(e);
+                }
+            }
+        });
+        response.endHandler(v -> {
+            if (!result.future().isComplete()) {
+                JsonObject json;
+
+                try {
+                    json = parser.end();
+                } catch (CruiseControlRestException e) {
+                    result.tryFail(e);
+                    return;
+                }
+
+                handler.handle(json);
+            }
+        });
+    }
+
     private void internalRebalance(Reconciliation reconciliation, String host, int port, String path, String userTaskId,
                                    AsyncResult<HttpClientRequest> request, Promise<CruiseControlRebalanceResponse> result) {
         if (request.succeeded()) {
@@ -183,34 +278,31 @@ public class CruiseControlApiImpl implements CruiseControlApi {
             request.result().send(response -> {
                 if (response.succeeded()) {
                     if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
-                        response.result().bodyHandler(buffer -> {
+                        rebalanceResponseBody(response.result(), result, json -> {
                             String userTaskID = response.result().getHeader(USER_TASK_ID_HEADER);
-                            JsonObject json = buffer.toJsonObject();
                             LOGGER.debugCr(reconciliation, "Got {} response to POST request to {} : userTaskID = {}, summary = {}", response.result().statusCode(), path, userTaskID, json.getString("summary"));
                             CruiseControlRebalanceResponse ccResponse = new CruiseControlRebalanceResponse(userTaskID, json);
                             result.complete(ccResponse);
                         });
                     } else if (response.result().statusCode() == 202) {
-                        response.result().bodyHandler(buffer -> {
+                        rebalanceResponseBody(response.result(), result, json -> {
                             String userTaskID = response.result().getHeader(USER_TASK_ID_HEADER);
-                            JsonObject json = buffer.toJsonObject();
                             LOGGER.debugCr(reconciliation, "Got {} response to POST request to {} : userTaskID = {}, in progress = {}", response.result().statusCode(), path, userTaskID, json.containsKey(CC_REST_API_PROGRESS_KEY));
                             CruiseControlRebalanceResponse ccResponse = new CruiseControlRebalanceResponse(userTaskID, json);
                             if (json.containsKey(CC_REST_API_PROGRESS_KEY)) {
                                 // If the response contains a "progress" key then the rebalance proposal has not yet completed processing
                                 ccResponse.setProposalStillCalculating(true);
+                                result.complete(ccResponse);
                             } else {
                                 result.fail(new CruiseControlRestException(
                                         "Error for request: " + host + ":" + port + path +
                                                 ". 202 Status code did not contain progress key. Server returned: " +
                                                 ccResponse.getJson().toString()));
                             }
-                            result.complete(ccResponse);
                         });
                     } else if (response.result().statusCode() == 500) {
-                        response.result().bodyHandler(buffer -> {
+                        rebalanceResponseBody(response.result(), result, json -> {
                             String userTaskID = response.result().getHeader(USER_TASK_ID_HEADER);
-                            JsonObject json = buffer.toJsonObject();
                             LOGGER.debugCr(reconciliation, "Got {} response to POST request to {} : userTaskID = {}", response.result().statusCode(), path, userTaskID);
                             if (json.containsKey(CC_REST_API_ERROR_KEY)) {
                                 // If there was a client side error, check whether it was due to not enough data being available ...
@@ -309,15 +401,128 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     }
 
     @Override
-    @SuppressWarnings("deprecation")
     public Future<CruiseControlResponse> getUserTaskStatus(Reconciliation reconciliation, String host, int port, String userTaskId) {
+        return getUserTasks(reconciliation, host, port, userTaskId == null ? List.of() : List.of(userTaskId))
+                .map(response -> {
+                    JsonArray userTasks = response.getJson().getJsonArray("userTasks");
+                    if (userTasks.isEmpty()) {
+                        // This may happen if:
+                        // 1. Cruise Control restarted so resetting the state because the tasks queue is not persisted
+                        // 2. Task's retention time expired, or the cache has become full
+                        return new CruiseControlResponse(response.getUserTaskId(), new JsonObject());
+                    } else {
+                        return new CruiseControlResponse(response.getUserTaskId(), userTaskStatusJson(host, port, userTasks.getJsonObject(0), maxRetainedResponseBytes));
+                    }
+                });
+    }
 
+    @Override
+    public Future<Map<String, CruiseControlResponse>> getUserTasksStatus(Reconciliation reconciliation, String host, int port, List<String> userTaskIds) {
+        if (userTaskIds == null || userTaskIds.isEmpty()) {
+            return Future.failedFuture(new IllegalArgumentException("At least one user task ID should be supplied"));
+        } else if (userTaskIds.size() == 1) {
+            // Cruise Control filters the tasks by the requested ID, so we can use the single task request
+            return getUserTaskStatus(reconciliation, host, port, userTaskIds.get(0))
+                    .map(response -> Map.of(userTaskIds.get(0), response));
+        }
+
+        return getUserTasks(reconciliation, host, port, userTaskIds)
+                .map(response -> {
+                    Map<String, CruiseControlResponse> statuses = new HashMap<>(userTaskIds.size());
+                    JsonArray userTasks = response.getJson().getJsonArray("userTasks");
+
+                    for (int i = 0; i < userTasks.size(); i++) {
+                        JsonObject jsonUserTask = userTasks.getJsonObject(i);
+                        String userTaskId = jsonUserTask.getString(USER_TASK_ID_KEY);
+
+                        if (userTaskIds.contains(userTaskId)) {
+                            statuses.put(userTaskId, new CruiseControlResponse(userTaskId, userTaskStatusJson(host, port, jsonUserTask, maxRetainedResponseBytes)));
+                        }
+                    }
+
+                    // Tasks which were not returned are unknown to Cruise Control
+                    for (String userTaskId : userTaskIds) {
+                        statuses.putIfAbsent(userTaskId, new CruiseControlResponse(userTaskId, new JsonObject()));
+                    }
+
+                    return statuses;
+                });
+    }
+
+    /**
+     * Extracts the status and the summary of the original response from a single user task returned by the user_tasks
+     * endpoint.
+     *
+     * @param host          Cruise Control host (used in error messages)
+     * @param port          Cruise Control port (used in error messages)
+     * @param jsonUserTask  JSON object describing the user task
+     * @param maxRetainedBytes  Maximal size of the retained parts of the original response
+     *
+     * @return  JSON object with the task status and the optimization summary and broker load (when available)
+     */
+    private static JsonObject userTaskStatusJson(String host, int port, JsonObject jsonUserTask, long maxRetainedBytes) {
+        // This should not be an error with a 200 status but we play it safe
+        if (jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
+            throw new CruiseControlRestException(
+                    "Error for request: " + host + ":" + port + CruiseControlEndpoints.USER_TASKS + ". Server returned: " +
+                            jsonUserTask.getString(CC_REST_API_ERROR_KEY));
+        }
+
+        JsonObject statusJson = new JsonObject();
+        String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
+        statusJson.put(STATUS_KEY, taskStatusStr);
+        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
+        switch (taskStatus) {
+            case ACTIVE:
+                // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
+                break;
+            case IN_EXECUTION:
+                // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
+                // We handle these in the same way as COMPLETED tasks so we drop down to that case.
+            case COMPLETED:
+                // Completed tasks will have the original rebalance proposal summary in their original response
+                JsonObject originalResponse = CruiseControlResponseParser.parse(
+                        Buffer.buffer(jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey())),
+                        CruiseControlResponseParser.REBALANCE_RESPONSE_PATHS, maxRetainedBytes);
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
+                // Extract the load before/after information for the brokers
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
+                statusJson.put(
+                        CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
+                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
+                break;
+            case COMPLETED_WITH_ERROR:
+                // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
+                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected user task status: " + taskStatus);
+        }
+
+        return statusJson;
+    }
+
+    /**
+     * Queries the user_tasks endpoint for the given user tasks. All the tasks are retrieved with a single request.
+     *
+     * @param reconciliation    The reconciliation marker
+     * @param host              Cruise Control host
+     * @param port              Cruise Control port
+     * @param userTaskIds       IDs of the user tasks which should be queried. When empty, all tasks are returned.
+     *
+     * @return  Future with the raw response from the user_tasks endpoint
+     */
+    @SuppressWarnings("deprecation")
+    private Future<CruiseControlResponse> getUserTasks(Reconciliation reconciliation, String host, int port, List<String> userTaskIds) {
         PathBuilder pathBuilder = new PathBuilder(CruiseControlEndpoints.USER_TASKS)
                         .withParameter(CruiseControlParameters.JSON, "true")
                         .withParameter(CruiseControlParameters.FETCH_COMPLETE, "true");
 
-        if (userTaskId != null) {
-            pathBuilder.withParameter(CruiseControlParameters.USER_TASK_IDS, userTaskId);
+        if (!userTaskIds.isEmpty()) {
+            pathBuilder.withParameter(CruiseControlParameters.USER_TASK_IDS, userTaskIds);
         }
 
         String path = pathBuilder.build();
@@ -325,7 +530,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         HttpClientOptions options = getHttpClientOptions();
 
         return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
-            LOGGER.debugCr(reconciliation, "Sending GET request to {} with userTaskID {}", path, userTaskId);
+            LOGGER.debugCr(reconciliation, "Sending GET request to {} with userTaskIDs {}", path, userTaskIds);
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
 
@@ -337,57 +542,14 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                         if (response.succeeded()) {
                             if (response.result().statusCode() == 200 || response.result().statusCode() == 201) {
                                 String userTaskID = response.result().getHeader(USER_TASK_ID_HEADER);
+                                // The response is not parsed with the streaming parser. It is filtered to the requested
+                                // user tasks and the only large field of each task is its original response, which has
+                                // to be kept to extract the summary. The original response is then parsed with the
+                                // streaming parser and its retained size is limited in userTaskStatusJson(...).
                                 response.result().bodyHandler(buffer -> {
                                     JsonObject json = buffer.toJsonObject();
-                                    JsonArray userTasks = json.getJsonArray("userTasks");
-                                    JsonObject statusJson = new JsonObject();
-                                    if (userTasks.isEmpty()) {
-                                        // This may happen if:
-                                        // 1. Cruise Control restarted so resetting the state because the tasks queue is not persisted
-                                        // 2. Task's retention time expired, or the cache has become full
-                                        result.complete(new CruiseControlResponse(userTaskID, statusJson));
-                                    } else {
-                                        JsonObject jsonUserTask = userTasks.getJsonObject(0);
-                                        String taskStatusStr = jsonUserTask.getString(STATUS_KEY);
-                                        LOGGER.debugCr(reconciliation, "Got {} response to GET request to {} : userTaskID = {}, status = {}", response.result().statusCode(), path, userTaskID, taskStatusStr);
-                                        // This should not be an error with a 200 status but we play it safe
-                                        if (jsonUserTask.containsKey(CC_REST_API_ERROR_KEY)) {
-                                            result.fail(new CruiseControlRestException(
-                                                    "Error for request: " + host + ":" + port + path + ". Server returned: " +
-                                                            json.getString(CC_REST_API_ERROR_KEY)));
-                                        }
-                                        statusJson.put(STATUS_KEY, taskStatusStr);
-                                        CruiseControlUserTaskStatus taskStatus = CruiseControlUserTaskStatus.lookup(taskStatusStr);
-                                        switch (taskStatus) {
-                                            case ACTIVE:
-                                                // If the status is ACTIVE there will not be a "summary" so we skip pulling the summary key
-                                                break;
-                                            case IN_EXECUTION:
-                                                // Tasks in execution will be rebalance tasks, so their original response will contain the summary of the rebalance they are executing
-                                                // We handle these in the same way as COMPLETED tasks so we drop down to that case.
-                                            case COMPLETED:
-                                                // Completed tasks will have the original rebalance proposal summary in their original response
-                                                JsonObject originalResponse = (JsonObject) Json.decodeValue(jsonUserTask.getString(
-                                                        CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(),
-                                                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()));
-                                                // Extract the load before/after information for the brokers
-                                                statusJson.put(
-                                                        CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
-                                                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()));
-                                                statusJson.put(
-                                                        CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey(),
-                                                        originalResponse.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()));
-                                                break;
-                                            case COMPLETED_WITH_ERROR:
-                                                // Completed with error tasks will have "CompletedWithError" as their original response, which is not Json.
-                                                statusJson.put(CruiseControlRebalanceKeys.SUMMARY.getKey(), jsonUserTask.getString(CruiseControlRebalanceKeys.ORIGINAL_RESPONSE.getKey()));
-                                                break;
-                                            default:
-                                                throw new IllegalStateException("Unexpected user task status: " + taskStatus);
-                                        }
-                                        result.complete(new CruiseControlResponse(userTaskID, statusJson));
-                                    }
+                                    LOGGER.debugCr(reconciliation, "Got {} response to GET request to {} : userTaskID = {}", response.result().statusCode(), path, userTaskID);
+                                    result.complete(new CruiseControlResponse(userTaskID, json));
                                 });
                             } else if (response.result().statusCode() == 500) {
                                 response.result().bodyHandler(buffer -> {
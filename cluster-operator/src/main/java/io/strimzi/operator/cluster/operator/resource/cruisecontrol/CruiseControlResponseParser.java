@@ -0,0 +1,245 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import io.strimzi.operator.common.model.cruisecontrol.CruiseControlRebalanceKeys;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * Streaming parser for the Cruise Control responses. The response is fed to the parser chunk by chunk as it arrives and
+ * only the values on the retained paths are kept in memory. Everything else (for example the verbose proposals or the
+ * per-host load) is skipped without being decoded. The total size of the retained values is limited and the parsing
+ * fails once the limit is exceeded.
+ *
+ * The paths are dot-separated field names starting at the root JSON object (e.g. loadBeforeOptimization.brokers).
+ */
+class CruiseControlResponseParser {
+    /**
+     * Paths retained from the rebalance, add_broker and remove_broker responses. These are the only fields used to build
+     * the KafkaRebalance status and the broker load ConfigMap.
+     */
+    /* test */ static final Set<String> REBALANCE_RESPONSE_PATHS = Set.of(
+            CruiseControlRebalanceKeys.SUMMARY.getKey(),
+            CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey() + "." + CruiseControlRebalanceKeys.BROKERS.getKey(),
+            CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey() + "." + CruiseControlRebalanceKeys.BROKERS.getKey(),
+            CruiseControlApi.CC_REST_API_PROGRESS_KEY,
+            CruiseControlApi.CC_REST_API_ERROR_KEY
+    );
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Set<String> retainedPaths;
+    private final long maxRetainedBytes;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    private JsonObject result;
+    private String fieldName;
+    private long retainedBytes = 0;
+    private long captureStart = -1;
+
+    /**
+     * Constructor
+     *
+     * @param retainedPaths     Paths of the values which should be retained
+     * @param maxRetainedBytes  Maximal size of the retained values in bytes
+     */
+    CruiseControlResponseParser(Set<String> retainedPaths, long maxRetainedBytes) {
+        this.retainedPaths = retainedPaths;
+        this.maxRetainedBytes = maxRetainedBytes;
+
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create the JSON parser", e);
+        }
+
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * Parses the complete response
+     *
+     * @param buffer            Buffer with the response
+     * @param retainedPaths     Paths of the values which should be retained
+     * @param maxRetainedBytes  Maximal size of the retained values in bytes
+     *
+     * @return  JSON object with the retained values
+     */
+    static JsonObject parse(Buffer buffer, Set<String> retainedPaths, long maxRetainedBytes) {
+        CruiseControlResponseParser responseParser = new CruiseControlResponseParser(retainedPaths, maxRetainedBytes);
+        responseParser.handle(buffer);
+        return responseParser.end();
+    }
+
+    /**
+     * Feeds the next chunk of the response to the parser
+     *
+     * @param chunk     Chunk of the response
+     */
+    void handle(Buffer chunk) {
+        try {
+            byte[] bytes = chunk.getBytes();
+            feeder.feedInput(bytes, 0, bytes.length);
+            drain();
+        } catch (IOException e) {
+            throw new CruiseControlRestException("Failed to parse the Cruise Control response: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Signals the end of the response
+     *
+     * @return  JSON object with the retained values
+     */
+    JsonObject end() {
+        try {
+            feeder.endOfInput();
+            drain();
+            parser.close();
+        } catch (IOException e) {
+            throw new CruiseControlRestException("Failed to parse the Cruise Control response: " + e.getMessage());
+        }
+
+        if (result == null || !frames.isEmpty()) {
+            throw new CruiseControlRestException("Failed to parse the Cruise Control response: incomplete JSON object");
+        }
+
+        return result;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (token == JsonToken.FIELD_NAME) {
+                fieldName = parser.currentName();
+            } else if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                Frame frame = frames.pop();
+
+                if (frame.captureRoot) {
+                    retainedBytes += parser.currentLocation().getByteOffset() - captureStart;
+                    captureStart = -1;
+                    checkRetainedBytes(0);
+                }
+            } else {
+                value(token);
+            }
+        }
+    }
+
+    private void value(JsonToken token) throws IOException {
+        boolean isStart = token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY;
+        Frame parent = frames.peek();
+
+        if (parent == null) {
+            if (token != JsonToken.START_OBJECT || result != null) {
+                throw new CruiseControlRestException("Failed to parse the Cruise Control response: JSON object expected");
+            }
+
+            result = new JsonObject();
+            frames.push(new Frame(result, "", false, false));
+        } else if (parent.container == null) {
+            // Skipped subtree
+            if (isStart) {
+                frames.push(Frame.SKIPPED);
+            }
+        } else if (parent.capturing) {
+            checkRetainedBytes(parser.currentLocation().getByteOffset() - captureStart);
+            Object value = isStart ? newContainer(token) : scalar(token);
+            add(parent, value);
+
+            if (isStart) {
+                frames.push(new Frame(value, null, true, false));
+            }
+        } else {
+            String path = parent.path.isEmpty() ? fieldName : parent.path + "." + fieldName;
+
+            if (retainedPaths.contains(path)) {
+                if (isStart) {
+                    Object container = newContainer(token);
+                    add(parent, container);
+                    captureStart = parser.currentTokenLocation().getByteOffset();
+                    frames.push(new Frame(container, path, true, true));
+                } else {
+                    retainedBytes += parser.currentLocation().getByteOffset() - parser.currentTokenLocation().getByteOffset();
+                    checkRetainedBytes(0);
+                    add(parent, scalar(token));
+                }
+            } else if (token == JsonToken.START_OBJECT && isPrefixOfRetainedPath(path)) {
+                JsonObject container = new JsonObject();
+                add(parent, container);
+                frames.push(new Frame(container, path, false, false));
+            } else if (isStart) {
+                frames.push(Frame.SKIPPED);
+            }
+        }
+    }
+
+    private boolean isPrefixOfRetainedPath(String path) {
+        String prefix = path + ".";
+
+        for (String retainedPath : retainedPaths) {
+            if (retainedPath.startsWith(prefix)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void checkRetainedBytes(long inProgress) {
+        if (retainedBytes + inProgress > maxRetainedBytes) {
+            throw new CruiseControlRestException("The Cruise Control response exceeds the maximal retained size of " + maxRetainedBytes + " bytes");
+        }
+    }
+
+    private void add(Frame parent, Object value) {
+        if (parent.container instanceof JsonObject object) {
+            object.put(fieldName, value);
+        } else {
+            ((JsonArray) parent.container).add(value);
+        }
+    }
+
+    private static Object newContainer(JsonToken token) {
+        return token == JsonToken.START_OBJECT ? new JsonObject() : new JsonArray();
+    }
+
+    private Object scalar(JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            default -> null;
+        };
+    }
+
+    /**
+     * Object or array currently being parsed
+     *
+     * @param container     The JSON object or array where the values are stored or null when the values are skipped
+     * @param path          Path of this object from the root object
+     * @param capturing     Whether all values inside this object are retained
+     * @param captureRoot   Whether this is the root of the retained subtree
+     */
+    private record Frame(Object container, String path, boolean capturing, boolean captureRoot) {
+        private static final Frame SKIPPED = new Frame(null, null, false, false);
+    }
+}
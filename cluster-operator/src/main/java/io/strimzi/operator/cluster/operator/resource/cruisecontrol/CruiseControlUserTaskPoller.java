@@ -0,0 +1,227 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.model.cruisecontrol.CruiseControlUserTaskStatus;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Shared poller for the Cruise Control user tasks. It is used by the KafkaRebalance reconciliations to check the status
+ * of their user tasks. Instead of querying Cruise Control for every KafkaRebalance separately, the requests for the same
+ * Cruise Control instance which arrive within a short batching window are collected and sent as a single user_tasks
+ * request. The results are then pushed to all the waiting reconciliations. The requests are batched only when their
+ * Cruise Control API clients are equal (i.e. they use the same credentials and TLS configuration), because the batched
+ * request is sent with the client of the first request in the batch. The batched request is also logged with the
+ * reconciliation marker of the first request. Each waiting reconciliation logs the result with its own marker.
+ *
+ * Optionally, the poller can also adapt the polling interval for each user task based on its progress. When the status of
+ * the task does not change between polls, the interval between the real requests to Cruise Control is doubled (up to the
+ * maximal interval) and the reconciliations in the meantime get the last known status. Any change of the status resets
+ * the interval to the minimum. Setting the minimal interval to 0 disables this and every reconciliation gets a fresh
+ * status.
+ */
+public class CruiseControlUserTaskPoller {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(CruiseControlUserTaskPoller.class);
+
+    /**
+     * Default batching window in milliseconds
+     */
+    public static final long DEFAULT_BATCH_WINDOW_MS = 100L;
+
+    private final Vertx vertx;
+    private final long batchWindowMs;
+    private final long minPollIntervalMs;
+    private final long maxPollIntervalMs;
+
+    // Pending batches per Cruise Control API client and instance and the last known state of the polled tasks
+    private final Map<BatchKey, Batch> batches = new HashMap<>();
+    private final Map<String, TaskState> tasks = new HashMap<>();
+
+    /**
+     * Constructor
+     *
+     * @param vertx                 Vert.x instance
+     * @param batchWindowMs         How long to wait for other requests to the same Cruise Control instance before sending
+     *                              the batched request
+     * @param minPollIntervalMs     Minimal interval between two requests for the status of the same user task. 0 disables
+     *                              the adaptive polling.
+     * @param maxPollIntervalMs     Maximal interval between two requests for the status of the same user task
+     */
+    public CruiseControlUserTaskPoller(Vertx vertx, long batchWindowMs, long minPollIntervalMs, long maxPollIntervalMs) {
+        this.vertx = vertx;
+        this.batchWindowMs = batchWindowMs;
+        this.minPollIntervalMs = minPollIntervalMs;
+        this.maxPollIntervalMs = Math.max(minPollIntervalMs, maxPollIntervalMs);
+    }
+
+    /**
+     * Gets the status of the user task. The request is batched with the other requests for the same Cruise Control
+     * instance which use an equal API client.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param apiClient         Cruise Control API client
+     * @param host              Cruise Control host
+     * @param port              Cruise Control port
+     * @param userTaskId        ID of the user task
+     *
+     * @return  Future with the status of the user task in the same format as returned by
+     *          {@link CruiseControlApi#getUserTaskStatus(Reconciliation, String, int, String)}
+     */
+    public synchronized Future<CruiseControlResponse> getUserTaskStatus(Reconciliation reconciliation, CruiseControlApi apiClient, String host, int port, String userTaskId) {
+        TaskState state = tasks.get(userTaskId);
+        if (state != null && System.currentTimeMillis() < state.nextPollMs) {
+            LOGGER.debugCr(reconciliation, "Status of user task {} did not change recently, using the last known status", userTaskId);
+            return Future.succeededFuture(state.response);
+        }
+
+        BatchKey key = new BatchKey(apiClient, host, port);
+        Batch batch = batches.get(key);
+
+        if (batch == null) {
+            batch = new Batch(reconciliation, apiClient, host, port);
+            batches.put(key, batch);
+
+            if (batchWindowMs > 0) {
+                vertx.setTimer(batchWindowMs, timerId -> flush(key));
+            } else {
+                vertx.runOnContext(v -> flush(key));
+            }
+        }
+
+        return batch.waiters.computeIfAbsent(userTaskId, id -> Promise.promise()).future()
+                .onSuccess(response -> LOGGER.debugCr(reconciliation, "Got status of user task {} from the batched request", userTaskId));
+    }
+
+    /**
+     * Sends the batched request to Cruise Control and completes the waiting reconciliations
+     *
+     * @param key   Key identifying the Cruise Control API client and instance
+     */
+    private void flush(BatchKey key) {
+        Batch batch;
+
+        synchronized (this) {
+            batch = batches.remove(key);
+        }
+
+        if (batch != null) {
+            List<String> userTaskIds = new ArrayList<>(batch.waiters.keySet());
+            LOGGER.debugCr(batch.reconciliation, "Polling status of {} user tasks from Cruise Control {}:{}", userTaskIds.size(), key.host, key.port);
+
+            batch.apiClient.getUserTasksStatus(batch.reconciliation, batch.host, batch.port, userTaskIds)
+                    .onComplete(res -> {
+                        if (res.succeeded()) {
+                            batch.waiters.forEach((userTaskId, promise) -> {
+                                // Each waiter is handled separately, so that a failure for one task does not leave the
+                                // other reconciliations in the batch waiting forever
+                                try {
+                                    CruiseControlResponse response = res.result().get(userTaskId);
+                                    updateTaskState(userTaskId, response);
+                                    promise.complete(response);
+                                } catch (Exception e) {
+                                    LOGGER.warnCr(batch.reconciliation, "Failed to process the status of user task {}", userTaskId, e);
+                                    promise.tryFail(e);
+                                }
+                            });
+                        } else {
+                            batch.waiters.values().forEach(promise -> promise.fail(res.cause()));
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Updates the adaptive polling interval for given user task
+     *
+     * @param userTaskId    ID of the user task
+     * @param response      Latest status of the user task
+     */
+    private synchronized void updateTaskState(String userTaskId, CruiseControlResponse response) {
+        long now = System.currentTimeMillis();
+
+        // Drop tasks which were not polled for a long time (e.g. their KafkaRebalance resource was deleted)
+        tasks.values().removeIf(state -> now - state.lastPollMs > 2 * maxPollIntervalMs);
+
+        if (minPollIntervalMs <= 0) {
+            return;
+        }
+
+        String status = response.getJson().getString("Status");
+        if (status == null
+                || CruiseControlUserTaskStatus.lookup(status) == CruiseControlUserTaskStatus.COMPLETED
+                || CruiseControlUserTaskStatus.lookup(status) == CruiseControlUserTaskStatus.COMPLETED_WITH_ERROR) {
+            // Unknown or finished tasks are not polled anymore
+            tasks.remove(userTaskId);
+            return;
+        }
+
+        TaskState previous = tasks.get(userTaskId);
+        long interval;
+
+        if (previous != null && Objects.equals(previous.response.getJson(), response.getJson())) {
+            interval = Math.min(maxPollIntervalMs, Math.max(minPollIntervalMs, previous.intervalMs * 2));
+        } else {
+            interval = minPollIntervalMs;
+        }
+
+        tasks.put(userTaskId, new TaskState(response, interval, now));
+    }
+
+    /**
+     * Identifies the batch. The API client is part of the key, so that requests using different clients (e.g. with
+     * different credentials) are never mixed in one batch.
+     *
+     * @param apiClient     Cruise Control API client
+     * @param host          Cruise Control host
+     * @param port          Cruise Control port
+     */
+    private record BatchKey(CruiseControlApi apiClient, String host, int port) { }
+
+    /**
+     * Requests for the same Cruise Control instance and API client waiting to be sent
+     */
+    private static class Batch {
+        private final Reconciliation reconciliation;
+        private final CruiseControlApi apiClient;
+        private final String host;
+        private final int port;
+        private final Map<String, Promise<CruiseControlResponse>> waiters = new LinkedHashMap<>();
+
+        Batch(Reconciliation reconciliation, CruiseControlApi apiClient, String host, int port) {
+            this.reconciliation = reconciliation;
+            this.apiClient = apiClient;
+            this.host = host;
+            this.port = port;
+        }
+    }
+
+    /**
+     * Last known state of the user task
+     */
+    private static class TaskState {
+        private final CruiseControlResponse response;
+        private final long intervalMs;
+        private final long lastPollMs;
+        private final long nextPollMs;
+
+        TaskState(CruiseControlResponse response, long intervalMs, long lastPollMs) {
+            this.response = response;
+            this.intervalMs = intervalMs;
+            this.lastPollMs = lastPollMs;
+            this.nextPollMs = lastPollMs + intervalMs;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.Informable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
@@ -26,11 +27,17 @@ import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
+import java.io.Closeable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -49,6 +56,13 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         extends AbstractResourceOperator<C, T, L, R> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractNamespacedResourceOperator.class);
 
+    // Bounds the memory used for the contents of the reconciled resources (for example when resources are deleted by
+    // the garbage collection and not by the operator)
+    /* test */ static final int MAX_RECONCILED_CONTENTS = 50_000;
+
+    private volatile ResourceCache<T> cache;
+    private final Map<String, ReconciledContent> reconciledContents = new ConcurrentHashMap<>();
+
     /**
      * Constructor.
      * @param vertx The vertx instance.
@@ -61,6 +75,16 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
 
     protected abstract MixedOperation<T, L, R> operation();
 
+    /**
+     * Configures the informer cache used for reading the resources. When the cache cannot serve the read, it is done
+     * directly against the Kubernetes API server.
+     *
+     * @param cache     Resource cache or null to read everything from the Kubernetes API server
+     */
+    public void useCache(ResourceCache<T> cache) {
+        this.cache = cache;
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -93,6 +117,16 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture("Given name " + name + " incompatible with desired name " + desired.getMetadata().getName());
         }
 
+        String contentHash = desired != null && cache != null ? contentHash(desired) : null;
+        if (contentHash != null) {
+            T unchanged = unchangedSinceLastReconciliation(namespace, name, contentHash);
+
+            if (unchanged != null) {
+                LOGGER.debugCr(reconciliation, "{} {}/{} did not change since the last reconciliation", resourceKind, namespace, name);
+                return Future.succeededFuture(ReconcileResult.noop(unchanged));
+            }
+        }
+
         return getAsync(namespace, name)
                 .compose(current -> {
                     if (desired != null) {
@@ -113,9 +147,127 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
                             return Future.succeededFuture(ReconcileResult.noop(null));
                         }
                     }
+                })
+                .onSuccess(result -> {
+                    recordInCache(namespace, name, result);
+                    recordReconciledContent(namespace, name, contentHash, result);
                 });
     }
 
+    /**
+     * Calculates the hash of the desired content of the resource. When the desired content is the same as in the
+     * previous reconciliation and the resource observed by the informer cache was not changed since then, the
+     * reconciliation skips reading and diffing the resource and returns the resource from the informer cache. The
+     * default implementation returns null which disables this.
+     *
+     * @param desired   Desired resource
+     *
+     * @return  Hash of the desired content or null if it should not be used
+     */
+    protected String contentHash(T desired) {
+        return null;
+    }
+
+    /**
+     * Checks whether the resource is unchanged since the last reconciliation. That is when the last reconciliation had
+     * the same desired content and the resource version observed by the informer cache is still the one from the last
+     * reconciliation (i.e. nobody else changed the resource since then).
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param contentHash   Hash of the desired content
+     *
+     * @return  Copy of the resource from the informer cache which should be returned in the reconciliation result or
+     *          null if the resource has to be reconciled
+     */
+    private T unchangedSinceLastReconciliation(String namespace, String name, String contentHash) {
+        ResourceCache<T> cache = this.cache;
+        ReconciledContent last = reconciledContents.get(namespace + "/" + name);
+
+        if (cache != null
+                && last != null
+                && last.contentHash.equals(contentHash)) {
+            return cache.get(namespace, name)
+                    .filter(cached -> last.resourceVersion.equals(cached.getMetadata().getResourceVersion()))
+                    .orElse(null);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Records the content hash and the resource version of the reconciled resource
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param contentHash   Hash of the desired content or null if not used
+     * @param result        Result of the reconciliation
+     */
+    private void recordReconciledContent(String namespace, String name, String contentHash, ReconcileResult<T> result) {
+        String key = namespace + "/" + name;
+        T resource = result.resource();
+
+        if (contentHash != null
+                && resource != null
+                && resource.getMetadata() != null
+                && resource.getMetadata().getResourceVersion() != null) {
+            if (reconciledContents.size() >= MAX_RECONCILED_CONTENTS && !reconciledContents.containsKey(key)) {
+                reconciledContents.clear();
+            }
+
+            reconciledContents.put(key, new ReconciledContent(contentHash, resource.getMetadata().getResourceVersion()));
+        } else {
+            reconciledContents.remove(key);
+        }
+    }
+
+    /**
+     * Records the result of the reconciliation in the cache (if used) so that the following reads see the own writes
+     * even before the informer catches up with them.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param result        Result of the reconciliation
+     */
+    private void recordInCache(String namespace, String name, ReconcileResult<T> result) {
+        if (result instanceof ReconcileResult.Deleted) {
+            recordDelete(namespace, name);
+        } else if (result instanceof ReconcileResult.Created || result instanceof ReconcileResult.Patched) {
+            recordWrite(result.resource());
+        }
+    }
+
+    /**
+     * Records a resource created or updated by the operator in the cache (if used) so that the following reads see it
+     * even before the informer catches up with it. This has to be called by all code which writes the resource
+     * outside of the reconcile(...) and deleteAsync(...) methods.
+     *
+     * @param resource  Resource returned by the Kubernetes API server
+     */
+    public void recordWrite(T resource) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null) {
+            cache.recordWrite(resource);
+        }
+    }
+
+    /**
+     * Records a resource deleted by the operator in the cache (if used) so that the following reads do not see it
+     * even before the informer catches up with it. This should be called only once the resource is really deleted
+     * (and not just marked for deletion).
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     */
+    public void recordDelete(String namespace, String name) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null) {
+            cache.recordDelete(namespace, name);
+        }
+    }
+
     /**
      * Does a batch reconciliation of resources. It takes a list with desired resources and a selector for getting all
      * resources. It will compare the desired resources against the actual resources based on the selector and decides
@@ -283,6 +435,15 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
+        ResourceCache<T> cache = this.cache;
+        if (cache != null) {
+            Optional<T> cached = cache.get(namespace, name);
+
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
         return operation().inNamespace(namespace).withName(name).get();
     }
 
@@ -297,6 +458,15 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             return Future.failedFuture(new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name."));
         }
 
+        ResourceCache<T> cache = this.cache;
+        if (cache != null) {
+            Optional<T> cached = cache.get(namespace, name);
+
+            if (cached.isPresent()) {
+                return Future.succeededFuture(cached.get());
+            }
+        }
+
         return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
     }
 
@@ -307,6 +477,15 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return A list of matching resources.
      */
     public List<T> list(String namespace, Labels selector) {
+        ResourceCache<T> cache = this.cache;
+        if (cache != null) {
+            Optional<List<T>> cached = cache.list(namespace, selector);
+
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
         return list(applySelector(applyNamespace(namespace), selector));
     }
 
@@ -334,6 +513,15 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        ResourceCache<T> cache = this.cache;
+        if (cache != null) {
+            Optional<List<T>> cached = cache.list(namespace, selector);
+
+            if (cached.isPresent()) {
+                return Future.succeededFuture(cached.get());
+            }
+        }
+
         return listAsync(applySelector(applyNamespace(namespace), selector));
     }
 
@@ -381,7 +569,7 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * is ready.
      */
     public Future<Void> waitFor(Reconciliation reconciliation, String namespace, String name, String logState, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate) {
-        return VertxUtil.waitFor(reconciliation, vertx,
+        return VertxUtil.waitFor(reconciliation, vertx, resourceSupport.workerPools(),
             String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
             logState,
             pollIntervalMs,
@@ -389,6 +577,152 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
             () -> predicate.test(namespace, name));
     }
 
+    /**
+     * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * fulfills the {@code condition}. Instead of polling, the condition is evaluated on the changes of the resource
+     * delivered by the informer cache (when used and the resource is cached) or by a watch. The {@code predicate} is
+     * used for the initial check and for polling when the watch cannot be opened or when it is closed prematurely.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace.
+     * @param name The resource name.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds used when falling back to polling.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate used to check the state of the resource when polling.
+     * @param condition The condition evaluated on the resource delivered by the watch events.
+     * @return A future that completes when the resource identified by the given {@code namespace} and {@code name}
+     * fulfills the condition.
+     */
+    public Future<Void> waitFor(Reconciliation reconciliation, String namespace, String name, String logState, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate, Predicate<T> condition) {
+        return resourceSupport.waitForCondition(reconciliation,
+                eventSource(namespace, name),
+                String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
+                logState,
+                pollIntervalMs,
+                timeoutMs,
+                resource -> resource != null && condition.test(resource),
+                () -> predicate.test(namespace, name));
+    }
+
+    /**
+     * Returns a future that completes when all the resources with the given {@code names} fulfill the
+     * {@code condition}. Unlike calling waitFor(...) for each of the resources, this uses a single watch selected by
+     * the {@code selector} for all the resources (or the informer cache when all the resources are cached). The
+     * {@code predicate} is used for the initial check and for polling when the watch cannot be opened or when it is
+     * closed prematurely.
+     *
+     * @param reconciliation The reconciliation
+     * @param namespace The namespace.
+     * @param selector The label selector matching all the resources.
+     * @param names The resource names.
+     * @param logState The state we are waiting for use in log messages
+     * @param pollIntervalMs The poll interval in milliseconds used when falling back to polling.
+     * @param timeoutMs The timeout, in milliseconds.
+     * @param predicate The predicate used to check the state of the resources when polling.
+     * @param condition The condition evaluated on the resources delivered by the watch events.
+     * @return A future that completes when all the resources fulfill the condition.
+     */
+    public Future<Void> waitFor(Reconciliation reconciliation, String namespace, Labels selector, Collection<String> names, String logState, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate, Predicate<T> condition) {
+        if (names.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        pending.addAll(names);
+
+        return resourceSupport.waitForCondition(reconciliation,
+                eventSource(namespace, selector, Set.copyOf(names)),
+                String.format("%s resources %s in namespace %s", resourceKind, names, namespace),
+                logState,
+                pollIntervalMs,
+                timeoutMs,
+                resource -> {
+                    if (resource != null && condition.test(resource)) {
+                        pending.remove(resource.getMetadata().getName());
+                    }
+
+                    return pending.isEmpty();
+                },
+                () -> {
+                    pending.removeIf(name -> predicate.test(namespace, name));
+                    return pending.isEmpty();
+                });
+    }
+
+    /**
+     * Creates the source of the events for given resource. The informer cache is used when available and the resource
+     * is cached. Otherwise, a watch for the resource is opened.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Event source for the resource
+     */
+    private ResourceSupport.EventSource<T> eventSource(String namespace, String name) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null && cache.contains(namespace, name)) {
+            return (onEvent, onDrop) -> cache.addListener(namespace, name, onEvent);
+        } else {
+            return (onEvent, onDrop) -> operation().inNamespace(namespace).withName(name).watch(watcher(resource -> true, onEvent, onDrop));
+        }
+    }
+
+    /**
+     * Creates the source of the events for the resources with given names. The informer cache is used when available
+     * and all the resources are cached. Otherwise, a single watch for the resources matching the selector is opened.
+     *
+     * @param namespace     Namespace of the resources
+     * @param selector      Selector matching the resources
+     * @param names         Names of the resources
+     *
+     * @return  Event source for the resources
+     */
+    private ResourceSupport.EventSource<T> eventSource(String namespace, Labels selector, Set<String> names) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null && names.stream().allMatch(name -> cache.contains(namespace, name))) {
+            return (onEvent, onDrop) -> {
+                List<Closeable> listeners = names.stream().map(name -> cache.addListener(namespace, name, onEvent)).toList();
+
+                return () -> {
+                    for (Closeable listener : listeners) {
+                        listener.close();
+                    }
+                };
+            };
+        } else {
+            return (onEvent, onDrop) -> applySelector(operation().inNamespace(namespace), selector)
+                    .watch(watcher(resource -> names.contains(resource.getMetadata().getName()), onEvent, onDrop));
+        }
+    }
+
+    /**
+     * Creates a watcher passing the added and modified resources to the event consumer
+     *
+     * @param filter    Filter for the resources which should be passed to the event consumer
+     * @param onEvent   Consumer of the resources
+     * @param onDrop    Called when the watch is closed with an error
+     *
+     * @return  Watcher instance
+     */
+    private Watcher<T> watcher(Predicate<T> filter, Consumer<T> onEvent, Consumer<Throwable> onDrop) {
+        return new Watcher<>() {
+            @Override
+            public void eventReceived(Action action, T resource) {
+                if ((action == Action.ADDED || action == Action.MODIFIED) && filter.test(resource)) {
+                    onEvent.accept(resource);
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+                onDrop.accept(cause);
+            }
+        };
+    }
+
     /**
      * Asynchronously deletes the resource with the given {@code name} in the given {@code namespace}.
      *
@@ -400,7 +734,9 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
      * @return                  A Future with True if the deletion succeeded and False when it failed.
      */
     public Future<Void> deleteAsync(Reconciliation reconciliation, String namespace, String name, boolean cascading) {
-        return internalDelete(reconciliation, namespace, name, cascading).map((Void) null);
+        return internalDelete(reconciliation, namespace, name, cascading)
+                .onSuccess(result -> recordInCache(namespace, name, result))
+                .map((Void) null);
     }
 
     /**
@@ -466,4 +802,12 @@ public abstract class AbstractNamespacedResourceOperator<C extends KubernetesCli
     public MixedOperation<T, L, R> client() {
         return operation();
     }
+
+    /**
+     * Content of the resource from the last reconciliation
+     *
+     * @param contentHash       Hash of the desired content
+     * @param resourceVersion   Resource version of the resource after the reconciliation
+     */
+    private record ReconciledContent(String contentHash, String resourceVersion) { }
 }
@@ -8,10 +8,14 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.readiness.Readiness;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
+import java.util.Collection;
+
 /**
  * Specializes {@link AbstractNamespacedResourceOperator} for resources which also have a notion
  * of being "ready".
@@ -39,7 +43,8 @@ public abstract class AbstractReadyNamespacedResourceOperator<C extends Kubernet
     }
 
     /**
-     * Waits for resource to get ready
+     * Waits for resource to get ready. The readiness is evaluated on the changes of the resource delivered by a watch
+     * (or by the informer cache) and polling is used only when the watch is not available.
      *
      * @param reconciliation    Reconciliation marker
      * @param namespace         Namespace of the resource
@@ -50,7 +55,24 @@ public abstract class AbstractReadyNamespacedResourceOperator<C extends Kubernet
      * @return  A future which completes when the resource is ready or times out
      */
     public Future<Void> readiness(Reconciliation reconciliation, String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(reconciliation, namespace, name, pollIntervalMs, timeoutMs, this::isReady);
+        return waitFor(reconciliation, namespace, name, "ready", pollIntervalMs, timeoutMs, this::isReady, this::isReady);
+    }
+
+    /**
+     * Waits for multiple resources to get ready. A single watch selected by the label selector (or the informer cache)
+     * is used for all the resources instead of one watch per resource.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param namespace         Namespace of the resources
+     * @param selector          Label selector matching all the resources
+     * @param names             Names of the resources
+     * @param pollIntervalMs    How often should it poll for readiness
+     * @param timeoutMs         How long should it wait for the resources to get ready
+     *
+     * @return  A future which completes when all the resources are ready or times out
+     */
+    public Future<Void> readiness(Reconciliation reconciliation, String namespace, Labels selector, Collection<String> names, long pollIntervalMs, long timeoutMs) {
+        return waitFor(reconciliation, namespace, selector, names, "ready", pollIntervalMs, timeoutMs, this::isReady, this::isReady);
     }
 
     /**
@@ -69,4 +91,16 @@ public abstract class AbstractReadyNamespacedResourceOperator<C extends Kubernet
             return false;
         }
     }
+
+    /**
+     * Check if the resource is in the Ready state. This is used to evaluate the readiness on the resources delivered
+     * by the watch events.
+     *
+     * @param resource  The resource
+     *
+     * @return Whether the resource is in the Ready state.
+     */
+    protected boolean isReady(T resource) {
+        return Readiness.getInstance().isReady(resource);
+    }
 }
@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ResourceDiff;
@@ -58,6 +59,15 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         this.resourceKind = resourceKind;
     }
 
+    /**
+     * Sets the worker pools used for the blocking Kubernetes operations of this operator
+     *
+     * @param workerPools   Worker pools
+     */
+    public void useWorkerPools(WorkerPools workerPools) {
+        resourceSupport.useWorkerPools(workerPools);
+    }
+
     /**
      * @return  Default timeout for deleting resources
      */
@@ -64,7 +64,7 @@ public abstract class AbstractScalableNamespacedResourceOperator<C extends Kuber
      *         exist (hence no scaling occurred).
      */
     public Future<Integer> scaleUp(Reconciliation reconciliation, String namespace, String name, int scaleTo, long timeoutMs) {
-        return vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        return resourceSupport.executeBlocking(
             () -> {
                 try {
                     Integer currentScale = currentScale(namespace, name);
@@ -79,7 +79,7 @@ public abstract class AbstractScalableNamespacedResourceOperator<C extends Kuber
                     LOGGER.errorCr(reconciliation, "Caught exception while scaling up", e);
                     throw e;
                 }
-            }, false);
+            });
     }
 
     protected abstract Integer currentScale(String namespace, String name);
@@ -100,7 +100,7 @@ public abstract class AbstractScalableNamespacedResourceOperator<C extends Kuber
      *         didn't exist (hence no scaling occurred).
      */
     public Future<Integer> scaleDown(Reconciliation reconciliation, String namespace, String name, int scaleTo, long timeoutMs) {
-        return vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
+        return resourceSupport.executeBlocking(
             () -> {
                 try {
                     Integer nextReplicas = currentScale(namespace, name);
@@ -117,6 +117,6 @@ public abstract class AbstractScalableNamespacedResourceOperator<C extends Kuber
                     LOGGER.errorCr(reconciliation, "Caught exception while scaling down", e);
                     throw e;
                 }
-            }, false);
+            });
     }
 }
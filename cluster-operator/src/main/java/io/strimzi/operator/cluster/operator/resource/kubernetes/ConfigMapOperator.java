@@ -61,6 +61,18 @@ public class ConfigMapOperator extends AbstractNamespacedResourceOperator<Kubern
         }
     }
 
+    @Override
+    protected String contentHash(ConfigMap desired) {
+        return new ContentHash()
+                .add(desired.getMetadata().getLabels())
+                .add(desired.getMetadata().getAnnotations())
+                .add(desired.getMetadata().getOwnerReferences())
+                .add(desired.getData())
+                .add(desired.getBinaryData())
+                .add(String.valueOf(desired.getImmutable()))
+                .hash();
+    }
+
     private boolean compareObjects(Object a, Object b) {
         if (a == null && b instanceof Map && ((Map) b).size() == 0)
             return true;
@@ -0,0 +1,112 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.kubernetes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds a SHA-1 hash of the content of a Kubernetes resource. Every added value is prefixed with its length, so that
+ * different contents cannot produce the same input of the digest (for example when a value contains a separator).
+ * The maps are hashed in the order of their keys, so that the hash does not depend on the map implementation.
+ */
+class ContentHash {
+    private final MessageDigest digest;
+
+    /**
+     * Constructs the content hash
+     */
+    ContentHash() {
+        try {
+            // This is used to detect changes and not for security => using SHA-1 is ok
+            this.digest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to get SHA-1 hash", e);
+        }
+    }
+
+    /**
+     * Adds a string to the hash
+     *
+     * @param value     String value (can be null)
+     *
+     * @return  This content hash
+     */
+    ContentHash add(String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            digest.update((byte) 1);
+            updateLength(bytes.length);
+            digest.update(bytes);
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds a map to the hash. Null and empty maps are hashed in the same way as they are equivalent in Kubernetes.
+     *
+     * @param map   Map (can be null)
+     *
+     * @return  This content hash
+     */
+    ContentHash add(Map<String, String> map) {
+        if (map == null) {
+            updateLength(0);
+        } else {
+            updateLength(map.size());
+
+            for (Map.Entry<String, String> entry : new TreeMap<>(map).entrySet()) {
+                add(entry.getKey());
+                add(entry.getValue());
+            }
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds a list of objects to the hash using their string representations. This is meant for the Kubernetes model
+     * classes (such as owner references) which include all their fields in their string representation.
+     *
+     * @param list  List (can be null)
+     *
+     * @return  This content hash
+     */
+    ContentHash add(List<?> list) {
+        if (list == null) {
+            updateLength(0);
+        } else {
+            updateLength(list.size());
+
+            for (Object item : list) {
+                add(String.valueOf(item));
+            }
+        }
+
+        return this;
+    }
+
+    private void updateLength(int length) {
+        digest.update((byte) (length >>> 24));
+        digest.update((byte) (length >>> 16));
+        digest.update((byte) (length >>> 8));
+        digest.update((byte) length);
+    }
+
+    /**
+     * @return  The hash as a hex string
+     */
+    String hash() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -70,7 +70,7 @@ public class CrdOperator<C extends KubernetesClient,
     protected Future<ReconcileResult<T>> internalDelete(Reconciliation reconciliation, String namespace, String name, boolean cascading) {
         Resource<T> resourceOp = operation().inNamespace(namespace).withName(name);
 
-        Future<Void> watchForDeleteFuture = VertxUtil.waitFor(reconciliation, vertx,
+        Future<Void> watchForDeleteFuture = VertxUtil.waitFor(reconciliation, vertx, resourceSupport.workerPools(),
             String.format("%s resource %s", resourceKind, name),
             "deleted",
             1_000,
@@ -91,12 +91,13 @@ public class CrdOperator<C extends KubernetesClient,
      * @return  Future which completes when the resource is patched
      */
     public Future<T> patchAsync(Reconciliation reconciliation, T resource) {
-        return vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(() -> {
+        return resourceSupport.executeBlocking(() -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
             try {
                 T result = operation().inNamespace(namespace).withName(name).patch(PatchContext.of(PatchType.JSON), resource);
                 LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been patched", resourceKind, name, namespace);
+                recordWrite(result);
                 return result;
             } catch (Throwable e) {
                 LOGGER.debugCr(reconciliation, "Caught exception while patching {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -114,13 +115,14 @@ public class CrdOperator<C extends KubernetesClient,
      * @return  Future which completes when the status is patched
      */
     public Future<T> updateStatusAsync(Reconciliation reconciliation, T resource) {
-        return vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(() -> {
+        return resourceSupport.executeBlocking(() -> {
             String namespace = resource.getMetadata().getNamespace();
             String name = resource.getMetadata().getName();
 
             try {
                 T result = operation().inNamespace(namespace).resource(resource).updateStatus();
                 LOGGER.infoCr(reconciliation, "Status of {} {} in namespace {} has been updated", resourceKind, name, namespace);
+                recordWrite(result);
                 return result;
             } catch (Throwable e) {
                 LOGGER.debugCr(reconciliation, "Caught exception while updating status of {} {} in namespace {}", resourceKind, name, namespace, e);
@@ -10,6 +10,7 @@ import io.fabric8.openshift.api.model.DeploymentConfig;
 import io.fabric8.openshift.api.model.DeploymentConfigList;
 import io.fabric8.openshift.client.OpenShiftClient;
 import io.fabric8.openshift.client.dsl.DeployableScalableResource;
+import io.fabric8.openshift.client.readiness.OpenShiftReadiness;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.Future;
@@ -127,4 +128,9 @@ public class DeploymentConfigOperator extends AbstractScalableNamespacedResource
             return false;
         }
     }
+
+    @Override
+    protected boolean isReady(DeploymentConfig resource) {
+        return OpenShiftReadiness.getInstance().isReady(resource);
+    }
 }
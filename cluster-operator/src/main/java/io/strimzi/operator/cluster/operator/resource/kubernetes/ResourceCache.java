@@ -0,0 +1,409 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.kubernetes;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.InformerUtils;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.config.ConfigParameter;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Informer based cache for reading the Kubernetes resources managed by the operator. Only the resources with the
+ * strimzi.io/cluster label are cached. Reads of other resources, reads before the informers are synced or lists with
+ * a selector which does not require the strimzi.io/cluster label are not served from the cache and the caller has to
+ * read them from the Kubernetes API server.
+ *
+ * The informers might lag behind the changes done by the operator itself. To provide read-your-writes consistency,
+ * the results of the operator's own creates, patches and deletions are remembered and used instead of the informer
+ * state until the informer catches up with them.
+ *
+ * @param <T>   Type of the cached resource
+ */
+public class ResourceCache<T extends HasMetadata> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceCache.class);
+
+    /**
+     * Default resync interval of the cache informers
+     */
+    public static final long DEFAULT_RESYNC_INTERVAL_MS = 5 * 60_000L;
+
+    /**
+     * Metric name for the number of cached resources
+     */
+    public static final String METRICS_CACHE_SIZE = MetricsHolder.METRICS_PREFIX + "resource.cache.size";
+
+    /**
+     * Metric name for the number of reads from the cache
+     */
+    public static final String METRICS_CACHE_REQUESTS = MetricsHolder.METRICS_PREFIX + "resource.cache.requests";
+
+    // Own writes are used at most for this time even if the informer does not catch up (e.g. because of lost events)
+    /* test */ static final long OWN_WRITE_TTL_MS = 60_000L;
+
+    private final String kind;
+    private final Map<String, SharedIndexInformer<T>> informers;
+    private final UnaryOperator<T> copier;
+    private final Map<String, OwnWrite<T>> ownWrites = new ConcurrentHashMap<>();
+    private final Map<String, Set<Consumer<T>>> listeners = new ConcurrentHashMap<>();
+    private final AtomicInteger size;
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructor
+     *
+     * @param kind              Kind of the cached resource
+     * @param informers         Informers for the watched namespaces (or a single informer for * when watching all namespaces)
+     * @param copier            Function for copying the cached resources to protect the cache from modifications by the callers
+     * @param metricsProvider   Metrics provider
+     */
+    /* test */ ResourceCache(String kind, Map<String, SharedIndexInformer<T>> informers, UnaryOperator<T> copier, MetricsProvider metricsProvider) {
+        this.kind = kind;
+        this.informers = informers;
+        this.copier = copier;
+        this.size = metricsProvider.gauge(METRICS_CACHE_SIZE, "Number of resources in the informer cache", Tags.of("kind", kind));
+        this.hits = metricsProvider.counter(METRICS_CACHE_REQUESTS, "Number of reads from the informer cache", Tags.of("kind", kind, "result", "hit"));
+        this.misses = metricsProvider.counter(METRICS_CACHE_REQUESTS, "Number of reads from the informer cache", Tags.of("kind", kind, "result", "miss"));
+
+        for (SharedIndexInformer<T> informer : informers.values()) {
+            informer.addEventHandler(new CacheEventHandler());
+        }
+    }
+
+    /**
+     * Creates the cache for the resources handled by the resource operator
+     *
+     * @param operator          Resource operator
+     * @param namespaces        Namespaces which should be cached
+     * @param resyncIntervalMs  The interval in which the resync of the informers should happen in milliseconds
+     * @param metricsProvider   Metrics provider
+     *
+     * @return  Resource cache. The cache has to be started before it serves any reads.
+     *
+     * @param <T>   Type of the cached resource
+     */
+    public static <T extends HasMetadata> ResourceCache<T> create(AbstractNamespacedResourceOperator<?, T, ?, ?> operator, Set<String> namespaces, long resyncIntervalMs, MetricsProvider metricsProvider) {
+        LabelSelector selector = new LabelSelectorBuilder()
+                .addNewMatchExpression()
+                    .withKey(Labels.STRIMZI_CLUSTER_LABEL)
+                    .withOperator("Exists")
+                .endMatchExpression()
+                .build();
+
+        Map<String, SharedIndexInformer<T>> informers = new LinkedHashMap<>();
+
+        if (namespaces.contains(ConfigParameter.ANY_NAMESPACE)) {
+            informers.put(ConfigParameter.ANY_NAMESPACE, operator.informer(ConfigParameter.ANY_NAMESPACE, selector, resyncIntervalMs));
+        } else {
+            for (String namespace : namespaces) {
+                informers.put(namespace, operator.informer(namespace, selector, resyncIntervalMs));
+            }
+        }
+
+        return new ResourceCache<>(operator.resourceKind, informers, operator.client.getKubernetesSerialization()::clone, metricsProvider);
+    }
+
+    /**
+     * Starts the informers
+     */
+    public void start() {
+        for (SharedIndexInformer<T> informer : informers.values()) {
+            informer.exceptionHandler((isStarted, throwable) -> InformerUtils.loggingExceptionHandler(kind + " cache", isStarted, throwable));
+            informer.start();
+        }
+    }
+
+    /**
+     * Stops the informers
+     *
+     * @param timeoutMs     Timeout in milliseconds for how long we will wait for each informer to stop
+     */
+    public void stop(long timeoutMs) {
+        InformerUtils.stopAll(timeoutMs, informers.values().toArray(new SharedIndexInformer<?>[0]));
+    }
+
+    /**
+     * @return  The kind of the cached resource
+     */
+    public String kind() {
+        return kind;
+    }
+
+    private SharedIndexInformer<T> syncedInformer(String namespace) {
+        SharedIndexInformer<T> informer = informers.get(namespace);
+
+        if (informer == null && !ConfigParameter.ANY_NAMESPACE.equals(namespace)) {
+            informer = informers.get(ConfigParameter.ANY_NAMESPACE);
+        }
+
+        return informer != null && informer.hasSynced() ? informer : null;
+    }
+
+    private OwnWrite<T> ownWrite(String key) {
+        OwnWrite<T> ownWrite = ownWrites.get(key);
+
+        if (ownWrite != null && System.currentTimeMillis() - ownWrite.timestamp > OWN_WRITE_TTL_MS) {
+            ownWrites.remove(key, ownWrite);
+            return null;
+        }
+
+        return ownWrite;
+    }
+
+    /**
+     * Gets the resource from the cache
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  Copy of the cached resource or empty Optional if the resource is not in the cache and has to be read
+     *          from the Kubernetes API server.
+     */
+    public Optional<T> get(String namespace, String name) {
+        T resource = cached(namespace, name);
+
+        if (resource != null) {
+            hits.increment();
+            return Optional.of(copier.apply(resource));
+        } else {
+            misses.increment();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Checks whether the resource is in the cache. Unlike get(...), this does not copy the cached resource and is not
+     * counted as a cache request in the metrics.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  True if the resource is in the cache. False otherwise.
+     */
+    public boolean contains(String namespace, String name) {
+        return cached(namespace, name) != null;
+    }
+
+    /**
+     * Finds the resource in the own writes or in the informer. The returned resource is the cached instance and must
+     * not be modified.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     *
+     * @return  The cached resource or null if it is not in the cache
+     */
+    private T cached(String namespace, String name) {
+        String key = Cache.namespaceKeyFunc(namespace, name);
+        OwnWrite<T> ownWrite = ownWrite(key);
+
+        if (ownWrite != null) {
+            // Deleted resources are read from the API server until the informer sees the deletion
+            return ownWrite.resource;
+        } else {
+            SharedIndexInformer<T> informer = syncedInformer(namespace);
+            return informer != null ? informer.getIndexer().getByKey(key) : null;
+        }
+    }
+
+    /**
+     * Lists the resources from the cache
+     *
+     * @param namespace     Namespace of the resources or * for all namespaces
+     * @param selector      Label selector
+     *
+     * @return  Copies of the cached resources matching the selector or empty Optional if the list cannot be served from
+     *          the cache and has to be read from the Kubernetes API server.
+     */
+    public Optional<List<T>> list(String namespace, Labels selector) {
+        SharedIndexInformer<T> informer = syncedInformer(namespace);
+
+        if (informer == null
+                || selector == null
+                || !selector.toMap().containsKey(Labels.STRIMZI_CLUSTER_LABEL)
+                || (ConfigParameter.ANY_NAMESPACE.equals(namespace) && !informers.containsKey(ConfigParameter.ANY_NAMESPACE))) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        Map<String, String> selectorLabels = selector.toMap();
+        List<T> candidates = ConfigParameter.ANY_NAMESPACE.equals(namespace) ? informer.getIndexer().list() : informer.getIndexer().byIndex(Cache.NAMESPACE_INDEX, namespace);
+        Map<String, T> resources = new LinkedHashMap<>();
+
+        for (T resource : candidates) {
+            resources.put(Cache.metaNamespaceKeyFunc(resource), resource);
+        }
+
+        for (String key : new ArrayList<>(ownWrites.keySet())) {
+            OwnWrite<T> ownWrite = ownWrite(key);
+
+            if (ownWrite != null && (ConfigParameter.ANY_NAMESPACE.equals(namespace) || key.startsWith(namespace + "/"))) {
+                if (ownWrite.resource != null) {
+                    resources.put(key, ownWrite.resource);
+                } else {
+                    resources.remove(key);
+                }
+            }
+        }
+
+        List<T> result = new ArrayList<>(resources.size());
+        for (T resource : resources.values()) {
+            Map<String, String> labels = resource.getMetadata().getLabels();
+
+            if (labels != null && labels.entrySet().containsAll(selectorLabels.entrySet())) {
+                result.add(copier.apply(resource));
+            }
+        }
+
+        hits.increment();
+        return Optional.of(result);
+    }
+
+    /**
+     * Adds a listener which is notified when the resource is added or modified in the cache. The listener is called
+     * on the informer thread with the cached instance of the resource, so it should not block or modify it.
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     * @param listener      Listener which should be notified
+     *
+     * @return  Closeable for removing the listener
+     */
+    public Closeable addListener(String namespace, String name, Consumer<T> listener) {
+        String key = Cache.namespaceKeyFunc(namespace, name);
+        listeners.computeIfAbsent(key, k -> new CopyOnWriteArraySet<>()).add(listener);
+
+        return () -> listeners.computeIfPresent(key, (k, keyListeners) -> {
+            keyListeners.remove(listener);
+            return keyListeners.isEmpty() ? null : keyListeners;
+        });
+    }
+
+    /**
+     * Records the resource created or patched by the operator
+     *
+     * @param resource  Resource returned by the Kubernetes API server
+     */
+    public void recordWrite(T resource) {
+        if (resource != null
+                && resource.getMetadata() != null
+                && resource.getMetadata().getLabels() != null
+                && resource.getMetadata().getLabels().containsKey(Labels.STRIMZI_CLUSTER_LABEL)) {
+            ownWrites.put(Cache.metaNamespaceKeyFunc(resource), new OwnWrite<>(resource, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Records the resource deleted by the operator
+     *
+     * @param namespace     Namespace of the resource
+     * @param name          Name of the resource
+     */
+    public void recordDelete(String namespace, String name) {
+        ownWrites.put(Cache.namespaceKeyFunc(namespace, name), new OwnWrite<>(null, System.currentTimeMillis()));
+    }
+
+    /**
+     * Checks if the informer caught up with the resource written by the operator. The resource versions are opaque in
+     * Kubernetes and cannot be compared, so the informer caught up when it observed the written version (as the new
+     * resource or as the previous resource of an update) or a newer generation of the resource.
+     *
+     * @param observed      Resource observed by the informer
+     * @param previous      Previous resource observed by the informer or null if not known
+     * @param written       Resource written by the operator
+     *
+     * @return  True if the informer caught up with the written resource. False otherwise.
+     */
+    private static boolean isCaughtUp(HasMetadata observed, HasMetadata previous, HasMetadata written) {
+        String writtenVersion = written.getMetadata().getResourceVersion();
+
+        if (writtenVersion == null
+                || writtenVersion.equals(observed.getMetadata().getResourceVersion())
+                || (previous != null && writtenVersion.equals(previous.getMetadata().getResourceVersion()))) {
+            return true;
+        }
+
+        Long observedGeneration = observed.getMetadata().getGeneration();
+        Long writtenGeneration = written.getMetadata().getGeneration();
+        return observedGeneration != null && writtenGeneration != null && observedGeneration > writtenGeneration;
+    }
+
+    private void updated(T resource, T previous) {
+        String resourceKey = Cache.metaNamespaceKeyFunc(resource);
+        ownWrites.computeIfPresent(resourceKey, (key, ownWrite) -> {
+            if (ownWrite.resource != null && isCaughtUp(resource, previous, ownWrite.resource)) {
+                LOGGER.traceOp("{} cache caught up with {}", kind, key);
+                return null;
+            } else {
+                return ownWrite;
+            }
+        });
+
+        Set<Consumer<T>> keyListeners = listeners.get(resourceKey);
+        if (keyListeners != null) {
+            for (Consumer<T> listener : keyListeners) {
+                listener.accept(resource);
+            }
+        }
+    }
+
+    /**
+     * Event handler keeping the own writes and metrics up-to-date. The size of the cache is counted from the add and
+     * delete events instead of listing the indexer on every event. The informers deliver the add events for the cached
+     * resources when the handler is registered and the add and delete events for the differences found when they
+     * re-list the resources, so the count stays in sync with the indexer.
+     */
+    private class CacheEventHandler implements ResourceEventHandler<T> {
+        @Override
+        public void onAdd(T resource) {
+            size.incrementAndGet();
+            updated(resource, null);
+        }
+
+        @Override
+        public void onUpdate(T oldResource, T newResource) {
+            updated(newResource, oldResource);
+        }
+
+        @Override
+        public void onDelete(T resource, boolean deletedFinalStateUnknown) {
+            size.decrementAndGet();
+            ownWrites.remove(Cache.metaNamespaceKeyFunc(resource));
+        }
+    }
+
+    /**
+     * Resource written by the operator
+     *
+     * @param resource      The resource returned by the Kubernetes API server or null if it was deleted
+     * @param timestamp     Time of the write
+     *
+     * @param <T>   Type of the resource
+     */
+    private record OwnWrite<T>(T resource, long timestamp) { }
+}
@@ -14,10 +14,13 @@ import io.fabric8.kubernetes.client.dsl.Deletable;
 import io.fabric8.kubernetes.client.dsl.Gettable;
 import io.fabric8.kubernetes.client.dsl.Listable;
 import io.fabric8.kubernetes.client.dsl.Watchable;
+import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.TimeoutException;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -25,8 +28,12 @@ import io.vertx.core.Vertx;
 import java.io.Closeable;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Utility method for working with Kubernetes resources
@@ -35,6 +42,7 @@ public class ResourceSupport {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceSupport.class);
 
     private final Vertx vertx;
+    private volatile WorkerPools workerPools = new WorkerPools();
 
     /**
      * Constructor
@@ -45,6 +53,22 @@ public class ResourceSupport {
         this.vertx = vertx;
     }
 
+    /**
+     * Sets the worker pools used for the blocking Kubernetes operations
+     *
+     * @param workerPools   Worker pools
+     */
+    void useWorkerPools(WorkerPools workerPools) {
+        this.workerPools = workerPools;
+    }
+
+    /**
+     * @return  The worker pools used for the blocking Kubernetes operations
+     */
+    WorkerPools workerPools() {
+        return workerPools;
+    }
+
     /**
      * Asynchronously close the given {@code closeable} on a worker thread,
      * returning a Future which completes with the outcome.
@@ -61,7 +85,7 @@ public class ResourceSupport {
     }
 
     <T> Future<T> executeBlocking(Callable<T> callable) {
-        return vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(callable);
+        return workerPools.executeBlocking(vertx, WorkerPools.Pool.KUBERNETES, callable);
     }
 
     /**
@@ -212,6 +236,196 @@ public class ResourceSupport {
         }.resultPromise.future();
     }
 
+    /**
+     * Waits for the {@code condition} to be fulfilled by a resource delivered by the {@code eventSource} (e.g. from a
+     * watch or an informer), returning a Future which completes as soon as an event satisfying the condition arrives,
+     * or fails after a timeout.
+     *
+     * After subscribing to the events, the {@code pollFn} is invoked once on a worker thread to check if the condition
+     * is not fulfilled already. When the event source cannot be subscribed to (for example because the watch cannot be
+     * opened) or when it stops delivering the events (for example because the watch was closed with an error), this
+     * falls back to polling the {@code pollFn} every {@code pollIntervalMs} until the timeout.
+     *
+     * @param reconciliation    Reconciliation marker used for logging
+     * @param eventSource       Source of the events with the watched resource
+     * @param logContext        A string used for context in logging
+     * @param logState          The state we are waiting for use in log messages
+     * @param pollIntervalMs    The poll interval used when falling back to polling in milliseconds
+     * @param timeoutMs         The timeout in milliseconds
+     * @param condition         The condition evaluated on the resources delivered by the events
+     * @param pollFn            The function used to check the condition when polling
+     * @param <T>               The type of watched resource
+     *
+     * @return  A Future which completes when the condition is fulfilled
+     */
+    <T> Future<Void> waitForCondition(Reconciliation reconciliation,
+                                      EventSource<T> eventSource,
+                                      String logContext,
+                                      String logState,
+                                      long pollIntervalMs,
+                                      long timeoutMs,
+                                      Predicate<T> condition,
+                                      BooleanSupplier pollFn) {
+        return new ConditionWaiter<>(reconciliation, logContext, logState, pollIntervalMs, timeoutMs, condition, pollFn).start(eventSource);
+    }
+
+    /**
+     * Source of events with the current state of a resource
+     *
+     * @param <T>   The type of the resource
+     */
+    @FunctionalInterface
+    interface EventSource<T> {
+        /**
+         * Subscribes to the events
+         *
+         * @param onEvent   Called with the new state of the resource when it is added or modified
+         * @param onDrop    Called when the source stops delivering the events
+         *
+         * @return  Closeable for ending the subscription or null if the events are not available
+         *
+         * @throws Exception    When the subscription fails
+         */
+        Closeable subscribe(Consumer<T> onEvent, Consumer<Throwable> onDrop) throws Exception;
+    }
+
+    /**
+     * Waits for a condition to be fulfilled based on the events and falls back to polling when the events are not
+     * available.
+     *
+     * @param <T>   The type of the watched resource
+     */
+    private class ConditionWaiter<T> {
+        private final Reconciliation reconciliation;
+        private final String logContext;
+        private final String logState;
+        private final long pollIntervalMs;
+        private final long timeoutMs;
+        private final long deadline;
+        private final Predicate<T> condition;
+        private final BooleanSupplier pollFn;
+        // The events are delivered on the Kubernetes client threads, so the waiter is resumed on the caller's context
+        private final Context context;
+        private final Promise<Void> promise = Promise.promise();
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+        private final AtomicBoolean polling = new AtomicBoolean(false);
+
+        private volatile Closeable subscription;
+        private long timerId;
+
+        ConditionWaiter(Reconciliation reconciliation, String logContext, String logState, long pollIntervalMs, long timeoutMs, Predicate<T> condition, BooleanSupplier pollFn) {
+            this.reconciliation = reconciliation;
+            this.logContext = logContext;
+            this.logState = logState;
+            this.pollIntervalMs = pollIntervalMs;
+            this.timeoutMs = timeoutMs;
+            this.deadline = System.currentTimeMillis() + timeoutMs;
+            this.condition = condition;
+            this.pollFn = pollFn;
+            this.context = vertx.getOrCreateContext();
+        }
+
+        Future<Void> start(EventSource<T> eventSource) {
+            LOGGER.debugCr(reconciliation, "Waiting for {} to get {}", logContext, logState);
+            timerId = vertx.setTimer(timeoutMs, ignored -> timeout());
+
+            executeBlocking(() -> {
+                subscription = eventSource.subscribe(this::eventReceived, this::dropped);
+
+                if (subscription == null) {
+                    return null;
+                } else if (completed.get()) {
+                    // Completed by an event before the subscription was stored
+                    subscription.close();
+                    return Boolean.TRUE;
+                } else {
+                    // The pre-check is done after subscribing to make sure we did not miss the event
+                    return pollFn.getAsBoolean();
+                }
+            }).onComplete(res -> {
+                if (res.succeeded() && res.result() == null) {
+                    LOGGER.debugCr(reconciliation, "Events are not available for {}, falling back to polling", logContext);
+                    fallBackToPolling();
+                } else if (res.succeeded() && res.result()) {
+                    complete(null);
+                } else if (res.succeeded()) {
+                    LOGGER.traceCr(reconciliation, "{} is not {}, waiting for events", logContext, logState);
+                } else {
+                    LOGGER.debugCr(reconciliation, "Failed to subscribe to the events for {}, falling back to polling", logContext, res.cause());
+                    fallBackToPolling();
+                }
+            });
+
+            return promise.future();
+        }
+
+        private void eventReceived(T resource) {
+            if (completed.get() || polling.get()) {
+                return;
+            }
+
+            try {
+                if (condition.test(resource)) {
+                    context.runOnContext(ignored -> complete(null));
+                } else {
+                    LOGGER.traceCr(reconciliation, "{} is not {}", logContext, logState);
+                }
+            } catch (Throwable t) {
+                LOGGER.debugCr(reconciliation, "Ignoring exception thrown while evaluating event for {}", logContext, t);
+            }
+        }
+
+        private void dropped(Throwable cause) {
+            if (!completed.get()) {
+                LOGGER.debugCr(reconciliation, "Events for {} are not delivered anymore, falling back to polling", logContext, cause);
+                context.runOnContext(ignored -> fallBackToPolling());
+            }
+        }
+
+        private void timeout() {
+            if (!polling.get()) {
+                String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
+                LOGGER.errorCr(reconciliation, exceptionMessage);
+                complete(new TimeoutException(exceptionMessage));
+            }
+        }
+
+        private void fallBackToPolling() {
+            if (completed.get() || !polling.compareAndSet(false, true)) {
+                return;
+            }
+
+            vertx.cancelTimer(timerId);
+            closeSubscription();
+
+            VertxUtil.waitFor(reconciliation, vertx, workerPools, logContext, logState, pollIntervalMs, Math.max(0, deadline - System.currentTimeMillis()), pollFn)
+                    .onComplete(res -> complete(res.cause()));
+        }
+
+        private void complete(Throwable cause) {
+            if (completed.compareAndSet(false, true)) {
+                vertx.cancelTimer(timerId);
+                closeSubscription();
+
+                if (cause == null) {
+                    LOGGER.debugCr(reconciliation, "{} is {}", logContext, logState);
+                    promise.complete();
+                } else {
+                    promise.fail(cause);
+                }
+            }
+        }
+
+        private void closeSubscription() {
+            Closeable closeable = subscription;
+
+            if (closeable != null) {
+                subscription = null;
+                closeOnWorkerThread(closeable);
+            }
+        }
+    }
+
     /**
      * Asynchronously deletes the given resource(s), returning a Future which completes on the context thread.
      * <strong>Note: The API server can return asynchronously, meaning the resource is still accessible from the API server
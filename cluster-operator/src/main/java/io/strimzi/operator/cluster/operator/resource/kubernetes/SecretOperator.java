@@ -29,4 +29,17 @@ public class SecretOperator extends AbstractNamespacedResourceOperator<Kubernete
     protected MixedOperation<Secret, SecretList, Resource<Secret>> operation() {
         return client.secrets();
     }
+
+    @Override
+    protected String contentHash(Secret desired) {
+        return new ContentHash()
+                .add(desired.getMetadata().getLabels())
+                .add(desired.getMetadata().getAnnotations())
+                .add(desired.getMetadata().getOwnerReferences())
+                .add(desired.getType())
+                .add(desired.getData())
+                .add(desired.getStringData())
+                .add(String.valueOf(desired.getImmutable()))
+                .hash();
+    }
 }
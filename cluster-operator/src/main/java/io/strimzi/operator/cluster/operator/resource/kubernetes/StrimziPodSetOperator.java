@@ -51,7 +51,7 @@ public class StrimziPodSetOperator extends CrdOperator<KubernetesClient, Strimzi
      * @return  A future which completes when the resource is ready or times out
      */
     public Future<Void> readiness(Reconciliation reconciliation, String namespace, String name, long pollIntervalMs, long timeoutMs) {
-        return waitFor(reconciliation, namespace, name, pollIntervalMs, timeoutMs, this::isReady);
+        return waitFor(reconciliation, namespace, name, "ready", pollIntervalMs, timeoutMs, this::isReady, this::isReady);
     }
 
     /**
@@ -68,14 +68,21 @@ public class StrimziPodSetOperator extends CrdOperator<KubernetesClient, Strimzi
     public boolean isReady(String namespace, String name) {
         StrimziPodSet podSet = operation().inNamespace(namespace).withName(name).get();
 
-        if (podSet != null) {
-            int replicas = podSet.getSpec().getPods().size();
+        return podSet != null && isReady(podSet);
+    }
+
+    /**
+     * Check if the PodSet is in the Ready state.
+     *
+     * @param podSet    The StrimziPodSet
+     *
+     * @return  True when the StrimziPodSet is ready. False otherwise.
+     */
+    private boolean isReady(StrimziPodSet podSet) {
+        int replicas = podSet.getSpec().getPods().size();
 
-            return podSet.getStatus() != null
-                    && replicas == podSet.getStatus().getPods()
-                    && replicas == podSet.getStatus().getReadyPods();
-        } else {
-            return false;
-        }
+        return podSet.getStatus() != null
+                && replicas == podSet.getStatus().getPods()
+                && replicas == podSet.getStatus().getReadyPods();
     }
 }
@@ -47,7 +47,10 @@ import io.strimzi.api.kafka.model.zookeeper.ZookeeperClusterSpec;
 import io.strimzi.operator.cluster.ClusterOperatorConfig.ClusterOperatorConfigBuilder;
 import io.strimzi.operator.cluster.model.KafkaVersion;
 import io.strimzi.operator.cluster.model.MockSharedEnvironmentProvider;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.cluster.operator.assembly.BrokersInUseCheck;
+import io.strimzi.operator.cluster.operator.assembly.PeriodicReconciliationScheduler;
+import io.strimzi.operator.cluster.operator.assembly.ReconciliationScheduler;
 import io.strimzi.operator.cluster.operator.resource.KRaftMigrationState;
 import io.strimzi.operator.cluster.operator.resource.KafkaAgentClient;
 import io.strimzi.operator.cluster.operator.resource.KafkaAgentClientProvider;
@@ -708,7 +711,10 @@ public class ResourceUtils {
                 mock(ZooKeeperAdminProvider.class),
                 mock(KubernetesRestartEventPublisher.class),
                 new MockSharedEnvironmentProvider(),
-                mock(BrokersInUseCheck.class));
+                mock(BrokersInUseCheck.class),
+                new WorkerPools(),
+                new ReconciliationScheduler(ReconciliationScheduler.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS, 0),
+                mock(PeriodicReconciliationScheduler.class));
 
         when(supplier.secretOperations.getAsync(any(), any())).thenReturn(Future.succeededFuture());
         when(supplier.secretOperations.getAsync(any(), or(endsWith("ca-cert"), endsWith("certs")))).thenReturn(Future.succeededFuture(
@@ -0,0 +1,163 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.model;
+
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+import io.strimzi.api.kafka.model.kafka.Kafka;
+import io.strimzi.api.kafka.model.kafka.KafkaBuilder;
+import io.strimzi.api.kafka.model.kafka.PersistentClaimStorageBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.kafka.listener.KafkaListenerType;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePool;
+import io.strimzi.api.kafka.model.nodepool.KafkaNodePoolBuilder;
+import io.strimzi.api.kafka.model.nodepool.ProcessRoles;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.model.nodepools.NodeIdAssignment;
+import io.strimzi.operator.common.Reconciliation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class BrokerConfigurationCacheTest {
+    private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
+    private static final SharedEnvironmentProvider SHARED_ENV_PROVIDER = new MockSharedEnvironmentProvider();
+    private final static String NAMESPACE = "my-namespace";
+    private final static String CLUSTER_NAME = "my-cluster";
+    private static final OwnerReference OWNER_REFERENCE = new OwnerReferenceBuilder()
+            .withApiVersion("v1")
+            .withKind("Kafka")
+            .withName(CLUSTER_NAME)
+            .withUid("my-uid")
+            .withBlockOwnerDeletion(false)
+            .withController(false)
+            .build();
+    private static final Map<Integer, Map<String, String>> ADVERTISED_PORTS = Map.of(
+            0, Map.of("TLS_9093", "9093"),
+            1, Map.of("TLS_9093", "9093"),
+            10, Map.of("TLS_9093", "9093")
+    );
+
+    private static Kafka kafka(long generation, String listenerName) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(NAMESPACE)
+                    .withUid("my-uid")
+                    .withGeneration(generation)
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withListeners(new GenericKafkaListenerBuilder().withName(listenerName).withPort(9093).withType(KafkaListenerType.INTERNAL).withTls().build())
+                    .endKafka()
+                .endSpec()
+                .build();
+    }
+
+    private static KafkaPool pool(Kafka kafka, String name, String size, Set<Integer> ids) {
+        KafkaNodePool pool = new KafkaNodePoolBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(ids.size())
+                    .withNewJbodStorage()
+                        .withVolumes(new PersistentClaimStorageBuilder().withId(0).withSize(size).build())
+                    .endJbodStorage()
+                    .withRoles(ProcessRoles.BROKER)
+                .endSpec()
+                .build();
+
+        return KafkaPool.fromCrd(Reconciliation.DUMMY_RECONCILIATION, kafka, pool, new NodeIdAssignment(ids, ids, Set.of(), Set.of(), Set.of()), null, OWNER_REFERENCE, SHARED_ENV_PROVIDER);
+    }
+
+    private static KafkaCluster kafkaCluster(Kafka kafka, String poolBSize, BrokerConfigurationCache cache) {
+        return KafkaCluster.fromCrd(
+                Reconciliation.DUMMY_RECONCILIATION,
+                kafka,
+                List.of(pool(kafka, "pool-a", "100Gi", Set.of(0, 1)), pool(kafka, "pool-b", poolBSize, Set.of(10))),
+                VERSIONS,
+                KafkaVersionTestUtils.DEFAULT_ZOOKEEPER_VERSION_CHANGE,
+                KafkaMetadataConfigurationState.ZK,
+                null, SHARED_ENV_PROVIDER
+        ).withBrokerConfigurationCache(cache);
+    }
+
+    private static Map<Integer, Map<String, String>> advertisedHostnames(String node10Hostname) {
+        return Map.of(
+                0, Map.of("TLS_9093", "broker-0"),
+                1, Map.of("TLS_9093", "broker-1"),
+                10, Map.of("TLS_9093", node10Hostname)
+        );
+    }
+
+    @Test
+    public void testNodeConfigurations() {
+        BrokerConfigurationCache cache = new BrokerConfigurationCache();
+        AtomicInteger generated = new AtomicInteger();
+
+        BrokerConfigurationCache.ClusterConfigurations configurations = cache.forCluster(NAMESPACE, CLUSTER_NAME, "cluster-key-1");
+        assertThat(configurations.configuration(0, "node-key-1", () -> "config-" + generated.incrementAndGet()), is("config-1"));
+        assertThat(configurations.configuration(0, "node-key-1", () -> "config-" + generated.incrementAndGet()), is("config-1"));
+        assertThat(configurations.configuration(1, "node-key-1", () -> "config-" + generated.incrementAndGet()), is("config-2"));
+
+        // Changed node key regenerates only the configuration of the node
+        assertThat(configurations.configuration(0, "node-key-2", () -> "config-" + generated.incrementAndGet()), is("config-3"));
+        assertThat(configurations.configuration(1, "node-key-1", () -> "config-" + generated.incrementAndGet()), is("config-2"));
+
+        // Same cluster key keeps the configurations
+        assertThat(cache.forCluster(NAMESPACE, CLUSTER_NAME, "cluster-key-1"), is(sameInstance(configurations)));
+
+        // Changed cluster key drops the configurations
+        configurations = cache.forCluster(NAMESPACE, CLUSTER_NAME, "cluster-key-2");
+        assertThat(configurations.configuration(1, "node-key-1", () -> "config-" + generated.incrementAndGet()), is("config-4"));
+
+        cache.forCluster(NAMESPACE, "my-other-cluster", "cluster-key-1");
+        assertThat(cache.size(), is(2));
+        cache.remove(NAMESPACE, CLUSTER_NAME);
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void testConfigurationsReusedAcrossReconciliations() {
+        BrokerConfigurationCache cache = new BrokerConfigurationCache();
+
+        KafkaCluster kc = kafkaCluster(kafka(1L, "tls"), "200Gi", cache);
+        String node0 = kc.generatePerBrokerConfiguration(0, advertisedHostnames("broker-10"), ADVERTISED_PORTS);
+        String node10 = kc.generatePerBrokerConfiguration(10, advertisedHostnames("broker-10"), ADVERTISED_PORTS);
+        assertThat(node0, containsString("broker.id=0\n"));
+        assertThat(node10, containsString("TLS-9093://broker-10:9093\n"));
+
+        // Unchanged cluster in the next reconciliation reuses the configurations
+        kc = kafkaCluster(kafka(1L, "tls"), "200Gi", cache);
+        assertThat(kc.generatePerBrokerConfiguration(0, advertisedHostnames("broker-10"), ADVERTISED_PORTS), is(sameInstance(node0)));
+        assertThat(kc.generatePerBrokerConfiguration(10, advertisedHostnames("broker-10"), ADVERTISED_PORTS), is(sameInstance(node10)));
+
+        // Changed advertised address or pool storage regenerates only the configuration of the affected node
+        String changedNode10 = kc.generatePerBrokerConfiguration(10, advertisedHostnames("new-broker-10"), ADVERTISED_PORTS);
+        assertThat(changedNode10, containsString("TLS-9093://new-broker-10:9093\n"));
+        assertThat(kc.generatePerBrokerConfiguration(0, advertisedHostnames("new-broker-10"), ADVERTISED_PORTS), is(sameInstance(node0)));
+
+        kc = kafkaCluster(kafka(1L, "tls"), "300Gi", cache);
+        assertThat(kc.generatePerBrokerConfiguration(10, advertisedHostnames("new-broker-10"), ADVERTISED_PORTS), is(not(sameInstance(changedNode10))));
+        assertThat(kc.generatePerBrokerConfiguration(0, advertisedHostnames("new-broker-10"), ADVERTISED_PORTS), is(sameInstance(node0)));
+
+        // New generation of the Kafka custom resource regenerates all configurations
+        kc = kafkaCluster(kafka(2L, "tls2"), "300Gi", cache);
+        String newNode0 = kc.generatePerBrokerConfiguration(0, Map.of(0, Map.of("TLS2_9093", "broker-0")), Map.of(0, Map.of("TLS2_9093", "9093")));
+        assertThat(newNode0, is(not(sameInstance(node0))));
+        assertThat(newNode0, containsString("TLS2-9093"));
+    }
+}
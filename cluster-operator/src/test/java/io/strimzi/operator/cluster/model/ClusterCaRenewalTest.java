@@ -21,9 +21,11 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
@@ -463,6 +465,14 @@ public class ClusterCaRenewalTest {
             );
         }
 
+        @Override
+        protected Map<String, CertAndKey> generateSignedCerts(Map<String, Subject> subjects, ExecutorService executor) {
+            // Generate the certificates sequentially to keep the invocation count deterministic
+            Map<String, CertAndKey> certs = new LinkedHashMap<>();
+            subjects.forEach((podName, subject) -> certs.put(podName, generateSignedCert(subject, null, null, null, null)));
+            return certs;
+        }
+
         @Override
         public CertAndKey addKeyAndCertToKeyStore(String alias, byte[] key, byte[] cert) {
             int index = invocationCount.getAndIncrement();
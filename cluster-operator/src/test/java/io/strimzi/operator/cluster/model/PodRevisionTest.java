@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.fabric8.kubernetes.api.model.ContainerBuilder;
 import io.fabric8.kubernetes.api.model.LabelSelector;
 import io.fabric8.kubernetes.api.model.Pod;
@@ -11,6 +12,7 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.strimzi.api.kafka.model.podset.StrimziPodSet;
 import io.strimzi.api.kafka.model.podset.StrimziPodSetBuilder;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
@@ -65,6 +67,20 @@ public class PodRevisionTest {
         assertThat(PodRevision.getRevision(Reconciliation.DUMMY_RECONCILIATION, pod2), is(not(basicPodRevision)));
     }
 
+    @ParallelTest
+    public void testRevisionsAreCompatible() throws JsonProcessingException {
+        // The revision has to stay the same as the hash stub of the serialized Pod, so that existing Pods are not rolled
+        assertThat(PodRevision.getRevision(Reconciliation.DUMMY_RECONCILIATION, POD), is(Util.hashStub(PodSetUtils.podToString(POD))));
+
+        // Characters outside of US-ASCII
+        Pod pod = new PodBuilder(POD)
+                .editMetadata()
+                    .withAnnotations(Map.of("non-ascii", "\u00e9\u20ac\uD83D\uDE00\uD83Dx\uDE00", "large", "x".repeat(20_000)))
+                .endMetadata()
+                .build();
+        assertThat(PodRevision.getRevision(Reconciliation.DUMMY_RECONCILIATION, pod), is(Util.hashStub(PodSetUtils.podToString(pod))));
+    }
+
     @ParallelTest
     public void testHasChangedWithPods()    {
         // Two pods without the revision annotation
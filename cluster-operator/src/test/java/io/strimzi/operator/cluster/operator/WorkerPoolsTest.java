@@ -0,0 +1,126 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.cluster.ClusterOperatorConfig;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+@ExtendWith(VertxExtension.class)
+public class WorkerPoolsTest {
+    private static Vertx vertx;
+    private static MeterRegistry registry;
+    private static WorkerPools workerPools;
+    private static List<WorkerExecutor> executors;
+
+    @BeforeAll
+    public static void before() {
+        ClusterOperatorConfig config = ClusterOperatorConfig.buildFromMap(Map.of(
+                ClusterOperatorConfig.CRYPTO_OPERATIONS_THREAD_POOL_SIZE.key(), "2"
+        ), KafkaVersionTestUtils.getKafkaVersionLookup());
+
+        vertx = Vertx.vertx();
+        registry = new SimpleMeterRegistry();
+        workerPools = new WorkerPools(config, new MicrometerMetricsProvider(registry));
+        executors = WorkerPools.createSharedWorkerExecutors(vertx, config);
+    }
+
+    @AfterAll
+    public static void after() {
+        executors.forEach(WorkerExecutor::close);
+        workerPools.shutdown();
+        vertx.close();
+    }
+
+    @Test
+    public void testOperationsRunInTheirPools(VertxTestContext context) {
+        Checkpoint async = context.checkpoint(WorkerPools.Pool.values().length);
+
+        for (WorkerPools.Pool pool : WorkerPools.Pool.values()) {
+            workerPools.executeBlocking(vertx, pool, () -> Thread.currentThread().getName())
+                    .onComplete(context.succeeding(threadName -> context.verify(() -> {
+                        assertThat(threadName, startsWith(pool.poolName()));
+                        async.flag();
+                    })));
+        }
+    }
+
+    @Test
+    public void testQueueMetrics(VertxTestContext context) {
+        workerPools.executeBlocking(vertx, WorkerPools.Pool.CRYPTO, () -> "done")
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    assertThat(result, is("done"));
+                    assertThat(registry.get(WorkerPools.METRICS_QUEUE_TIME).tag("pool", "crypto-ops-pool").timer().count() >= 1, is(true));
+                    assertThat(registry.get(WorkerPools.METRICS_QUEUE_PENDING).tag("pool", "crypto-ops-pool").gauge().value(), is(0.0));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testOrderedOperationsRunSerially(VertxTestContext context) {
+        AtomicBoolean firstDone = new AtomicBoolean(false);
+        Checkpoint async = context.checkpoint(2);
+
+        vertx.getOrCreateContext().runOnContext(v -> {
+            workerPools.executeBlocking(vertx, WorkerPools.Pool.CRYPTO, () -> {
+                Thread.sleep(200);
+                firstDone.set(true);
+                return null;
+            }, true).onComplete(context.succeeding(i -> async.flag()));
+
+            workerPools.executeBlocking(vertx, WorkerPools.Pool.CRYPTO, firstDone::get, true)
+                    .onComplete(context.succeeding(done -> context.verify(() -> {
+                        assertThat(done, is(true));
+                        async.flag();
+                    })));
+        });
+    }
+
+    @Test
+    public void testFailuresArePropagated(VertxTestContext context) {
+        workerPools.executeBlocking(vertx, WorkerPools.Pool.KAFKA, () -> {
+            throw new IllegalStateException("Failed");
+        }).onComplete(context.failing(e -> context.verify(() -> {
+            assertThat(e.getMessage(), is("Failed"));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testCertificateExecutorIsUsableFromTheCryptoPool(VertxTestContext context) {
+        // All crypto pool threads wait for the certificate executor, which has its own threads
+        Checkpoint async = context.checkpoint(3);
+
+        for (int i = 0; i < 3; i++) {
+            workerPools.executeBlocking(vertx, WorkerPools.Pool.CRYPTO, () -> workerPools.certificateExecutor().submit(() -> Thread.currentThread().getName()).get())
+                    .onComplete(context.succeeding(threadName -> context.verify(() -> {
+                        assertThat(threadName, startsWith("certificate-generation-"));
+                        async.flag();
+                    })));
+        }
+
+        assertThat(new WorkerPools().certificateExecutor(), is(nullValue()));
+    }
+}
@@ -222,7 +222,7 @@ class AbstractOperatorTest {
                 extends AbstractOperator<T, P, S, O> {
 
         public DefaultOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels) {
-            super(vertx, kind, resourceOperator, metrics, selectorLabels);
+            super(vertx, kind, resourceOperator, metrics, selectorLabels, new ReconciliationScheduler(ReconciliationScheduler.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS, 0));
         }
 
         @Override
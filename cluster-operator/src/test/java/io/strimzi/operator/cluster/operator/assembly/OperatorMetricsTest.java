@@ -75,7 +75,7 @@ public class OperatorMetricsTest {
 
         AbstractWatchableStatusedNamespacedResourceOperator resourceOperator = resourceOperatorWithExistingResourceWithSelectorLabel(selectorLabels);
 
-        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metricsProvider, selectorLabels) {
+        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metricsProvider, selectorLabels, new ReconciliationScheduler(ReconciliationScheduler.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS, 0)) {
             @Override
             protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
                 return Future.succeededFuture();
@@ -137,7 +137,7 @@ public class OperatorMetricsTest {
 
         AbstractWatchableStatusedNamespacedResourceOperator resourceOperator = resourceOperatorWithExistingResourceWithSelectorLabel(selectorLabels);
 
-        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metricsProvider, selectorLabels) {
+        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metricsProvider, selectorLabels, new ReconciliationScheduler(ReconciliationScheduler.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS, 0)) {
             @Override
             protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
                 return Future.failedFuture(new RuntimeException("Test error"));
@@ -201,7 +201,7 @@ public class OperatorMetricsTest {
 
         AbstractWatchableStatusedNamespacedResourceOperator resourceOperator = resourceOperatorWithExistingPausedResource();
 
-        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metricsProvider, null) {
+        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metricsProvider, null, new ReconciliationScheduler(ReconciliationScheduler.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS, 0)) {
             @Override
             protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
                 return Future.succeededFuture();
@@ -251,7 +251,7 @@ public class OperatorMetricsTest {
 
         AbstractWatchableStatusedNamespacedResourceOperator resourceOperator = resourceOperatorWithExistingResourceWithoutSelectorLabel();
 
-        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metricsProvider, null) {
+        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metricsProvider, null, new ReconciliationScheduler(ReconciliationScheduler.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS, 0)) {
             @Override
             protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
                 return Future.failedFuture(new UnableToAcquireLockException());
@@ -308,7 +308,7 @@ public class OperatorMetricsTest {
             }
         };
 
-        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metricsProvider, null) {
+        AbstractOperator operator = new AbstractOperator(vertx, "TestResource", resourceOperator, metricsProvider, null, new ReconciliationScheduler(ReconciliationScheduler.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS, 0)) {
             @Override
             protected Future createOrUpdate(Reconciliation reconciliation, CustomResource resource) {
                 return null;
@@ -577,7 +577,7 @@ public class OperatorMetricsTest {
         private Set<NamespaceAndName> resources;
 
         public ReconcileAllMockOperator(Vertx vertx, String kind, AbstractWatchableStatusedNamespacedResourceOperator resourceOperator, MetricsProvider metrics, Labels selectorLabels) {
-            super(vertx, kind, resourceOperator, metrics, selectorLabels);
+            super(vertx, kind, resourceOperator, metrics, selectorLabels, new ReconciliationScheduler(ReconciliationScheduler.DEFAULT_MAX_CONCURRENT_RECONCILIATIONS, 0));
         }
 
         @Override
@@ -0,0 +1,195 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+@ExtendWith(VertxExtension.class)
+public class PeriodicReconciliationSchedulerTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Reconciliation reconciliation(String trigger, String name) {
+        return reconciliation(trigger, "ns", name);
+    }
+
+    private static Reconciliation reconciliation(String trigger, String namespace, String name) {
+        return new Reconciliation(trigger, "Kafka", namespace, name);
+    }
+
+    @Test
+    public void testOffsetsAreDeterministicAndSpread() {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, new ReconciliationScheduler(10, 0), 120_000L, 0);
+        Set<Long> offsets = new HashSet<>();
+
+        for (int i = 0; i < 100; i++) {
+            String key = PeriodicReconciliationScheduler.key(reconciliation(PeriodicReconciliationScheduler.TRIGGER, "my-cluster-" + i));
+            long offset = scheduler.offsetMs(key);
+
+            assertThat(offset, greaterThanOrEqualTo(0L));
+            assertThat(offset, lessThan(120_000L));
+            assertThat(scheduler.offsetMs(key), is(offset));
+
+            offsets.add(offset);
+        }
+
+        assertThat(offsets.size() > 90, is(true));
+    }
+
+    @Test
+    public void testRateLimit(VertxTestContext context) {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, new ReconciliationScheduler(10, 0), 1L, 10);
+        scheduler.register("ns");
+        List<Long> startTimes = new CopyOnWriteArrayList<>();
+        Function<Reconciliation, Future<Void>> reconciler = reconciliation -> {
+            startTimes.add(System.currentTimeMillis());
+            return Future.succeededFuture();
+        };
+
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(scheduler.schedule("ns", reconciliation(PeriodicReconciliationScheduler.TRIGGER, "my-cluster-" + i), reconciler));
+        }
+
+        Future.join(futures).onComplete(context.succeeding(i -> context.verify(() -> {
+            assertThat(startTimes.size(), is(5));
+            // 5 starts with 100ms spacing
+            assertThat(startTimes.get(4) - startTimes.get(0), greaterThanOrEqualTo(350L));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testRecentlyReconciledResourceIsSkipped(VertxTestContext context) {
+        ReconciliationScheduler reconciliationScheduler = new ReconciliationScheduler(10, 0);
+        OperatorMetricsHolder metrics = new OperatorMetricsHolder("Kafka", null, new MicrometerMetricsProvider(new SimpleMeterRegistry()));
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, reconciliationScheduler, 10_000L, 0);
+        scheduler.register("ns");
+        List<String> reconciled = new CopyOnWriteArrayList<>();
+
+        // Find a resource with a short delay to keep the test fast
+        String name = "my-cluster";
+        for (int i = 0; scheduler.offsetMs(PeriodicReconciliationScheduler.key(reconciliation("watch", name))) > 1_000L; i++) {
+            name = "my-cluster-" + i;
+        }
+        String resourceName = name;
+
+        reconciliationScheduler.submit(reconciliation("watch", resourceName), metrics, vertx.getOrCreateContext(), Future::succeededFuture)
+                .compose(i -> scheduler.schedule("ns", reconciliation(PeriodicReconciliationScheduler.TRIGGER, resourceName), r -> {
+                    reconciled.add(r.name());
+                    return Future.succeededFuture();
+                }))
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(reconciled.isEmpty(), is(true));
+                    context.completeNow();
+                })));
+    }
+
+    @Test
+    public void testPendingResourceIsNotScheduledTwice(VertxTestContext context) {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, new ReconciliationScheduler(10, 0), 200L, 0);
+        scheduler.register("ns");
+        List<String> reconciled = new CopyOnWriteArrayList<>();
+        Function<Reconciliation, Future<Void>> reconciler = r -> {
+            reconciled.add(r.name());
+            return Future.succeededFuture();
+        };
+
+        Future<Void> first = scheduler.schedule("ns", reconciliation(PeriodicReconciliationScheduler.TRIGGER, "my-cluster"), reconciler);
+        Future<Void> second = scheduler.schedule("ns", reconciliation(PeriodicReconciliationScheduler.TRIGGER, "my-cluster"), reconciler);
+
+        Future.join(first, second).onComplete(context.succeeding(i -> context.verify(() -> {
+            assertThat(reconciled, is(List.of("my-cluster")));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testRateLimitIsSharedByNamespaces(VertxTestContext context) {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, new ReconciliationScheduler(10, 0), 1L, 10);
+        scheduler.register("ns1");
+        scheduler.register("ns2");
+        List<Long> startTimes = new CopyOnWriteArrayList<>();
+        Function<Reconciliation, Future<Void>> reconciler = reconciliation -> {
+            startTimes.add(System.currentTimeMillis());
+            return Future.succeededFuture();
+        };
+
+        List<Future<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(scheduler.schedule("ns1", reconciliation(PeriodicReconciliationScheduler.TRIGGER, "ns1", "my-cluster-" + i), reconciler));
+            futures.add(scheduler.schedule("ns2", reconciliation(PeriodicReconciliationScheduler.TRIGGER, "ns2", "my-cluster-" + i), reconciler));
+        }
+
+        Future.join(futures).onComplete(context.succeeding(i -> context.verify(() -> {
+            assertThat(startTimes.size(), is(6));
+            // 6 starts with 100ms spacing => the limit applies to both namespaces together
+            assertThat(startTimes.get(5) - startTimes.get(0), greaterThanOrEqualTo(450L));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testUnregisterCancelsWaitingReconciliations() {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, new ReconciliationScheduler(10, 0), 3_600_000L, 0);
+        scheduler.register("ns1");
+        scheduler.register("ns2");
+        List<String> reconciled = new CopyOnWriteArrayList<>();
+        Function<Reconciliation, Future<Void>> reconciler = r -> {
+            reconciled.add(r.name());
+            return Future.succeededFuture();
+        };
+
+        scheduler.schedule("ns1", reconciliation(PeriodicReconciliationScheduler.TRIGGER, "ns1", "my-cluster"), reconciler);
+        scheduler.schedule("ns1", reconciliation(PeriodicReconciliationScheduler.TRIGGER, "ns1", "my-other-cluster"), reconciler);
+        scheduler.schedule("ns2", reconciliation(PeriodicReconciliationScheduler.TRIGGER, "ns2", "my-cluster"), reconciler);
+        assertThat(scheduler.timers(), is(3));
+
+        // Only the reconciliations of the unregistered namespace are cancelled
+        scheduler.unregister("ns1");
+        assertThat(scheduler.timers(), is(1));
+
+        // Nothing is scheduled for the unregistered namespace
+        Future<Void> afterUnregister = scheduler.schedule("ns1", reconciliation(PeriodicReconciliationScheduler.TRIGGER, "ns1", "my-cluster"), reconciler);
+        assertThat(afterUnregister.succeeded(), is(true));
+        assertThat(scheduler.timers(), is(1));
+
+        scheduler.unregister("ns2");
+        assertThat(scheduler.timers(), is(0));
+        assertThat(reconciled.isEmpty(), is(true));
+    }
+}
@@ -19,6 +19,7 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
@@ -26,8 +27,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -325,4 +328,50 @@ public class ReconcilerUtilsTest {
             return jmx;
         }
     }
+
+    @Test
+    public void testWithBoundedParallelism() {
+        List<Promise<Void>> started = new ArrayList<>();
+        List<Supplier<Future<?>>> operations = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            operations.add(() -> {
+                Promise<Void> promise = Promise.promise();
+                started.add(promise);
+                return promise.future();
+            });
+        }
+
+        Future<Void> result = ReconcilerUtils.withBoundedParallelism(operations, 2);
+        assertThat(started.size(), is(2));
+
+        // Next operation is started only when one of the running operations completes
+        started.get(0).complete();
+        assertThat(started.size(), is(3));
+        started.get(1).fail(new RuntimeException("Failed"));
+        assertThat(started.size(), is(4));
+        started.get(2).complete();
+        assertThat(started.size(), is(5));
+        started.get(3).complete();
+        assertThat(result.isComplete(), is(false));
+
+        // The result fails with the failure once all operations complete
+        started.get(4).complete();
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("Failed"));
+
+        assertThat(ReconcilerUtils.withBoundedParallelism(List.of(), 2).succeeded(), is(true));
+        assertThat(ReconcilerUtils.withBoundedParallelism(List.of(Future::succeededFuture, Future::succeededFuture, Future::succeededFuture), 1).succeeded(), is(true));
+    }
+
+    @Test
+    public void testWithBoundedParallelismWithCompletedOperations() {
+        // Operations which complete immediately do not grow the stack
+        List<Supplier<Future<?>>> operations = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            operations.add(Future::succeededFuture);
+        }
+
+        assertThat(ReconcilerUtils.withBoundedParallelism(operations, 1).succeeded(), is(true));
+        assertThat(ReconcilerUtils.withBoundedParallelism(operations, 10).succeeded(), is(true));
+    }
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.metrics.OperatorMetricsHolder;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationSchedulerTest {
+    private static Vertx vertx;
+
+    private MeterRegistry registry;
+    private OperatorMetricsHolder metrics;
+    private Context context;
+    private List<String> started;
+    private Map<String, Promise<Void>> startedPromises;
+    private Map<String, Promise<Void>> running;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        metrics = new OperatorMetricsHolder("Kafka", null, new MicrometerMetricsProvider(registry));
+        context = vertx.getOrCreateContext();
+        started = new CopyOnWriteArrayList<>();
+        startedPromises = new ConcurrentHashMap<>();
+        running = new ConcurrentHashMap<>();
+    }
+
+    private Supplier<Future<Void>> task(String id) {
+        return () -> {
+            Promise<Void> promise = Promise.promise();
+            started.add(id);
+            running.put(id, promise);
+            startedPromise(id).complete();
+            return promise.future();
+        };
+    }
+
+    private Promise<Void> startedPromise(String id) {
+        return startedPromises.computeIfAbsent(id, i -> Promise.promise());
+    }
+
+    /**
+     * @return  Future which completes when the task with the given ID is started by the scheduler
+     */
+    private Future<Void> started(String id) {
+        return startedPromise(id).future();
+    }
+
+    private static Reconciliation reconciliation(String namespace, String name) {
+        return new Reconciliation("test", "Kafka", namespace, name);
+    }
+
+    private void finish(String id) {
+        running.remove(id).complete();
+    }
+
+    @Test
+    public void testFollowUpReconciliationIsCoalesced(VertxTestContext testContext) {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(10, 0);
+
+        Future<Void> first = scheduler.submit(reconciliation("ns", "my-cluster"), metrics, context, task("first"));
+
+        started("first")
+                .compose(i -> {
+                    // Both are merged into a single follow-up reconciliation
+                    Future<Void> second = scheduler.submit(reconciliation("ns", "my-cluster"), metrics, context, task("second"));
+                    Future<Void> third = scheduler.submit(reconciliation("ns", "my-cluster"), metrics, context, task("third"));
+                    testContext.verify(() -> {
+                        assertThat(second == third, is(true));
+                        assertThat(scheduler.queued(), is(0));
+                    });
+
+                    finish("first");
+                    return started("second").map(j -> second);
+                })
+                .compose(second -> {
+                    finish("second");
+                    return Future.join(first, second);
+                })
+                .onComplete(testContext.succeeding(i -> testContext.verify(() -> {
+                    assertThat(started, is(List.of("first", "second")));
+                    assertThat(registry.get(OperatorMetricsHolder.METRICS_RECONCILIATIONS_COALESCED).counter().count(), is(1.0));
+                    assertThat(registry.get(OperatorMetricsHolder.METRICS_RECONCILIATIONS_QUEUE_TIME).timer().count(), is(2L));
+                    assertThat(scheduler.running(), is(0));
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    public void testQueuedReconciliationIsCoalesced(VertxTestContext testContext) {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, 0);
+
+        scheduler.submit(reconciliation("ns", "other-cluster"), metrics, context, task("other"));
+
+        started("other")
+                .compose(i -> {
+                    Future<Void> first = scheduler.submit(reconciliation("ns", "my-cluster"), metrics, context, task("first"));
+                    Future<Void> second = scheduler.submit(reconciliation("ns", "my-cluster"), metrics, context, task("second"));
+                    testContext.verify(() -> {
+                        assertThat(first == second, is(true));
+                        assertThat(scheduler.queued(), is(1));
+                    });
+
+                    finish("other");
+                    return started("first").map(j -> first);
+                })
+                .compose(first -> {
+                    finish("first");
+                    return first;
+                })
+                .onComplete(testContext.succeeding(i -> testContext.verify(() -> {
+                    assertThat(started, is(List.of("other", "first")));
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    public void testConcurrencyLimitAndFairness(VertxTestContext testContext) {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, 0);
+
+        scheduler.submit(reconciliation("ns1", "blocker"), metrics, context, task("blocker"));
+
+        started("blocker")
+                .compose(i -> {
+                    scheduler.submit(reconciliation("ns1", "a"), metrics, context, task("ns1/a"));
+                    scheduler.submit(reconciliation("ns1", "b"), metrics, context, task("ns1/b"));
+                    scheduler.submit(reconciliation("ns1", "c"), metrics, context, task("ns1/c"));
+                    Future<Void> last = scheduler.submit(reconciliation("ns2", "x"), metrics, context, task("ns2/x"));
+                    testContext.verify(() -> assertThat(scheduler.queued(), is(4)));
+
+                    // The namespaces take turns
+                    finish("blocker");
+                    return started("ns1/a")
+                            .compose(j -> {
+                                finish("ns1/a");
+                                return started("ns2/x");
+                            })
+                            .compose(j -> {
+                                testContext.verify(() -> assertThat(last.isComplete(), is(false)));
+                                finish("ns2/x");
+                                return started("ns1/b");
+                            })
+                            .compose(j -> {
+                                finish("ns1/b");
+                                return started("ns1/c");
+                            })
+                            .compose(j -> {
+                                finish("ns1/c");
+                                return last;
+                            });
+                })
+                .onComplete(testContext.succeeding(i -> testContext.verify(() -> {
+                    assertThat(started, is(List.of("blocker", "ns1/a", "ns2/x", "ns1/b", "ns1/c")));
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    public void testFailedReconciliationReleasesTheSlot(VertxTestContext testContext) {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, 0);
+
+        scheduler.submit(reconciliation("ns", "my-cluster"), metrics, context, () -> {
+            throw new RuntimeException("Failed");
+        }).onComplete(testContext.failing(e -> testContext.verify(() -> {
+            assertThat(e.getMessage(), is("Failed"));
+
+            scheduler.submit(reconciliation("ns", "my-cluster"), metrics, context, Future::succeededFuture)
+                    .onComplete(testContext.succeedingThenComplete());
+        })));
+    }
+
+    @Test
+    public void testTimedOutReconciliationKeepsTheSlot(VertxTestContext testContext) {
+        ReconciliationScheduler scheduler = new ReconciliationScheduler(1, 100);
+
+        Future<Void> stuck = scheduler.submit(reconciliation("ns", "my-cluster"), metrics, context, task("stuck"));
+
+        started("stuck")
+                .compose(i -> {
+                    Future<Void> other = scheduler.submit(reconciliation("ns", "other-cluster"), metrics, context, task("other"));
+                    Future<Void> followUp = scheduler.submit(reconciliation("ns", "my-cluster"), metrics, context, task("follow-up"));
+
+                    // Wait well past the reconciliation timeout
+                    Promise<Void> waited = Promise.promise();
+                    vertx.setTimer(500, t -> waited.complete());
+
+                    return waited.future().compose(j -> {
+                        testContext.verify(() -> {
+                            // The timed out reconciliation is still running and still holds the only slot
+                            assertThat(stuck.isComplete(), is(false));
+                            assertThat(scheduler.running(), is(1));
+                            assertThat(scheduler.queued(), is(1));
+                            assertThat(started, is(List.of("stuck")));
+                            assertThat(registry.get(OperatorMetricsHolder.METRICS_RECONCILIATIONS_OVERRUN).counter().count(), is(1.0));
+                        });
+
+                        finish("stuck");
+                        return started("other");
+                    }).compose(j -> {
+                        finish("other");
+                        return started("follow-up");
+                    }).compose(j -> {
+                        finish("follow-up");
+                        return Future.join(stuck, other, followUp);
+                    });
+                })
+                .onComplete(testContext.succeeding(i -> testContext.verify(() -> {
+                    assertThat(started, is(List.of("stuck", "other", "follow-up")));
+                    assertThat(scheduler.running(), is(0));
+                    assertThat(scheduler.queued(), is(0));
+                    testContext.completeNow();
+                })));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
+import io.vertx.core.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class ReconciliationStepTrackerTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+    private SimpleMeterRegistry registry;
+    private KafkaAssemblyOperatorMetricsHolder metrics;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        metrics = new KafkaAssemblyOperatorMetricsHolder("Kafka", Labels.EMPTY, new MicrometerMetricsProvider(registry));
+    }
+
+    private Timer timer(String step) {
+        return registry.find(KafkaAssemblyOperatorMetricsHolder.METRICS_RECONCILIATIONS_STEP_DURATION)
+                .tag("kind", "Kafka")
+                .tag("namespace", "my-namespace")
+                .tag("step", step)
+                .timer();
+    }
+
+    @Test
+    public void testStepDurationsAreRecorded() {
+        ReconciliationStepTracker steps = new ReconciliationStepTracker(RECONCILIATION, metrics, false);
+
+        Future<Integer> result = Future.succeededFuture(1)
+                .compose(steps.step("first", i -> Future.succeededFuture(i + 1)))
+                .compose(steps.step("second", i -> Future.succeededFuture(i * 10)))
+                .compose(steps.step("first", i -> Future.succeededFuture(i + 1)));
+
+        assertThat(result.result(), is(21));
+        assertThat(timer("first").count(), is(2L));
+        assertThat(timer("second").count(), is(1L));
+
+        // Most steps take only a fraction of a second, so the histogram starts with sub-second buckets
+        assertThat(timer("first").takeSnapshot().histogramCounts()[0].bucket(TimeUnit.MILLISECONDS), is(10.0));
+    }
+
+    @Test
+    public void testFailedStepIsRecorded() {
+        ReconciliationStepTracker steps = new ReconciliationStepTracker(RECONCILIATION, metrics, true);
+
+        Future<Integer> result = Future.succeededFuture(1)
+                .compose(steps.step("ok", i -> Future.succeededFuture(i)))
+                .compose(steps.<Integer, Integer>step("throwing", i -> {
+                    throw new RuntimeException("boom");
+                }))
+                .compose(steps.step("skipped", i -> Future.succeededFuture(i)));
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("boom"));
+        assertThat(timer("ok").count(), is(1L));
+        assertThat(timer("throwing").count(), is(1L));
+        assertThat(timer("skipped"), is(nullValue()));
+
+        String trace = steps.trace();
+        assertThat(trace.indexOf("\n\tok started at"), is(0));
+        assertThat(trace.contains("\n\tthrowing started at"), is(true));
+        assertThat(trace.endsWith("(failed)"), is(true));
+        assertThat(trace.contains("skipped"), is(false));
+    }
+
+    @Test
+    public void testNestedStepsAreOrderedInTrace() {
+        ReconciliationStepTracker steps = new ReconciliationStepTracker(RECONCILIATION, metrics, true);
+
+        Future.succeededFuture(1)
+                .compose(steps.step("kafka", i -> Future.succeededFuture(i)
+                        .compose(steps.step("kafka.listeners", j -> Future.succeededFuture(j)))
+                        .compose(steps.step("kafka.pods", j -> Future.succeededFuture(j)))))
+                .compose(steps.step("entityOperator", i -> Future.succeededFuture(i)));
+
+        String trace = steps.trace();
+        int kafka = trace.indexOf("\n\tkafka started");
+        int listeners = trace.indexOf("\n\tkafka.listeners started");
+        int pods = trace.indexOf("\n\tkafka.pods started");
+        int entityOperator = trace.indexOf("\n\tentityOperator started");
+
+        assertThat(kafka, is(0));
+        assertThat(kafka, lessThan(listeners));
+        assertThat(listeners, lessThan(pods));
+        assertThat(pods, lessThan(entityOperator));
+        assertThat(timer("kafka.pods"), is(notNullValue()));
+    }
+
+    @Test
+    public void testNoopTracker() {
+        Future<Integer> result = Future.succeededFuture(1)
+                .compose(ReconciliationStepTracker.NOOP.step("first", i -> Future.succeededFuture(i + 1)));
+
+        assertThat(result.result(), is(2));
+        assertThat(registry.getMeters().isEmpty(), is(true));
+        // Should not fail when tracing is disabled
+        ReconciliationStepTracker.NOOP.finish();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.auth.PemAuthIdentity;
+import io.strimzi.operator.common.auth.PemTrustSet;
+import io.strimzi.operator.common.auth.TlsPemIdentity;
+import io.strimzi.operator.common.model.Ca;
+import io.strimzi.operator.common.operator.MockCertManager;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DefaultKafkaAgentClientProviderTest {
+    private static final TlsPemIdentity TLS_PEM_IDENTITY = new TlsPemIdentity(
+            new PemTrustSet(
+                    new SecretBuilder()
+                            .withNewMetadata()
+                                .withName("my-cluster-cluster-ca-cert")
+                                .withNamespace("my-namespace")
+                            .endMetadata()
+                            .addToData(Ca.CA_CRT, MockCertManager.clusterCaCert())
+                            .build()
+            ),
+            PemAuthIdentity.clusterOperator(
+                    new SecretBuilder()
+                            .withNewMetadata()
+                                .withName("my-cluster-cluster-operator-certs")
+                                .withNamespace("my-namespace")
+                            .endMetadata()
+                            .addToData("cluster-operator.crt", MockCertManager.clusterCaCert())
+                            .addToData("cluster-operator.key", MockCertManager.clusterCaKey())
+                            .build()
+            )
+    );
+
+    @Test
+    public void testHttpClientsAreRemovedWithCluster() {
+        DefaultKafkaAgentClientProvider provider = new DefaultKafkaAgentClientProvider();
+
+        provider.createKafkaAgentClient(new Reconciliation("test", "Kafka", "my-namespace", "my-cluster"), TLS_PEM_IDENTITY);
+        provider.createKafkaAgentClient(new Reconciliation("test", "Kafka", "my-namespace", "my-cluster"), TLS_PEM_IDENTITY);
+        provider.createKafkaAgentClient(new Reconciliation("test", "Kafka", "my-namespace", "my-other-cluster"), TLS_PEM_IDENTITY);
+        assertThat(provider.size(), is(2));
+
+        provider.removeKafkaAgentClient("my-namespace", "my-cluster");
+        assertThat(provider.size(), is(1));
+
+        provider.removeKafkaAgentClient("my-namespace", "my-other-cluster");
+        assertThat(provider.size(), is(0));
+    }
+}
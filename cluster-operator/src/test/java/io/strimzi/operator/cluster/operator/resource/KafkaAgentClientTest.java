@@ -7,9 +7,19 @@ package io.strimzi.operator.cluster.operator.resource;
 import io.strimzi.operator.common.Reconciliation;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
 
@@ -81,4 +91,112 @@ public class KafkaAgentClientTest {
         assertEquals(false, actual.isMigrationDone());
         assertEquals(2, actual.state());
     }
+
+    @Test
+    public void testAwaitBrokerStateFromStream() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> Stream.of(
+                "data: {\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":10,\"remainingSegmentsToRecover\":100}}",
+                "",
+                ":",
+                "",
+                "data: {\"brokerState\":3,\"kraftMigrationState\":1}",
+                "",
+                "data: {\"brokerState\":6}"
+        )).when(kafkaAgentClient).doGetLines(any(), anyLong());
+
+        BrokerState actual = kafkaAgentClient.awaitBrokerState("mypod", state -> !state.isBrokerInRecovery(), 60_000);
+        assertEquals(3, actual.code());
+    }
+
+    @Test
+    public void testAwaitBrokerStateTimeout() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> Stream.of(
+                "data: {\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":10,\"remainingSegmentsToRecover\":100}}",
+                "",
+                "data: {\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":5,\"remainingSegmentsToRecover\":50}}",
+                ""
+        )).when(kafkaAgentClient).doGetLines(any(), anyLong());
+
+        BrokerState actual = kafkaAgentClient.awaitBrokerState("mypod", state -> !state.isBrokerInRecovery(), 60_000);
+        assertTrue(actual.isBrokerInRecovery(), "broker is not in log recovery as expected");
+        assertEquals(5, actual.remainingLogsToRecover());
+    }
+
+    @Test
+    public void testAwaitBrokerStateDeadline() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> hangingStream(
+                "data: {\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":10,\"remainingSegmentsToRecover\":100}}"
+        )).when(kafkaAgentClient).doGetLines(any(), anyLong());
+
+        // The Kafka Agent does not end the stream => the client closes it after the deadline
+        BrokerState actual = kafkaAgentClient.awaitBrokerState("mypod", state -> !state.isBrokerInRecovery(), 100, 200);
+        assertTrue(actual.isBrokerInRecovery(), "broker is not in log recovery as expected");
+        assertEquals(10, actual.remainingLogsToRecover());
+    }
+
+    /**
+     * Creates a stream which returns the lines and then blocks until it is closed in the same way as the stream with
+     * the body of the HTTP response.
+     *
+     * @param lines     Lines returned before the stream blocks
+     *
+     * @return  Stream with the lines
+     */
+    private static Stream<String> hangingStream(String... lines) {
+        CountDownLatch closed = new CountDownLatch(1);
+        Iterator<String> iterator = new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                if (next < lines.length) {
+                    return true;
+                }
+
+                try {
+                    closed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                throw new UncheckedIOException(new IOException("closed"));
+            }
+
+            @Override
+            public String next() {
+                return lines[next++];
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(closed::countDown);
+    }
+
+    @Test
+    public void testAwaitBrokerStateFallback() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> {
+            throw new RuntimeException("Unexpected HTTP status code: 404");
+        }).when(kafkaAgentClient).doGetLines(any(), anyLong());
+        doAnswer(invocation -> "{\"brokerState\":3}").when(kafkaAgentClient).doGet(any());
+
+        BrokerState actual = kafkaAgentClient.awaitBrokerState("mypod", state -> !state.isBrokerInRecovery(), 60_000);
+        assertEquals(3, actual.code());
+    }
+
+    @Test
+    public void testRecoveryEstimate() {
+        KafkaAgentClient kafkaAgentClient = spy(new KafkaAgentClient(RECONCILIATION, "my-cluster", "namespace"));
+        doAnswer(invocation -> "{\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":10,\"remainingSegmentsToRecover\":100,\"segmentsRecoveredPerSecond\":40.0}}").when(kafkaAgentClient).doGet(any());
+
+        BrokerState actual = kafkaAgentClient.getBrokerState("mypod");
+        assertEquals(40.0, actual.segmentsRecoveredPerSecond());
+        assertEquals(2_500, actual.estimatedRecoveryTimeMs());
+
+        doAnswer(invocation -> "{\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":10,\"remainingSegmentsToRecover\":100}}").when(kafkaAgentClient).doGet(any());
+        assertEquals(-1, kafkaAgentClient.getBrokerState("mypod").estimatedRecoveryTimeMs());
+    }
 }
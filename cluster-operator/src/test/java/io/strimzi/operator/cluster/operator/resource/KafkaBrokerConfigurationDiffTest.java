@@ -300,4 +300,16 @@ public class KafkaBrokerConfigurationDiffTest {
         assertThat(kcd.canBeUpdatedDynamically(), is(false));
     }
 
+    @Test
+    public void testRemovedAndAddedPropertiesWithTheSameValue() {
+        // JSON diff collapsed these two changes into a single move operation which was ignored
+        List<ConfigEntry> current = singletonList(new ConfigEntry("log.message.timestamp.before.max.ms", "3600000"));
+        List<ConfigEntry> desired = singletonList(new ConfigEntry("log.message.timestamp.after.max.ms", "3600000"));
+        KafkaBrokerConfigurationDiff kcd = new KafkaBrokerConfigurationDiff(Reconciliation.DUMMY_RECONCILIATION, getCurrentConfiguration(current),
+                getDesiredConfiguration(desired), kafkaVersion, nodeRef);
+        assertThat(kcd.getDiffSize(), is(2));
+        assertConfig(kcd, new ConfigEntry("log.message.timestamp.after.max.ms", "3600000"));
+        assertConfig(kcd, new ConfigEntry("log.message.timestamp.before.max.ms", null));
+    }
+
 }
@@ -12,6 +12,7 @@ import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.cluster.model.NodeRef;
 import io.strimzi.operator.cluster.model.RestartReason;
 import io.strimzi.operator.cluster.model.RestartReasons;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.cluster.operator.resource.events.KubernetesRestartEventPublisher;
 import io.strimzi.operator.cluster.operator.resource.kubernetes.PodOperator;
 import io.strimzi.operator.common.AdminClientProvider;
@@ -20,6 +21,7 @@ import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.auth.TlsPemIdentity;
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -58,6 +60,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -69,11 +72,16 @@ import static java.util.Collections.singletonList;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -612,6 +620,130 @@ public class KafkaRollerTest {
                 List.of(1, 2));
     }
 
+    private TestingKafkaRoller recoveringKafkaRoller(KafkaAgentClient kafkaAgentClient) {
+        return recoveringKafkaRoller(kafkaAgentClient, new AtomicLong());
+    }
+
+    private TestingKafkaRoller recoveringKafkaRoller(KafkaAgentClient kafkaAgentClient, AtomicLong clock) {
+        return new TestingKafkaRoller(addPodNames(REPLICAS),
+                mockPodOps(podId -> succeededFuture()),
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true),
+                false, null, null, false, null, 1) {
+            @Override
+            KafkaAgentClient initKafkaAgentClient() {
+                return kafkaAgentClient;
+            }
+
+            @Override
+            long currentTimeMs() {
+                return clock.get();
+            }
+        };
+    }
+
+    private static BrokerState recoveringBrokerState(int remainingSegments) {
+        Map<String, Object> recoveryState = new HashMap<>();
+        recoveryState.put("remainingLogsToRecover", 10);
+        recoveryState.put("remainingSegmentsToRecover", remainingSegments);
+        recoveryState.put("segmentsRecoveredPerSecond", 50.0);
+        return new BrokerState(2, recoveryState);
+    }
+
+    @Test
+    public void testAwaitLogRecoveryWhileProgressing() throws KafkaRoller.FatalProblem {
+        KafkaAgentClient kafkaAgentClient = mock(KafkaAgentClient.class);
+        when(kafkaAgentClient.awaitBrokerState(any(), any(), anyLong()))
+                .thenReturn(recoveringBrokerState(50))
+                .thenReturn(new BrokerState(3, null));
+
+        assertThat(recoveringKafkaRoller(kafkaAgentClient).awaitLogRecovery("c-kafka-0", recoveringBrokerState(100), 60_000), is(true));
+        verify(kafkaAgentClient, times(2)).awaitBrokerState(eq("c-kafka-0"), any(), anyLong());
+    }
+
+    @Test
+    public void testAwaitLogRecoveryWithoutProgress() throws KafkaRoller.FatalProblem {
+        KafkaAgentClient kafkaAgentClient = mock(KafkaAgentClient.class);
+        when(kafkaAgentClient.awaitBrokerState(any(), any(), anyLong())).thenReturn(recoveringBrokerState(100));
+
+        assertThat(recoveringKafkaRoller(kafkaAgentClient).awaitLogRecovery("c-kafka-0", recoveringBrokerState(100), 60_000), is(false));
+    }
+
+    @Test
+    public void testAwaitLogRecoveryDeadline() throws KafkaRoller.FatalProblem {
+        AtomicLong clock = new AtomicLong();
+        AtomicInteger remainingSegments = new AtomicInteger(100_000);
+
+        // The recovery keeps progressing, but each wait takes the whole timeout
+        KafkaAgentClient kafkaAgentClient = mock(KafkaAgentClient.class);
+        when(kafkaAgentClient.awaitBrokerState(any(), any(), anyLong())).thenAnswer(invocation -> {
+            clock.addAndGet(invocation.getArgument(2));
+            return recoveringBrokerState(remainingSegments.addAndGet(-10));
+        });
+
+        // The timeout factor of the testing roller is 3
+        assertThat(recoveringKafkaRoller(kafkaAgentClient, clock).awaitLogRecovery("c-kafka-0", recoveringBrokerState(remainingSegments.get()), 60_000), is(false));
+        verify(kafkaAgentClient, times(3)).awaitBrokerState(eq("c-kafka-0"), any(), eq(60_000L));
+        assertThat(clock.get(), is(180_000L));
+    }
+
+    @Test
+    public void testAwaitLogRecoveryNotInRecovery() throws KafkaRoller.FatalProblem {
+        KafkaAgentClient kafkaAgentClient = mock(KafkaAgentClient.class);
+
+        assertThat(recoveringKafkaRoller(kafkaAgentClient).awaitLogRecovery("c-kafka-0", new BrokerState(3, null), 60_000), is(false));
+        verify(kafkaAgentClient, never()).awaitBrokerState(any(), any(), anyLong());
+    }
+
+    @Test
+    public void testRecoveringBrokerIsNotFailedAtReadinessTimeout(VertxTestContext testContext) {
+        AtomicLong readinessStartNs = new AtomicLong();
+        AtomicLong recoveryStartNs = new AtomicLong();
+
+        // The restarted pod does not become ready within the operation timeout (1000ms) because of the log recovery
+        PodOperator podOps = mockPodOps(podId -> {
+            if (podId == 0 && restarted().contains(0) && readinessStartNs.compareAndSet(0, System.nanoTime())) {
+                Promise<Void> ready = Promise.promise();
+                vertx.setTimer(1_000, id -> ready.fail(new TimeoutException("Timeout")));
+                return ready.future();
+            }
+            return succeededFuture();
+        });
+
+        KafkaAgentClient kafkaAgentClient = mock(KafkaAgentClient.class);
+        when(kafkaAgentClient.getBrokerState(any())).thenReturn(recoveringBrokerState(100));
+        when(kafkaAgentClient.awaitBrokerState(any(), any(), anyLong()))
+                .thenAnswer(invocation -> {
+                    recoveryStartNs.set(System.nanoTime());
+                    Thread.sleep(800);
+                    return recoveringBrokerState(50);
+                })
+                .thenAnswer(invocation -> {
+                    Thread.sleep(800);
+                    return new BrokerState(3, null);
+                });
+
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(addPodNames(REPLICAS),
+                podOps,
+                noException(), null, noException(), noException(), noException(),
+                brokerId -> succeededFuture(true),
+                false, null, null, false, null, 1) {
+            @Override
+            KafkaAgentClient initKafkaAgentClient() {
+                return kafkaAgentClient;
+            }
+        };
+
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                List.of(0),
+                List.of(0),
+                () -> testContext.verify(() -> {
+                    // The recovery was noticed while waiting for the readiness and not only after its timeout
+                    assertThat(TimeUnit.NANOSECONDS.toMillis(recoveryStartNs.get() - readinessStartNs.get()), lessThan(1_000L));
+                    verify(kafkaAgentClient, times(2)).awaitBrokerState(eq("c-kafka-0"), any(), anyLong());
+                }));
+    }
+
     @Test
     public void testBrokerInRunningState(VertxTestContext testContext) throws InterruptedException {
         PodOperator podOps = mockPodOps(podId ->
@@ -859,9 +991,11 @@ public class KafkaRollerTest {
             super(
                     new Reconciliation("test", "Kafka", stsNamespace(), clusterName()),
                     KafkaRollerTest.vertx,
+                    new WorkerPools(),
                     podOps,
                     500,
                     1000,
+                    3,
                     () -> new BackOff(10L, 2, 4),
                     nodes,
                     new TlsPemIdentity(null, null),
@@ -890,7 +1024,8 @@ public class KafkaRollerTest {
         @Override
         KafkaAgentClient initKafkaAgentClient() {
             return mock(KafkaAgentClient.class, invocation -> {
-                if ("getBrokerState".equals(invocation.getMethod().getName())) {
+                if ("getBrokerState".equals(invocation.getMethod().getName())
+                        || "awaitBrokerState".equals(invocation.getMethod().getName())) {
                     if (brokerState == null) {
                         return new BrokerState(-1, null);
                     }
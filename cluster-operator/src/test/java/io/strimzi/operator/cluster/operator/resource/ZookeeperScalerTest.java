@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster.operator.resource;
 
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.auth.PemAuthIdentity;
 import io.strimzi.operator.common.auth.PemTrustSet;
@@ -201,7 +202,7 @@ public class ZookeeperScalerTest {
         ZooKeeperAdminProvider zooKeeperAdminProvider = (connectString, sessionTimeout, watcher, operationTimeout, trustStore, keyStore) -> mockZooAdmin;
 
         ZookeeperScaler scaler = new ZookeeperScaler(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"),
-                vertx, zooKeeperAdminProvider, "zookeeper:2181", null, dummyPemIdentity, 1_000, 10_000);
+                vertx, new WorkerPools(), zooKeeperAdminProvider, "zookeeper:2181", null, dummyPemIdentity, 1_000, 10_000);
 
         Checkpoint check = context.checkpoint();
         scaler.scale(5).onComplete(context.failing(cause -> context.verify(() -> {
@@ -226,7 +227,7 @@ public class ZookeeperScalerTest {
         };
 
         ZookeeperScaler scaler = new ZookeeperScaler(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"),
-                vertx, zooKeeperAdminProvider, "zookeeper:2181", zkNodeAddress, dummyPemIdentity, 1_000, 10_000);
+                vertx, new WorkerPools(), zooKeeperAdminProvider, "zookeeper:2181", zkNodeAddress, dummyPemIdentity, 1_000, 10_000);
 
         Checkpoint check = context.checkpoint();
         scaler.scale(1).onComplete(context.succeeding(res -> context.verify(() -> {
@@ -256,7 +257,7 @@ public class ZookeeperScalerTest {
         };
 
         ZookeeperScaler scaler = new ZookeeperScaler(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"),
-                vertx, zooKeeperAdminProvider, "zookeeper:2181", zkNodeAddress, dummyPemIdentity, 1_000, 10_000);
+                vertx, new WorkerPools(), zooKeeperAdminProvider, "zookeeper:2181", zkNodeAddress, dummyPemIdentity, 1_000, 10_000);
 
         Checkpoint check = context.checkpoint();
         scaler.scale(1).onComplete(context.succeeding(res -> context.verify(() -> {
@@ -283,7 +284,7 @@ public class ZookeeperScalerTest {
         };
 
         ZookeeperScaler scaler = new ZookeeperScaler(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"),
-                vertx, zooKeeperAdminProvider, "zookeeper:2181", zkNodeAddress, dummyPemIdentity, 1_000, 10_000);
+                vertx, new WorkerPools(), zooKeeperAdminProvider, "zookeeper:2181", zkNodeAddress, dummyPemIdentity, 1_000, 10_000);
 
         Checkpoint check = context.checkpoint();
         scaler.scale(1).onComplete(context.failing(cause -> context.verify(() -> {
@@ -335,7 +336,7 @@ public class ZookeeperScalerTest {
         TlsPemIdentity pemIdentity = new TlsPemIdentity(dummyPemTrustSet, pemAuthIdentity);
 
         ZookeeperScaler scaler = new ZookeeperScaler(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"),
-                vertx, new DefaultZooKeeperAdminProvider(), "i-do-not-exist.com:2181", null, pemIdentity, 2_000, 10_000);
+                vertx, new WorkerPools(), new DefaultZooKeeperAdminProvider(), "i-do-not-exist.com:2181", null, pemIdentity, 2_000, 10_000);
 
         Checkpoint check = context.checkpoint();
         scaler.scale(5).onComplete(context.failing(cause -> context.verify(() -> {
@@ -354,7 +355,7 @@ public class ZookeeperScalerTest {
         ZooKeeperAdminProvider zooKeeperAdminProvider = (connectString, sessionTimeout, watcher, operationTimeout, trustStore, keyStore) -> mockZooAdmin;
 
         ZookeeperScaler scaler = new ZookeeperScaler(new Reconciliation("test", "TestResource", "my-namespace", "my-resource"),
-                vertx, zooKeeperAdminProvider, "zookeeper:2181", null, dummyPemIdentity, 1_000, 10_000);
+                vertx, new WorkerPools(), zooKeeperAdminProvider, "zookeeper:2181", null, dummyPemIdentity, 1_000, 10_000);
 
         Checkpoint check = context.checkpoint();
         scaler.scale(5).onComplete(context.failing(cause -> context.verify(() -> {
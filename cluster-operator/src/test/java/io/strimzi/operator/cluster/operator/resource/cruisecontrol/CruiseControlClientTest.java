@@ -26,12 +26,14 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasEntry;
 import static io.strimzi.operator.cluster.JSONObjectMatchers.hasKeys;
 import static io.strimzi.operator.cluster.operator.resource.cruisecontrol.CruiseControlApiImpl.HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
@@ -99,7 +101,7 @@ public class CruiseControlClientTest {
         this.ccRebalance(vertx, context, 0, options, CruiseControlEndpoints.REBALANCE,
                 result -> {
                     assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID));
-                    assertThat(result.getJson(), hasKeys("summary", "goalSummary", "loadAfterOptimization"));
+                    assertThat(result.getJson(), hasKeys("summary", "loadAfterOptimization"));
                 });
     }
 
@@ -109,7 +111,7 @@ public class CruiseControlClientTest {
         this.ccRebalanceVerbose(vertx, context, 0, options, CruiseControlEndpoints.REBALANCE,
                 result -> {
                     assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_VERBOSE_RESPONSE_UTID));
-                    assertThat(result.getJson(), hasKeys("summary", "goalSummary", "proposals", "loadAfterOptimization", "loadBeforeOptimization"));
+                    assertThat(result.getJson(), hasKeys("summary", "loadAfterOptimization", "loadBeforeOptimization"));
                 });
     }
 
@@ -153,7 +155,7 @@ public class CruiseControlClientTest {
         this.ccRebalance(vertx, context, 0, options, CruiseControlEndpoints.ADD_BROKER,
                 result -> {
                     assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID));
-                    assertThat(result.getJson(), hasKeys("summary", "goalSummary", "loadAfterOptimization"));
+                    assertThat(result.getJson(), hasKeys("summary", "loadAfterOptimization"));
                 });
     }
 
@@ -166,7 +168,7 @@ public class CruiseControlClientTest {
         this.ccRebalanceVerbose(vertx, context, 0, options, CruiseControlEndpoints.ADD_BROKER,
                 result -> {
                     assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_VERBOSE_RESPONSE_UTID));
-                    assertThat(result.getJson(), hasKeys("summary", "goalSummary", "proposals", "loadAfterOptimization", "loadBeforeOptimization"));
+                    assertThat(result.getJson(), hasKeys("summary", "loadAfterOptimization", "loadBeforeOptimization"));
                 });
     }
 
@@ -210,7 +212,7 @@ public class CruiseControlClientTest {
         this.ccRebalance(vertx, context, 0, options, CruiseControlEndpoints.REMOVE_BROKER,
                 result -> {
                     assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID));
-                    assertThat(result.getJson(), hasKeys("summary", "goalSummary", "loadAfterOptimization"));
+                    assertThat(result.getJson(), hasKeys("summary", "loadAfterOptimization"));
                 });
     }
 
@@ -223,7 +225,7 @@ public class CruiseControlClientTest {
         this.ccRebalanceVerbose(vertx, context, 0, options, CruiseControlEndpoints.REMOVE_BROKER,
                 result -> {
                     assertThat(result.getUserTaskId(), is(MockCruiseControl.REBALANCE_NO_GOALS_VERBOSE_RESPONSE_UTID));
-                    assertThat(result.getJson(), hasKeys("summary", "goalSummary", "proposals", "loadAfterOptimization", "loadBeforeOptimization"));
+                    assertThat(result.getJson(), hasKeys("summary", "loadAfterOptimization", "loadBeforeOptimization"));
                 });
     }
 
@@ -409,6 +411,44 @@ public class CruiseControlClientTest {
         }
     }
 
+    @Test
+    public void testClientsWithSameConfigurationAreEqual(Vertx vertx) {
+        // Equal clients let the user task poller batch requests from different reconciliations
+        assertThat(cruiseControlClientProvider(vertx), is(cruiseControlClientProvider(vertx)));
+        assertThat(cruiseControlClientProvider(vertx).hashCode(), is(cruiseControlClientProvider(vertx).hashCode()));
+        assertThat(cruiseControlClientProvider(vertx), is(not(new CruiseControlApiImpl(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, MockCruiseControl.CC_SECRET, MockCruiseControl.CC_API_SECRET, false, API_SSL_ENABLED))));
+    }
+
+    @Test
+    public void testCCGetMultipleUserTasks(Vertx vertx, VertxTestContext context) {
+        cruiseControlServer.setupCCUserTasksResponseMultipleTasks();
+
+        CruiseControlApi client = cruiseControlClientProvider(vertx);
+        List<String> userTaskIds = List.of(MockCruiseControl.MULTIPLE_TASKS_ACTIVE_UTID, MockCruiseControl.MULTIPLE_TASKS_IN_EXECUTION_UTID, "unknown-task");
+
+        Checkpoint checkpoint = context.checkpoint();
+        client.getUserTasksStatus(Reconciliation.DUMMY_RECONCILIATION, HOST, cruiseControlPort, userTaskIds)
+                .onComplete(context.succeeding(result -> context.verify(() -> {
+                    // Only the requested tasks are returned
+                    assertThat(result.keySet(), is(Set.copyOf(userTaskIds)));
+
+                    CruiseControlResponse active = result.get(MockCruiseControl.MULTIPLE_TASKS_ACTIVE_UTID);
+                    assertThat(active.getUserTaskId(), is(MockCruiseControl.MULTIPLE_TASKS_ACTIVE_UTID));
+                    assertThat(active.getJson().getString("Status"), is(CruiseControlUserTaskStatus.ACTIVE.toString()));
+                    assertThat(active.getJson().containsKey(CruiseControlRebalanceKeys.SUMMARY.getKey()), is(false));
+
+                    CruiseControlResponse inExecution = result.get(MockCruiseControl.MULTIPLE_TASKS_IN_EXECUTION_UTID);
+                    assertThat(inExecution.getUserTaskId(), is(MockCruiseControl.MULTIPLE_TASKS_IN_EXECUTION_UTID));
+                    assertThat(inExecution.getJson().getString("Status"), is(CruiseControlUserTaskStatus.IN_EXECUTION.toString()));
+                    assertThat(inExecution.getJson().getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()), is(notNullValue()));
+
+                    // Tasks unknown to Cruise Control have an empty status
+                    assertThat(result.get("unknown-task").getJson().isEmpty(), is(true));
+
+                    checkpoint.flag();
+                })));
+    }
+
     @Test
     public void testCCUserTaskNoDelay(Vertx vertx, VertxTestContext context) throws IOException, URISyntaxException {
         runTest(vertx, context, MockCruiseControl.REBALANCE_NO_GOALS_RESPONSE_UTID, 0);
@@ -0,0 +1,79 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.strimzi.operator.common.model.cruisecontrol.CruiseControlRebalanceKeys;
+import io.strimzi.test.TestUtils;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CruiseControlResponseParserTest {
+    private static final String CC_JSON_ROOT = "io/strimzi/operator/cluster/operator/assembly/CruiseControlJSON/";
+
+    @Test
+    public void testRetainsOnlySelectedPaths() {
+        String response = TestUtils.jsonFromResource(CC_JSON_ROOT + "CC-Rebalance-no-goals-verbose.json");
+        JsonObject full = new JsonObject(response);
+
+        JsonObject parsed = CruiseControlResponseParser.parse(Buffer.buffer(response), CruiseControlResponseParser.REBALANCE_RESPONSE_PATHS, Long.MAX_VALUE);
+
+        assertThat(parsed.fieldNames(), is(Set.of(CruiseControlRebalanceKeys.SUMMARY.getKey(),
+                CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey(),
+                CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey())));
+        assertThat(parsed.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey()), is(full.getJsonObject(CruiseControlRebalanceKeys.SUMMARY.getKey())));
+        assertThat(parsed.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()).fieldNames(), is(Set.of(CruiseControlRebalanceKeys.BROKERS.getKey())));
+        assertThat(parsed.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()).getJsonArray(CruiseControlRebalanceKeys.BROKERS.getKey()),
+                is(full.getJsonObject(CruiseControlRebalanceKeys.LOAD_BEFORE_OPTIMIZATION.getKey()).getJsonArray(CruiseControlRebalanceKeys.BROKERS.getKey())));
+        assertThat(parsed.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()).getJsonArray(CruiseControlRebalanceKeys.BROKERS.getKey()),
+                is(full.getJsonObject(CruiseControlRebalanceKeys.LOAD_AFTER_OPTIMIZATION.getKey()).getJsonArray(CruiseControlRebalanceKeys.BROKERS.getKey())));
+    }
+
+    @Test
+    public void testChunkedInput() {
+        String response = TestUtils.jsonFromResource(CC_JSON_ROOT + "CC-Rebalance-no-goals-verbose.json");
+        Buffer buffer = Buffer.buffer(response);
+
+        CruiseControlResponseParser parser = new CruiseControlResponseParser(CruiseControlResponseParser.REBALANCE_RESPONSE_PATHS, Long.MAX_VALUE);
+        for (int i = 0; i < buffer.length(); i += 7) {
+            parser.handle(buffer.getBuffer(i, Math.min(i + 7, buffer.length())));
+        }
+
+        assertThat(parser.end(), is(CruiseControlResponseParser.parse(buffer, CruiseControlResponseParser.REBALANCE_RESPONSE_PATHS, Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testScalarAndArrayValues() {
+        String response = "{\"progress\":[{\"operation\":\"Rebalance\",\"completed\":true}],\"errorMessage\":\"Error\",\"version\":1}";
+
+        JsonObject parsed = CruiseControlResponseParser.parse(Buffer.buffer(response), CruiseControlResponseParser.REBALANCE_RESPONSE_PATHS, Long.MAX_VALUE);
+
+        assertThat(parsed, is(new JsonObject("{\"progress\":[{\"operation\":\"Rebalance\",\"completed\":true}],\"errorMessage\":\"Error\"}")));
+    }
+
+    @Test
+    public void testRetainedBytesLimit() {
+        String response = TestUtils.jsonFromResource(CC_JSON_ROOT + "CC-Rebalance-no-goals-verbose.json");
+
+        CruiseControlRestException e = assertThrows(CruiseControlRestException.class,
+                () -> CruiseControlResponseParser.parse(Buffer.buffer(response), CruiseControlResponseParser.REBALANCE_RESPONSE_PATHS, 100));
+        assertThat(e.getMessage(), containsString("exceeds the maximal retained size of 100 bytes"));
+    }
+
+    @Test
+    public void testInvalidResponse() {
+        assertThrows(CruiseControlRestException.class,
+                () -> CruiseControlResponseParser.parse(Buffer.buffer("{\"summary\":{"), CruiseControlResponseParser.REBALANCE_RESPONSE_PATHS, Long.MAX_VALUE));
+        assertThrows(CruiseControlRestException.class,
+                () -> CruiseControlResponseParser.parse(Buffer.buffer("[]"), CruiseControlResponseParser.REBALANCE_RESPONSE_PATHS, Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class CruiseControlUserTaskPollerTest {
+    private static final String HOST = "my-cluster-cruise-control.my-namespace.svc";
+    private static final int PORT = 9090;
+
+    private static CruiseControlResponse response(String userTaskId, String status) {
+        return new CruiseControlResponse(userTaskId, new JsonObject().put("Status", status));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testRequestsAreBatched(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        when(api.getUserTasksStatus(any(), anyString(), anyInt(), any())).thenReturn(Future.succeededFuture(Map.of(
+                "task-1", response("task-1", "Active"),
+                "task-2", response("task-2", "InExecution"))));
+
+        CruiseControlUserTaskPoller poller = new CruiseControlUserTaskPoller(vertx, 50, 0, 0);
+
+        Checkpoint async = context.checkpoint();
+        Future.join(poller.getUserTaskStatus(Reconciliation.DUMMY_RECONCILIATION, api, HOST, PORT, "task-1"),
+                        poller.getUserTaskStatus(Reconciliation.DUMMY_RECONCILIATION, api, HOST, PORT, "task-2"))
+                .onComplete(context.succeeding(res -> context.verify(() -> {
+                    assertThat(((CruiseControlResponse) res.resultAt(0)).getJson().getString("Status"), is("Active"));
+                    assertThat(((CruiseControlResponse) res.resultAt(1)).getJson().getString("Status"), is("InExecution"));
+
+                    ArgumentCaptor<List<String>> ids = ArgumentCaptor.forClass(List.class);
+                    verify(api, times(1)).getUserTasksStatus(any(), anyString(), anyInt(), ids.capture());
+                    assertThat(ids.getValue(), containsInAnyOrder("task-1", "task-2"));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testRequestsWithDifferentClientsAreNotBatched(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api1 = mock(CruiseControlApi.class);
+        when(api1.getUserTasksStatus(any(), anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", response("task-1", "Active"))));
+        CruiseControlApi api2 = mock(CruiseControlApi.class);
+        when(api2.getUserTasksStatus(any(), anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-2", response("task-2", "InExecution"))));
+
+        CruiseControlUserTaskPoller poller = new CruiseControlUserTaskPoller(vertx, 50, 0, 0);
+
+        Checkpoint async = context.checkpoint();
+        Future.join(poller.getUserTaskStatus(Reconciliation.DUMMY_RECONCILIATION, api1, HOST, PORT, "task-1"),
+                        poller.getUserTaskStatus(Reconciliation.DUMMY_RECONCILIATION, api2, HOST, PORT, "task-2"))
+                .onComplete(context.succeeding(res -> context.verify(() -> {
+                    assertThat(((CruiseControlResponse) res.resultAt(0)).getJson().getString("Status"), is("Active"));
+                    assertThat(((CruiseControlResponse) res.resultAt(1)).getJson().getString("Status"), is("InExecution"));
+
+                    verify(api1, times(1)).getUserTasksStatus(any(), anyString(), anyInt(), eq(List.of("task-1")));
+                    verify(api2, times(1)).getUserTasksStatus(any(), anyString(), anyInt(), eq(List.of("task-2")));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testUnchangedTaskIsNotPolledWithinInterval(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        when(api.getUserTasksStatus(any(), anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-1", response("task-1", "Active"))));
+
+        CruiseControlUserTaskPoller poller = new CruiseControlUserTaskPoller(vertx, 0, 60_000, 120_000);
+
+        Checkpoint async = context.checkpoint();
+        poller.getUserTaskStatus(Reconciliation.DUMMY_RECONCILIATION, api, HOST, PORT, "task-1")
+                .compose(ignore -> poller.getUserTaskStatus(Reconciliation.DUMMY_RECONCILIATION, api, HOST, PORT, "task-1"))
+                .onComplete(context.succeeding(res -> context.verify(() -> {
+                    assertThat(res.getJson().getString("Status"), is("Active"));
+                    verify(api, times(1)).getUserTasksStatus(any(), anyString(), anyInt(), any());
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailureIsPropagatedToAllWaiters(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        when(api.getUserTasksStatus(any(), anyString(), anyInt(), any()))
+                .thenReturn(Future.failedFuture(new CruiseControlRestException("Failed")));
+
+        CruiseControlUserTaskPoller poller = new CruiseControlUserTaskPoller(vertx, 50, 0, 0);
+
+        Checkpoint async = context.checkpoint(2);
+        poller.getUserTaskStatus(Reconciliation.DUMMY_RECONCILIATION, api, HOST, PORT, "task-1")
+                .onComplete(context.failing(e -> async.flag()));
+        poller.getUserTaskStatus(Reconciliation.DUMMY_RECONCILIATION, api, HOST, PORT, "task-2")
+                .onComplete(context.failing(e -> async.flag()));
+    }
+
+    @Test
+    public void testFailureForOneTaskDoesNotBlockOtherWaiters(Vertx vertx, VertxTestContext context) {
+        CruiseControlApi api = mock(CruiseControlApi.class);
+        // The status of task-1 is missing, so processing it fails
+        when(api.getUserTasksStatus(any(), anyString(), anyInt(), any()))
+                .thenReturn(Future.succeededFuture(Map.of("task-2", response("task-2", "Active"))));
+
+        CruiseControlUserTaskPoller poller = new CruiseControlUserTaskPoller(vertx, 50, 60_000, 120_000);
+
+        Checkpoint async = context.checkpoint(2);
+        poller.getUserTaskStatus(Reconciliation.DUMMY_RECONCILIATION, api, HOST, PORT, "task-1")
+                .onComplete(context.failing(e -> async.flag()));
+        poller.getUserTaskStatus(Reconciliation.DUMMY_RECONCILIATION, api, HOST, PORT, "task-2")
+                .onComplete(context.succeeding(res -> context.verify(() -> {
+                    assertThat(res.getJson().getString("Status"), is("Active"));
+                    async.flag();
+                })));
+    }
+}
@@ -63,6 +63,8 @@ public class MockCruiseControl {
     public static final String BROKERS_NOT_EXIST_ERROR_RESPONSE_UTID = BROKERS_NOT_EXIST_ERROR + SEP + RESPONSE;
     public static final String STATE_PROPOSAL_NOT_READY = STATE + SEP + "proposal" + SEP + "not" + SEP + "ready";
     public static final String STATE_PROPOSAL_NOT_READY_RESPONSE = STATE_PROPOSAL_NOT_READY + SEP + RESPONSE;
+    public static final String MULTIPLE_TASKS_ACTIVE_UTID = "multiple-tasks-active";
+    public static final String MULTIPLE_TASKS_IN_EXECUTION_UTID = "multiple-tasks-in-execution";
 
     private static final String CLUSTER = "my-cluster";
     private static final String NAMESPACE = "my-project";
@@ -514,6 +516,30 @@ public class MockCruiseControl {
                                 .withDelay(TimeUnit.SECONDS, 0));
     }
 
+    /**
+     * Setup response for the status of multiple user tasks requested at once. The response contains an active task, a
+     * task in execution and a completed task which was not requested.
+     */
+    public void setupCCUserTasksResponseMultipleTasks() {
+        JsonBody jsonMultipleTasks = new JsonBody(TestUtils.jsonFromResource(CC_JSON_ROOT + "CC-User-tasks-multiple.json"));
+
+        server
+                .when(
+                        request()
+                                .withMethod("GET")
+                                .withQueryStringParameter(Parameter.param(CruiseControlParameters.JSON.toString(), "true"))
+                                .withQueryStringParameter(Parameter.param(CruiseControlParameters.FETCH_COMPLETE.toString(), "true"))
+                                .withQueryStringParameter(Parameter.param(CruiseControlParameters.USER_TASK_IDS.toString(), ".*" + MULTIPLE_TASKS_ACTIVE_UTID + ".*"))
+                                .withPath(CruiseControlEndpoints.USER_TASKS.toString())
+                                .withHeader(AUTH_HEADER)
+                                .withSecure(true))
+                .respond(
+                        response()
+                                .withBody(jsonMultipleTasks)
+                                .withStatusCode(200)
+                                .withDelay(TimeUnit.SECONDS, 0));
+    }
+
     /**
      * Setup response when user task is not found
      */
@@ -12,6 +12,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClientBuilder;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.strimzi.operator.cluster.operator.VertxUtil;
+import io.strimzi.operator.cluster.operator.WorkerPools;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.k8s.cluster.KubeCluster;
 import io.vertx.core.Vertx;
@@ -121,7 +122,7 @@ public abstract class AbstractNamespacedResourceOperatorIT<C extends KubernetesC
             .onComplete(context.succeeding(rrDeleted -> {
                 // it seems the resource is cached for some time, so we need wait for it to be null
                 context.verify(() -> {
-                        VertxUtil.waitFor(Reconciliation.DUMMY_RECONCILIATION, vertx, "resource deletion " + resourceName, "deleted", 1000,
+                        VertxUtil.waitFor(Reconciliation.DUMMY_RECONCILIATION, vertx, new WorkerPools(), "resource deletion " + resourceName, "deleted", 1000,
                                 30_000, () -> op.get(namespace, resourceName) == null)
                                 .onComplete(del -> {
                                     assertThat(op.get(namespace, resourceName), is(nullValue()));
@@ -9,10 +9,27 @@ import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.ConfigMapList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
 
 import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ConfigMapOperatorTest extends AbstractNamespacedResourceOperatorTest<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> {
@@ -55,4 +72,84 @@ public class ConfigMapOperatorTest extends AbstractNamespacedResourceOperatorTes
                 .withData(singletonMap("FOO", "BAR2"))
                 .build();
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testUnchangedContentIsNotReadAgain(VertxTestContext context) {
+        ConfigMap current = new ConfigMapBuilder(resource())
+                .editMetadata()
+                    .withUid("my-uid")
+                    .withResourceVersion("1")
+                .endMetadata()
+                .build();
+
+        Resource<ConfigMap> mockResource = mock(Resource.class);
+        when(mockResource.get()).thenReturn(current);
+        when(mockResource.patch(any(), any(ConfigMap.class))).thenAnswer(i -> new ConfigMapBuilder(i.getArgument(1, ConfigMap.class))
+                .editMetadata()
+                    .withResourceVersion("3")
+                .endMetadata()
+                .build());
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockCms);
+
+        ResourceCache<ConfigMap> mockCache = mock(ResourceCache.class);
+        when(mockCache.get(NAMESPACE, RESOURCE_NAME)).thenReturn(Optional.empty(), Optional.of(current));
+
+        AbstractNamespacedResourceOperator<KubernetesClient, ConfigMap, ConfigMapList, Resource<ConfigMap>> op = createResourceOperations(vertx, mockClient);
+        op.useCache(mockCache);
+
+        ConfigMap changed = new ConfigMapBuilder(current)
+                .editMetadata()
+                    .withResourceVersion("2")
+                .endMetadata()
+                .build();
+
+        Checkpoint async = context.checkpoint();
+        op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, resource())
+                .compose(rr -> {
+                    context.verify(() -> {
+                        verify(mockResource, times(1)).get();
+                        verify(mockCache, times(1)).get(NAMESPACE, RESOURCE_NAME);
+                    });
+
+                    // Unchanged desired content and resource version => the cached resource is returned without diffing it
+                    return op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, resource());
+                })
+                .compose(rr -> {
+                    context.verify(() -> {
+                        verify(mockResource, times(1)).get();
+                        verify(mockCache, times(2)).get(NAMESPACE, RESOURCE_NAME);
+                        assertThat(rr, instanceOf(ReconcileResult.Noop.class));
+                        assertThat(rr.resource(), is(sameInstance(current)));
+                    });
+
+                    // Resource changed by someone else => the resource is read again and diffed
+                    when(mockCache.get(NAMESPACE, RESOURCE_NAME)).thenReturn(Optional.of(changed));
+                    return op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, resource());
+                })
+                .compose(rr -> {
+                    context.verify(() -> {
+                        verify(mockCache, times(4)).get(NAMESPACE, RESOURCE_NAME);
+                        assertThat(rr, instanceOf(ReconcileResult.Noop.class));
+                        assertThat(rr.resource(), is(sameInstance(changed)));
+                    });
+
+                    // Changed desired content => the resource is read and patched
+                    return op.createOrUpdate(Reconciliation.DUMMY_RECONCILIATION, modifiedResource());
+                })
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockCache, times(5)).get(NAMESPACE, RESOURCE_NAME);
+                    verify(mockResource, times(1)).patch(any(), any(ConfigMap.class));
+                    assertThat(rr, instanceOf(ReconcileResult.Patched.class));
+                    async.flag();
+                })));
+    }
 }
@@ -8,11 +8,33 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.PodList;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.PodResource;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.Labels;
 import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.matches;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class PodOperatorTest extends
@@ -58,4 +80,136 @@ public class PodOperatorTest extends
     protected PodOperator createResourceOperations(Vertx vertx, KubernetesClient mockClient) {
         return new PodOperator(vertx, mockClient);
     }
+
+    private Pod readyPod(boolean ready) {
+        return new PodBuilder(resource())
+                .withNewStatus()
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus(ready ? "True" : "False")
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private PodOperator watchedPodOperator(Resource mockResource) {
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(matches(RESOURCE_NAME))).thenReturn(mockResource);
+
+        MixedOperation mockPods = mock(MixedOperation.class);
+        when(mockPods.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockPods);
+
+        return createResourceOperations(vertx, mockClient);
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void testReadinessFromWatchEvents(VertxTestContext context) throws Exception {
+        CompletableFuture<Watcher<Pod>> watcher = new CompletableFuture<>();
+        Watch mockWatch = mock(Watch.class);
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(readyPod(false));
+        when(mockResource.isReady()).thenReturn(Boolean.FALSE);
+        when(mockResource.watch(any())).then(invocation -> {
+            watcher.complete(invocation.getArgument(0));
+            return mockWatch;
+        });
+
+        PodOperator op = watchedPodOperator(mockResource);
+
+        Checkpoint async = context.checkpoint();
+        op.readiness(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, 20, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // Only the initial check is done against the API server
+                verify(mockResource, times(1)).isReady();
+                verify(mockWatch, timeout(1_000)).close();
+                async.flag();
+            })));
+
+        Watcher<Pod> podWatcher = watcher.get(5, TimeUnit.SECONDS);
+        podWatcher.eventReceived(Watcher.Action.MODIFIED, readyPod(false));
+        vertx.setTimer(200, ignored -> podWatcher.eventReceived(Watcher.Action.MODIFIED, readyPod(true)));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void testReadinessFallsBackToPollingWhenWatchIsClosed(VertxTestContext context) throws Exception {
+        CompletableFuture<Watcher<Pod>> watcher = new CompletableFuture<>();
+        AtomicInteger count = new AtomicInteger();
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(readyPod(false));
+        when(mockResource.isReady()).then(invocation -> count.getAndIncrement() >= 2);
+        when(mockResource.watch(any())).then(invocation -> {
+            watcher.complete(invocation.getArgument(0));
+            return mock(Watch.class);
+        });
+
+        PodOperator op = watchedPodOperator(mockResource);
+
+        Checkpoint async = context.checkpoint();
+        op.readiness(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, RESOURCE_NAME, 20, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                verify(mockResource, times(3)).isReady();
+                async.flag();
+            })));
+
+        watcher.get(5, TimeUnit.SECONDS).onClose(new WatcherException("Watch closed"));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void testReadinessOfMultiplePodsUsesSingleWatch(VertxTestContext context) throws Exception {
+        CompletableFuture<Watcher<Pod>> watcher = new CompletableFuture<>();
+        Watch mockWatch = mock(Watch.class);
+
+        Resource mockResource = mock(resourceType());
+        when(mockResource.get()).thenReturn(readyPod(false));
+        when(mockResource.isReady()).thenReturn(Boolean.FALSE);
+
+        FilterWatchListDeletable mockSelected = mock(FilterWatchListDeletable.class);
+        when(mockSelected.watch(any())).then(invocation -> {
+            watcher.complete(invocation.getArgument(0));
+            return mockWatch;
+        });
+
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.withName(any())).thenReturn(mockResource);
+        when(mockNameable.withLabels(eq(Labels.forStrimziCluster("my-cluster").toMap()))).thenReturn(mockSelected);
+
+        MixedOperation mockPods = mock(MixedOperation.class);
+        when(mockPods.inNamespace(matches(NAMESPACE))).thenReturn(mockNameable);
+
+        KubernetesClient mockClient = mock(KubernetesClient.class);
+        mocker(mockClient, mockPods);
+        PodOperator op = createResourceOperations(vertx, mockClient);
+
+        Checkpoint async = context.checkpoint();
+        op.readiness(Reconciliation.DUMMY_RECONCILIATION, NAMESPACE, Labels.forStrimziCluster("my-cluster"), List.of("my-pod-0", "my-pod-1"), 20, 5_000)
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                // Only the initial check is done against the API server
+                verify(mockResource, times(2)).isReady();
+                verify(mockSelected, times(1)).watch(any());
+                verify(mockWatch, timeout(1_000)).close();
+                async.flag();
+            })));
+
+        Watcher<Pod> podWatcher = watcher.get(5, TimeUnit.SECONDS);
+        podWatcher.eventReceived(Watcher.Action.MODIFIED, readyPod("my-pod-0", true));
+        podWatcher.eventReceived(Watcher.Action.MODIFIED, readyPod("my-other-pod", true));
+        vertx.setTimer(200, ignored -> podWatcher.eventReceived(Watcher.Action.MODIFIED, readyPod("my-pod-1", true)));
+    }
+
+    private Pod readyPod(String name, boolean ready) {
+        return new PodBuilder(readyPod(ready))
+                .editMetadata()
+                    .withName(name)
+                .endMetadata()
+                .build();
+    }
 }
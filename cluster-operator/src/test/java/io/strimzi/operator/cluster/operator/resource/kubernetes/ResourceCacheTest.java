@@ -0,0 +1,229 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.kubernetes;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.Indexer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResourceCacheTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String CLUSTER = "my-cluster";
+
+    private SharedIndexInformer<Secret> informer;
+    private Indexer<Secret> indexer;
+    private ResourceEventHandler<Secret> handler;
+    private MeterRegistry registry;
+    private ResourceCache<Secret> cache;
+
+    private static Secret secret(String name, String resourceVersion, String data) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName(name)
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion(resourceVersion)
+                    .withLabels(Map.of(Labels.STRIMZI_CLUSTER_LABEL, CLUSTER))
+                .endMetadata()
+                .withData(Map.of("key", data))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setup() {
+        informer = mock(SharedIndexInformer.class);
+        indexer = mock(Indexer.class);
+        when(informer.getIndexer()).thenReturn(indexer);
+        when(informer.hasSynced()).thenReturn(true);
+
+        registry = new SimpleMeterRegistry();
+        cache = new ResourceCache<>("Secret", Map.of(NAMESPACE, informer), secret -> new SecretBuilder(secret).build(), new MicrometerMetricsProvider(registry));
+
+        ArgumentCaptor<ResourceEventHandler<Secret>> handlerCaptor = ArgumentCaptor.forClass(ResourceEventHandler.class);
+        verify(informer).addEventHandler(handlerCaptor.capture());
+        handler = handlerCaptor.getValue();
+    }
+
+    private double requests(String result) {
+        return registry.get(ResourceCache.METRICS_CACHE_REQUESTS).tag("kind", "Secret").tag("result", result).counter().count();
+    }
+
+    private double size() {
+        return registry.get(ResourceCache.METRICS_CACHE_SIZE).tag("kind", "Secret").gauge().value();
+    }
+
+    @Test
+    public void testGetFromInformer() {
+        Secret secret = secret("my-secret", "1", "value");
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(secret);
+
+        Optional<Secret> cached = cache.get(NAMESPACE, "my-secret");
+        assertThat(cached.isPresent(), is(true));
+        assertThat(cached.get(), is(secret));
+        assertThat(cached.get(), is(not(sameInstance(secret))));
+
+        assertThat(cache.get(NAMESPACE, "other-secret").isPresent(), is(false));
+        assertThat(cache.get("other-namespace", "my-secret").isPresent(), is(false));
+
+        assertThat(requests("hit"), is(1.0));
+        assertThat(requests("miss"), is(2.0));
+    }
+
+    @Test
+    public void testNotSyncedInformerIsNotUsed() {
+        when(informer.hasSynced()).thenReturn(false);
+        when(indexer.getByKey(any())).thenReturn(secret("my-secret", "1", "value"));
+
+        assertThat(cache.get(NAMESPACE, "my-secret").isPresent(), is(false));
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster(CLUSTER)).isPresent(), is(false));
+    }
+
+    @Test
+    public void testOwnWritesUntilInformerCatchesUp() {
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(secret("my-secret", "1", "old"));
+
+        Secret written = secret("my-secret", "2", "new");
+        cache.recordWrite(written);
+        assertThat(cache.get(NAMESPACE, "my-secret").orElseThrow().getData().get("key"), is("new"));
+
+        // Older event does not replace the own write
+        handler.onUpdate(secret("my-secret", "0", "older"), secret("my-secret", "1", "old"));
+        assertThat(cache.get(NAMESPACE, "my-secret").orElseThrow().getData().get("key"), is("new"));
+
+        // Once the informer sees the written version, it is used again
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(secret("my-secret", "2", "new"));
+        handler.onUpdate(secret("my-secret", "1", "old"), secret("my-secret", "2", "new"));
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(secret("my-secret", "3", "newer"));
+        assertThat(cache.get(NAMESPACE, "my-secret").orElseThrow().getData().get("key"), is("newer"));
+    }
+
+    @Test
+    public void testOwnWritesUntilInformerPassesThem() {
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(secret("my-secret", "1", "old"));
+
+        cache.recordWrite(secret("my-secret", "b", "new"));
+
+        // Resource versions are opaque => a version which looks newer does not replace the own write
+        handler.onUpdate(secret("my-secret", "1", "old"), secret("my-secret", "2", "old"));
+        assertThat(cache.get(NAMESPACE, "my-secret").orElseThrow().getData().get("key"), is("new"));
+
+        // The informer observed an update of the written version => the own write is not used anymore
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(secret("my-secret", "c", "newer"));
+        handler.onUpdate(secret("my-secret", "b", "new"), secret("my-secret", "c", "newer"));
+        assertThat(cache.get(NAMESPACE, "my-secret").orElseThrow().getData().get("key"), is("newer"));
+    }
+
+    @Test
+    public void testOwnWritesUntilNewerGeneration() {
+        Secret written = new SecretBuilder(secret("my-secret", "b", "new")).editMetadata().withGeneration(2L).endMetadata().build();
+        Secret newer = new SecretBuilder(secret("my-secret", "d", "newer")).editMetadata().withGeneration(3L).endMetadata().build();
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(newer);
+
+        cache.recordWrite(written);
+        assertThat(cache.get(NAMESPACE, "my-secret").orElseThrow().getData().get("key"), is("new"));
+
+        handler.onUpdate(secret("my-secret", "c", "other"), newer);
+        assertThat(cache.get(NAMESPACE, "my-secret").orElseThrow().getData().get("key"), is("newer"));
+    }
+
+    @Test
+    public void testOwnDeletesAreReadFromServer() {
+        Secret secret = secret("my-secret", "1", "value");
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(secret);
+        when(indexer.byIndex(eq(Cache.NAMESPACE_INDEX), eq(NAMESPACE))).thenReturn(List.of(secret));
+
+        cache.recordDelete(NAMESPACE, "my-secret");
+        assertThat(cache.get(NAMESPACE, "my-secret").isPresent(), is(false));
+        assertThat(cache.list(NAMESPACE, Labels.forStrimziCluster(CLUSTER)).orElseThrow().size(), is(0));
+
+        handler.onDelete(secret, false);
+        when(indexer.getByKey(Cache.namespaceKeyFunc(NAMESPACE, "my-secret"))).thenReturn(null);
+        assertThat(cache.get(NAMESPACE, "my-secret").isPresent(), is(false));
+    }
+
+    @Test
+    public void testList() {
+        Secret secret1 = secret("my-secret-1", "1", "value");
+        Secret secret2 = secret("my-secret-2", "1", "value");
+        Secret otherCluster = new SecretBuilder(secret("other-secret", "1", "value"))
+                .editMetadata()
+                    .withLabels(Map.of(Labels.STRIMZI_CLUSTER_LABEL, "other-cluster"))
+                .endMetadata()
+                .build();
+        when(indexer.byIndex(eq(Cache.NAMESPACE_INDEX), eq(NAMESPACE))).thenReturn(List.of(secret1, secret2, otherCluster));
+
+        cache.recordWrite(secret("my-secret-3", "2", "value"));
+
+        List<Secret> listed = cache.list(NAMESPACE, Labels.forStrimziCluster(CLUSTER)).orElseThrow();
+        assertThat(listed.stream().map(s -> s.getMetadata().getName()).toList(), containsInAnyOrder("my-secret-1", "my-secret-2", "my-secret-3"));
+
+        // Selectors without the cluster label and other namespaces are not served from the cache
+        assertThat(cache.list(NAMESPACE, Labels.fromMap(Map.of("app", "my-app"))).isPresent(), is(false));
+        assertThat(cache.list(NAMESPACE, null).isPresent(), is(false));
+        assertThat(cache.list("other-namespace", Labels.forStrimziCluster(CLUSTER)).isPresent(), is(false));
+        assertThat(cache.list("*", Labels.forStrimziCluster(CLUSTER)).isPresent(), is(false));
+    }
+
+    @Test
+    public void testUnlabeledWritesAreNotRecorded() {
+        Secret unlabeled = new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-secret")
+                    .withNamespace(NAMESPACE)
+                    .withResourceVersion("1")
+                .endMetadata()
+                .build();
+
+        cache.recordWrite(unlabeled);
+        assertThat(cache.get(NAMESPACE, "my-secret").isPresent(), is(false));
+    }
+
+    @Test
+    public void testSizeIsCountedFromEvents() {
+        Secret secret = secret("my-secret", "1", "value");
+        Secret otherSecret = secret("other-secret", "1", "value");
+
+        handler.onAdd(secret);
+        handler.onAdd(otherSecret);
+        assertThat(size(), is(2.0));
+
+        // Updates (including the resync) do not change the size
+        handler.onUpdate(secret, secret("my-secret", "2", "new"));
+        handler.onUpdate(otherSecret, otherSecret);
+        assertThat(size(), is(2.0));
+
+        handler.onDelete(secret, false);
+        assertThat(size(), is(1.0));
+
+        // The size is not computed by listing the indexer
+        verify(indexer, never()).listKeys();
+    }
+}
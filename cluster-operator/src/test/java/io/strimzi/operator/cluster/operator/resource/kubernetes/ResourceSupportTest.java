@@ -0,0 +1,49 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource.kubernetes;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class ResourceSupportTest {
+    @Test
+    public void testConditionWaiterIsResumedOnTheCallerContext(Vertx vertx, VertxTestContext context) {
+        ResourceSupport resourceSupport = new ResourceSupport(vertx);
+        Context callerContext = vertx.getOrCreateContext();
+
+        // The event is delivered on a thread which is not a Vert.x thread, as with the Kubernetes client watches
+        ResourceSupport.EventSource<String> eventSource = (onEvent, onDrop) -> {
+            Thread thread = new Thread(() -> {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                onEvent.accept("ready");
+            });
+            thread.start();
+
+            return () -> { };
+        };
+
+        callerContext.runOnContext(ignored -> resourceSupport.waitForCondition(Reconciliation.DUMMY_RECONCILIATION, eventSource,
+                        "test resource", "ready", 1_000L, 10_000L, "ready"::equals, () -> false)
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(Vertx.currentContext(), is(sameInstance(callerContext)));
+                    context.completeNow();
+                }))));
+    }
+}
@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -17,9 +19,14 @@ import static java.util.Collections.singletonList;
 
 /**
  * A model of a particular configuration parameter.
+ *
+ * The compiled pattern and the sets of the allowed values and items used by the validation are built when the option
+ * is validated for the first time and reused afterwards. They are reset when the model is changed.
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ConfigModel {
+    private static final Pattern LIST_SEPARATOR = Pattern.compile(" *, *");
+
     private Scope scope;
     private Type type;
     private Number minimum;
@@ -29,6 +36,10 @@ public class ConfigModel {
     private List<String> values;
     private String pattern;
 
+    private volatile Pattern compiledPattern;
+    private volatile Set<String> valuesSet;
+    private volatile Set<String> itemsSet;
+
     /**
      * @return The scope of the parameter.
      */
@@ -107,6 +118,7 @@ public class ConfigModel {
      */
     public void setItems(List<String> items) {
         this.items = items;
+        this.itemsSet = null;
     }
 
     /**
@@ -123,6 +135,7 @@ public class ConfigModel {
      */
     public void setValues(List<String> values) {
         this.values = values;
+        this.valuesSet = null;
     }
 
     /**
@@ -139,6 +152,7 @@ public class ConfigModel {
      */
     public void setPattern(String pattern) {
         this.pattern = pattern;
+        this.compiledPattern = null;
     }
 
     /**
@@ -174,15 +188,42 @@ public class ConfigModel {
         }
     }
 
+    private Set<String> valuesSet() {
+        Set<String> set = valuesSet;
+        if (set == null) {
+            set = new HashSet<>(values);
+            valuesSet = set;
+        }
+        return set;
+    }
+
+    private Set<String> itemsSet() {
+        Set<String> set = itemsSet;
+        if (set == null) {
+            set = new HashSet<>(items);
+            itemsSet = set;
+        }
+        return set;
+    }
+
+    private Pattern compiledPattern() {
+        Pattern compiled = compiledPattern;
+        if (compiled == null) {
+            compiled = Pattern.compile(pattern);
+            compiledPattern = compiled;
+        }
+        return compiled;
+    }
+
     private List<String> validateString(String configName, String value) {
         List<String> errors = emptyList();
         if (getValues() != null
-                && !getValues().contains(value)) {
+                && !valuesSet().contains(value)) {
             errors = new ArrayList<>(1);
             errors.add(configName + " has value '" + value + "' which is not one of the allowed values: " + getValues());
         }
         if (getPattern() != null
-                && !value.matches(getPattern())) {
+                && !compiledPattern().matcher(value).matches()) {
             if (errors.isEmpty()) {
                 errors = new ArrayList<>(1);
             }
@@ -192,17 +233,17 @@ public class ConfigModel {
     }
 
     private List<String> validateBoolean(String configName, String value) {
-        if (!value.matches("true|false")) {
+        if (!"true".equals(value) && !"false".equals(value)) {
             return singletonList(configName + " has value '" + value + "' which is not a boolean");
         }
         return emptyList();
     }
 
     private List<String> validateList(String configName, String value) {
-        List<String> l = asList(value.trim().split(" *, *", -1));
+        List<String> l = asList(LIST_SEPARATOR.split(value.trim(), -1));
         if (getItems() != null) {
             HashSet<String> items = new HashSet<>(l);
-            items.removeAll(getItems());
+            items.removeIf(itemsSet()::contains);
             if (!items.isEmpty()) {
                 return singletonList(configName + " contains values " + items + " which are not in the allowed items " + getItems());
             }
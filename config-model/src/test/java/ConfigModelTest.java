@@ -118,6 +118,31 @@ public class ConfigModelTest {
                 is(singletonList("test contains values [] which are not in the allowed items [foo, bar]")));
     }
 
+    @Test
+    public void testValidationAfterModelChange() {
+        ConfigModel cm = new ConfigModel();
+        cm.setType(Type.STRING);
+        cm.setPattern("foo|bar");
+        assertThat(cm.validate("test",  "baz"),
+                is(singletonList("test has value 'baz' which does not match the required pattern: foo|bar")));
+        cm.setPattern("foo|baz");
+        assertThat(cm.validate("test",  "baz"), is(emptyList()));
+
+        cm.setPattern(null);
+        cm.setValues(asList("foo", "bar"));
+        assertThat(cm.validate("test",  "baz"),
+                is(singletonList("test has value 'baz' which is not one of the allowed values: [foo, bar]")));
+        cm.setValues(asList("foo", "baz"));
+        assertThat(cm.validate("test",  "baz"), is(emptyList()));
+
+        cm.setType(Type.LIST);
+        cm.setItems(asList("foo", "bar"));
+        assertThat(cm.validate("test", "foo,baz"),
+                is(singletonList("test contains values [baz] which are not in the allowed items [foo, bar]")));
+        cm.setItems(asList("foo", "baz"));
+        assertThat(cm.validate("test", "foo,baz"), is(emptyList()));
+    }
+
     @Test
     public void testPasswordValidation() {
         ConfigModel cm = new ConfigModel();
@@ -32,10 +32,14 @@ import javax.servlet.http.HttpServletResponse;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 
 /**
  * A very simple Java agent which polls the value of the {@code kafka.server:type=KafkaServer,name=BrokerState}
@@ -50,9 +54,19 @@ import java.util.Map;
  *      {"brokerState": 2,
  *       "recovery": {
  *          "remainingLogsToRecover": 123,
- *          "remainingSegmentsToRecover": 456
+ *          "remainingSegmentsToRecover": 456,
+ *          "segmentsRecoveredPerSecond": 12.5
  *        }
- *      }</dd>
+ *      }
+ *      The segmentsRecoveredPerSecond is the average recovery throughput since the recovery was first observed by the
+ *      agent. It is included only once the recovery is observed for at least a second.</dd>
+ *     <dt>{@code GET /v1/broker-state-stream?timeoutMs=60000}</dt>
+ *     <dd>Streams the broker state as server-sent events. An event with the same JSON as returned by the
+ *      {@code /v1/broker-state} endpoint (extended with the {@code kraftMigrationState} when available) is sent right
+ *      away and then every time the state, the recovery progress or the KRaft migration state changes. The stream is
+ *      closed after the requested timeout (60 seconds by default, at most 5 minutes). Each stream occupies a server
+ *      thread, so at most 4 streams can be open at the same time. Further requests get HTTP code 503 and should use
+ *      the {@code /v1/broker-state} endpoint instead.</dd>
  *     <dt>{@code GET /v1/ready}</dt>
  *     <dd>Returns HTTP code 204 if broker state is RUNNING(3). Otherwise returns non successful HTTP code.
  *     </dd>
@@ -63,9 +77,16 @@ public class KafkaAgent {
     private static final String BROKER_STATE_PATH = "/v1/broker-state";
     private static final String READINESS_ENDPOINT_PATH = "/v1/ready";
     private static final String KRAFT_MIGRATION_PATH = "/v1/kraft-migration";
+    private static final String BROKER_STATE_STREAM_PATH = "/v1/broker-state-stream";
     private static final int HTTPS_PORT = 8443;
     private static final int HTTP_PORT = 8080;
     private static final long GRACEFUL_SHUTDOWN_TIMEOUT_MS = 30 * 1000;
+    private static final long DEFAULT_STREAM_TIMEOUT_MS = 60 * 1000;
+    private static final long MAX_STREAM_TIMEOUT_MS = 5 * 60 * 1000;
+    private static final int MAX_CONCURRENT_STREAMS = 4;
+    private static final long STREAM_SAMPLE_INTERVAL_MS = 250;
+    private static final long STREAM_HEARTBEAT_INTERVAL_MS = 10 * 1000;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
 
     // KafkaYammerMetrics class in Kafka 3.3+
     private static final String YAMMER_METRICS_IN_KAFKA_3_3_AND_LATER = "org.apache.kafka.server.metrics.KafkaYammerMetrics";
@@ -87,6 +108,9 @@ public class KafkaAgent {
     private Gauge sessionState;
     private Gauge zkMigrationState;
     private boolean pollerRunning;
+    private long recoveryStartMs = -1;
+    private long recoveryStartSegments;
+    private LongSupplier clock = System::currentTimeMillis;
 
     /**
      * Constructor of the KafkaAgent
@@ -122,6 +146,20 @@ public class KafkaAgent {
         this.zkMigrationState = zkMigrationState;
     }
 
+    /**
+     * Constructor of the KafkaAgent
+     *
+     * @param brokerState                 Current state of the broker
+     * @param remainingLogsToRecover      Number of remaining logs to recover
+     * @param remainingSegmentsToRecover  Number of remaining segments to recover
+     * @param zkMigrationState            Current state of the ZooKeeper to KRaft migration
+     * @param clock                       Clock in milliseconds used to calculate the recovery throughput
+     */
+    /* test */ KafkaAgent(Gauge brokerState, Gauge remainingLogsToRecover, Gauge remainingSegmentsToRecover, Gauge zkMigrationState, LongSupplier clock) {
+        this(brokerState, remainingLogsToRecover, remainingSegmentsToRecover, zkMigrationState);
+        this.clock = clock;
+    }
+
     private void run() {
         Thread pollerThread = new Thread(poller(),
                 "KafkaAgentPoller");
@@ -252,8 +290,11 @@ public class KafkaAgent {
         ContextHandler kraftMigrationContext = new ContextHandler(KRAFT_MIGRATION_PATH);
         kraftMigrationContext.setHandler(getKRaftMigrationHandler());
 
+        ContextHandler brokerStateStreamContext = new ContextHandler(BROKER_STATE_STREAM_PATH);
+        brokerStateStreamContext.setHandler(getBrokerStateStreamHandler(STREAM_SAMPLE_INTERVAL_MS, MAX_CONCURRENT_STREAMS));
+
         server.setConnectors(new Connector[] {httpsConn, httpConn});
-        server.setHandler(new ContextHandlerCollection(brokerStateContext, readinessContext, kraftMigrationContext));
+        server.setHandler(new ContextHandlerCollection(brokerStateContext, readinessContext, kraftMigrationContext, brokerStateStreamContext));
 
         server.setStopTimeout(GRACEFUL_SHUTDOWN_TIMEOUT_MS);
         server.setStopAtShutdown(true);
@@ -273,20 +314,12 @@ public class KafkaAgent {
                 response.setCharacterEncoding("UTF-8");
                 baseRequest.setHandled(true);
 
-                Map<String, Object> brokerStateResponse = new HashMap<>();
                 if (brokerState != null) {
-                    if ((byte) brokerState.value() == BROKER_RECOVERY_STATE && remainingLogsToRecover != null && remainingSegmentsToRecover != null) {
-                        Map<String, Object> recoveryState = new HashMap<>();
-                        recoveryState.put("remainingLogsToRecover", remainingLogsToRecover.value());
-                        recoveryState.put("remainingSegmentsToRecover", remainingSegmentsToRecover.value());
-                        brokerStateResponse.put("brokerState", brokerState.value());
-                        brokerStateResponse.put("recoveryState", recoveryState);
-                    } else {
-                        brokerStateResponse.put("brokerState", brokerState.value());
-                    }
+                    Map<String, Object> brokerStateResponse = brokerStateResponse();
+                    addRecoveryThroughput(brokerStateResponse);
 
                     response.setStatus(HttpServletResponse.SC_OK);
-                    String json = new ObjectMapper().writeValueAsString(brokerStateResponse);
+                    String json = MAPPER.writeValueAsString(brokerStateResponse);
                     response.getWriter().print(json);
                 } else {
                     response.setStatus(HttpServletResponse.SC_NOT_FOUND);
@@ -296,6 +329,149 @@ public class KafkaAgent {
         };
     }
 
+    /**
+     * Collects the broker state and the recovery progress (when the broker is in recovery)
+     *
+     * @return  Map with the broker state which is serialized into the JSON response
+     */
+    private Map<String, Object> brokerStateResponse() {
+        Map<String, Object> brokerStateResponse = new HashMap<>();
+        if ((byte) brokerState.value() == BROKER_RECOVERY_STATE && remainingLogsToRecover != null && remainingSegmentsToRecover != null) {
+            Map<String, Object> recoveryState = new HashMap<>();
+            recoveryState.put("remainingLogsToRecover", remainingLogsToRecover.value());
+            recoveryState.put("remainingSegmentsToRecover", remainingSegmentsToRecover.value());
+            brokerStateResponse.put("brokerState", brokerState.value());
+            brokerStateResponse.put("recoveryState", recoveryState);
+        } else {
+            brokerStateResponse.put("brokerState", brokerState.value());
+        }
+
+        return brokerStateResponse;
+    }
+
+    /**
+     * Adds the recovery throughput to the broker state response when the broker is in recovery. The throughput is the
+     * average number of segments recovered per second since the recovery was first observed. The broker does not
+     * expose the number of recovered bytes, so only the segments are used.
+     *
+     * @param brokerStateResponse   Broker state response created by {@link #brokerStateResponse()}
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized void addRecoveryThroughput(Map<String, Object> brokerStateResponse) {
+        Map<String, Object> recoveryState = (Map<String, Object>) brokerStateResponse.get("recoveryState");
+
+        if (recoveryState == null) {
+            recoveryStartMs = -1;
+            return;
+        }
+
+        long now = clock.getAsLong();
+        long remainingSegments = ((Number) recoveryState.get("remainingSegmentsToRecover")).longValue();
+
+        if (recoveryStartMs < 0 || remainingSegments > recoveryStartSegments) {
+            recoveryStartMs = now;
+            recoveryStartSegments = remainingSegments;
+        } else if (now - recoveryStartMs >= 1000) {
+            recoveryState.put("segmentsRecoveredPerSecond", (recoveryStartSegments - remainingSegments) * 1000.0 / (now - recoveryStartMs));
+        }
+    }
+
+    /**
+     * Creates a Handler instance to handle incoming HTTP requests for the broker state stream. The gauges are sampled
+     * by the request thread and an event is written only when the state changes. Comments are sent periodically in
+     * between to detect clients which disconnected. As every stream blocks one server thread, the number of concurrent
+     * streams is limited.
+     *
+     * @param sampleIntervalMs      Interval in which the broker state is sampled
+     * @param maxConcurrentStreams  Maximal number of streams which can be open at the same time
+     *
+     * @return Handler
+     */
+    /* test */ Handler getBrokerStateStreamHandler(long sampleIntervalMs, int maxConcurrentStreams) {
+        AtomicInteger openStreams = new AtomicInteger(0);
+
+        return new AbstractHandler() {
+            @Override
+            public void handle(String s, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+                baseRequest.setHandled(true);
+
+                if (brokerState == null) {
+                    response.setContentType("application/json");
+                    response.setCharacterEncoding("UTF-8");
+                    response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                    response.getWriter().print("Broker state metric not found");
+                    return;
+                }
+
+                long timeoutMs = DEFAULT_STREAM_TIMEOUT_MS;
+                try {
+                    if (request.getParameter("timeoutMs") != null) {
+                        timeoutMs = Math.max(0, Math.min(MAX_STREAM_TIMEOUT_MS, Long.parseLong(request.getParameter("timeoutMs"))));
+                    }
+                } catch (NumberFormatException e) {
+                    response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+                    response.getWriter().print("Invalid timeoutMs parameter");
+                    return;
+                }
+
+                if (openStreams.incrementAndGet() > maxConcurrentStreams) {
+                    openStreams.decrementAndGet();
+                    response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                    response.getWriter().print("Too many open broker state streams");
+                    return;
+                }
+
+                try {
+                    response.setContentType("text/event-stream");
+                    response.setCharacterEncoding("UTF-8");
+                    response.setHeader("Cache-Control", "no-cache");
+                    response.setStatus(HttpServletResponse.SC_OK);
+
+                    OutputStream out = response.getOutputStream();
+                    long deadline = System.currentTimeMillis() + timeoutMs;
+                    long lastWrite = 0;
+                    String lastState = null;
+
+                    while (true) {
+                        Map<String, Object> state = brokerStateResponse();
+                        if (zkMigrationState != null) {
+                            state.put("kraftMigrationState", zkMigrationState.value());
+                        }
+
+                        // The throughput changes with every sample, so it is not considered when detecting the changes
+                        String json = MAPPER.writeValueAsString(state);
+                        addRecoveryThroughput(state);
+                        long now = System.currentTimeMillis();
+
+                        if (!json.equals(lastState)) {
+                            out.write(("data: " + MAPPER.writeValueAsString(state) + "\n\n").getBytes(StandardCharsets.UTF_8));
+                            out.flush();
+                            lastState = json;
+                            lastWrite = now;
+                        } else if (now - lastWrite >= STREAM_HEARTBEAT_INTERVAL_MS) {
+                            // Fails when the client disconnected
+                            out.write(":\n\n".getBytes(StandardCharsets.UTF_8));
+                            out.flush();
+                            lastWrite = now;
+                        }
+
+                        if (now + sampleIntervalMs > deadline) {
+                            break;
+                        }
+
+                        Thread.sleep(sampleIntervalMs);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException e) {
+                    LOGGER.debug("Broker state stream closed by the client", e);
+                } finally {
+                    openStreams.decrementAndGet();
+                }
+            }
+        };
+    }
+
     /**
      * Creates a Handler instance to handle incoming HTTP requests for the ZooKeeper to KRaft migration state
      *
@@ -313,7 +489,7 @@ public class KafkaAgent {
                     Map<String, Object> migrationResponse = new HashMap<>();
                     migrationResponse.put("state", zkMigrationState.value());
                     response.setStatus(HttpServletResponse.SC_OK);
-                    String json = new ObjectMapper().writeValueAsString(migrationResponse);
+                    String json = MAPPER.writeValueAsString(migrationResponse);
                     response.getWriter().print(json);
                 } else {
                     response.setStatus(HttpServletResponse.SC_NOT_FOUND);
@@ -4,6 +4,7 @@
  */
 package io.strimzi.kafka.agent;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yammer.metrics.core.Gauge;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
@@ -20,8 +21,15 @@ import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -99,6 +107,38 @@ public class KafkaAgentTest {
         assertThat(expectedResponse, is(response.body()));
     }
 
+    @Test
+    public void testBrokerRecoveryThroughput() throws Exception {
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge brokerState = mock(Gauge.class);
+        when(brokerState.value()).thenReturn((byte) 2);
+
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge remainingLogs = mock(Gauge.class);
+        when(remainingLogs.value()).thenReturn(10);
+
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge remainingSegments = mock(Gauge.class);
+        when(remainingSegments.value()).thenReturn(1000, 0);
+
+        AtomicLong clock = new AtomicLong(1_000_000);
+        KafkaAgent agent = new KafkaAgent(brokerState, remainingLogs, remainingSegments, null, clock::get);
+        context.setHandler(agent.getBrokerStateHandler());
+        server.setHandler(context);
+        server.start();
+
+        HttpClient client = HttpClient.newBuilder().build();
+        HttpResponse<String> response = client.send(req, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.body(), is("{\"brokerState\":2,\"recoveryState\":{\"remainingLogsToRecover\":10,\"remainingSegmentsToRecover\":1000}}"));
+
+        clock.addAndGet(4_000);
+
+        response = client.send(req, HttpResponse.BodyHandlers.ofString());
+        Map<?, ?> recoveryState = (Map<?, ?>) new ObjectMapper().readValue(response.body(), Map.class).get("recoveryState");
+        assertThat(recoveryState.get("remainingSegmentsToRecover"), is(0));
+        assertThat(((Number) recoveryState.get("segmentsRecoveredPerSecond")).doubleValue(), is(250.0));
+    }
+
     @Test
     public void testBrokerMetricNotFound() throws Exception {
         KafkaAgent agent = new KafkaAgent(null, null, null, null);
@@ -221,4 +261,92 @@ public class KafkaAgentTest {
                 .send(req, HttpResponse.BodyHandlers.ofString());
         assertThat(HttpServletResponse.SC_NOT_FOUND, is(response.statusCode()));
     }
+
+    @Test
+    public void testBrokerStateStream() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge brokerState = mock(Gauge.class);
+        // The broker state is read twice per sample => it finishes the recovery in the third sample
+        when(brokerState.value()).thenAnswer(invocation -> calls.incrementAndGet() <= 4 ? (byte) 2 : (byte) 3);
+
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge remainingLogs = mock(Gauge.class);
+        when(remainingLogs.value()).thenReturn((byte) 10);
+
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge remainingSegments = mock(Gauge.class);
+        when(remainingSegments.value()).thenReturn((byte) 100);
+
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge zkMigrationState = mock(Gauge.class);
+        when(zkMigrationState.value()).thenReturn(1);
+
+        KafkaAgent agent = new KafkaAgent(brokerState, remainingLogs, remainingSegments, zkMigrationState);
+        context.setHandler(agent.getBrokerStateStreamHandler(50, 4));
+        server.setHandler(context);
+        server.start();
+
+        HttpRequest streamReq = HttpRequest.newBuilder()
+                .uri(new URI("http://localhost:8080/?timeoutMs=500"))
+                .GET()
+                .build();
+
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(streamReq, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode(), is(HttpServletResponse.SC_OK));
+        assertThat(response.headers().firstValue("Content-Type").orElse(""), startsWith("text/event-stream"));
+
+        ObjectMapper mapper = new ObjectMapper();
+        List<Map<?, ?>> events = new ArrayList<>();
+        for (String line : response.body().lines().filter(line -> line.startsWith("data: ")).toList()) {
+            events.add(mapper.readValue(line.substring("data: ".length()), Map.class));
+        }
+
+        assertThat(events, is(List.of(
+                Map.of("kraftMigrationState", 1, "brokerState", 2, "recoveryState", Map.of("remainingLogsToRecover", 10, "remainingSegmentsToRecover", 100)),
+                Map.of("kraftMigrationState", 1, "brokerState", 3))));
+    }
+
+    @Test
+    public void testBrokerStateStreamLimit() throws Exception {
+        @SuppressWarnings({ "rawtypes" })
+        final Gauge brokerState = mock(Gauge.class);
+        when(brokerState.value()).thenReturn((byte) 3);
+
+        KafkaAgent agent = new KafkaAgent(brokerState, null, null, null);
+        context.setHandler(agent.getBrokerStateStreamHandler(50, 1));
+        server.setHandler(context);
+        server.start();
+
+        HttpRequest streamReq = HttpRequest.newBuilder()
+                .uri(new URI("http://localhost:8080/?timeoutMs=2000"))
+                .GET()
+                .build();
+        HttpClient client = HttpClient.newBuilder().build();
+
+        // The first stream is open once its headers are received
+        HttpResponse<Stream<String>> first = client.send(streamReq, HttpResponse.BodyHandlers.ofLines());
+        assertThat(first.statusCode(), is(HttpServletResponse.SC_OK));
+
+        try (Stream<String> ignored = first.body()) {
+            HttpResponse<String> second = client.send(streamReq, HttpResponse.BodyHandlers.ofString());
+            assertThat(second.statusCode(), is(HttpServletResponse.SC_SERVICE_UNAVAILABLE));
+        }
+    }
+
+    @Test
+    public void testBrokerStateStreamMetricNotFound() throws Exception {
+        KafkaAgent agent = new KafkaAgent(null, null, null, null);
+        context.setHandler(agent.getBrokerStateStreamHandler(50, 4));
+        server.setHandler(context);
+        server.start();
+
+        HttpResponse<String> response = HttpClient.newBuilder()
+                .build()
+                .send(req, HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode(), is(HttpServletResponse.SC_NOT_FOUND));
+    }
 }
@@ -9,6 +9,8 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -43,6 +45,18 @@ public interface MetricsProvider {
      */
     Timer timer(String name, String description, Tags tags);
 
+    /**
+     * Creates new Timer type metric with custom histogram buckets. This is used for the timers which measure
+     * operations which usually take only a fraction of a second.
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @param buckets       Upper bounds of the histogram buckets
+     * @return              Timer metric
+     */
+    Timer timer(String name, String description, Tags tags, List<Duration> buckets);
+
     /**
      * Creates new Gauge type metric
      *
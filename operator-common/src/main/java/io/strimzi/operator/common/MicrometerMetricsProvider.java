@@ -11,6 +11,7 @@ import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -18,6 +19,10 @@ import java.util.concurrent.atomic.AtomicLong;
  * Wraps creation of Micrometer metrics.
  */
 public class MicrometerMetricsProvider implements MetricsProvider {
+    private static final List<Duration> DEFAULT_TIMER_BUCKETS = List.of(Duration.ofMillis(1000), Duration.ofMillis(5000),
+            Duration.ofMillis(10000), Duration.ofMillis(30000), Duration.ofMillis(60000), Duration.ofMillis(120000),
+            Duration.ofMillis(300000));
+
     protected final MeterRegistry metrics;
 
     /**
@@ -65,9 +70,23 @@ public class MicrometerMetricsProvider implements MetricsProvider {
      */
     @Override
     public Timer timer(String name, String description, Tags tags) {
+        return timer(name, description, tags, DEFAULT_TIMER_BUCKETS);
+    }
+
+    /**
+     * Creates new Timer type metric with custom histogram buckets
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @param buckets       Upper bounds of the histogram buckets
+     * @return              Timer metric
+     */
+    @Override
+    public Timer timer(String name, String description, Tags tags, List<Duration> buckets) {
         return Timer.builder(name)
                 .description(description)
-                .sla(Duration.ofMillis(1000), Duration.ofMillis(5000), Duration.ofMillis(10000), Duration.ofMillis(30000), Duration.ofMillis(60000), Duration.ofMillis(120000), Duration.ofMillis(300000))
+                .sla(buckets.toArray(new Duration[0]))
                 .tags(tags)
                 .register(metrics);
     }
@@ -30,6 +30,7 @@ public class Reconciliation {
     private final String name;
     private final int id;
     private final Marker marker;
+    private final String string;
 
     /**
      * Constructs the reconciliation marker
@@ -46,6 +47,22 @@ public class Reconciliation {
         this.name = name;
         this.id = IDS.getAndIncrement();
         this.marker = MarkerManager.getMarker(this.kind + "(" + this.namespace + "/" + this.name + ")");
+        // The reconciliation is immutable and its string representation is used as the prefix of every log message
+        this.string = "Reconciliation #" + id + "(" + trigger + ") " + kind + "(" + namespace + "/" + name + ")";
+    }
+
+    /**
+     * @return  Unique ID of the reconciliation
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * @return  Trigger of the reconciliation
+     */
+    public String trigger() {
+        return trigger;
     }
 
     /**
@@ -78,6 +95,6 @@ public class Reconciliation {
 
     @Override
     public String toString() {
-        return "Reconciliation #" + id + "(" + trigger + ") " + kind() + "(" + namespace() + "/" + name() + ")";
+        return string;
     }
 }
@@ -21,6 +21,11 @@ import java.io.Serializable;
  * Custom Logger interface with convenience methods for
  * the OFF, FATAL, ERROR, WARN, INFO, DEBUG, TRACE and ALL custom log levels.
  * <p>Compatible with Log4j 2.6 or higher.</p>
+ *
+ * <p>The methods logging with a {@link Reconciliation} check whether the level is enabled before building the message
+ * prefixed with the reconciliation. When the level is disabled, they do not allocate anything as long as the message
+ * has at most 10 parameters. Callers which compute the parameters of the message should guard the call with
+ * {@link #isDebugEnabled()} or {@link #isTraceEnabled()} or use the {@link Supplier} based methods.</p>
  */
 public class ReconciliationLogger implements Serializable {
     private static final long serialVersionUID = 258810740149174L;
@@ -5645,7 +5650,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void offCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5656,7 +5663,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5668,7 +5677,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void offCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -5681,7 +5692,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -5691,7 +5704,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void offCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5702,7 +5717,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -5714,7 +5731,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -5727,7 +5746,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -5741,7 +5762,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -5757,7 +5780,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -5774,7 +5799,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -5792,7 +5819,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -5811,7 +5840,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -5832,7 +5863,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -5854,7 +5887,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -5877,7 +5912,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -5889,7 +5926,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -5915,7 +5954,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(OFF, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -5989,7 +6030,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void fatalCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6000,7 +6043,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6012,7 +6057,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void fatalCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6025,7 +6072,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6035,7 +6084,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6046,7 +6097,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -6058,7 +6111,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -6071,7 +6126,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -6085,7 +6142,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6101,7 +6160,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6118,7 +6179,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6136,7 +6199,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6155,7 +6220,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6176,7 +6243,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6198,7 +6267,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6221,7 +6292,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6233,7 +6306,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6259,7 +6334,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(FATAL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -6333,7 +6410,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void errorCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6344,7 +6423,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6356,7 +6437,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void errorCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6369,7 +6452,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6379,7 +6464,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void errorCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6390,7 +6477,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -6402,7 +6491,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -6415,7 +6506,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -6429,7 +6522,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6445,7 +6540,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6462,7 +6559,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6480,7 +6579,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6499,7 +6600,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6520,7 +6623,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6542,7 +6647,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6565,7 +6672,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6577,7 +6686,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6603,7 +6714,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(ERROR, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -6677,7 +6790,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void warnCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6688,7 +6803,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6700,7 +6817,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void warnCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6713,7 +6832,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6723,7 +6844,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void warnCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6734,7 +6857,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -6746,7 +6871,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -6759,7 +6886,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -6773,7 +6902,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6789,7 +6920,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6806,7 +6939,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6824,7 +6959,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6843,7 +6980,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6864,7 +7003,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6886,7 +7027,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6909,7 +7052,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6921,7 +7066,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6971,7 +7118,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(WARN, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7045,7 +7194,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void infoCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7056,7 +7207,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7068,7 +7221,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void infoCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7081,7 +7236,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7091,7 +7248,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void infoCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7102,7 +7261,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -7114,7 +7275,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -7127,7 +7290,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -7141,7 +7306,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7157,7 +7324,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7174,7 +7343,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7192,7 +7363,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7211,7 +7384,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7232,7 +7407,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7254,7 +7431,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7277,7 +7456,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7289,7 +7470,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7315,7 +7498,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(INFO, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7389,7 +7574,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void debugCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7400,7 +7587,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7412,7 +7601,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void debugCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7425,7 +7616,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7435,7 +7628,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void debugCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7446,7 +7641,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -7458,7 +7655,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -7471,7 +7670,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -7485,7 +7686,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7501,7 +7704,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7518,7 +7723,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7536,7 +7743,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7555,7 +7764,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7576,7 +7787,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7598,7 +7811,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7621,7 +7836,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7633,7 +7850,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7683,7 +7902,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(DEBUG, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7757,7 +7978,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void traceCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7768,7 +7991,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7780,7 +8005,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void traceCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7793,7 +8020,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7803,7 +8032,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void traceCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7814,7 +8045,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -7826,7 +8059,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -7839,7 +8074,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -7853,7 +8090,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7869,7 +8108,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7886,7 +8127,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7904,7 +8147,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7923,7 +8168,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7944,7 +8191,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7966,7 +8215,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7989,7 +8240,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -8001,7 +8254,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -8027,7 +8282,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(TRACE, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -8101,7 +8358,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void allCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8112,7 +8371,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8124,7 +8385,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void allCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -8137,7 +8400,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -8147,7 +8412,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void allCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8158,7 +8425,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -8170,7 +8439,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -8183,7 +8454,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -8197,7 +8470,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -8213,7 +8488,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -8230,7 +8507,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -8248,7 +8527,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -8267,7 +8548,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -8288,7 +8571,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -8310,7 +8595,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -8333,7 +8620,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -8345,7 +8634,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -8371,7 +8662,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (logger.isEnabled(ALL, reconciliation.getMarker())) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -8417,6 +8710,32 @@ public class ReconciliationLogger implements Serializable {
         logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), msgSupplier, t);
     }
 
+    /**
+     * Checks whether the messages logged by the *Cr methods at the given level for the given reconciliation would be
+     * logged. Unlike {@link #isDebugEnabled()} or {@link #isTraceEnabled()}, it takes into account the marker of the
+     * reconciliation, so it can be used to guard expensive log messages of the *Cr methods.
+     *
+     * @param level             The logging level
+     * @param reconciliation    The reconciliation
+     *
+     * @return  True if logging is enabled for the level and the marker of the reconciliation. False otherwise.
+     */
+    public boolean isEnabled(final Level level, final Reconciliation reconciliation) {
+        return logger.isEnabled(level, reconciliation.getMarker());
+    }
+
+    /**
+     * Checks whether the messages logged by the *Op methods at the given level would be logged. These messages do not
+     * use any marker.
+     *
+     * @param level     The logging level
+     *
+     * @return  True if logging is enabled for the level. False otherwise.
+     */
+    public boolean isEnabled(final Level level) {
+        return logger.isEnabled(level, null);
+    }
+
     /**
      * @return  True if fatal logging is enabled. False otherwise.
      */
@@ -0,0 +1,108 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Utility methods for working with virtual threads. The operators are built for Java 17 where the virtual threads are
+ * not available. When they run on a newer Java runtime with virtual thread support, the virtual threads are looked up
+ * and used through reflection. On runtimes without the virtual thread support, the callers fall back to the platform
+ * threads.
+ */
+public class VirtualThreads {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(VirtualThreads.class);
+
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutor();
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+    private static final Method BUILDER_NAME = findMethod("java.lang.Thread$Builder", "name", String.class);
+    private static final Method BUILDER_UNSTARTED = findMethod("java.lang.Thread$Builder", "unstarted", Runnable.class);
+
+    private VirtualThreads() {
+        // Utility class
+    }
+
+    private static Method findVirtualThreadPerTaskExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            // On Java 19 and 20, the virtual threads are a preview feature and creating the executor fails unless the
+            // preview features are enabled
+            ((ExecutorService) method.invoke(null)).shutdown();
+            return method;
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static Method findMethod(String className, String name, Class<?>... parameterTypes) {
+        try {
+            return findMethod(Class.forName(className), name, parameterTypes);
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+    }
+
+    private static Method findMethod(Class<?> cls, String name, Class<?>... parameterTypes) {
+        try {
+            return cls.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return  True if the Java runtime supports virtual threads. False otherwise.
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor which starts a new virtual thread for each task.
+     *
+     * @param name  Name of the executor used for logging
+     *
+     * @return  The executor or null if the virtual threads are not supported by the Java runtime
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(String name) {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            LOGGER.warnOp("Virtual threads are not supported by the Java runtime {}. Platform threads will be used for {}.", Runtime.version(), name);
+            return null;
+        }
+
+        try {
+            LOGGER.infoOp("Using virtual threads for {}", name);
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.warnOp("Failed to create virtual thread executor. Platform threads will be used for {}.", name, e);
+            return null;
+        }
+    }
+
+    /**
+     * Creates a new thread. When the virtual threads are requested and supported by the Java runtime, a virtual thread
+     * is created. Otherwise, a platform thread is created.
+     *
+     * @param name      Name of the thread
+     * @param task      Task which the thread runs
+     * @param virtual   Flag indicating whether virtual thread should be created
+     *
+     * @return  New unstarted thread
+     */
+    public static Thread newThread(String name, Runnable task, boolean virtual) {
+        if (virtual && isSupported() && OF_VIRTUAL != null && BUILDER_NAME != null && BUILDER_UNSTARTED != null) {
+            try {
+                Object builder = BUILDER_NAME.invoke(OF_VIRTUAL.invoke(null), name);
+                return (Thread) BUILDER_UNSTARTED.invoke(builder, task);
+            } catch (ReflectiveOperationException e) {
+                LOGGER.warnOp("Failed to create virtual thread {}. Platform thread will be used instead.", name, e);
+            }
+        }
+
+        return new Thread(task, name);
+    }
+}
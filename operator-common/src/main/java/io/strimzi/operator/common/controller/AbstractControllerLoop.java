@@ -7,6 +7,8 @@ package io.strimzi.operator.common.controller;
 import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.VirtualThreads;
+import io.strimzi.operator.common.diagnostics.InFlightReconciliations;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 
 import java.util.concurrent.ScheduledExecutorService;
@@ -41,11 +43,28 @@ public abstract class AbstractControllerLoop {
      * @param scheduledExecutor     Scheduled executor service used to run the progress warnings
      */
     public AbstractControllerLoop(String name, ControllerQueue workQueue, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor) {
+        this(name, workQueue, lockManager, scheduledExecutor, false);
+    }
+
+    /**
+     * Creates the controller. The controller should normally exist once per operator for cluster-wide mode or once per
+     * namespace for namespaced mode.
+     *
+     * @param name                  The name of this controller loop. The name should help to identify what kind
+     *                              of look this is and what does it control / reconciler.
+     * @param workQueue             Queue from which events should be consumed
+     * @param lockManager           Lock manager for making sure no parallel reconciliations for a given resource can happen
+     * @param scheduledExecutor     Scheduled executor service used to run the progress warnings
+     * @param virtualThread         Run the controller loop in a virtual thread when supported by the Java runtime. The
+     *                              controller loops spend most of their time waiting for the Kubernetes or Kafka
+     *                              operations, so running them in virtual threads allows to run many more of them.
+     */
+    public AbstractControllerLoop(String name, ControllerQueue workQueue, ReconciliationLockManager lockManager, ScheduledExecutorService scheduledExecutor, boolean virtualThread) {
         this.name = name;
         this.workQueue = workQueue;
         this.lockManager = lockManager;
         this.scheduledExecutor = scheduledExecutor;
-        this.controllerThread = new Thread(new Runner(), name);
+        this.controllerThread = VirtualThreads.newThread(name, new Runner(), virtualThread);
     }
 
     /**
@@ -152,6 +171,7 @@ public abstract class AbstractControllerLoop {
                 .scheduleAtFixedRate(() -> LOGGER.infoCr(reconciliation, "Reconciliation is in progress"), PROGRESS_WARNING_MS, PROGRESS_WARNING_MS, TimeUnit.MILLISECONDS);
         metrics().reconciliationsCounter(reconciliation.namespace()).increment(); // Increase the reconciliation counter
         Timer.Sample reconciliationTimerSample = Timer.start(metrics().metricsProvider().meterRegistry()); // Start the reconciliation timer
+        InFlightReconciliations.started(reconciliation, "reconciling"); // Track the reconciliation for the diagnostics
 
         // Reconciliation
         try {
@@ -160,6 +180,7 @@ public abstract class AbstractControllerLoop {
             // Tasks after reconciliation
             reconciliationTimerSample.stop(metrics().reconciliationsTimer(reconciliation.namespace())); // Stop the reconciliation timer
             progressWarning.cancel(true); // Stop the progress warning
+            InFlightReconciliations.finished(reconciliation); // Stop tracking the reconciliation
         }
     }
 
@@ -0,0 +1,147 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.diagnostics;
+
+import io.strimzi.operator.common.Reconciliation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the reconciliations which are currently in progress and of the step they are currently in. It is
+ * used by the diagnostics endpoints to show what the operator is doing. The tracking is disabled by default and all
+ * methods are no-ops until it is enabled.
+ */
+public class InFlightReconciliations {
+    private static final Map<Reconciliation, Entry> RECONCILIATIONS = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = false;
+
+    private InFlightReconciliations() {
+        // Utility class
+    }
+
+    /**
+     * Enables or disables the tracking of the reconciliations. Disabling the tracking forgets the tracked
+     * reconciliations.
+     *
+     * @param enable    True to enable the tracking. False to disable it.
+     */
+    public static void enabled(boolean enable) {
+        enabled = enable;
+
+        if (!enable) {
+            RECONCILIATIONS.clear();
+        }
+    }
+
+    /**
+     * @return  True if the tracking is enabled. False otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Marks the reconciliation as started
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param step              Initial step of the reconciliation
+     */
+    public static void started(Reconciliation reconciliation, String step) {
+        if (enabled) {
+            RECONCILIATIONS.put(reconciliation, new Entry(reconciliation, step));
+        }
+    }
+
+    /**
+     * Updates the current step of the reconciliation. Steps of reconciliations which are not tracked are ignored.
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param step              Current step of the reconciliation
+     */
+    public static void step(Reconciliation reconciliation, String step) {
+        if (enabled) {
+            Entry entry = RECONCILIATIONS.get(reconciliation);
+
+            if (entry != null) {
+                entry.step(step);
+            }
+        }
+    }
+
+    /**
+     * Marks the reconciliation as finished
+     *
+     * @param reconciliation    Reconciliation marker
+     */
+    public static void finished(Reconciliation reconciliation) {
+        if (enabled) {
+            RECONCILIATIONS.remove(reconciliation);
+        }
+    }
+
+    /**
+     * @return  List of the reconciliations in progress ordered from the longest running
+     */
+    public static List<Entry> snapshot() {
+        List<Entry> entries = new ArrayList<>(RECONCILIATIONS.values());
+        entries.sort(Comparator.comparingLong(entry -> entry.startedNanos));
+        return entries;
+    }
+
+    /**
+     * Reconciliation in progress
+     */
+    public static class Entry {
+        private final Reconciliation reconciliation;
+        private final long startedNanos;
+        private volatile String step;
+        private volatile long stepStartedNanos;
+
+        Entry(Reconciliation reconciliation, String step) {
+            this.reconciliation = reconciliation;
+            this.startedNanos = System.nanoTime();
+            this.step = step;
+            this.stepStartedNanos = startedNanos;
+        }
+
+        private void step(String step) {
+            this.step = step;
+            this.stepStartedNanos = System.nanoTime();
+        }
+
+        /**
+         * @return  Reconciliation marker
+         */
+        public Reconciliation reconciliation() {
+            return reconciliation;
+        }
+
+        /**
+         * @return  Current step of the reconciliation
+         */
+        public String step() {
+            return step;
+        }
+
+        /**
+         * @return  Time in milliseconds since the reconciliation started
+         */
+        public long elapsedMs() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+        }
+
+        /**
+         * @return  Time in milliseconds since the reconciliation entered its current step
+         */
+        public long stepElapsedMs() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - stepStartedNanos);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.diagnostics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Diagnostics endpoints of the operators. They are served under the {@code /diagnostics} path by the health check and
+ * metrics webservers when the diagnostics are enabled:
+ *     - GET /diagnostics/threads returns a thread dump
+ *     - GET /diagnostics/reconciliations returns the reconciliations in progress with their current step
+ *     - POST /diagnostics/jfr/start starts a JFR recording
+ *     - POST /diagnostics/jfr/stop stops the JFR recording
+ *     - GET /diagnostics/jfr downloads the last stopped JFR recording
+ *
+ * This class is independent of the webserver. The webservers pass the HTTP method and path to
+ * {@link #handle(String, String)} and send back the returned response.
+ *
+ * The endpoints are not authenticated. They should be enabled only temporarily and only when the access to the
+ * health check and metrics port is restricted.
+ */
+public class OperatorDiagnostics {
+    private static final Logger LOGGER = LogManager.getLogger(OperatorDiagnostics.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /**
+     * Path under which the diagnostics endpoints are served
+     */
+    public static final String PATH = "/diagnostics";
+
+    private static final String JFR_CONFIGURATION = "profile";
+
+    /**
+     * The JFR recording keeps at most this amount of data on the disk. Older data is discarded.
+     */
+    /* test */ static final long JFR_MAX_SIZE_BYTES = 100L * 1024 * 1024;
+
+    /**
+     * The JFR recording keeps at most this duration of data on the disk. Older data is discarded.
+     */
+    /* test */ static final Duration JFR_MAX_AGE = Duration.ofMinutes(30);
+
+    private Recording recording;
+    private Path recordingFile;
+
+    /**
+     * Handles the diagnostics request
+     *
+     * @param method    HTTP method
+     * @param path      Path of the request (including the /diagnostics prefix)
+     *
+     * @return  Response which should be sent to the client
+     */
+    public Response handle(String method, String path) {
+        try {
+            switch (path) {
+                case PATH + "/threads":
+                    return "GET".equals(method) ? Response.text(200, threadDump()) : Response.methodNotAllowed();
+                case PATH + "/reconciliations":
+                    return "GET".equals(method) ? Response.json(200, reconciliations()) : Response.methodNotAllowed();
+                case PATH + "/jfr/start":
+                    return "POST".equals(method) ? startRecording() : Response.methodNotAllowed();
+                case PATH + "/jfr/stop":
+                    return "POST".equals(method) ? stopRecording() : Response.methodNotAllowed();
+                case PATH + "/jfr":
+                    return "GET".equals(method) ? downloadRecording() : Response.methodNotAllowed();
+                default:
+                    return Response.text(404, "Not found");
+            }
+        } catch (Exception e) {
+            LOGGER.error("Failed to handle diagnostics request {} {}", method, path, e);
+            return Response.text(500, "Failed to handle the request: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Creates the thread dump. Unlike ThreadInfo#toString(), the full stack traces are included.
+     *
+     * @return  Thread dump
+     */
+    /* test */ static String threadDump() {
+        StringBuilder dump = new StringBuilder();
+
+        for (ThreadInfo thread : ManagementFactory.getThreadMXBean().dumpAllThreads(true, true)) {
+            dump.append('"').append(thread.getThreadName()).append("\" #").append(thread.getThreadId())
+                    .append(thread.isDaemon() ? " daemon" : "")
+                    .append(" prio=").append(thread.getPriority())
+                    .append(' ').append(thread.getThreadState());
+
+            if (thread.getLockName() != null) {
+                dump.append(" on ").append(thread.getLockName());
+            }
+
+            if (thread.getLockOwnerName() != null) {
+                dump.append(" owned by \"").append(thread.getLockOwnerName()).append("\" #").append(thread.getLockOwnerId());
+            }
+
+            dump.append('\n');
+
+            StackTraceElement[] stackTrace = thread.getStackTrace();
+            for (int i = 0; i < stackTrace.length; i++) {
+                dump.append("\tat ").append(stackTrace[i]).append('\n');
+
+                for (MonitorInfo monitor : thread.getLockedMonitors()) {
+                    if (monitor.getLockedStackDepth() == i) {
+                        dump.append("\t- locked ").append(monitor).append('\n');
+                    }
+                }
+            }
+
+            LockInfo[] synchronizers = thread.getLockedSynchronizers();
+            if (synchronizers.length > 0) {
+                dump.append("\tLocked synchronizers:\n");
+
+                for (LockInfo synchronizer : synchronizers) {
+                    dump.append("\t- ").append(synchronizer).append('\n');
+                }
+            }
+
+            dump.append('\n');
+        }
+
+        return dump.toString();
+    }
+
+    /* test */ static String reconciliations() throws IOException {
+        List<Map<String, Object>> reconciliations = new ArrayList<>();
+
+        for (InFlightReconciliations.Entry entry : InFlightReconciliations.snapshot()) {
+            Map<String, Object> reconciliation = new LinkedHashMap<>();
+            reconciliation.put("id", entry.reconciliation().id());
+            reconciliation.put("trigger", entry.reconciliation().trigger());
+            reconciliation.put("kind", entry.reconciliation().kind());
+            reconciliation.put("namespace", entry.reconciliation().namespace());
+            reconciliation.put("name", entry.reconciliation().name());
+            reconciliation.put("step", entry.step());
+            reconciliation.put("elapsedMs", entry.elapsedMs());
+            reconciliation.put("stepElapsedMs", entry.stepElapsedMs());
+            reconciliations.add(reconciliation);
+        }
+
+        return MAPPER.writeValueAsString(reconciliations);
+    }
+
+    private synchronized Response startRecording() throws IOException, ParseException {
+        if (recording != null) {
+            return Response.text(409, "JFR recording is already running");
+        }
+
+        recording = new Recording(Configuration.getConfiguration(JFR_CONFIGURATION));
+        recording.setName("strimzi-diagnostics");
+        recording.setToDisk(true);
+        recording.setMaxSize(JFR_MAX_SIZE_BYTES);
+        recording.setMaxAge(JFR_MAX_AGE);
+        recording.start();
+        LOGGER.info("JFR recording started");
+
+        return Response.text(200, "JFR recording started");
+    }
+
+    private synchronized Response stopRecording() throws IOException {
+        if (recording == null) {
+            return Response.text(409, "JFR recording is not running");
+        }
+
+        try {
+            recording.stop();
+
+            Path file = Files.createTempFile("strimzi-diagnostics-", ".jfr");
+            recording.dump(file);
+            replaceRecordingFile(file);
+        } finally {
+            recording.close();
+            recording = null;
+        }
+
+        LOGGER.info("JFR recording stopped");
+
+        return Response.text(200, "JFR recording stopped");
+    }
+
+    private synchronized Response downloadRecording() {
+        if (recordingFile == null) {
+            return Response.text(404, "No JFR recording is available");
+        }
+
+        return Response.file(200, "application/octet-stream", recordingFile);
+    }
+
+    private void replaceRecordingFile(Path file) throws IOException {
+        if (recordingFile != null) {
+            Files.deleteIfExists(recordingFile);
+        }
+
+        recordingFile = file;
+    }
+
+    /**
+     * Response of the diagnostics endpoint. Large responses (the JFR recordings) are not loaded into the memory. They
+     * have no body and the webserver streams them from the file instead. The file stays available until the next JFR
+     * recording is stopped.
+     *
+     * @param status        HTTP status code
+     * @param contentType   Content type of the body
+     * @param body          Body of the response or null when the response is streamed from a file
+     * @param file          File with the body of the response or null when the body is used
+     */
+    public record Response(int status, String contentType, byte[] body, Path file) {
+        private static Response text(int status, String text) {
+            return new Response(status, "text/plain", text.getBytes(StandardCharsets.UTF_8), null);
+        }
+
+        private static Response json(int status, String json) {
+            return new Response(status, "application/json", json.getBytes(StandardCharsets.UTF_8), null);
+        }
+
+        private static Response file(int status, String contentType, Path file) {
+            return new Response(status, contentType, null, file);
+        }
+
+        private static Response methodNotAllowed() {
+            return text(405, "Method not allowed");
+        }
+    }
+}
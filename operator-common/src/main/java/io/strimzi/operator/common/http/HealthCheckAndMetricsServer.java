@@ -6,6 +6,7 @@ package io.strimzi.operator.common.http;
 
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.diagnostics.OperatorDiagnostics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.eclipse.jetty.server.Handler;
@@ -19,6 +20,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
+import java.nio.file.Files;
 
 /**
  * Jetty based web server used for health checks and metrics
@@ -32,6 +34,7 @@ public class HealthCheckAndMetricsServer {
 
     private final Readiness readiness;
     private final PrometheusMeterRegistry prometheusMeterRegistry;
+    private final OperatorDiagnostics diagnostics;
 
     /**
      * Constructs the health check and metrics webserver. This constructor will use the default port 8081.
@@ -44,6 +47,19 @@ public class HealthCheckAndMetricsServer {
         this(HEALTH_CHECK_PORT, liveness, readiness, metricsProvider);
     }
 
+    /**
+     * Constructs the health check and metrics webserver with the diagnostics endpoints. This constructor will use the
+     * default port 8081.
+     *
+     * @param liveness          Callback used for the health check.
+     * @param readiness         Callback used for the readiness check.
+     * @param metricsProvider   Metrics provider for integrating Prometheus metrics.
+     * @param diagnostics       Diagnostics served under the /diagnostics path. Null if the diagnostics are disabled.
+     */
+    public HealthCheckAndMetricsServer(Liveness liveness, Readiness readiness, MetricsProvider metricsProvider, OperatorDiagnostics diagnostics) {
+        this(HEALTH_CHECK_PORT, liveness, readiness, metricsProvider, diagnostics);
+    }
+
     /**
      * Constructs the health check and metrics webserver. This constructor has a configurable port and is designed to be
      * used in tests.
@@ -54,8 +70,22 @@ public class HealthCheckAndMetricsServer {
      * @param metricsProvider   Metrics provider for integrating Prometheus metrics.
      */
     public HealthCheckAndMetricsServer(int port, Liveness liveness, Readiness readiness, MetricsProvider metricsProvider) {
+        this(port, liveness, readiness, metricsProvider, null);
+    }
+
+    /**
+     * Constructs the health check and metrics webserver with the diagnostics endpoints.
+     *
+     * @param port              Port number which should be used by the web server.
+     * @param liveness          Callback used for the health check.
+     * @param readiness         Callback used for the readiness check.
+     * @param metricsProvider   Metrics provider for integrating Prometheus metrics.
+     * @param diagnostics       Diagnostics served under the /diagnostics path. Null if the diagnostics are disabled.
+     */
+    public HealthCheckAndMetricsServer(int port, Liveness liveness, Readiness readiness, MetricsProvider metricsProvider, OperatorDiagnostics diagnostics) {
         this.liveness = liveness;
         this.readiness = readiness;
+        this.diagnostics = diagnostics;
         // If the metrics provider is Prometheus based, we integrate it into the webserver
         this.prometheusMeterRegistry = metricsProvider != null && metricsProvider.meterRegistry() instanceof PrometheusMeterRegistry ? (PrometheusMeterRegistry) metricsProvider.meterRegistry() : null;
 
@@ -75,6 +105,10 @@ public class HealthCheckAndMetricsServer {
             contexts.addHandler(contextHandler("/ready", new ReadyHandler()));
         }
 
+        if (diagnostics != null) {
+            contexts.addHandler(contextHandler(OperatorDiagnostics.PATH, new DiagnosticsHandler()));
+        }
+
         server.setHandler(contexts);
     }
 
@@ -171,4 +205,27 @@ public class HealthCheckAndMetricsServer {
             baseRequest.setHandled(true);
         }
     }
+
+    /**
+     * Handler responsible for the diagnostics endpoints
+     */
+    class DiagnosticsHandler extends AbstractHandler {
+        @Override
+        public void handle(String target, Request baseRequest, HttpServletRequest request, HttpServletResponse response) throws IOException {
+            OperatorDiagnostics.Response diagnosticsResponse = diagnostics.handle(request.getMethod(), request.getRequestURI());
+
+            response.setStatus(diagnosticsResponse.status());
+            response.setContentType(diagnosticsResponse.contentType());
+
+            if (diagnosticsResponse.file() != null) {
+                response.setContentLengthLong(Files.size(diagnosticsResponse.file()));
+                Files.copy(diagnosticsResponse.file(), response.getOutputStream());
+            } else {
+                response.getOutputStream().write(diagnosticsResponse.body());
+            }
+
+            LOGGER.debug("Responding {} to {} {}", response.getStatus(), request.getMethod(), request.getRequestURI());
+            baseRequest.setHandled(true);
+        }
+    }
 }
@@ -12,6 +12,9 @@ public class MetricKey {
     protected final String kind;
     protected final String namespace;
 
+    // The key is used in equals() and hashCode() for every lookup of the metric, so it is built only once
+    private String key;
+
     /**
      * Constructor
      *
@@ -29,20 +32,31 @@ public class MetricKey {
      * @return  Key of the metric
      */
     public String getKey() {
-        return String.format("%s/%s", kind, namespace);
+        return kind + "/" + namespace;
+    }
+
+    private String key() {
+        String key = this.key;
+
+        if (key == null) {
+            key = getKey();
+            this.key = key;
+        }
+
+        return key;
     }
 
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof MetricKey metricKey) {
-            return getKey().equals(metricKey.getKey());
+            return key().equals(metricKey.key());
         }
         return false;
     }
 
     @Override
     public int hashCode() {
-        return getKey().hashCode();
+        return key().hashCode();
     }
 
     @Override
@@ -6,15 +6,22 @@ package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.config.ConfigParameter;
 import io.strimzi.operator.common.model.Labels;
 
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -26,6 +33,13 @@ import java.util.stream.Collectors;
  * Subclasses can add more specialized metrics.
  */
 public abstract class MetricsHolder {
+    /**
+     * Histogram buckets used by the timers which measure operations which usually take only a fraction of a second
+     */
+    public static final List<Duration> FINE_GRAINED_TIMER_BUCKETS = List.of(Duration.ofMillis(10), Duration.ofMillis(20),
+            Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofMillis(1000),
+            Duration.ofMillis(5000), Duration.ofMillis(30000), Duration.ofMillis(120000));
+
     /**
      * Prefix used for metrics provided by Strimzi operators
      */
@@ -70,6 +84,12 @@ public abstract class MetricsHolder {
     protected final String kind;
     protected final Labels selectorLabels;
     protected final MetricsProvider metricsProvider;
+    private final String labelSelectorValues;
+
+    // Maps with metrics created by this holder. They are used to evict the metrics of removed namespaces.
+    private final Set<Map<MetricKey, ?>> metricMaps = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    // IDs of the meters created by this holder per namespace. Only these meters are removed when evicting a namespace.
+    private final Map<String, Set<Meter.Id>> meterIdsByNamespace = new ConcurrentHashMap<>();
 
     protected final Map<MetricKey, AtomicInteger> resourceCounterMap = new ConcurrentHashMap<>(1);
     protected final Map<MetricKey, AtomicInteger> pausedResourceCounterMap = new ConcurrentHashMap<>(1);
@@ -91,6 +111,7 @@ public abstract class MetricsHolder {
         this.kind = kind;
         this.selectorLabels = selectorLabels;
         this.metricsProvider = metricsProvider;
+        this.labelSelectorValues = selectorLabels != null ? selectorLabels.toSelectorString() : "";
     }
 
     /**
@@ -135,6 +156,35 @@ public abstract class MetricsHolder {
         return false;
     }
 
+    /**
+     * Removes all metrics of this holder which belong to given namespace. It should be used when the namespace is not
+     * watched anymore or was deleted so that the metrics of the namespace do not stay in the registry forever. Only the
+     * meters created by this holder are removed. The meters of other holders using the same kind and namespace are
+     * kept.
+     *
+     * @param namespace     Namespace for which the metrics should be removed or {@code *} to remove the metrics of all
+     *                      namespaces
+     */
+    public void removeMetricsForNamespace(String namespace) {
+        boolean allNamespaces = ConfigParameter.ANY_NAMESPACE.equals(namespace);
+
+        synchronized (metricMaps) {
+            for (Map<MetricKey, ?> metricMap : metricMaps) {
+                metricMap.keySet().removeIf(key -> allNamespaces || namespace.equals(key.getNamespace()));
+            }
+        }
+
+        MeterRegistry registry = metricsProvider.meterRegistry();
+        meterIdsByNamespace.entrySet().removeIf(entry -> {
+            if (allNamespaces || namespace.equals(entry.getKey())) {
+                entry.getValue().forEach(registry::remove);
+                return true;
+            } else {
+                return false;
+            }
+        });
+    }
+
     ////////////////////
     // Methods for individual counters
     ////////////////////
@@ -251,7 +301,8 @@ public abstract class MetricsHolder {
     ////////////////////
 
     /**
-     * Utility method which gets or creates the metric.
+     * Utility method which gets or creates the metric. This is called for every update of the metric, so the tags are
+     * built only when the metric does not exist yet.
      *
      * @param metricKey         Key of the metric
      * @param selectorLabels    Selector labels to select the controller resources
@@ -264,8 +315,46 @@ public abstract class MetricsHolder {
      * @param <M>   Type of the metric
      */
     protected <M> M metric(MetricKey metricKey, Optional<String> selectorLabels, Map<MetricKey, M> metricMap, Function<Tags, M> fn, Tag... optionalTags) {
-        Tags metricTags = MetricsUtils.getAllMetricTags(metricKey.getNamespace(), metricKey.getKind(), selectorLabels, optionalTags);
-        return metricMap.computeIfAbsent(metricKey, k -> fn.apply(metricTags));
+        M metric = metricMap.get(metricKey);
+
+        if (metric == null) {
+            metricMaps.add(metricMap);
+            metric = metricMap.computeIfAbsent(metricKey, k -> {
+                M created = fn.apply(MetricsUtils.getAllMetricTags(k.getNamespace(), k.getKind(), selectorLabels, optionalTags));
+
+                if (created instanceof Meter meter) {
+                    addMeterId(k.getNamespace(), meter.getId());
+                }
+
+                return created;
+            });
+        }
+
+        return metric;
+    }
+
+    private void addMeterId(String namespace, Meter.Id id) {
+        meterIdsByNamespace.computeIfAbsent(namespace, ns -> ConcurrentHashMap.newKeySet()).add(id);
+    }
+
+    /**
+     * The gauges are represented by the atomic numbers and not by the meters. So their meters are looked up in the
+     * registry to keep track of them.
+     *
+     * @param namespace     Namespace of the gauge
+     * @param metricName    Name of the gauge
+     * @param tags          Tags of the gauge
+     */
+    private void addGaugeId(String namespace, String metricName, Tags tags) {
+        MeterRegistry registry = metricsProvider.meterRegistry();
+
+        if (registry != null) {
+            Meter gauge = registry.find(metricName).tags(tags).gauge();
+
+            if (gauge != null) {
+                addMeterId(namespace, gauge.getId());
+            }
+        }
     }
 
     /**
@@ -296,7 +385,11 @@ public abstract class MetricsHolder {
      * @return  Gauge metric
      */
     protected AtomicLong getGaugeLong(MetricKey metricKey, String metricName, String metricHelp, Optional<String> selectorLabels, Map<MetricKey, AtomicLong> gaugeMap, Tag... optionalTags) {
-        return metric(metricKey, selectorLabels, gaugeMap, tags -> metricsProvider.gaugeLong(metricName, metricHelp, tags), optionalTags);
+        return metric(metricKey, selectorLabels, gaugeMap, tags -> {
+            AtomicLong gauge = metricsProvider.gaugeLong(metricName, metricHelp, tags);
+            addGaugeId(metricKey.getNamespace(), metricName, tags);
+            return gauge;
+        }, optionalTags);
     }
 
     /**
@@ -311,7 +404,11 @@ public abstract class MetricsHolder {
      * @return  Gauge metric
      */
     protected AtomicInteger getGauge(MetricKey metricKey, String metricName, String metricHelp, Optional<String> selectorLabels, Map<MetricKey, AtomicInteger> gaugeMap) {
-        return metric(metricKey, selectorLabels, gaugeMap, tags -> metricsProvider.gauge(metricName, metricHelp, tags));
+        return metric(metricKey, selectorLabels, gaugeMap, tags -> {
+            AtomicInteger gauge = metricsProvider.gauge(metricName, metricHelp, tags);
+            addGaugeId(metricKey.getNamespace(), metricName, tags);
+            return gauge;
+        });
     }
 
     /**
@@ -329,7 +426,22 @@ public abstract class MetricsHolder {
         return metric(metricKey, selectorLabels, timerMap, tags -> metricsProvider.timer(metricName, metricHelp, tags));
     }
 
+    /**
+     * Creates or gets a timer-type metric with fine grained histogram buckets.
+     *
+     * @param metricKey         Key of the metric
+     * @param metricName        Name of the metric
+     * @param metricHelp        Help description of the metric
+     * @param selectorLabels    Selector labels to select the controller resources
+     * @param timerMap          Map with timers
+     *
+     * @return  Timer metric
+     */
+    protected Timer getFineGrainedTimer(MetricKey metricKey, String metricName, String metricHelp, Optional<String> selectorLabels, Map<MetricKey, Timer> timerMap) {
+        return metric(metricKey, selectorLabels, timerMap, tags -> metricsProvider.timer(metricName, metricHelp, tags, FINE_GRAINED_TIMER_BUCKETS));
+    }
+
     protected String getLabelSelectorValues() {
-        return selectorLabels != null ? selectorLabels.toSelectorString() : "";
+        return labelSelectorValues;
     }
 }
\ No newline at end of file
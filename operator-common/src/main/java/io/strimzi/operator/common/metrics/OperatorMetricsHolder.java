@@ -4,14 +4,35 @@
  */
 package io.strimzi.operator.common.metrics;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * A metrics holder for operators.
  */
 public class OperatorMetricsHolder extends MetricsHolder {
+    /**
+     * Metric name for the time the reconciliations wait in the queue before they are started.
+     */
+    public static final String METRICS_RECONCILIATIONS_QUEUE_TIME = METRICS_RECONCILIATIONS + ".queue.time";
+    /**
+     * Metric name for number of reconciliations which were merged with another queued reconciliation.
+     */
+    public static final String METRICS_RECONCILIATIONS_COALESCED = METRICS_RECONCILIATIONS + ".coalesced";
+    /**
+     * Metric name for number of reconciliations which did not complete within the reconciliation timeout.
+     */
+    public static final String METRICS_RECONCILIATIONS_OVERRUN = METRICS_RECONCILIATIONS + ".overrun";
 
+    private final Map<MetricKey, Timer> reconciliationsQueueTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Counter> coalescedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<MetricKey, Counter> overrunReconciliationsCounterMap = new ConcurrentHashMap<>(1);
 
     /**
      * Constructs the operator metrics holder
@@ -32,4 +53,44 @@ public class OperatorMetricsHolder extends MetricsHolder {
         resourceCounterMap.forEach((key, value) -> value.set(0));
         pausedResourceCounterMap.forEach((key, value) -> value.set(0));
     }
+
+    /**
+     * Timer which measures how long do the reconciliations wait in the queue before they are started.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer reconciliationsQueueTimer(String namespace) {
+        return getFineGrainedTimer(new MetricKey(kind, namespace), METRICS_RECONCILIATIONS_QUEUE_TIME,
+                "The time the reconciliation waits in the queue before it is started",
+                Optional.of(getLabelSelectorValues()), reconciliationsQueueTimerMap);
+    }
+
+    /**
+     * Counter metric for number of reconciliations which were merged with another reconciliation of the same resource
+     * which was already waiting in the queue.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter coalescedReconciliationsCounter(String namespace) {
+        return getCounter(new MetricKey(kind, namespace), METRICS_RECONCILIATIONS_COALESCED,
+                "Number of reconciliations merged with another queued reconciliation of the same resource",
+                Optional.of(getLabelSelectorValues()), coalescedReconciliationsCounterMap);
+    }
+
+    /**
+     * Counter metric for number of reconciliations which did not complete within the reconciliation timeout.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter overrunReconciliationsCounter(String namespace) {
+        return getCounter(new MetricKey(kind, namespace), METRICS_RECONCILIATIONS_OVERRUN,
+                "Number of reconciliations which did not complete within the reconciliation timeout",
+                Optional.of(getLabelSelectorValues()), overrunReconciliationsCounterMap);
+    }
 }
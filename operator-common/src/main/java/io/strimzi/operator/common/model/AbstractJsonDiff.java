@@ -10,6 +10,13 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.MissingNode;
 import io.fabric8.kubernetes.client.utils.Serialization;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
 /**
  * Abstract class for diffing Json and YAML resources
  */
@@ -21,6 +28,10 @@ public abstract class AbstractJsonDiff {
             .configure(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS, false);
 
     protected static JsonNode lookupPath(JsonNode source, String path) {
+        if (path.isEmpty()) {
+            return source;
+        }
+
         JsonNode s = source;
         for (String component : path.substring(1).split("/")) {
             if (s.isArray()) {
@@ -36,6 +47,110 @@ public abstract class AbstractJsonDiff {
         return s;
     }
 
+    /**
+     * Finds the first difference between two JSON trees which is not ignored. The walk descends only into objects and
+     * arrays present in both trees. Object fields are compared by their names and array items by their index. The
+     * paths are JSON pointers in the same format as the paths of the JSON Patch operations created by
+     * JsonDiff.asJson(...), so the same ignorable path patterns can be used.
+     *
+     * The paths are not always the same as in the JSON Patch. JsonDiff aligns the array items using the longest common
+     * subsequence. So for an item inserted into or removed from an array, it reports a single operation at the path of
+     * that item. This walk does not align the items. It compares the shifted items at the same index, so it reports the
+     * difference inside the first item which changed its position. An array which changed its size always has a
+     * difference at the path of an array item. So the result is the same as with JsonDiff as long as the ignorable
+     * path patterns do not match whole array items.
+     *
+     * Unlike JsonDiff, it does not build the patch and stops at the first difference which is not ignored. This makes
+     * it much cheaper when only the information whether the trees differ is needed.
+     *
+     * @param source                Source JSON tree
+     * @param target                Target JSON tree
+     * @param ignorablePaths        Pattern with paths where the differences should be ignored
+     * @param ignoredDifferences    Consumer called with the paths of the ignored differences or null
+     *
+     * @return  Path of the first difference which is not ignored or null if there is no such difference
+     */
+    protected static String firstDifference(JsonNode source, JsonNode target, Pattern ignorablePaths, Consumer<String> ignoredDifferences) {
+        return firstDifference(new ArrayList<>(), source, target, ignorablePaths, ignoredDifferences);
+    }
+
+    private static String firstDifference(List<String> path, JsonNode source, JsonNode target, Pattern ignorablePaths, Consumer<String> ignoredDifferences) {
+        if (source.isObject() && target.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = source.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode targetValue = target.get(field.getKey());
+
+                path.add(field.getKey());
+                String difference = targetValue == null
+                        ? difference(path, ignorablePaths, ignoredDifferences)
+                        : firstDifference(path, field.getValue(), targetValue, ignorablePaths, ignoredDifferences);
+                path.remove(path.size() - 1);
+
+                if (difference != null) {
+                    return difference;
+                }
+            }
+
+            Iterator<String> targetFields = target.fieldNames();
+            while (targetFields.hasNext()) {
+                String field = targetFields.next();
+
+                if (!source.has(field)) {
+                    path.add(field);
+                    String difference = difference(path, ignorablePaths, ignoredDifferences);
+                    path.remove(path.size() - 1);
+
+                    if (difference != null) {
+                        return difference;
+                    }
+                }
+            }
+
+            return null;
+        } else if (source.isArray() && target.isArray()) {
+            int size = Math.max(source.size(), target.size());
+
+            for (int i = 0; i < size; i++) {
+                path.add(String.valueOf(i));
+                String difference = i < source.size() && i < target.size()
+                        ? firstDifference(path, source.get(i), target.get(i), ignorablePaths, ignoredDifferences)
+                        : difference(path, ignorablePaths, ignoredDifferences);
+                path.remove(path.size() - 1);
+
+                if (difference != null) {
+                    return difference;
+                }
+            }
+
+            return null;
+        } else if (source.equals(target)) {
+            return null;
+        } else {
+            return difference(path, ignorablePaths, ignoredDifferences);
+        }
+    }
+
+    private static String difference(List<String> path, Pattern ignorablePaths, Consumer<String> ignoredDifferences) {
+        // The path is converted to the JSON pointer only when a difference is found
+        StringBuilder pointer = new StringBuilder();
+        for (String component : path) {
+            pointer.append('/').append(component.replace("~", "~0").replace("/", "~1"));
+        }
+
+        String difference = pointer.toString();
+
+        if (ignorablePaths.matcher(difference).matches()) {
+            if (ignoredDifferences != null) {
+                ignoredDifferences.accept(difference);
+            }
+
+            return null;
+        } else {
+            return difference;
+        }
+    }
+
     /**
      * Returns whether the Diff is empty or not.
      *
@@ -40,9 +40,13 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -133,6 +137,13 @@ public abstract class Ca {
             .appendOffsetId()
             .toFormatter().withChronology(IsoChronology.INSTANCE);
 
+    /**
+     * Default maximal number of the certificates parsed from Secrets which are cached
+     */
+    public static final int DEFAULT_CERTIFICATE_CACHE_SIZE = 1_000;
+
+    private static volatile CertificateCache certificateCache = new CertificateCache(DEFAULT_CERTIFICATE_CACHE_SIZE);
+
     private static final String CA_SECRET_PREFIX = "ca";
 
     /**
@@ -426,6 +437,79 @@ public abstract class Ca {
                 keyStorePassword);
     }
 
+    /**
+     * Generates multiple certificates signed by this CA. Each certificate uses its own temporary files, so they can be
+     * generated in parallel using the executor. This speeds up issuing many certificates at once (for example the
+     * certificates of all Kafka nodes after the CA renewal or when scaling up by many nodes). The executor is shared
+     * and bounded by its owner, so this method never creates its own threads.
+     *
+     * @param subjects  Map with the subjects of the certificates which should be generated. The keys of the map are
+     *                  used as the keys of the returned map.
+     * @param executor  Executor used to generate the certificates in parallel. When null, the certificates are
+     *                  generated one after another in the calling thread.
+     *
+     * @return  Map with the generated certificates
+     *
+     * @throws IOException  If any of the certificates could not be generated
+     */
+    protected Map<String, CertAndKey> generateSignedCerts(Map<String, Subject> subjects, ExecutorService executor) throws IOException {
+        if (subjects.isEmpty()) {
+            return Map.of();
+        } else if (executor == null) {
+            Map<String, CertAndKey> certs = new LinkedHashMap<>(subjects.size());
+            for (Map.Entry<String, Subject> subject : subjects.entrySet()) {
+                certs.put(subject.getKey(), generateSignedCert(subject.getValue()));
+            }
+
+            return certs;
+        }
+
+        Map<String, Future<CertAndKey>> futures = new LinkedHashMap<>(subjects.size());
+
+        try {
+            for (Map.Entry<String, Subject> subject : subjects.entrySet()) {
+                futures.put(subject.getKey(), executor.submit(() -> generateSignedCert(subject.getValue())));
+            }
+
+            Map<String, CertAndKey> certs = new LinkedHashMap<>(subjects.size());
+            for (Map.Entry<String, Future<CertAndKey>> future : futures.entrySet()) {
+                certs.put(future.getKey(), future.getValue().get());
+            }
+
+            return certs;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating certificates", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            } else if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else {
+                throw new RuntimeException(e.getCause());
+            }
+        } finally {
+            // Do not keep generating the remaining certificates when one of them failed
+            futures.values().forEach(future -> future.cancel(true));
+        }
+    }
+
+    private CertAndKey generateSignedCert(Subject subject) throws IOException {
+        File csrFile = Files.createTempFile("tls", "csr").toFile();
+        File keyFile = Files.createTempFile("tls", "key").toFile();
+        File certFile = Files.createTempFile("tls", "cert").toFile();
+        File keyStoreFile = Files.createTempFile("tls", "p12").toFile();
+
+        try {
+            return generateSignedCert(subject, csrFile, keyFile, certFile, keyStoreFile);
+        } finally {
+            delete(reconciliation, csrFile);
+            delete(reconciliation, keyFile);
+            delete(reconciliation, certFile);
+            delete(reconciliation, keyStoreFile);
+        }
+    }
+
     /**
      * Generates a certificate signed by this CA
      *
@@ -446,11 +530,6 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
-        File csrFile = Files.createTempFile("tls", "csr").toFile();
-        File keyFile = Files.createTempFile("tls", "key").toFile();
-        File certFile = Files.createTempFile("tls", "cert").toFile();
-        File keyStoreFile = Files.createTempFile("tls", "p12").toFile();
-
         Subject.Builder subject = new Subject.Builder();
 
         if (organization != null) {
@@ -459,14 +538,7 @@ public abstract class Ca {
 
         subject.withCommonName(commonName);
 
-        CertAndKey result = generateSignedCert(subject.build(),
-                csrFile, keyFile, certFile, keyStoreFile);
-
-        delete(reconciliation, csrFile);
-        delete(reconciliation, keyFile);
-        delete(reconciliation, certFile);
-        delete(reconciliation, keyStoreFile);
-        return result;
+        return generateSignedCert(subject.build());
     }
 
     /**
@@ -912,7 +984,20 @@ public abstract class Ca {
     }
 
     /**
-     * Extracts X509 certificate from a Kubernetes Secret
+     * Configures the maximal number of the certificates parsed from Secrets which are cached. When the cache is full,
+     * the least recently used certificate is removed from it. Changing the size discards the cached certificates.
+     *
+     * @param maxSize   Maximal number of the cached certificates. Zero disables the cache.
+     */
+    public static void configureCertificateCache(int maxSize) {
+        if (certificateCache.maxSize() != maxSize) {
+            certificateCache = new CertificateCache(maxSize);
+        }
+    }
+
+    /**
+     * Extracts X509 certificate from a Kubernetes Secret. The parsed certificates are cached, so the certificate is
+     * parsed again only when the Secret changes.
      *
      * @param secret    Kubernetes Secret with the certificate
      * @param key       Key under which the certificate is stored in the Secret
@@ -923,9 +1008,8 @@ public abstract class Ca {
         if (secret == null || secret.getData() == null || secret.getData().get(key) == null) {
             return null;
         }
-        byte[] bytes = Util.decodeBytesFromBase64(secret.getData().get(key));
         try {
-            return x509Certificate(bytes);
+            return certificateCache.get(secret, key, secret.getData().get(key));
         } catch (CertificateException e) {
             throw new RuntimeException("Failed to decode certificate in data." + key.replace(".", "\\.") + " of Secret " + secret.getMetadata().getName(), e);
         }
@@ -948,9 +1032,8 @@ public abstract class Ca {
                     .stream()
                     .filter(record -> SecretEntry.CRT.matchesType(record.getKey()))
                     .map(record -> {
-                        byte[] bytes = Util.decodeBytesFromBase64(record.getValue());
                         try {
-                            return x509Certificate(bytes);
+                            return certificateCache.get(secret, record.getKey(), record.getValue());
                         } catch (CertificateException e) {
                             throw new RuntimeException("Failed to decode certificate in data." + record.getKey().replace(".", "\\.") + " of Secret " + secret.getMetadata().getName(), e);
                         }
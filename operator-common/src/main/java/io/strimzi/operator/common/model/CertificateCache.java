@@ -0,0 +1,134 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.strimzi.operator.common.Util;
+
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of the X509 certificates parsed from Kubernetes Secrets. The same certificates are parsed again and again
+ * during every reconciliation (for example to check whether they are expiring or to get their thumbprints). The
+ * cache lets the reconciliations re-parse the certificate only when the Secret actually changed.
+ *
+ * The certificates are cached under the UID of the Secret and the key under which they are stored in the Secret.
+ * The cached certificate is used only when the resource version of the Secret and the certificate data are still the
+ * same. Secrets which do not have the UID or resource version (for example Secrets which were not created in
+ * Kubernetes yet) are not cached. The cache is bounded and when it is full, the least recently used certificate is
+ * removed from it.
+ */
+class CertificateCache {
+    private final int maxSize;
+    private final Map<CacheKey, CachedCertificate> certificates;
+
+    /**
+     * Constructs the certificate cache
+     *
+     * @param maxSize   Maximal number of the cached certificates. Zero disables the cache.
+     */
+    CertificateCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The size of the certificate cache cannot be negative");
+        }
+
+        this.maxSize = maxSize;
+        this.certificates = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedCertificate> eldest) {
+                return size() > CertificateCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Gets the parsed certificate from the Secret. The certificate is parsed only if it is not in the cache yet or when
+     * the Secret changed since it was cached.
+     *
+     * @param secret    Kubernetes Secret with the certificate
+     * @param key       Key under which the certificate is stored in the Secret
+     * @param data      Base64 encoded certificate from the Secret
+     *
+     * @throws CertificateException     Thrown when the data do not contain a valid X509 certificate
+     *
+     * @return  X509Certificate instance with the certificate
+     */
+    X509Certificate get(Secret secret, String key, String data) throws CertificateException {
+        String uid = secret.getMetadata() != null ? secret.getMetadata().getUid() : null;
+        String resourceVersion = secret.getMetadata() != null ? secret.getMetadata().getResourceVersion() : null;
+
+        if (maxSize == 0 || uid == null || resourceVersion == null) {
+            return Ca.x509Certificate(Util.decodeBytesFromBase64(data));
+        }
+
+        CacheKey cacheKey = new CacheKey(uid, key);
+        CachedCertificate cached;
+
+        synchronized (certificates) {
+            cached = certificates.get(cacheKey);
+        }
+
+        if (cached != null && cached.resourceVersion.equals(resourceVersion) && cached.data.equals(data)) {
+            return cached.certificate;
+        } else {
+            // The certificate is parsed outside the lock to not block the other threads using the cache
+            X509Certificate certificate = Ca.x509Certificate(Util.decodeBytesFromBase64(data));
+
+            synchronized (certificates) {
+                certificates.put(cacheKey, new CachedCertificate(resourceVersion, data, certificate));
+            }
+
+            return certificate;
+        }
+    }
+
+    /**
+     * @return  Maximal number of the cached certificates
+     */
+    int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return  Number of the cached certificates
+     */
+    /* test */ int size() {
+        synchronized (certificates) {
+            return certificates.size();
+        }
+    }
+
+    /**
+     * @param uid   UID of the Secret
+     * @param key   Key under which the certificate is stored in the Secret
+     *
+     * @return  True if the certificate is cached. False otherwise.
+     */
+    /* test */ boolean contains(String uid, String key) {
+        synchronized (certificates) {
+            return certificates.containsKey(new CacheKey(uid, key));
+        }
+    }
+
+    /**
+     * Identifies the certificate in the cache
+     *
+     * @param uid   UID of the Secret
+     * @param key   Key under which the certificate is stored in the Secret
+     */
+    private record CacheKey(String uid, String key) { }
+
+    /**
+     * Cached certificate
+     *
+     * @param resourceVersion   Resource version of the Secret from which the certificate was parsed
+     * @param data              Base64 encoded certificate from the Secret
+     * @param certificate       Parsed certificate
+     */
+    private record CachedCertificate(String resourceVersion, String data, X509Certificate certificate) { }
+}
@@ -4,22 +4,14 @@
  */
 package io.strimzi.operator.common.model;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.io.StringReader;
-import java.io.StringWriter;
-import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 
 /**
  * A Set of insertion ordered Name/Value pairs.
@@ -172,67 +164,45 @@ public class OrderedProperties {
 
     /**
      * Read values into a Map&lt;String, String&gt; from a Properties compatible format.
+     * The whole input is parsed in a single pass over a String. Tokens without escape sequences are copied from the
+     * input as a whole, so a StringBuilder is allocated only for the tokens containing escape sequences.
      * An instance of this class is not thread-safe; the result of invoking any of the
      * read methods simultaneously is not defined.
      */
     static private class PropertiesReader {
-        private static final int EOF = -1;
-        private static final int NO_CHAR = -2;
-
         private final Map<String, String> map;
-        private BufferedReader bufferedReader;
-        private int peekChar = NO_CHAR;
+        private String input;
+        private int length;
+        private int pos;
 
         public PropertiesReader(Map<String, String> map) {
             this.map = map;
         }
 
-        /**
-         * Read map values from a String.
-         *
-         * @param keyValuePairs String containing name=value pairs separated by newlines.
-         */
-        public void read(String keyValuePairs) {
-            try {
-                read(new StringReader(keyValuePairs));
-            } catch (IOException e) {
-                throw new IllegalStateException("StringReader should not cause IOException", e);
-            }
-        }
-
         /**
          * Read map values from an InputStream.  The InputStream is closed after all values are read.
          *
          * @param is The UTF-8 input stream containing name=value pairs separated by newlines.
          */
         public void read(InputStream is) throws IOException {
-            read(new InputStreamReader(is, StandardCharsets.UTF_8));
-        }
-
-        /**
-         * Read map values from a Reader.  The Reader is closed after all values are read.
-         *
-         * @param reader Reader containing name=value pairs separated by newlines.
-         * @throws IOException when read or close fails
-         */
-        public void read(Reader reader) throws IOException {
-            try (BufferedReader bufferedReader = new BufferedReader(reader)) {
-                read(bufferedReader);
+            try (is) {
+                read(new String(is.readAllBytes(), StandardCharsets.UTF_8));
             }
         }
 
         /**
-         * Read map values from a BufferedReader.  The BufferedReader is not closed after all values are
-         * read.
+         * Read map values from a String.
          *
-         * @param bufferedReader Reader containing name=value pairs separated by newlines.
-         * @throws IOException when read or close fails
+         * @param keyValuePairs String containing name=value pairs separated by newlines.
          */
-        public void read(BufferedReader bufferedReader) throws IOException {
-            this.bufferedReader = bufferedReader;
+        public void read(String keyValuePairs) {
+            this.input = keyValuePairs;
+            this.length = keyValuePairs.length();
+            this.pos = 0;
+
             for (; ; ) {
                 ignoreWhitespace(true);
-                if (peekChar == EOF) {
+                if (pos >= length) {
                     return;
                 }
 
@@ -245,7 +215,7 @@ public class OrderedProperties {
 
                 ignoreWhitespace(false);
                 if (isKeySeparator()) {
-                    peekChar = NO_CHAR;
+                    pos++;
                     ignoreWhitespace(false);
                 }
 
@@ -254,10 +224,16 @@ public class OrderedProperties {
             }
         }
 
-        private String readToken(boolean breakOnKeySeparator) throws IOException {
-            StringBuilder sb = new StringBuilder();
-            for (; ; ) {
-                switch (peekChar) {
+        /*
+         * On entry, pos is at the first character of the token
+         * On exit, pos is at the character which ended the token, newline or end of input
+         */
+        private String readToken(boolean breakOnKeySeparator) {
+            StringBuilder sb = null;
+            int start = pos;
+
+            while (pos < length) {
+                switch (input.charAt(pos)) {
                     case '\t':
                     case '\f':
                     case ' ':
@@ -268,88 +244,104 @@ public class OrderedProperties {
                         }
                     case '\r':
                     case '\n':
-                    case EOF:
-                        return sb.toString();
+                        return token(sb, start);
                     case '\\':
-                        sb.append(readEscape());
+                        if (sb == null) {
+                            sb = new StringBuilder();
+                        }
+                        sb.append(input, start, pos);
+                        pos++;
+                        readEscape(sb);
+                        start = pos;
                         continue;
                 }
-                sb.append((char) peekChar);
-                peekChar = bufferedReader.read();
+                pos++;
             }
+
+            return token(sb, start);
         }
 
-        private String readEscape() throws IOException {
-            int ec = bufferedReader.read();
-            String rc;
+        private String token(StringBuilder sb, int start) {
+            if (sb == null) {
+                return input.substring(start, pos);
+            } else {
+                return sb.append(input, start, pos).toString();
+            }
+        }
+
+        /*
+         * On entry, pos is at the character following the backslash
+         * On exit, pos is at the character following the escape sequence
+         */
+        private void readEscape(StringBuilder sb) {
+            if (pos >= length) {
+                // Backslash at the end of the input
+                sb.append((char) -1);
+                return;
+            }
+
+            char ec = input.charAt(pos++);
             switch (ec) {
                 case '\r':
                 case '\n':
-                    peekChar = bufferedReader.read();
                     ignoreWhitespace(true);
-                    return "";
+                    break;
                 case 'u':
-                    rc = readUnicode();
+                    sb.append(readUnicode());
                     break;
                 case 't':
-                    rc = "\t";
+                    sb.append('\t');
                     break;
                 case 'f':
-                    rc = "\f";
+                    sb.append('\f');
                     break;
                 case 'r':
-                    rc = "\r";
+                    sb.append('\r');
                     break;
                 case 'n':
-                    rc = "\n";
+                    sb.append('\n');
                     break;
                 default:
-                    rc = Character.toString((char) ec);
+                    sb.append(ec);
                     break;
             }
-            peekChar = bufferedReader.read();
-            return rc;
         }
 
-        private String readUnicode() throws IOException {
+        private char readUnicode() {
             int sum = 0;
             for (int h = 0; h < 4; ++h) {
                 int hexIt;
-                peekChar = bufferedReader.read();
-                if (peekChar >= '0' && peekChar <= '9') {
-                    hexIt = peekChar - '0';
-                } else if (peekChar >= 'a' && peekChar <= 'f') {
-                    hexIt = peekChar - 'a' + 10;
-                } else if (peekChar >= 'A' && peekChar <= 'F') {
-                    hexIt = peekChar - 'A' + 10;
+                int c = pos < length ? input.charAt(pos++) : -1;
+                if (c >= '0' && c <= '9') {
+                    hexIt = c - '0';
+                } else if (c >= 'a' && c <= 'f') {
+                    hexIt = c - 'a' + 10;
+                } else if (c >= 'A' && c <= 'F') {
+                    hexIt = c - 'A' + 10;
                 } else {
                     throw new IllegalArgumentException("Malformed \\uxxxx encoding");
                 }
                 sum = sum * 16 + hexIt;
             }
-            return Character.toString((char) sum);
+            return (char) sum;
         }
 
         /*
-         * On entry, peekChar is at comment char
-         * On exit, peekChar is at newline or EOF
+         * On entry, pos is at comment char
+         * On exit, pos is at newline or end of input
          */
-        private void ignoreToEndOfLine() throws IOException {
-            for (; ; ) {
-                peekChar = bufferedReader.read();
-                if (isEol()) {
-                    break;
-                }
-            }
+        private void ignoreToEndOfLine() {
+            do {
+                pos++;
+            } while (pos < length && !isEol());
         }
 
         /*
-         * On entry, peekChar is at NO_CHAR or after key
-         * On exit, peekChar is at non-whitespace, newline or EOF
+         * On exit, pos is at non-whitespace, newline or end of input
          */
-        private void ignoreWhitespace(boolean includeNewLine) throws IOException {
-            for (; ; peekChar = bufferedReader.read()) {
-                switch (peekChar) {
+        private void ignoreWhitespace(boolean includeNewLine) {
+            for (; pos < length; pos++) {
+                switch (input.charAt(pos)) {
                     case '\r':
                     case '\n':
                         if (!includeNewLine) {
@@ -358,7 +350,6 @@ public class OrderedProperties {
                     case '\t':
                     case '\f':
                     case ' ':
-                    case NO_CHAR:
                         continue;
                     default:
                         return;
@@ -367,7 +358,7 @@ public class OrderedProperties {
         }
 
         private boolean isComment() {
-            switch (peekChar) {
+            switch (input.charAt(pos)) {
                 case '!':
                 case '#':
                     return true;
@@ -376,19 +367,20 @@ public class OrderedProperties {
         }
 
         private boolean isKeySeparator() {
-            switch (peekChar) {
-                case '=':
-                case ':':
-                    return true;
+            if (pos < length) {
+                switch (input.charAt(pos)) {
+                    case '=':
+                    case ':':
+                        return true;
+                }
             }
             return false;
         }
 
         private boolean isEol() {
-            switch (peekChar) {
+            switch (input.charAt(pos)) {
                 case '\r':
                 case '\n':
-                case EOF:
                     return true;
             }
             return false;
@@ -406,12 +398,14 @@ public class OrderedProperties {
      * Any '\r', '\n' in the value will be escaped with '\'.
      * Any leading ' ', '\t', '\f' in value will be escaped with '\'.
      *
+     * The output is written into a single StringBuilder. Keys and values which do not need any escaping are appended
+     * as a whole.
+     *
      * An instance of this class is thread-safe as long as iterating the wrapped map is thread-safe.
      */
     static private class PropertiesWriter {
-        public static final Pattern LINE_SPLITTER = Pattern.compile("[\\r\\n]+");
+        private static final String LINE_SEPARATOR = System.lineSeparator();
         private final Map<String, String> map;
-        private BufferedWriter bufferedWriter;
 
         public PropertiesWriter(Map<String, String> map) {
             this.map = map;
@@ -424,111 +418,116 @@ public class OrderedProperties {
          * @param comment A comment to be prepended to the output, or null for no comment.
          */
         public String writeString(String comment) {
-            StringWriter sw = new StringWriter();
-            try {
-                write(sw, comment);
-            } catch (IOException e) {
-                throw new IllegalStateException("StringWriter should not cause IOException", e);
+            StringBuilder sb = new StringBuilder(map.size() * 48);
+            if (comment != null) {
+                writeComment(sb, comment);
             }
-            return sw.toString();
-        }
 
-        /**
-         * Write map values to Writer.  The Writer is not closed.
-         *
-         * @param writer Writer to write values to.
-         * @param comment A comment to be prepended to the output, or null for no comment.
-         */
-        public void write(Writer writer, String comment) throws IOException {
-            write(new BufferedWriter(writer), comment);
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                escapeKey(sb, entry.getKey());
+                sb.append('=');
+                escapeValue(sb, entry.getValue());
+                sb.append(LINE_SEPARATOR);
+            }
+
+            return sb.toString();
         }
 
         /**
-         * Write map values to BufferedWriter.  The BufferedWriter is not closed.
+         * Write comment, handling newlines embedded in the comment. Each sequence of newline characters separates two
+         * lines of the comment. The trailing empty lines are not written.
          *
-         * @param bufferedWriter BufferedWriter to write values to.
-         * @param comment A comment to be prepended to the output, or null for no comment.
+         * @param sb        StringBuilder to write to
+         * @param comment   A comment to be written
          */
-        public void write(BufferedWriter bufferedWriter, String comment) throws IOException {
-            this.bufferedWriter = bufferedWriter;
-            if (comment != null) {
-                writeComment(bufferedWriter, comment);
+        private static void writeComment(StringBuilder sb, String comment) {
+            int length = comment.length();
+            int end = length;
+            while (end > 0 && isNewLine(comment.charAt(end - 1))) {
+                end--;
             }
 
-            for (Map.Entry<String, String> entry : map.entrySet()) {
-                escapeKey(entry.getKey());
-                bufferedWriter.append('=');
-                escapeValue(entry.getValue());
-                bufferedWriter.newLine();
+            if (end == 0 && length > 0) {
+                // The comment consists of newlines only
+                return;
             }
-            bufferedWriter.flush();
-        }
 
-        /**
-         * Write comment to a Writer, handling newlines embedded in the comment
-         * @param bufferedWriter BufferedWriter to write.
-         * @param comment A comment to be written
-         * @throws IOException
-         */
-        private static void writeComment(BufferedWriter bufferedWriter, String comment) throws IOException {
-            for (String line : LINE_SPLITTER.split(comment)) {
-                bufferedWriter.write("# ");
-                bufferedWriter.write(line);
-                bufferedWriter.newLine();
+            int start = 0;
+            for (int i = 0; i <= end; i++) {
+                if (i == end || isNewLine(comment.charAt(i))) {
+                    sb.append("# ").append(comment, start, i).append(LINE_SEPARATOR);
+
+                    while (i + 1 < end && isNewLine(comment.charAt(i + 1))) {
+                        i++;
+                    }
+                    start = i + 1;
+                }
             }
         }
 
+        private static boolean isNewLine(char c) {
+            return c == '\r' || c == '\n';
+        }
+
         /**
          * A properties key may not contain '=', ':', ' ', '\t', '\f', or '\n'.
          * Escape the key
          */
-        private void escapeKey(String k) throws IOException {
+        private static void escapeKey(StringBuilder sb, String k) {
+            int start = 0;
             for (int i = 0; i < k.length(); ++i) {
                 char c = k.charAt(i);
                 switch (c) {
                     case '\n':
-                        bufferedWriter.append("\\n");
-                        continue;
+                        sb.append(k, start, i).append("\\n");
+                        start = i + 1;
+                        break;
                     case '=':
                     case ':':
                     case ' ':
                     case '\t':
                     case '\f':
                     case '\\':
-                        bufferedWriter.append('\\');
+                        sb.append(k, start, i).append('\\');
+                        start = i;
+                        break;
                 }
-                bufferedWriter.append(c);
             }
+            sb.append(k, start, k.length());
         }
 
         /**
          * A properties value may not contain '\r', '\n'.  Value may not have leading white space.
          * Escape the value
          */
-        private void escapeValue(String v) throws IOException {
+        private static void escapeValue(StringBuilder sb, String v) {
+            int start = 0;
             for (int i = 0; i < v.length(); ++i) {
                 char c = v.charAt(i);
                 switch (c) {
                     case '\r':
-                        bufferedWriter.append("\\r");
+                        sb.append(v, start, i).append("\\r");
+                        start = i + 1;
                         break;
                     case '\n':
-                        bufferedWriter.append("\\n");
+                        sb.append(v, start, i).append("\\n");
+                        start = i + 1;
                         break;
                     case '\\':
-                        bufferedWriter.append("\\\\");
+                        sb.append(v, start, i).append("\\\\");
+                        start = i + 1;
                         break;
                     case ' ':
                     case '\t':
                     case '\f':
                         // Value may not have leading white space.
                         if (i == 0) {
-                            bufferedWriter.append('\\');
+                            sb.append('\\');
                         }
-                    default:
-                        bufferedWriter.append(c);
+                        break;
                 }
             }
+            sb.append(v, start, v.length());
         }
     }
 }
@@ -5,7 +5,6 @@
 package io.strimzi.operator.common.model;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.api.kafka.model.kafka.Status;
 import io.strimzi.operator.common.ReconciliationLogger;
 
@@ -30,28 +29,16 @@ public class StatusDiff extends AbstractJsonDiff {
     public StatusDiff(Status current, Status desired) {
         JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
         JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
+        String difference = firstDifference(source, target, IGNORABLE_PATHS,
+                LOGGER.isDebugEnabled() ? path -> LOGGER.debugOp("Ignoring Status diff at path {}", path) : null);
 
-        int num = 0;
-
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-
-            if (IGNORABLE_PATHS.matcher(pathValue).matches()) {
-                LOGGER.debugOp("Ignoring Status diff {}", d);
-                continue;
-            }
-
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debugOp("Status differs: {}", d);
-                LOGGER.debugOp("Current Status path {} has value {}", pathValue, lookupPath(source, pathValue));
-                LOGGER.debugOp("Desired Status path {} has value {}", pathValue, lookupPath(target, pathValue));
-            }
-
-            num++;
+        if (difference != null && LOGGER.isDebugEnabled()) {
+            LOGGER.debugOp("Status differs at path {}", difference);
+            LOGGER.debugOp("Current Status path {} has value {}", difference, lookupPath(source, difference));
+            LOGGER.debugOp("Desired Status path {} has value {}", difference, lookupPath(target, difference));
         }
 
-        this.isEmpty = num == 0;
+        this.isEmpty = difference == null;
     }
 
     /**
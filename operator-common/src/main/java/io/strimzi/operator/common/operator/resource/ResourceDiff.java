@@ -6,7 +6,6 @@ package io.strimzi.operator.common.operator.resource;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.kubernetes.api.model.HasMetadata;
-import io.fabric8.zjsonpatch.JsonDiff;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.AbstractJsonDiff;
@@ -49,29 +48,16 @@ public class ResourceDiff<T extends HasMetadata> extends AbstractJsonDiff {
     public ResourceDiff(Reconciliation reconciliation, String resourceKind, String resourceName, T current, T desired, Pattern ignorableFields) {
         JsonNode source = PATCH_MAPPER.valueToTree(current == null ? "{}" : current);
         JsonNode target = PATCH_MAPPER.valueToTree(desired == null ? "{}" : desired);
-        JsonNode diff = JsonDiff.asJson(source, target);
+        String difference = firstDifference(source, target, ignorableFields,
+                LOGGER.isDebugEnabled() ? path -> LOGGER.debugCr(reconciliation, "Ignoring {} {} diff at path {}", resourceKind, resourceName, path) : null);
 
-        int num = 0;
-
-        for (JsonNode d : diff) {
-            String pathValue = d.get("path").asText();
-
-            if (ignorableFields.matcher(pathValue).matches()) {
-                LOGGER.debugCr(reconciliation, "Ignoring {} {} diff {}", resourceKind, resourceName, d);
-                continue;
-            }
-
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debugCr(reconciliation, "{} {} differs: {}", resourceKind, resourceName, d);
-                LOGGER.debugCr(reconciliation, "Current {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(source, pathValue));
-                LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, pathValue, lookupPath(target, pathValue));
-            }
-
-            num++;
-            break;
+        if (difference != null && LOGGER.isDebugEnabled()) {
+            LOGGER.debugCr(reconciliation, "{} {} differs at path {}", resourceKind, resourceName, difference);
+            LOGGER.debugCr(reconciliation, "Current {} {} path {} has value {}", resourceKind, resourceName, difference, lookupPath(source, difference));
+            LOGGER.debugCr(reconciliation, "Desired {} {} path {} has value {}", resourceKind, resourceName, difference, lookupPath(target, difference));
         }
 
-        this.isEmpty = num == 0;
+        this.isEmpty = difference == null;
     }
 
     @Override
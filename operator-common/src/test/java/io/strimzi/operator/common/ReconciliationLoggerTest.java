@@ -0,0 +1,95 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.simple.SimpleLogger;
+import org.apache.logging.log4j.util.PropertiesUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+public class ReconciliationLoggerTest {
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    private ReconciliationLogger logger(Level level) {
+        return new ReconciliationLogger(new SimpleLogger(ReconciliationLoggerTest.class.getName(), level, false, false, false, false,
+                null, null, PropertiesUtil.getProperties(), new PrintStream(output, true, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Reconciliation which counts how many times its string representation was requested
+     */
+    static class CountingReconciliation extends Reconciliation {
+        final AtomicInteger toStringCalls = new AtomicInteger();
+
+        CountingReconciliation() {
+            super("test", "Kafka", "my-namespace", "my-cluster");
+        }
+
+        @Override
+        public String toString() {
+            toStringCalls.incrementAndGet();
+            return super.toString();
+        }
+    }
+
+    @Test
+    public void testDisabledLevelDoesNotBuildMessage() {
+        ReconciliationLogger logger = logger(Level.INFO);
+        CountingReconciliation reconciliation = new CountingReconciliation();
+
+        logger.traceCr(reconciliation, "Message");
+        logger.traceCr(reconciliation, "Message {}", "p0");
+        logger.debugCr(reconciliation, "Message {} {}", "p0", "p1");
+        logger.debugCr(reconciliation, "Message {} {} {} {} {} {} {} {} {} {} {}", 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        logger.debugCr(reconciliation, "Message", new RuntimeException());
+
+        assertThat(reconciliation.toStringCalls.get(), is(0));
+        assertThat(output.size(), is(0));
+    }
+
+    @Test
+    public void testEnabledLevelBuildsMessage() {
+        ReconciliationLogger logger = logger(Level.DEBUG);
+        CountingReconciliation reconciliation = new CountingReconciliation();
+
+        logger.traceCr(reconciliation, "Message {}", "p0");
+        assertThat(reconciliation.toStringCalls.get(), is(0));
+
+        logger.debugCr(reconciliation, "Message {}", "p0");
+        logger.infoCr(reconciliation, "Message");
+        assertThat(reconciliation.toStringCalls.get(), is(2));
+
+        String logged = output.toString(StandardCharsets.UTF_8);
+        assertThat(logged, containsString("DEBUG " + reconciliation + ": Message p0"));
+        assertThat(logged, containsString("INFO " + reconciliation + ": Message"));
+    }
+
+    @Test
+    public void testIsEnabled() {
+        ReconciliationLogger logger = logger(Level.DEBUG);
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+        assertThat(logger.isEnabled(Level.DEBUG, reconciliation), is(true));
+        assertThat(logger.isEnabled(Level.TRACE, reconciliation), is(false));
+        assertThat(logger.isEnabled(Level.DEBUG), is(true));
+        assertThat(logger.isEnabled(Level.TRACE), is(false));
+    }
+
+    @Test
+    public void testReconciliationToString() {
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+        assertThat(reconciliation.toString(), is("Reconciliation #" + reconciliation.id() + "(test) Kafka(my-namespace/my-cluster)"));
+    }
+}
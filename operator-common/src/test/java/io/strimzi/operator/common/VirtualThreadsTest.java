@@ -0,0 +1,59 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+public class VirtualThreadsTest {
+    @Test
+    public void testPlatformThread() throws InterruptedException {
+        AtomicReference<String> threadName = new AtomicReference<>();
+        Thread thread = VirtualThreads.newThread("my-thread", () -> threadName.set(Thread.currentThread().getName()), false);
+
+        thread.start();
+        thread.join();
+
+        assertThat(threadName.get(), is("my-thread"));
+    }
+
+    @Test
+    public void testVirtualThreadOrFallback() throws InterruptedException {
+        AtomicReference<String> threadName = new AtomicReference<>();
+        Thread thread = VirtualThreads.newThread("my-thread", () -> threadName.set(Thread.currentThread().getName()), true);
+
+        thread.start();
+        thread.join();
+
+        // Depending on the Java runtime, this is either a virtual thread or a platform thread
+        assertThat(threadName.get(), is("my-thread"));
+    }
+
+    @Test
+    public void testVirtualThreadPerTaskExecutor() throws InterruptedException {
+        ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor("test");
+
+        if (VirtualThreads.isSupported()) {
+            assertThat(executor, is(notNullValue()));
+
+            AtomicReference<Boolean> executed = new AtomicReference<>(false);
+            executor.execute(() -> executed.set(true));
+            executor.shutdown();
+
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), is(true));
+            assertThat(executed.get(), is(true));
+        } else {
+            assertThat(executor, is(nullValue()));
+        }
+    }
+}
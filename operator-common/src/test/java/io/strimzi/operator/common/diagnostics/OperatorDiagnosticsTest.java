@@ -0,0 +1,101 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.diagnostics;
+
+import io.strimzi.operator.common.Reconciliation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class OperatorDiagnosticsTest {
+    @AfterEach
+    public void afterEach() {
+        InFlightReconciliations.enabled(false);
+    }
+
+    private static String body(OperatorDiagnostics.Response response) {
+        return new String(response.body(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testThreadDump() {
+        OperatorDiagnostics.Response response = new OperatorDiagnostics().handle("GET", "/diagnostics/threads");
+
+        assertThat(response.status(), is(200));
+        assertThat(response.contentType(), is("text/plain"));
+        assertThat(body(response), containsString("\"" + Thread.currentThread().getName() + "\""));
+        assertThat(body(response), containsString("OperatorDiagnosticsTest.testThreadDump"));
+    }
+
+    @Test
+    public void testInFlightReconciliations() {
+        OperatorDiagnostics diagnostics = new OperatorDiagnostics();
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+
+        // Not tracked while disabled
+        InFlightReconciliations.started(reconciliation, "starting");
+        assertThat(body(diagnostics.handle("GET", "/diagnostics/reconciliations")), is("[]"));
+
+        InFlightReconciliations.enabled(true);
+        InFlightReconciliations.started(reconciliation, "starting");
+        InFlightReconciliations.step(reconciliation, "waiting for lock");
+
+        OperatorDiagnostics.Response response = diagnostics.handle("GET", "/diagnostics/reconciliations");
+        assertThat(response.status(), is(200));
+        assertThat(response.contentType(), is("application/json"));
+        assertThat(body(response), containsString("\"id\":" + reconciliation.id()));
+        assertThat(body(response), containsString("\"trigger\":\"test\""));
+        assertThat(body(response), containsString("\"kind\":\"Kafka\""));
+        assertThat(body(response), containsString("\"namespace\":\"my-namespace\""));
+        assertThat(body(response), containsString("\"name\":\"my-cluster\""));
+        assertThat(body(response), containsString("\"step\":\"waiting for lock\""));
+
+        InFlightReconciliations.finished(reconciliation);
+        assertThat(body(diagnostics.handle("GET", "/diagnostics/reconciliations")), is("[]"));
+    }
+
+    @Test
+    public void testJfrRecording() throws IOException {
+        OperatorDiagnostics diagnostics = new OperatorDiagnostics();
+
+        assertThat(diagnostics.handle("GET", "/diagnostics/jfr").status(), is(404));
+        assertThat(diagnostics.handle("POST", "/diagnostics/jfr/stop").status(), is(409));
+
+        assertThat(diagnostics.handle("POST", "/diagnostics/jfr/start").status(), is(200));
+        assertThat(diagnostics.handle("POST", "/diagnostics/jfr/start").status(), is(409));
+        assertThat(diagnostics.handle("POST", "/diagnostics/jfr/stop").status(), is(200));
+
+        OperatorDiagnostics.Response response = diagnostics.handle("GET", "/diagnostics/jfr");
+        assertThat(response.status(), is(200));
+        assertThat(response.contentType(), is("application/octet-stream"));
+        // The recording is streamed from the file instead of being loaded into the memory
+        assertThat(response.body(), is(nullValue()));
+        assertThat(Files.size(response.file()), greaterThan(0L));
+
+        // JFR files start with the FLR magic bytes
+        try (InputStream is = Files.newInputStream(response.file())) {
+            assertThat(new String(is.readNBytes(3), StandardCharsets.US_ASCII), is("FLR"));
+        }
+    }
+
+    @Test
+    public void testUnknownPathAndMethod() {
+        OperatorDiagnostics diagnostics = new OperatorDiagnostics();
+
+        assertThat(diagnostics.handle("GET", "/diagnostics/unknown").status(), is(404));
+        assertThat(diagnostics.handle("POST", "/diagnostics/threads").status(), is(405));
+        assertThat(diagnostics.handle("GET", "/diagnostics/jfr/start").status(), is(405));
+    }
+}
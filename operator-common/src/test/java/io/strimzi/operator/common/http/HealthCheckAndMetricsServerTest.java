@@ -10,6 +10,7 @@ import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.diagnostics.OperatorDiagnostics;
 import io.strimzi.test.TestUtils;
 import org.junit.jupiter.api.Test;
 
@@ -19,6 +20,7 @@ import java.net.URISyntaxException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
@@ -152,4 +154,57 @@ public class HealthCheckAndMetricsServerTest {
             server.stop();
         }
     }
+
+    @Test
+    public void testDiagnostics() throws IOException, InterruptedException, URISyntaxException {
+        int port = TestUtils.getFreePort();
+
+        HealthCheckAndMetricsServer server = new HealthCheckAndMetricsServer(port, () -> true, () -> true, null, new OperatorDiagnostics());
+        server.start();
+
+        try {
+            HttpClient client = HttpClient.newHttpClient();
+
+            // Thread dump
+            HttpRequest request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/diagnostics/threads")).GET().build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode(), is(200));
+            assertThat(response.body(), containsString("\"main\""));
+
+            // In-flight reconciliations
+            request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/diagnostics/reconciliations")).GET().build();
+            sendAndExpect(client, request, 200, "[]");
+
+            // JFR recording is streamed from the file
+            request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/diagnostics/jfr/start")).POST(HttpRequest.BodyPublishers.noBody()).build();
+            assertThat(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode(), is(200));
+            request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/diagnostics/jfr/stop")).POST(HttpRequest.BodyPublishers.noBody()).build();
+            assertThat(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode(), is(200));
+
+            request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/diagnostics/jfr")).GET().build();
+            HttpResponse<byte[]> jfrResponse = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            assertThat(jfrResponse.statusCode(), is(200));
+            assertThat(new String(jfrResponse.body(), 0, 3, StandardCharsets.US_ASCII), is("FLR"));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testDiagnosticsDisabledByDefault() throws IOException, InterruptedException, URISyntaxException {
+        int port = TestUtils.getFreePort();
+
+        HealthCheckAndMetricsServer server = new HealthCheckAndMetricsServer(port, () -> true, () -> true, null);
+        server.start();
+
+        try {
+            HttpClient client = HttpClient.newHttpClient();
+
+            HttpRequest request = HttpRequest.newBuilder().uri(new URI("http://localhost:" + port + "/diagnostics/threads")).GET().build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode(), is(404));
+        } finally {
+            server.stop();
+        }
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.model.Labels;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class OperatorMetricsHolderTest {
+    private SimpleMeterRegistry registry;
+    private OperatorMetricsHolder metrics;
+
+    @BeforeEach
+    public void setup() {
+        registry = new SimpleMeterRegistry();
+        metrics = new OperatorMetricsHolder("Kafka", Labels.fromMap(Map.of("selector", "value")), new MicrometerMetricsProvider(registry));
+    }
+
+    @Test
+    public void testMetricsAreCreatedOnce() {
+        Counter counter = metrics.reconciliationsCounter("my-namespace");
+        counter.increment();
+
+        assertThat(metrics.reconciliationsCounter("my-namespace"), is(sameInstance(counter)));
+        assertThat(metrics.reconciliationsCounter("other-namespace"), is(not(sameInstance(counter))));
+
+        Counter registered = registry.find(MetricsHolder.METRICS_RECONCILIATIONS)
+                .tag("kind", "Kafka")
+                .tag("namespace", "my-namespace")
+                .tag("selector", "selector=value")
+                .counter();
+        assertThat(registered, is(sameInstance(counter)));
+        assertThat(registered.count(), is(1.0));
+    }
+
+    @Test
+    public void testMetricKeys() {
+        assertThat(new MetricKey("Kafka", "my-namespace"), is(new MetricKey("Kafka", "my-namespace")));
+        assertThat(new MetricKey("Kafka", "my-namespace").hashCode(), is(new MetricKey("Kafka", "my-namespace").hashCode()));
+        assertThat(new MetricKey("Kafka", "my-namespace").getKey(), is("Kafka/my-namespace"));
+        assertThat(new MetricKey("Kafka", "my-namespace").equals(new MetricKey("Kafka", "other-namespace")), is(false));
+    }
+
+    @Test
+    public void testRemoveMetricsForNamespace() {
+        metrics.reconciliationsCounter("my-namespace").increment();
+        metrics.reconciliationsTimer("my-namespace");
+        metrics.resourceCounter("my-namespace").set(5);
+        metrics.reconciliationsCounter("other-namespace").increment();
+        metrics.resourceCounter("other-namespace").set(3);
+
+        metrics.removeMetricsForNamespace("my-namespace");
+
+        assertThat(registry.find(MetricsHolder.METRICS_RECONCILIATIONS).tag("namespace", "my-namespace").counter(), is(nullValue()));
+        assertThat(registry.find(MetricsHolder.METRICS_RECONCILIATIONS_DURATION).tag("namespace", "my-namespace").timer(), is(nullValue()));
+        assertThat(registry.find(MetricsHolder.METRICS_RESOURCES).tag("namespace", "my-namespace").gauge(), is(nullValue()));
+        assertThat(registry.find(MetricsHolder.METRICS_RECONCILIATIONS).tag("namespace", "other-namespace").counter(), is(notNullValue()));
+        assertThat(registry.find(MetricsHolder.METRICS_RESOURCES).tag("namespace", "other-namespace").gauge().value(), is(3.0));
+
+        // The metrics are created again when the namespace is used again
+        metrics.reconciliationsCounter("my-namespace").increment();
+        metrics.resourceCounter("my-namespace").set(1);
+        assertThat(registry.find(MetricsHolder.METRICS_RECONCILIATIONS).tag("namespace", "my-namespace").counter().count(), is(1.0));
+        assertThat(registry.find(MetricsHolder.METRICS_RESOURCES).tag("namespace", "my-namespace").gauge().value(), is(1.0));
+    }
+
+    @Test
+    public void testRemoveMetricsForNamespaceKeepsMetricsOfOtherHolders() {
+        OperatorMetricsHolder otherMetrics = new OperatorMetricsHolder("Kafka", Labels.fromMap(Map.of("selector", "value")), new MicrometerMetricsProvider(registry));
+        otherMetrics.successfulReconciliationsCounter("my-namespace").increment();
+        otherMetrics.pausedResourceCounter("my-namespace").set(2);
+        metrics.reconciliationsCounter("my-namespace").increment();
+        metrics.resourceCounter("my-namespace").set(5);
+
+        metrics.removeMetricsForNamespace("my-namespace");
+
+        assertThat(registry.find(MetricsHolder.METRICS_RECONCILIATIONS).tag("namespace", "my-namespace").counter(), is(nullValue()));
+        assertThat(registry.find(MetricsHolder.METRICS_RESOURCES).tag("namespace", "my-namespace").gauge(), is(nullValue()));
+        assertThat(registry.find(MetricsHolder.METRICS_RECONCILIATIONS_SUCCESSFUL).tag("namespace", "my-namespace").counter().count(), is(1.0));
+        assertThat(registry.find(MetricsHolder.METRICS_RESOURCES_PAUSED).tag("namespace", "my-namespace").gauge().value(), is(2.0));
+    }
+
+    @Test
+    public void testRemoveMetricsForAllNamespaces() {
+        metrics.reconciliationsCounter("my-namespace").increment();
+        metrics.resourceCounter("other-namespace").set(3);
+        metrics.periodicReconciliationsCounter("*").increment();
+
+        metrics.removeMetricsForNamespace("*");
+
+        assertThat(registry.getMeters().isEmpty(), is(true));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.zjsonpatch.JsonDiff;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+public class AbstractJsonDiffTest {
+    private static final Pattern IGNORABLE_PATHS = Pattern.compile("^(/metadata/resourceVersion|/metadata/annotations/ignored.io~1.*|/spec/containers/[0-9]+/image)$");
+
+    private static Pod pod(String resourceVersion, Map<String, String> annotations, String image, String... args) {
+        return new PodBuilder()
+                .withNewMetadata()
+                    .withName("my-pod")
+                    .withResourceVersion(resourceVersion)
+                    .withAnnotations(annotations)
+                .endMetadata()
+                .withNewSpec()
+                    .addNewContainer()
+                        .withName("kafka")
+                        .withImage(image)
+                        .withArgs(args)
+                    .endContainer()
+                .endSpec()
+                .build();
+    }
+
+    private static String firstDifference(Object current, Object desired, List<String> ignored) {
+        JsonNode source = AbstractJsonDiff.PATCH_MAPPER.valueToTree(current);
+        JsonNode target = AbstractJsonDiff.PATCH_MAPPER.valueToTree(desired);
+        String difference = AbstractJsonDiff.firstDifference(source, target, IGNORABLE_PATHS, ignored::add);
+
+        // The result has to match the JSON Patch created by JsonDiff
+        boolean differs = false;
+        for (JsonNode d : JsonDiff.asJson(source, target)) {
+            if (!IGNORABLE_PATHS.matcher(d.get("path").asText()).matches()) {
+                differs = true;
+            }
+        }
+        assertThat(difference != null, is(differs));
+
+        return difference;
+    }
+
+    @Test
+    public void testNoDifference() {
+        List<String> ignored = new ArrayList<>();
+
+        assertThat(firstDifference(pod("1", Map.of("a", "b"), "image:1", "x", "y"), pod("1", Map.of("a", "b"), "image:1", "x", "y"), ignored), is(nullValue()));
+        assertThat(ignored.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testIgnoredDifferences() {
+        List<String> ignored = new ArrayList<>();
+
+        assertThat(firstDifference(pod("1", Map.of("ignored.io/time", "1"), "image:1", "x"), pod("2", Map.of("ignored.io/time", "2"), "image:2", "x"), ignored), is(nullValue()));
+        assertThat(ignored, contains("/metadata/annotations/ignored.io~1time", "/metadata/resourceVersion", "/spec/containers/0/image"));
+    }
+
+    @Test
+    public void testDifferences() {
+        List<String> ignored = new ArrayList<>();
+
+        // Changed value
+        assertThat(firstDifference(pod("1", Map.of(), "image:1", "x"), pod("2", Map.of(), "image:2", "y"), ignored), is("/spec/containers/0/args/0"));
+        // Added and removed array items
+        assertThat(firstDifference(pod("1", Map.of(), "image:1", "x"), pod("1", Map.of(), "image:1", "x", "y"), ignored), is("/spec/containers/0/args/1"));
+        assertThat(firstDifference(pod("1", Map.of(), "image:1", "x", "y"), pod("1", Map.of(), "image:1", "x"), ignored), is("/spec/containers/0/args/1"));
+        // Added and removed fields are reported at the level where they are missing
+        assertThat(firstDifference(pod("1", null, "image:1"), pod("1", Map.of("ignored.io/time", "1"), "image:1"), ignored), is("/metadata/annotations"));
+        assertThat(firstDifference(pod("1", Map.of("ignored.io/time", "1", "a/b~c", "d"), "image:1"), pod("1", Map.of("ignored.io/time", "1"), "image:1"), ignored), is("/metadata/annotations/a~1b~0c"));
+    }
+
+    @Test
+    public void testArrayInsertion() throws IOException {
+        Pattern ignorablePaths = Pattern.compile("^(/conditions/[0-9]+/lastTransitionTime)$");
+        JsonNode source = AbstractJsonDiff.PATCH_MAPPER.readTree("{\"conditions\":[{\"type\":\"Ready\",\"lastTransitionTime\":\"t1\"}]}");
+        JsonNode target = AbstractJsonDiff.PATCH_MAPPER.readTree("{\"conditions\":[{\"type\":\"Warning\",\"lastTransitionTime\":\"t2\"},{\"type\":\"Ready\",\"lastTransitionTime\":\"t1\"}]}");
+        List<String> ignored = new ArrayList<>();
+
+        // JsonDiff aligns the array items and reports the inserted item
+        JsonNode patch = JsonDiff.asJson(source, target);
+        assertThat(patch.size(), is(1));
+        assertThat(patch.get(0).get("op").asText(), is("add"));
+        assertThat(patch.get(0).get("path").asText(), is("/conditions/0"));
+
+        // The items are compared by their index, so the difference is found inside the first shifted item
+        assertThat(AbstractJsonDiff.firstDifference(source, target, ignorablePaths, ignored::add), is("/conditions/0/type"));
+        assertThat(ignored.isEmpty(), is(true));
+
+        // The inserted item is found also when it differs from the shifted item only in the ignored paths
+        target = AbstractJsonDiff.PATCH_MAPPER.readTree("{\"conditions\":[{\"type\":\"Ready\",\"lastTransitionTime\":\"t2\"},{\"type\":\"Ready\",\"lastTransitionTime\":\"t1\"}]}");
+        assertThat(AbstractJsonDiff.firstDifference(source, target, ignorablePaths, ignored::add), is("/conditions/1"));
+        assertThat(ignored, contains("/conditions/0/lastTransitionTime"));
+    }
+
+    @Test
+    public void testLargeResources() {
+        ConfigMap current = new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withName("my-config-map")
+                .endMetadata()
+                .build();
+        ConfigMap desired = new ConfigMapBuilder(current).build();
+
+        for (int i = 0; i < 1_000; i++) {
+            current.getData().put("key-" + i, "value-" + i);
+            desired.getData().put("key-" + i, "value-" + i);
+        }
+
+        assertThat(firstDifference(current, desired, new ArrayList<>()), is(nullValue()));
+
+        desired.getData().put("key-500", "other-value");
+        assertThat(firstDifference(current, desired, new ArrayList<>()), is("/data/key-500"));
+    }
+}
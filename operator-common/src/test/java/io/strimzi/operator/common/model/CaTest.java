@@ -6,19 +6,28 @@ package io.strimzi.operator.common.model;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.strimzi.api.kafka.model.common.CertificateAuthority;
+import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
 import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.Subject;
 import io.strimzi.operator.common.Reconciliation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static java.util.Collections.emptyMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -72,6 +81,37 @@ class CaTest {
         assertEquals(expectedEpoch, actualEpoch, "Expected and actual certificate expiration epochs should match");
     }
 
+    @Test
+    @DisplayName("Should generate multiple signed certificates at once")
+    void shouldGenerateMultipleSignedCertificates() throws IOException, CertificateException {
+        ca.createRenewOrReplace("mock", "mock", emptyMap(), emptyMap(), emptyMap(), null, List.of(), true);
+
+        Map<String, Subject> subjects = new LinkedHashMap<>();
+        for (int i = 0; i < 5; i++) {
+            subjects.put("pod-" + i, new Subject.Builder().withCommonName("pod-" + i).build());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // In parallel using the shared executor and one after another without it
+            assertSignedCerts(subjects, ca.generateSignedCerts(subjects, executor));
+            assertSignedCerts(subjects, ca.generateSignedCerts(subjects, null));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void assertSignedCerts(Map<String, Subject> subjects, Map<String, CertAndKey> certs) throws CertificateException {
+        assertEquals(List.copyOf(subjects.keySet()), List.copyOf(certs.keySet()));
+
+        for (Map.Entry<String, CertAndKey> cert : certs.entrySet()) {
+            X509Certificate x509Certificate = Ca.x509Certificate(cert.getValue().cert());
+            assertEquals("CN=" + cert.getKey(), x509Certificate.getSubjectX500Principal().getName());
+            assertEquals(Ca.cert(ca.caCertSecret(), Ca.CA_CRT).getSubjectX500Principal(), x509Certificate.getIssuerX500Principal());
+        }
+    }
+
     @Test
     @DisplayName("Should raise RuntimeException when certificate is not present")
     void shouldReturnZeroWhenCertificateNotPresent() {
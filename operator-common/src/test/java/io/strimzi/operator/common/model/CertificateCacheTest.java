@@ -0,0 +1,102 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.model;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CertificateCacheTest {
+    private static String certificate(String resource) throws IOException {
+        try (InputStream is = CertificateCacheTest.class.getClassLoader().getResourceAsStream(resource)) {
+            return Base64.getEncoder().encodeToString(is.readAllBytes());
+        }
+    }
+
+    private static Secret secret(String uid, String resourceVersion, String certificate) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                    .withName("my-secret")
+                    .withUid(uid)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .addToData("my.crt", certificate)
+                .build();
+    }
+
+    @Test
+    public void testCertificatesAreParsedOnlyWhenSecretChanges() throws IOException, CertificateException {
+        CertificateCache cache = new CertificateCache(10);
+        String clusterCert = certificate("CLUSTER_CERT.pem");
+        String clientsCert = certificate("CLIENTS_CERT.pem");
+
+        Secret secret = secret("my-uid", "1", clusterCert);
+        X509Certificate cert = cache.get(secret, "my.crt", clusterCert);
+        assertEquals(cert, Ca.cert(secret, "my.crt"));
+
+        // Unchanged Secret uses the cached certificate
+        assertSame(cert, cache.get(secret("my-uid", "1", clusterCert), "my.crt", clusterCert));
+
+        // New resource version of the Secret parses the certificate again
+        assertEquals(cert, cache.get(secret("my-uid", "2", clusterCert), "my.crt", clusterCert));
+
+        // Changed certificate data parses the certificate again even with the same resource version
+        assertNotEquals(cert, cache.get(secret("my-uid", "2", clientsCert), "my.crt", clientsCert));
+        assertEquals(1, cache.size());
+
+        // Secrets without UID or resource version are not cached
+        Secret newSecret = secret(null, null, clusterCert);
+        assertEquals(cert, cache.get(newSecret, "my.crt", clusterCert));
+        assertEquals(1, cache.size());
+
+        // Invalid certificates are not cached
+        assertThrows(CertificateException.class, () -> cache.get(secret("other-uid", "1", "bm90LWEtY2VydA=="), "my.crt", "bm90LWEtY2VydA=="));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testCacheIsBounded() throws IOException, CertificateException {
+        CertificateCache cache = new CertificateCache(2);
+        String clusterCert = certificate("CLUSTER_CERT.pem");
+
+        cache.get(secret("uid-1", "1", clusterCert), "my.crt", clusterCert);
+        cache.get(secret("uid-2", "1", clusterCert), "my.crt", clusterCert);
+        assertEquals(2, cache.size());
+
+        // Using the first certificate makes the second one the least recently used
+        cache.get(secret("uid-1", "1", clusterCert), "my.crt", clusterCert);
+
+        cache.get(secret("uid-3", "1", clusterCert), "my.crt", clusterCert);
+        assertEquals(2, cache.size());
+        assertTrue(cache.contains("uid-1", "my.crt"));
+        assertFalse(cache.contains("uid-2", "my.crt"));
+        assertTrue(cache.contains("uid-3", "my.crt"));
+    }
+
+    @Test
+    public void testDisabledCache() throws IOException, CertificateException {
+        CertificateCache cache = new CertificateCache(0);
+        String clusterCert = certificate("CLUSTER_CERT.pem");
+
+        cache.get(secret("my-uid", "1", clusterCert), "my.crt", clusterCert);
+        assertFalse(cache.contains("my-uid", "my.crt"));
+        assertEquals(0, cache.size());
+
+        assertThrows(IllegalArgumentException.class, () -> new CertificateCache(-1));
+    }
+}
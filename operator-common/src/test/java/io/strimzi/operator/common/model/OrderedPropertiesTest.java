@@ -6,8 +6,10 @@ package io.strimzi.operator.common.model;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Properties;
@@ -202,4 +204,32 @@ public class OrderedPropertiesTest {
                         "# a\n" +
                         "# comment\\\n"));
     }
+
+    @Test
+    public void pairsWithCommentEdgeCases() {
+        OrderedProperties pairs = new OrderedProperties().addPair("key", "value");
+
+        assertThat(pairs.asPairsWithComment(""), is("# \nkey=value\n"));
+        assertThat(pairs.asPairsWithComment("\n\r\n"), is("key=value\n"));
+        assertThat(pairs.asPairsWithComment("\nleading\r\n\ntrailing\n\n"), is("# \n# leading\n# trailing\nkey=value\n"));
+    }
+
+    @Test
+    public void addStringPairsFromInputStream() throws IOException {
+        OrderedProperties pairs = new OrderedProperties()
+                .addStringPairs(new ByteArrayInputStream("first=1\nsecond=\u00e9\\u00e9\n".getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(pairs.asMap(), is(Map.of("first", "1", "second", "\u00e9\u00e9")));
+    }
+
+    @Test
+    public void escapesWithinTokens() throws IOException {
+        Map<String, String> actual = propertiesCompatibility("a\\=b\\:c=d\\te\\\\f\ng\\ h = \\ i");
+
+        OrderedProperties expected = new OrderedProperties()
+                .addPair("a=b:c", "d\te\\f")
+                .addPair("g h", " i");
+        assertThat(actual, is(expected.asMap()));
+        assertThat(expected.asPairs(), is("a\\=b\\:c=d\te\\\\f\ng\\ h=\\ i\n"));
+    }
 }
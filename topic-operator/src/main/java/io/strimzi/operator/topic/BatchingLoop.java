@@ -231,16 +231,22 @@ class BatchingLoop {
             var key = Cache.namespaceKeyFunc(topicUpsert.namespace(), topicUpsert.name());
             var kt = itemStore.get(key);
             if (kt != null) {
-                LOGGER.traceOp("[Batch #{}] Lookup from item store for {} yielded KafkaTopic with resourceVersion {}",
-                        batchId, topicUpsert, BatchingTopicController.resourceVersion(kt));
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.traceOp("[Batch #{}] Lookup from item store for {} yielded KafkaTopic with resourceVersion {}",
+                            batchId, topicUpsert, BatchingTopicController.resourceVersion(kt));
+                }
                 var r = new Reconciliation("upsert", "KafkaTopic", topicUpsert.namespace(), topicUpsert.name());
-                LOGGER.debugOp("[Batch #{}] Contains {}", batchId, r);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debugOp("[Batch #{}] Contains {}", batchId, r);
+                }
                 return new ReconcilableTopic(r, kt, TopicOperatorUtil.topicName(kt));
             } else {
                 // Null can happen if the KafkaTopic has been deleted from Kube and we've not yet processed
                 // the corresponding delete event
-                LOGGER.traceOp("[Batch #{}] Lookup from item store for {} yielded nothing",
-                        batchId, topicUpsert);
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.traceOp("[Batch #{}] Lookup from item store for {} yielded nothing",
+                            batchId, topicUpsert);
+                }
                 return null;
             }
         }
@@ -261,7 +267,10 @@ class BatchingLoop {
                     LOGGER.traceOp("[Batch #{}] {}ms linger expired", batchId, maxBatchLingerMs);
                     break;
                 }
-                LOGGER.traceOp("[Batch #{}] Taking next item from deque head with timeout {}ns", batchId, timeoutNs);
+                // Guarded to avoid boxing the arguments for every item taken from the queue
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.traceOp("[Batch #{}] Taking next item from deque head with timeout {}ns", batchId, timeoutNs);
+                }
                 TopicEvent topicEvent = queue.pollFirst(timeoutNs, TimeUnit.NANOSECONDS);
 
                 if (topicEvent == null) {
@@ -290,14 +299,18 @@ class BatchingLoop {
             KubeRef ref = topicEvent.toRef();
             if (inFlight.add(ref)) {
                 // wasn't already inflight
-                LOGGER.debugOp("[Batch #{}] Adding {}", batchId, topicEvent);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debugOp("[Batch #{}] Adding {}", batchId, topicEvent);
+                }
                 if (topicEvent instanceof TopicUpsert) {
                     batch.toUpdate.add((TopicUpsert) topicEvent);
                 } else {
                     batch.toDelete.add((TopicDelete) topicEvent);
                 }
             } else {
-                LOGGER.debugOp("[Batch #{}] Rejecting item {}, already inflight", batchId, topicEvent);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debugOp("[Batch #{}] Rejecting item {}, already inflight", batchId, topicEvent);
+                }
                 rejected.add(topicEvent);
                 metrics.lockedReconciliationsCounter(namespace).increment();
             }
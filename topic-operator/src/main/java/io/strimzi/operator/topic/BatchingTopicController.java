@@ -48,6 +48,7 @@ import org.apache.kafka.common.errors.ApiException;
 import org.apache.kafka.common.errors.TopicDeletionDisabledException;
 import org.apache.kafka.common.errors.TopicExistsException;
 import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.logging.log4j.Level;
 
 import java.io.InterruptedIOException;
 import java.time.Instant;
@@ -199,7 +200,9 @@ public class BatchingTopicController {
             KafkaTopic edit = Crds.topicOperation(kubeClient).resource(reconcilableTopic.kt()).edit(old ->
                     new KafkaTopicBuilder(old).editOrNewMetadata().addToFinalizers(FINALIZER).endMetadata().build());
             TopicOperatorUtil.stopExternalRequestTimer(timerSample, metrics::addFinalizerTimer, enableAdditionalMetrics, namespace);
-            LOGGER.traceCr(reconcilableTopic.reconciliation(), "Added finalizer {}, resourceVersion now {}", FINALIZER, resourceVersion(edit));
+            if (LOGGER.isEnabled(Level.TRACE, reconcilableTopic.reconciliation())) {
+                LOGGER.traceCr(reconcilableTopic.reconciliation(), "Added finalizer {}, resourceVersion now {}", FINALIZER, resourceVersion(edit));
+            }
             return edit;
         }
         return reconcilableTopic.kt();
@@ -212,7 +215,9 @@ public class BatchingTopicController {
             var result = Crds.topicOperation(kubeClient).resource(reconcilableTopic.kt()).edit(old ->
                     new KafkaTopicBuilder(old).editOrNewMetadata().removeFromFinalizers(FINALIZER).endMetadata().build());
             TopicOperatorUtil.stopExternalRequestTimer(timerSample, metrics::removeFinalizerTimer, enableAdditionalMetrics, namespace);
-            LOGGER.traceCr(reconcilableTopic.reconciliation(), "Removed finalizer {}, resourceVersion now {}", FINALIZER, resourceVersion(result));
+            if (LOGGER.isEnabled(Level.TRACE, reconcilableTopic.reconciliation())) {
+                LOGGER.traceCr(reconcilableTopic.reconciliation(), "Removed finalizer {}, resourceVersion now {}", FINALIZER, resourceVersion(result));
+            }
             return result;
         } else {
             return reconcilableTopic.kt();
@@ -498,7 +503,7 @@ public class BatchingTopicController {
                 .filter(rt -> !differentRfMap.containsKey(rt.topicName()) && isFailedReplicasChange(rt.kt()))
                 .collect(Collectors.toList());
             completed.addAll(reverted);
-            if (!completed.isEmpty()) {
+            if (!completed.isEmpty() && LOGGER.isEnabled(Level.DEBUG)) {
                 LOGGER.debugOp("Pending but completed replicas changes, Topics: {}", topicNames(completed));
             }
             completed.forEach(reconcilableTopic -> {
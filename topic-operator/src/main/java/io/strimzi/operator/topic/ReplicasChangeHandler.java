@@ -100,7 +100,9 @@ public class ReplicasChangeHandler {
 
         Timer.Sample timerSample = TopicOperatorUtil.startExternalRequestTimer(metrics, config.enableAdditionalMetrics());
         try {
-            LOGGER.debugOp("Sending topic configuration request, topics {}", topicNames(reconcilableTopics));
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debugOp("Sending topic configuration request, topics {}", topicNames(reconcilableTopics));
+            }
             List<KafkaTopic> kafkaTopics = reconcilableTopics.stream().map(rt -> rt.kt()).collect(Collectors.toList());
             String userTaskId = cruiseControlClient.topicConfiguration(kafkaTopics);
             updateToOngoing(result, "Replicas change ongoing", userTaskId);
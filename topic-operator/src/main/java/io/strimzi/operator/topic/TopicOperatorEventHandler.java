@@ -36,7 +36,9 @@ class TopicOperatorEventHandler implements ResourceEventHandler<KafkaTopic> {
 
     @Override
     public void onAdd(KafkaTopic obj) {
-        LOGGER.debugOp("Informed about add event for topic {}", TopicOperatorUtil.topicName(obj));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugOp("Informed about add event for topic {}", TopicOperatorUtil.topicName(obj));
+        }
         metrics.resourceCounter(config.namespace()).incrementAndGet();
         if (isReconciliationPausedWithAnnotation(obj)) {
             metrics.pausedResourceCounter(config.namespace()).incrementAndGet();
@@ -53,7 +55,7 @@ class TopicOperatorEventHandler implements ResourceEventHandler<KafkaTopic> {
             LOGGER.infoOp("Triggering periodic reconciliation of {} resources for namespace {}", KafkaTopic.RESOURCE_KIND, config.namespace());
             this.lastPeriodicTimestampMs = NANOSECONDS.toMillis(System.nanoTime());
         }
-        if (trigger.equals("update")) {
+        if (trigger.equals("update") && LOGGER.isDebugEnabled()) {
             LOGGER.debugOp("Informed about update event for topic {}", TopicOperatorUtil.topicName(newObj));
         }
         if (isReconciliationPausedWithAnnotation(oldObj) && !isReconciliationPausedWithAnnotation(newObj)) {
@@ -68,7 +70,9 @@ class TopicOperatorEventHandler implements ResourceEventHandler<KafkaTopic> {
 
     @Override
     public void onDelete(KafkaTopic obj, boolean deletedFinalStateUnknown) {
-        LOGGER.debugOp("Informed about delete event for topic {}", TopicOperatorUtil.topicName(obj));
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugOp("Informed about delete event for topic {}", TopicOperatorUtil.topicName(obj));
+        }
         metrics.resourceCounter(config.namespace()).decrementAndGet();
         if (isReconciliationPausedWithAnnotation(obj)) {
             metrics.pausedResourceCounter(config.namespace()).decrementAndGet();
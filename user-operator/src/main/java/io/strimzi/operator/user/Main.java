@@ -23,8 +23,11 @@ import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
 import io.strimzi.operator.common.Util;
+import io.strimzi.operator.common.VirtualThreads;
 import io.strimzi.operator.common.auth.PemAuthIdentity;
 import io.strimzi.operator.common.auth.PemTrustSet;
+import io.strimzi.operator.common.diagnostics.InFlightReconciliations;
+import io.strimzi.operator.common.diagnostics.OperatorDiagnostics;
 import io.strimzi.operator.common.http.HealthCheckAndMetricsServer;
 import io.strimzi.operator.common.operator.resource.concurrent.CrdOperator;
 import io.strimzi.operator.common.operator.resource.concurrent.SecretOperator;
@@ -76,7 +79,7 @@ public class Main {
         LOGGER.info("UserOperator configuration is {}", config);
 
         // Create KubernetesClient, AdminClient and KafkaUserOperator classes
-        ExecutorService kafkaUserOperatorExecutor = Executors.newFixedThreadPool(config.getUserOperationsThreadPoolSize(), new OperatorWorkThreadFactory());
+        ExecutorService kafkaUserOperatorExecutor = createUserOperationsExecutor(config);
         KubernetesClient client = new OperatorKubernetesClientBuilder("strimzi-user-operator", Main.class.getPackage().getImplementationVersion()).build();
         SecretOperator secretOperator = new SecretOperator(kafkaUserOperatorExecutor, client);
         Admin adminClient = createAdminClient(config, secretOperator, new DefaultAdminClientProvider());
@@ -103,8 +106,10 @@ public class Main {
                 metricsProvider
         );
 
-        // Create the health check and metrics server
-        HealthCheckAndMetricsServer healthCheckAndMetricsServer = new HealthCheckAndMetricsServer(controller, controller, metricsProvider);
+        // Create the health check and metrics server (with the diagnostics endpoints when enabled)
+        InFlightReconciliations.enabled(config.isDiagnosticsEnabled());
+        HealthCheckAndMetricsServer healthCheckAndMetricsServer = new HealthCheckAndMetricsServer(controller, controller, metricsProvider,
+                config.isDiagnosticsEnabled() ? new OperatorDiagnostics() : null);
 
         // Start health check server, KafkaUser operator and the controller
         healthCheckAndMetricsServer.start();
@@ -134,6 +139,27 @@ public class Main {
         }));
     }
 
+    /**
+     * Creates the executor used for the user operations. When virtual threads are enabled and supported by the Java
+     * runtime, each operation runs in its own virtual thread and the operations are not limited by the thread pool
+     * size. Otherwise, a fixed thread pool is used.
+     *
+     * @param config    User Operator configuration
+     *
+     * @return  Executor service for the user operations
+     */
+    private static ExecutorService createUserOperationsExecutor(UserOperatorConfig config) {
+        if (config.isVirtualThreadsEnabled()) {
+            ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor("user operations");
+
+            if (executor != null) {
+                return executor;
+            }
+        }
+
+        return Executors.newFixedThreadPool(config.getUserOperationsThreadPoolSize(), new OperatorWorkThreadFactory());
+    }
+
     /**
      * Creates the Kafka Admin API client
      *
@@ -20,6 +20,7 @@ import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.controller.AbstractControllerLoop;
 import io.strimzi.operator.common.controller.ControllerQueue;
 import io.strimzi.operator.common.controller.ReconciliationLockManager;
+import io.strimzi.operator.common.diagnostics.InFlightReconciliations;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.StatusDiff;
 import io.strimzi.operator.common.model.StatusUtils;
@@ -80,7 +81,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
             ControllerMetricsHolder metrics,
             UserOperatorConfig config
     ) {
-        super(name, workQueue, lockManager, scheduledExecutor);
+        super(name, workQueue, lockManager, scheduledExecutor, config.isVirtualThreadsEnabled());
 
         this.userLister = userLister;
         this.secretLister = secretLister;
@@ -119,6 +120,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
                 Set<Condition> unknownAndDeprecatedConditions = StatusUtils.validate(reconciliation, user);
 
                 try {
+                    InFlightReconciliations.step(reconciliation, "waiting for user operations");
                     status = reconciliationResult.toCompletableFuture().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
                     LOGGER.infoCr(reconciliation, "reconciled");
                     metrics().successfulReconciliationsCounter(reconciliation.namespace()).increment();
@@ -133,6 +135,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
                 } finally {
                     // Update the status if the user exists
                     if (user != null) {
+                        InFlightReconciliations.step(reconciliation, "updating status");
                         StatusUtils.addConditionsToStatus(status, unknownAndDeprecatedConditions);
                         maybeUpdateStatus(reconciliation, user, status);
                     }
@@ -121,6 +121,14 @@ public class UserOperatorConfig {
      * Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
     public static final ConfigParameter<Integer> USER_OPERATIONS_THREAD_POOL_SIZE = new ConfigParameter<>("STRIMZI_USER_OPERATIONS_THREAD_POOL_SIZE", INTEGER, "4", CONFIG_VALUES);
+    /**
+     * Use virtual threads for the controller loops and the user operations when supported by the Java runtime
+     */
+    public static final ConfigParameter<Boolean> VIRTUAL_THREADS_ENABLED = new ConfigParameter<>("STRIMZI_VIRTUAL_THREADS_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+    /**
+     * Enables the diagnostics endpoints (thread dumps, JFR recordings and in-flight reconciliations)
+     */
+    public static final ConfigParameter<Boolean> DIAGNOSTICS_ENABLED = new ConfigParameter<>("STRIMZI_DIAGNOSTICS_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
     /**
      * Additional configuration for the Kafka Admin Client
      */
@@ -358,6 +366,20 @@ public class UserOperatorConfig {
         return get(USER_OPERATIONS_THREAD_POOL_SIZE);
     }
 
+    /**
+     * @return True if the virtual threads should be used for the controller loops and the user operations
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return get(VIRTUAL_THREADS_ENABLED);
+    }
+
+    /**
+     * @return True if the diagnostics endpoints should be enabled
+     */
+    public boolean isDiagnosticsEnabled() {
+        return get(DIAGNOSTICS_ENABLED);
+    }
+
     /**
      * @return The number of certificates validity days.
      */
@@ -406,6 +428,8 @@ public class UserOperatorConfig {
                 "\n\tbatchMaxBlockSize=" + getBatchMaxBlockSize() +
                 "\n\tbatchMaxBlockTime=" + getBatchMaxBlockTime() +
                 "\n\tuserOperationsThreadPoolSize=" + getUserOperationsThreadPoolSize() +
+                "\n\tvirtualThreadsEnabled=" + isVirtualThreadsEnabled() +
+                "\n\tdiagnosticsEnabled=" + isDiagnosticsEnabled() +
                 "\n\tfeatureGates='" + featureGates() + "'" +
                 '}';
     }